@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.propagation;
+
+import org.terasology.assets.ResourceUrn;
+import org.terasology.assets.management.AssetManager;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.BlockUri;
+import org.terasology.world.block.family.SymmetricBlockFamilyFactory;
+import org.terasology.world.block.internal.BlockManagerImpl;
+import org.terasology.world.block.loader.BlockFamilyDefinition;
+import org.terasology.world.block.loader.BlockFamilyDefinitionData;
+import org.terasology.world.block.shapes.BlockShape;
+import org.terasology.world.block.tiles.NullWorldAtlas;
+import org.terasology.world.chunks.ChunkConstants;
+
+/**
+ * The blocks and the region used by the light propagation tests. Creating the fixture registers a new
+ * block manager with the {@link CoreRegistry}.
+ */
+public class LightPropagationFixture {
+    /**
+     * A region of 3x3x3 chunks around the origin.
+     */
+    public static final Region3i TESTING_REGION = Region3i.createFromMinMax(
+            new Vector3i(-ChunkConstants.SIZE_X, -ChunkConstants.SIZE_Y, -ChunkConstants.SIZE_Z),
+            new Vector3i(2 * ChunkConstants.SIZE_X, 2 * ChunkConstants.SIZE_Y, 2 * ChunkConstants.SIZE_Z));
+
+    private final BlockManagerImpl blockManager;
+    private final Block air;
+    private final Block fullLight;
+    private final Block weakLight;
+    private final Block mediumLight;
+    private final Block solid;
+    private final Block solidMediumLight;
+
+    public LightPropagationFixture(AssetManager assetManager) {
+        blockManager = new BlockManagerImpl(new NullWorldAtlas(), assetManager, true);
+        CoreRegistry.put(BlockManager.class, blockManager);
+        BlockShape cube = assetManager.getAsset("engine:cube", BlockShape.class).get();
+        fullLight = createBlock(assetManager, cube, "engine:torch", "Torch", ChunkConstants.MAX_LIGHT, true);
+        weakLight = createBlock(assetManager, cube, "engine:weakLight", "PartLight", (byte) 2, true);
+        mediumLight = createBlock(assetManager, cube, "engine:mediumLight", "MediumLight", (byte) 5, true);
+        solid = createBlock(assetManager, cube, "engine:stone", "Stone", (byte) 0, false);
+        solidMediumLight = createBlock(assetManager, cube, "engine:solidMediumLight", "SolidMediumLight", (byte) 5, false);
+        air = blockManager.getBlock(BlockManager.AIR_ID);
+    }
+
+    private Block createBlock(AssetManager assetManager, BlockShape shape, String urn, String displayName, byte luminance,
+                              boolean translucent) {
+        BlockFamilyDefinitionData data = new BlockFamilyDefinitionData();
+        data.getBaseSection().setDisplayName(displayName);
+        data.getBaseSection().setShape(shape);
+        if (luminance != 0) {
+            data.getBaseSection().setLuminance(luminance);
+        }
+        data.getBaseSection().setTranslucent(translucent);
+        data.setFamilyFactory(new SymmetricBlockFamilyFactory());
+        assetManager.loadAsset(new ResourceUrn(urn), data, BlockFamilyDefinition.class);
+        return blockManager.getBlock(new BlockUri(new ResourceUrn(urn)));
+    }
+
+    public BlockManagerImpl getBlockManager() {
+        return blockManager;
+    }
+
+    public Block getAir() {
+        return air;
+    }
+
+    /**
+     * @return a translucent block emitting the maximum light
+     */
+    public Block getFullLight() {
+        return fullLight;
+    }
+
+    /**
+     * @return a translucent block emitting light 2
+     */
+    public Block getWeakLight() {
+        return weakLight;
+    }
+
+    /**
+     * @return a translucent block emitting light 5
+     */
+    public Block getMediumLight() {
+        return mediumLight;
+    }
+
+    public Block getSolid() {
+        return solid;
+    }
+
+    /**
+     * @return an opaque block emitting light 5
+     */
+    public Block getSolidMediumLight() {
+        return solidMediumLight;
+    }
+}
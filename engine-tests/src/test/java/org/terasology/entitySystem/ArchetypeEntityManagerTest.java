@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.config.Config;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EntityStorageMode;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the entity manager tests against the archetype component storage.
+ */
+public class ArchetypeEntityManagerTest extends PojoEntityManagerTest {
+
+    @Before
+    @Override
+    public void setup() {
+        Config config = new Config();
+        config.loadDefaults();
+        config.getSystem().setEntityStorageMode(EntityStorageMode.ARCHETYPE);
+        context.put(Config.class, config);
+        super.setup();
+    }
+
+    @Test
+    public void testEntityMovesBetweenArchetypes() {
+        EntityManager entityManager = context.get(EntityManager.class);
+        EntityRef first = entityManager.create(new StringComponent("first"));
+        EntityRef second = entityManager.create(new StringComponent("second"), new IntegerComponent(2));
+        EntityRef third = entityManager.create(new StringComponent("third"));
+
+        first.addComponent(new IntegerComponent(1));
+        second.removeComponent(IntegerComponent.class);
+
+        List<EntityRef> results = Lists.newArrayList(entityManager.getEntitiesWith(StringComponent.class, IntegerComponent.class));
+        assertEquals(Lists.newArrayList(first), results);
+        assertEquals("first", first.getComponent(StringComponent.class).value);
+        assertEquals(1, first.getComponent(IntegerComponent.class).value);
+        assertEquals("second", second.getComponent(StringComponent.class).value);
+        assertEquals("third", third.getComponent(StringComponent.class).value);
+        assertTrue(third.exists());
+    }
+}
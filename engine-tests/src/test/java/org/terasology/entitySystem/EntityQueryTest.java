@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+import org.terasology.entitySystem.entity.EntityQuery;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class EntityQueryTest extends EntityManagerTestBase {
+
+    @Test
+    public void testQueryContainsExistingMatches() {
+        EntityRef match = entityManager.create(new StringComponent(), new IntegerComponent());
+        entityManager.create(new StringComponent());
+
+        EntityQuery query = entityManager.createQuery(StringComponent.class, IntegerComponent.class);
+
+        assertEquals(1, query.size());
+        assertTrue(query.contains(match));
+        assertEquals(Lists.newArrayList(match), Lists.newArrayList(query));
+    }
+
+    @Test
+    public void testQueryFollowsComponentChanges() {
+        EntityQuery query = entityManager.createQuery(StringComponent.class, IntegerComponent.class);
+        EntityRef entity = entityManager.create(new StringComponent());
+        assertTrue(query.isEmpty());
+
+        entity.addComponent(new IntegerComponent());
+        assertTrue(query.contains(entity));
+
+        entity.removeComponent(StringComponent.class);
+        assertFalse(query.contains(entity));
+    }
+
+    @Test
+    public void testQueryForgetsDestroyedEntities() {
+        EntityQuery query = entityManager.createQuery(StringComponent.class);
+        EntityRef entity = entityManager.create(new StringComponent());
+        entity.destroy();
+        assertTrue(query.isEmpty());
+    }
+
+    @Test
+    public void testModifyingEntitiesWhileIterating() {
+        EntityQuery query = entityManager.createQuery(StringComponent.class);
+        EntityRef first = entityManager.create(new StringComponent());
+        EntityRef second = entityManager.create(new StringComponent());
+
+        int count = 0;
+        for (EntityRef entity : query) {
+            entity.removeComponent(StringComponent.class);
+            count++;
+        }
+        assertEquals(2, count);
+        assertTrue(query.isEmpty());
+        assertFalse(query.contains(first));
+        assertFalse(query.contains(second));
+    }
+
+    @Test
+    public void testChangesSinceLastTick() {
+        EntityQuery query = entityManager.createQuery(StringComponent.class);
+        EntityRef kept = entityManager.create(new StringComponent());
+        EntityRef removed = entityManager.create(new StringComponent());
+        entityManager.tickQueries();
+        assertEquals(Sets.newHashSet(kept, removed), Sets.newHashSet(query.getAddedSinceLastTick()));
+
+        removed.removeComponent(StringComponent.class);
+        EntityRef shortLived = entityManager.create(new StringComponent());
+        shortLived.removeComponent(StringComponent.class);
+        entityManager.tickQueries();
+        assertEquals(Collections.<EntityRef>emptyList(), Lists.newArrayList(query.getAddedSinceLastTick()));
+        assertEquals(Lists.newArrayList(removed), Lists.newArrayList(query.getRemovedSinceLastTick()));
+
+        entityManager.tickQueries();
+        assertTrue(query.getRemovedSinceLastTick().isEmpty());
+    }
+
+    @Test
+    public void testDisposedQueryIsNotUpdated() {
+        EntityQuery query = entityManager.createQuery(StringComponent.class);
+        query.dispose();
+        entityManager.create(new StringComponent());
+        assertTrue(query.isEmpty());
+    }
+}
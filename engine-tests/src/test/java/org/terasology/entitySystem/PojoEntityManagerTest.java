@@ -17,19 +17,11 @@
 
 import com.google.common.collect.Lists;
 import org.junit.Before;
-import org.junit.BeforeClass;
 import org.junit.Test;
-import org.terasology.assets.AssetFactory;
 import org.terasology.assets.ResourceUrn;
-import org.terasology.assets.management.AssetManager;
-import org.terasology.assets.module.ModuleAwareAssetTypeManager;
-import org.terasology.context.Context;
-import org.terasology.context.internal.ContextImpl;
-import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
-import org.terasology.engine.module.ModuleManager;
-import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityBuilder;
 import org.terasology.entitySystem.entity.EntityRef;
-import org.terasology.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
 import org.terasology.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
@@ -38,55 +30,40 @@
 import org.terasology.entitySystem.event.internal.EventSystem;
 import org.terasology.entitySystem.prefab.Prefab;
 import org.terasology.entitySystem.prefab.PrefabData;
-import org.terasology.entitySystem.prefab.internal.PojoPrefab;
 import org.terasology.entitySystem.stubs.EntityRefComponent;
 import org.terasology.entitySystem.stubs.IntegerComponent;
 import org.terasology.entitySystem.stubs.StringComponent;
-import org.terasology.network.NetworkSystem;
-import org.terasology.registry.CoreRegistry;
-import org.terasology.testUtil.ModuleManagerFactory;
 import org.terasology.utilities.Assets;
 
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 /**
  */
-public class PojoEntityManagerTest {
+public class PojoEntityManagerTest extends EntityManagerTestBase {
 
-    private static Context context;
-    private PojoEntityManager entityManager;
     private Prefab prefab;
 
-    @BeforeClass
-    public static void setupClass() throws Exception {
-        context = new ContextImpl();
-        ModuleManager moduleManager = ModuleManagerFactory.create();
-        context.put(ModuleManager.class, moduleManager);
-        ModuleAwareAssetTypeManager assetTypeManager = new ModuleAwareAssetTypeManager();
-        assetTypeManager.registerCoreAssetType(Prefab.class,
-                (AssetFactory<Prefab, PrefabData>) PojoPrefab::new, "prefabs");
-        assetTypeManager.switchEnvironment(moduleManager.getEnvironment());
-        context.put(AssetManager.class, assetTypeManager.getAssetManager());
-        CoreRegistry.setContext(context);
-    }
-
     @Before
+    @Override
     public void setup() {
-        context.put(NetworkSystem.class, mock(NetworkSystem.class));
-        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
-        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
-        entityManager = (PojoEntityManager) context.get(EntityManager.class);
+        super.setup();
 
         PrefabData protoPrefab = new PrefabData();
         protoPrefab.addComponent(new StringComponent("Test"));
@@ -329,6 +306,74 @@ public void testPrefabCopiedCorrectly2() {
         assertFalse(test1.getComponent(StringComponent.class) == (test2.getComponent(StringComponent.class)));
     }
 
+    @Test
+    public void testCopyOnWritePrefabComponentsAreCopiedOnAccess() {
+        entityManager.setCopyOnWritePrefabComponents(true);
+        EntityRef entity1 = entityManager.create(prefab);
+        EntityRef entity2 = entityManager.create(prefab);
+
+        StringComponent comp = entity1.getComponent(StringComponent.class);
+        assertNotSame(prefab.getComponent(StringComponent.class), comp);
+        assertSame(comp, entity1.getComponent(StringComponent.class));
+        comp.value = "One";
+        entity1.saveComponent(comp);
+
+        assertEquals("Test", prefab.getComponent(StringComponent.class).value);
+        assertEquals("One", entity1.getComponent(StringComponent.class).value);
+        assertEquals("Test", entity2.getComponent(StringComponent.class).value);
+        assertNotSame(entity1.getComponent(StringComponent.class), entity2.getComponent(StringComponent.class));
+    }
+
+    @Test
+    public void testCopyOnWritePrefabComponentsAreCopiedOnIteration() {
+        entityManager.setCopyOnWritePrefabComponents(true);
+        EntityRef entity = entityManager.create(prefab);
+        for (Component component : entity.iterateComponents()) {
+            assertNotSame(prefab.getComponent(StringComponent.class), component);
+        }
+        for (Map.Entry<EntityRef, StringComponent> entry : entityManager.listComponents(StringComponent.class)) {
+            assertNotSame(prefab.getComponent(StringComponent.class), entry.getValue());
+        }
+
+        EntityBuilder builder = entityManager.newBuilder(prefab);
+        builder.getComponent(StringComponent.class).value = "Built";
+        assertEquals("Test", prefab.getComponent(StringComponent.class).value);
+        assertEquals("Built", builder.build().getComponent(StringComponent.class).value);
+    }
+
+    @Test
+    public void testCopyOnWritePrefabComponentsAreNotCopiedForReading() {
+        entityManager.setCopyOnWritePrefabComponents(true);
+        EntityRef entity = entityManager.create(prefab);
+        StringComponent prefabComponent = prefab.getComponent(StringComponent.class);
+
+        assertSame(prefabComponent, entityManager.getComponentForReading(entity.getId(), StringComponent.class));
+        for (Component component : entityManager.iterateComponentsForReading(entity.getId())) {
+            if (component instanceof StringComponent) {
+                assertSame(prefabComponent, component);
+            }
+        }
+        assertNotSame(prefabComponent, entity.getComponent(StringComponent.class));
+    }
+
+    @Test
+    public void testCopyOnWritePrefabComponentIsCopiedOnceForConcurrentReaders() throws Exception {
+        entityManager.setCopyOnWritePrefabComponents(true);
+        EntityRef entity = entityManager.create(prefab);
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Callable<StringComponent>> reads = Collections.nCopies(readers, () -> entity.getComponent(StringComponent.class));
+            List<Future<StringComponent>> results = executor.invokeAll(reads);
+            StringComponent stored = entity.getComponent(StringComponent.class);
+            for (Future<StringComponent> result : results) {
+                assertSame(stored, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testPrefabPersistedRetainedCorrectly() {
         PrefabData protoPrefab = new PrefabData();
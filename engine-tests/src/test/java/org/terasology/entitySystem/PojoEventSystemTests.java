@@ -197,6 +197,50 @@ public void testChildEventReceivedByUnfilteredHandler() {
         assertEquals(1, handler.unfilteredEvents.size());
     }
 
+    @Test
+    public void testHandlerRegisteredAfterSendReceivesEvent() {
+        entity.addComponent(new StringComponent());
+        TestEventHandler handler = new TestEventHandler();
+        eventSystem.registerEventHandler(handler);
+        eventSystem.send(entity, new TestEvent());
+
+        TestHighPriorityEventHandler laterHandler = new TestHighPriorityEventHandler();
+        eventSystem.registerEventHandler(laterHandler);
+        eventSystem.send(entity, new TestEvent());
+
+        assertEquals(2, handler.receivedList.size());
+        assertEquals(1, laterHandler.receivedList.size());
+    }
+
+    @Test
+    public void testUnregisteredHandlerReceivesNoEvent() {
+        entity.addComponent(new StringComponent());
+        TestEventHandler handler = new TestEventHandler();
+        eventSystem.registerEventHandler(handler);
+        eventSystem.send(entity, new TestEvent());
+
+        eventSystem.unregisterEventHandler(handler);
+        eventSystem.send(entity, new TestEvent());
+
+        assertEquals(1, handler.receivedList.size());
+    }
+
+    @Test
+    public void testHandlersAreSelectedForCurrentComponents() {
+        TestEventHandler handler = new TestEventHandler();
+        eventSystem.registerEventHandler(handler);
+        entity.addComponent(new StringComponent());
+        eventSystem.send(entity, new TestEvent());
+
+        entity.addComponent(new IntegerComponent());
+        eventSystem.send(entity, new TestEvent());
+
+        entity.removeComponent(StringComponent.class);
+        eventSystem.send(entity, new TestEvent());
+
+        assertEquals(4, handler.receivedList.size());
+    }
+
     private static class TestEvent extends AbstractConsumableEvent {
 
     }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.event.internal;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.event.Event;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EventHandlerInvokerFactoryTest {
+
+    private EventHandlerInvokerFactory factory;
+    private EntityRef entity;
+    private StringComponent stringComponent;
+    private IntegerComponent integerComponent;
+    private TestHandler handler;
+
+    @Before
+    public void setup() {
+        factory = new EventHandlerInvokerFactory();
+        stringComponent = new StringComponent("test");
+        integerComponent = new IntegerComponent(3);
+        entity = mock(EntityRef.class);
+        when(entity.getComponent(StringComponent.class)).thenReturn(stringComponent);
+        when(entity.getComponent(IntegerComponent.class)).thenReturn(integerComponent);
+        handler = new TestHandler();
+    }
+
+    @Test
+    public void testInvokerCallsHandler() throws Exception {
+        EventHandlerInvoker invoker = createInvoker("onEvent", TestEvent.class, EntityRef.class);
+        assertNotNull(invoker);
+
+        TestEvent event = new TestEvent();
+        invoker.invoke(handler, entity, event);
+        assertEquals(Lists.newArrayList("onEvent"), handler.calls);
+        assertSame(event, handler.receivedEvent);
+        assertSame(entity, handler.receivedEntity);
+    }
+
+    @Test
+    public void testInvokerPassesComponents() throws Exception {
+        EventHandlerInvoker invoker = createInvoker("onEventWithComponents", TestEvent.class, EntityRef.class,
+                StringComponent.class, IntegerComponent.class);
+        assertNotNull(invoker);
+
+        invoker.invoke(handler, entity, new TestEvent());
+        assertEquals(Lists.newArrayList("onEventWithComponents"), handler.calls);
+        assertSame(stringComponent, handler.receivedString);
+        assertSame(integerComponent, handler.receivedInteger);
+    }
+
+    @Test
+    public void testOverloadedHandlersGetTheirOwnInvokers() throws Exception {
+        EventHandlerInvoker withoutComponent = createInvoker("onEvent", TestEvent.class, EntityRef.class);
+        EventHandlerInvoker withComponent = createInvoker("onEvent", TestEvent.class, EntityRef.class, StringComponent.class);
+        assertNotNull(withoutComponent);
+        assertNotNull(withComponent);
+
+        withComponent.invoke(handler, entity, new TestEvent());
+        withoutComponent.invoke(handler, entity, new TestEvent());
+        assertEquals(Lists.newArrayList("onEvent(StringComponent)", "onEvent"), handler.calls);
+        assertSame(stringComponent, handler.receivedString);
+    }
+
+    @Test
+    public void testInvokerClassIsReused() throws Exception {
+        EventHandlerInvoker first = createInvoker("onEvent", TestEvent.class, EntityRef.class);
+        EventHandlerInvoker second = createInvoker("onEvent", TestEvent.class, EntityRef.class);
+        assertSame(first.getClass(), second.getClass());
+    }
+
+    @Test
+    public void testNoInvokerForInaccessibleHandler() throws Exception {
+        Method method = PrivateHandler.class.getMethod("onEvent", TestEvent.class, EntityRef.class);
+        assertNull(factory.createInvoker(method, Collections.emptyList()));
+    }
+
+    @Test
+    public void testNoInvokerForInaccessibleEvent() throws Exception {
+        assertNull(createInvoker("onPrivateEvent", PrivateEvent.class, EntityRef.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventHandlerInvoker createInvoker(String methodName, Class<?>... parameterTypes) throws Exception {
+        Method method = TestHandler.class.getMethod(methodName, parameterTypes);
+        List<Class<? extends Component>> componentParams = Lists.newArrayList();
+        for (int i = 2; i < parameterTypes.length; ++i) {
+            componentParams.add((Class<? extends Component>) parameterTypes[i]);
+        }
+        return factory.createInvoker(method, componentParams);
+    }
+
+    public static class TestEvent implements Event {
+    }
+
+    private static class PrivateEvent implements Event {
+    }
+
+    public static class TestHandler {
+        private List<String> calls = Lists.newArrayList();
+        private Event receivedEvent;
+        private EntityRef receivedEntity;
+        private StringComponent receivedString;
+        private IntegerComponent receivedInteger;
+
+        public void onEvent(TestEvent event, EntityRef entity) {
+            calls.add("onEvent");
+            receivedEvent = event;
+            receivedEntity = entity;
+        }
+
+        public void onEvent(TestEvent event, EntityRef entity, StringComponent string) {
+            calls.add("onEvent(StringComponent)");
+            receivedString = string;
+        }
+
+        public void onEventWithComponents(TestEvent event, EntityRef entity, StringComponent string, IntegerComponent integer) {
+            calls.add("onEventWithComponents");
+            receivedString = string;
+            receivedInteger = integer;
+        }
+
+        public void onPrivateEvent(PrivateEvent event, EntityRef entity) {
+            calls.add("onPrivateEvent");
+        }
+    }
+
+    private static class PrivateHandler {
+        public void onEvent(TestEvent event, EntityRef entity) {
+        }
+    }
+}
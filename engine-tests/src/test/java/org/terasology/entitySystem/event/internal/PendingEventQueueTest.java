@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.event.internal;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.event.Event;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PendingEventQueueTest {
+
+    @Test
+    public void testEventsAreDrainedInOrder() {
+        PendingEventQueue queue = new PendingEventQueue(4, EventQueueOverflowPolicy.DROP);
+        List<Integer> drained = Lists.newArrayList();
+        for (int lap = 0; lap < 3; ++lap) {
+            for (int i = 0; i < 3; ++i) {
+                assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(lap * 3 + i), null));
+            }
+            assertEquals(3, queue.size());
+            assertEquals(3, queue.drain((entity, event, component) -> drained.add(((NumberedEvent) event).number)));
+        }
+        assertEquals(0, queue.size());
+        for (int i = 0; i < drained.size(); ++i) {
+            assertEquals(i, (int) drained.get(i));
+        }
+    }
+
+    @Test
+    public void testDropPolicyCountsDroppedEvents() {
+        PendingEventQueue queue = new PendingEventQueue(2, EventQueueOverflowPolicy.DROP);
+        assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(0), null));
+        assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(1), null));
+        assertFalse(queue.add(EntityRef.NULL, new NumberedEvent(2), null));
+        assertEquals(1, queue.getDropCount());
+        assertEquals(2, queue.drain((entity, event, component) -> { }));
+    }
+
+    @Test
+    public void testSpillPolicyKeepsAllEventsInOrder() {
+        PendingEventQueue queue = new PendingEventQueue(2, EventQueueOverflowPolicy.SPILL);
+        for (int i = 0; i < 5; ++i) {
+            assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(i), null));
+        }
+        assertEquals(3, queue.getOverflowCount());
+        assertEquals(5, queue.size());
+
+        List<Integer> drained = Lists.newArrayList();
+        queue.drain((entity, event, component) -> drained.add(((NumberedEvent) event).number));
+        assertEquals(Lists.newArrayList(0, 1, 2, 3, 4), drained);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testBlockPolicyWaitsForTheConsumer() throws InterruptedException {
+        PendingEventQueue queue = new PendingEventQueue(2, EventQueueOverflowPolicy.BLOCK);
+        assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(0), null));
+        assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(1), null));
+        boolean[] added = new boolean[1];
+        Thread producer = new Thread(() -> added[0] = queue.add(EntityRef.NULL, new NumberedEvent(2), null));
+        producer.start();
+        producer.join(100);
+        assertTrue(producer.isAlive());
+        assertEquals(2, queue.size());
+
+        List<Integer> drained = Lists.newArrayList();
+        queue.drain((entity, event, component) -> drained.add(((NumberedEvent) event).number));
+        producer.join();
+        assertTrue(added[0]);
+        queue.drain((entity, event, component) -> drained.add(((NumberedEvent) event).number));
+        assertEquals(Lists.newArrayList(0, 1, 2), drained);
+        assertEquals(0, queue.getOverflowCount());
+        assertEquals(0, queue.getDropCount());
+    }
+
+    @Test
+    public void testBlockPolicyDropsEventsOfInterruptedThreads() throws InterruptedException {
+        PendingEventQueue queue = new PendingEventQueue(2, EventQueueOverflowPolicy.BLOCK);
+        assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(0), null));
+        assertTrue(queue.add(EntityRef.NULL, new NumberedEvent(1), null));
+        boolean[] added = {true};
+        Thread producer = new Thread(() -> added[0] = queue.add(EntityRef.NULL, new NumberedEvent(2), null));
+        producer.start();
+        producer.interrupt();
+        producer.join();
+        assertFalse(added[0]);
+        assertEquals(1, queue.getDropCount());
+        assertEquals(2, queue.drain((entity, event, component) -> { }));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        int producerCount = 4;
+        int eventsPerProducer = 20000;
+        PendingEventQueue queue = new PendingEventQueue(64, EventQueueOverflowPolicy.BLOCK);
+        CountDownLatch done = new CountDownLatch(producerCount);
+        for (int p = 0; p < producerCount; ++p) {
+            int producer = p;
+            new Thread(() -> {
+                for (int i = 0; i < eventsPerProducer; ++i) {
+                    queue.add(EntityRef.NULL, new NumberedEvent(producer * eventsPerProducer + i), null);
+                }
+                done.countDown();
+            }).start();
+        }
+
+        int[] lastNumbers = new int[producerCount];
+        Arrays.fill(lastNumbers, -1);
+        int[] drainedCount = new int[1];
+        PendingEventQueue.EventConsumer consumer = (entity, event, component) -> {
+            int number = ((NumberedEvent) event).number;
+            int producer = number / eventsPerProducer;
+            // Events of a single producer must arrive in the order they were sent
+            assertTrue(number > lastNumbers[producer]);
+            lastNumbers[producer] = number;
+            drainedCount[0]++;
+        };
+        while (done.getCount() > 0) {
+            queue.drain(consumer);
+        }
+        queue.drain(consumer);
+        assertEquals(producerCount * eventsPerProducer, drainedCount[0]);
+        assertEquals(0, queue.getDropCount());
+    }
+
+    private static class NumberedEvent implements Event {
+        private final int number;
+
+        NumberedEvent(int number) {
+            this.number = number;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.protobuf.EntityData;
+import org.terasology.world.chunks.Chunk;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EncodedChunkCacheTest {
+
+    private EncodedChunkCache cache;
+    private Chunk chunk;
+
+    @Before
+    public void setup() {
+        cache = new EncodedChunkCache();
+        chunk = mock(Chunk.class);
+        when(chunk.encode()).then(invocation -> EntityData.ChunkStore.newBuilder().setX(1).setY(2).setZ(3));
+    }
+
+    @Test
+    public void testUnchangedChunkIsEncodedOnce() {
+        EntityData.ChunkStore first = cache.get(chunk);
+        assertSame(first, cache.get(chunk));
+        verify(chunk, times(1)).encode();
+    }
+
+    @Test
+    public void testChangedChunkIsEncodedAgain() {
+        EntityData.ChunkStore first = cache.get(chunk);
+        when(chunk.getVersion()).thenReturn(1);
+        assertNotSame(first, cache.get(chunk));
+        verify(chunk, times(2)).encode();
+    }
+
+    @Test
+    public void testReloadedChunkIsEncodedAgain() {
+        Chunk reloadedChunk = mock(Chunk.class);
+        when(reloadedChunk.encode()).then(invocation -> EntityData.ChunkStore.newBuilder().setX(1).setY(2).setZ(3));
+        cache.get(chunk);
+        cache.get(reloadedChunk);
+        verify(reloadedChunk, times(1)).encode();
+    }
+}
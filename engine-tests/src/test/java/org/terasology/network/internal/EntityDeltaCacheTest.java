@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EntityDeltaCacheTest {
+
+    private EntityDeltaCache cache;
+    private NetworkEntitySerializer serializer;
+    private Set<Class<? extends Component>> none = Collections.emptySet();
+    private Set<Class<? extends Component>> changed = Sets.newHashSet(StringComponent.class);
+
+    @Before
+    public void setup() {
+        cache = new EntityDeltaCache();
+        serializer = mock(NetworkEntitySerializer.class);
+        when(serializer.copyComponents(any(), anyCollection())).then(invocation -> Lists.newArrayList());
+        when(serializer.serializeChanges(anyCollection(), anyCollection(), anyCollection(), any()))
+                .then(invocation -> EntityData.PackedEntity.newBuilder().build());
+    }
+
+    @Test
+    public void testSameDeltaIsPreparedOnce() {
+        EntityDeltaCache.EntityDelta first = cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none);
+        assertSame(first, cache.prepare(serializer, 1, EntityRef.NULL, false, none, Sets.newHashSet(StringComponent.class), none));
+        verify(serializer, times(2)).copyComponents(any(), anyCollection());
+    }
+
+    @Test
+    public void testDeltaIsSerializedOnceWhenFirstUsed() {
+        EntityDeltaCache.EntityDelta delta = cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none);
+        verify(serializer, never()).serializeChanges(anyCollection(), anyCollection(), anyCollection(), any());
+        EntityData.PackedEntity first = delta.serialize();
+        assertSame(first, delta.serialize());
+        assertSame(first, cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none).serialize());
+        verify(serializer, times(1)).serializeChanges(anyCollection(), anyCollection(), anyCollection(), any());
+    }
+
+    @Test
+    public void testOwnerViewIsPreparedSeparately() {
+        EntityDeltaCache.EntityDelta other = cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none);
+        EntityDeltaCache.EntityDelta owner = cache.prepare(serializer, 1, EntityRef.NULL, true, none, changed, none);
+        assertNotSame(other, owner);
+        assertSame(owner, cache.prepare(serializer, 1, EntityRef.NULL, true, none, changed, none));
+    }
+
+    @Test
+    public void testDifferentDeltaIsPreparedAgain() {
+        EntityDeltaCache.EntityDelta first = cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none);
+        EntityDeltaCache.EntityDelta second = cache.prepare(serializer, 1, EntityRef.NULL, false, none,
+                Sets.newHashSet(StringComponent.class, IntegerComponent.class), none);
+        EntityDeltaCache.EntityDelta third = cache.prepare(serializer, 2, EntityRef.NULL, false, none, changed, none);
+        assertNotSame(first, second);
+        assertNotSame(first, third);
+        assertNotSame(second, third);
+    }
+
+    @Test
+    public void testEmptyDeltaIsSerializedOnce() {
+        when(serializer.serializeChanges(anyCollection(), anyCollection(), anyCollection(), any())).thenReturn(null);
+        EntityDeltaCache.EntityDelta delta = cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none);
+        assertNull(delta.serialize());
+        assertNull(delta.serialize());
+        verify(serializer, times(1)).serializeChanges(anyCollection(), anyCollection(), anyCollection(), any());
+    }
+
+    @Test
+    public void testInvalidatedEntityIsPreparedAgain() {
+        EntityDeltaCache.EntityDelta first = cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none);
+        EntityDeltaCache.EntityDelta other = cache.prepare(serializer, 2, EntityRef.NULL, false, none, changed, none);
+        cache.invalidate(1);
+        assertNotSame(first, cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none));
+        assertSame(other, cache.prepare(serializer, 2, EntityRef.NULL, false, none, changed, none));
+    }
+
+    @Test
+    public void testClearedCachePreparesAgain() {
+        EntityDeltaCache.EntityDelta first = cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none);
+        cache.clear();
+        assertNotSame(first, cache.prepare(serializer, 1, EntityRef.NULL, false, none, changed, none));
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.engine.Time;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.metadata.EventLibrary;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.network.ClientComponent;
+import org.terasology.network.NetworkComponent;
+import org.terasology.persistence.serializers.EventSerializer;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+import org.terasology.protobuf.NetData;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.rendering.nui.Color;
+import org.terasology.world.BlockChangeBatch;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.propagation.BlockChange;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NetClientTest {
+    private static final int NET_ID = 1;
+
+    private NetworkSystemImpl networkSystem;
+    private NetworkEntitySerializer entitySerializer;
+    private EntityRef entity;
+    private EntityRef clientEntity;
+    private List<Component> copiedComponents;
+
+    @Before
+    public void setup() {
+        CoreRegistry.setContext(new ContextImpl());
+        CoreRegistry.put(Time.class, mock(Time.class));
+
+        entity = mock(EntityRef.class);
+        when(entity.exists()).thenReturn(true);
+        when(entity.hasComponent(NetworkComponent.class)).thenReturn(true);
+        networkSystem = mock(NetworkSystemImpl.class);
+        when(networkSystem.getEntity(NET_ID)).thenReturn(entity);
+        when(networkSystem.getEntityDeltaCache()).thenReturn(new EntityDeltaCache());
+        when(networkSystem.getBandwidthPerClient()).thenReturn(10000);
+        clientEntity = mock(EntityRef.class);
+        when(clientEntity.getComponent(ClientComponent.class)).thenReturn(new ClientComponent());
+
+        copiedComponents = Lists.newArrayList(new StringComponent("copy"));
+        entitySerializer = mock(NetworkEntitySerializer.class);
+        when(entitySerializer.copyComponents(entity)).thenReturn(copiedComponents);
+        when(entitySerializer.copyComponents(eq(entity), anyCollection())).then(invocation -> Lists.newArrayList());
+        when(entitySerializer.copyComponents(entity, Sets.newHashSet(StringComponent.class))).thenReturn(copiedComponents);
+        when(entitySerializer.serializeComponents(any(), anyCollection(), anyBoolean(), any()))
+                .then(invocation -> EntityData.PackedEntity.newBuilder());
+        when(entitySerializer.serializeChanges(anyCollection(), anyCollection(), anyCollection(), any()))
+                .then(invocation -> EntityData.PackedEntity.newBuilder().build());
+    }
+
+    private NetClient createClient(Channel channel) {
+        when(channel.getPipeline()).thenReturn(mock(ChannelPipeline.class));
+        NetClient client = new NetClient(channel, networkSystem, null) {
+            @Override
+            public EntityRef getEntity() {
+                return clientEntity;
+            }
+
+            @Override
+            protected void createEntity(String preferredName, Color color, EntityManager entityManager) {
+            }
+        };
+        client.connected(mock(EntityManager.class), entitySerializer, mock(EventSerializer.class), mock(EventLibrary.class));
+        return client;
+    }
+
+    /**
+     * Makes a chunk relevant to the client by preparing a message that sends it.
+     */
+    private void makeChunkRelevant(NetClient client, Vector3i chunkPos) {
+        client.onChunkRelevant(chunkPos, mock(Chunk.class));
+        client.prepareNetTick();
+    }
+
+    private static Block createBlock(int id) {
+        Block block = new Block();
+        block.setId((short) id);
+        return block;
+    }
+
+    private NetData.NetMessage sentMessage(Channel channel, int count) {
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(channel, times(count)).write(message.capture());
+        return (NetData.NetMessage) message.getValue();
+    }
+
+    @Test
+    public void testInitialEntityIsCopiedWhenPreparedAndSerializedWhenSent() {
+        Channel channel = mock(Channel.class);
+        NetClient client = createClient(channel);
+        client.setNetInitial(NET_ID);
+
+        NetClient.NetTickMessage netTick = client.prepareNetTick();
+        verify(entitySerializer).copyComponents(entity);
+        verify(entitySerializer, never()).serializeComponents(any(), anyCollection(), anyBoolean(), any());
+        verify(channel, never()).write(any());
+
+        client.sendNetTick(netTick);
+        verify(entitySerializer).serializeComponents(any(), eq(copiedComponents), eq(true), any());
+        assertEquals(1, sentMessage(channel, 1).getCreateEntityCount());
+    }
+
+    @Test
+    public void testDirtyEntityIsCopiedWhenPreparedAndSerializedWhenSent() {
+        Channel channel = mock(Channel.class);
+        NetClient client = createClient(channel);
+        client.setNetInitial(NET_ID);
+        client.sendNetTick(client.prepareNetTick());
+        client.setComponentDirty(NET_ID, StringComponent.class);
+
+        NetClient.NetTickMessage netTick = client.prepareNetTick();
+        verify(entitySerializer).copyComponents(entity, Sets.newHashSet(StringComponent.class));
+        verify(entitySerializer, never()).serializeChanges(anyCollection(), anyCollection(), anyCollection(), any());
+
+        client.sendNetTick(netTick);
+        verify(entitySerializer).serializeChanges(anyCollection(), eq(copiedComponents), anyCollection(), any());
+        NetData.NetMessage message = sentMessage(channel, 2);
+        assertEquals(1, message.getUpdateEntityCount());
+        assertEquals(NET_ID, message.getUpdateEntity(0).getNetId());
+    }
+
+    @Test
+    public void testDirtyEntityIsSerializedOnceForAllClients() {
+        Channel firstChannel = mock(Channel.class);
+        Channel secondChannel = mock(Channel.class);
+        NetClient first = createClient(firstChannel);
+        NetClient second = createClient(secondChannel);
+        for (NetClient client : new NetClient[]{first, second}) {
+            client.setNetInitial(NET_ID);
+            client.sendNetTick(client.prepareNetTick());
+            client.setComponentDirty(NET_ID, StringComponent.class);
+        }
+
+        NetClient.NetTickMessage firstNetTick = first.prepareNetTick();
+        NetClient.NetTickMessage secondNetTick = second.prepareNetTick();
+        second.sendNetTick(secondNetTick);
+        first.sendNetTick(firstNetTick);
+
+        verify(entitySerializer, times(1)).copyComponents(entity, Sets.newHashSet(StringComponent.class));
+        verify(entitySerializer, times(1)).serializeChanges(anyCollection(), anyCollection(), anyCollection(), any());
+        assertEquals(1, sentMessage(firstChannel, 2).getUpdateEntityCount());
+        assertEquals(1, sentMessage(secondChannel, 2).getUpdateEntityCount());
+    }
+
+    @Test
+    public void testBlockChangesAreGroupedPerRelevantChunk() {
+        NetClient client = createClient(mock(Channel.class));
+        client.setChunkBlockChangesSupported(true);
+        Vector3i chunkPos = new Vector3i(0, 0, 0);
+        Vector3i negativeChunkPos = new Vector3i(-1, 0, -2);
+        makeChunkRelevant(client, chunkPos);
+        makeChunkRelevant(client, negativeChunkPos);
+        Block air = createBlock(0);
+        Block stone = createBlock(1);
+        Block dirt = createBlock(2);
+
+        BlockChangeBatch changes = new BlockChangeBatch();
+        changes.add(new BlockChange(new Vector3i(1, 2, 3), air, stone));
+        changes.add(new BlockChange(new Vector3i(4, 5, 6), air, stone));
+        changes.add(new BlockChange(new Vector3i(-1, 2, -33), air, dirt));
+        changes.add(new BlockChange(new Vector3i(100, 2, 3), air, stone));
+        client.onBlocksChanged(changes);
+        client.onBlockChanged(new Vector3i(4, 5, 6), dirt, stone);
+
+        NetData.NetMessage message = client.prepareNetTick().getMessage().build();
+        assertEquals(0, message.getBlockChangeCount());
+        assertEquals(2, message.getChunkBlockChangesCount());
+        Map<Vector3i, Block> blocks = Maps.newHashMap();
+        for (NetData.ChunkBlockChangesMessage chunkBlockChanges : message.getChunkBlockChangesList()) {
+            Vector3i pos = NetMessageUtil.convert(chunkBlockChanges.getChunkPos());
+            assertTrue(pos.equals(chunkPos) || pos.equals(negativeChunkPos));
+            for (int i = 0; i < chunkBlockChanges.getBlockIndexCount(); ++i) {
+                Block block = chunkBlockChanges.getNewBlock(i) == stone.getId() ? stone : dirt;
+                assertNull(blocks.put(NetMessageUtil.calcWorldPos(pos, chunkBlockChanges.getBlockIndex(i)), block));
+            }
+        }
+        assertEquals(ImmutableMap.of(new Vector3i(1, 2, 3), stone, new Vector3i(4, 5, 6), dirt, new Vector3i(-1, 2, -33), dirt), blocks);
+    }
+
+    @Test
+    public void testBlockChangesAreSentSinglyToLegacyClients() {
+        NetClient client = createClient(mock(Channel.class));
+        Vector3i chunkPos = new Vector3i(0, 0, 0);
+        makeChunkRelevant(client, chunkPos);
+        Block air = createBlock(0);
+        Block stone = createBlock(1);
+
+        BlockChangeBatch changes = new BlockChangeBatch();
+        changes.add(new BlockChange(new Vector3i(1, 2, 3), air, stone));
+        changes.add(new BlockChange(new Vector3i(4, 5, 6), air, stone));
+        changes.add(new BlockChange(new Vector3i(100, 2, 3), air, stone));
+        client.onBlocksChanged(changes);
+
+        NetData.NetMessage message = client.prepareNetTick().getMessage().build();
+        assertEquals(0, message.getChunkBlockChangesCount());
+        assertEquals(2, message.getBlockChangeCount());
+        assertEquals(new Vector3i(1, 2, 3), NetMessageUtil.convert(message.getBlockChange(0).getPos()));
+        assertEquals(new Vector3i(4, 5, 6), NetMessageUtil.convert(message.getBlockChange(1).getPos()));
+        assertEquals(stone.getId(), message.getBlockChange(1).getNewBlock());
+    }
+}
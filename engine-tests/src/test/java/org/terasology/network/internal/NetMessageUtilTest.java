@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.junit.Test;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.ChunkConstants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NetMessageUtilTest {
+
+    private static final Vector3i[] CHUNK_POSITIONS = {
+            new Vector3i(0, 0, 0), new Vector3i(-1, -1, -1), new Vector3i(-3, 2, -7), new Vector3i(5, -4, 1), new Vector3i(-100, 0, 100)};
+
+    private static final Vector3i[] BLOCK_POSITIONS = {
+            new Vector3i(0, 0, 0), new Vector3i(1, 2, 3), new Vector3i(ChunkConstants.SIZE_X - 1, ChunkConstants.SIZE_Y - 1, ChunkConstants.SIZE_Z - 1),
+            new Vector3i(ChunkConstants.SIZE_X - 1, 0, 0), new Vector3i(0, ChunkConstants.SIZE_Y - 1, 0), new Vector3i(0, 0, ChunkConstants.SIZE_Z - 1)};
+
+    @Test
+    public void testBlockIndexRoundTrip() {
+        for (Vector3i chunkPos : CHUNK_POSITIONS) {
+            for (Vector3i blockPos : BLOCK_POSITIONS) {
+                Vector3i worldPos = new Vector3i(chunkPos.x * ChunkConstants.SIZE_X + blockPos.x, chunkPos.y * ChunkConstants.SIZE_Y + blockPos.y,
+                        chunkPos.z * ChunkConstants.SIZE_Z + blockPos.z);
+                int blockIndex = NetMessageUtil.calcBlockIndex(worldPos);
+                assertTrue(blockIndex >= 0 && blockIndex < ChunkConstants.SIZE_X * ChunkConstants.SIZE_Y * ChunkConstants.SIZE_Z);
+                assertEquals(chunkPos, ChunkMath.calcChunkPos(worldPos));
+                assertEquals(worldPos, NetMessageUtil.calcWorldPos(chunkPos, blockIndex));
+            }
+        }
+    }
+
+    @Test
+    public void testBlocksOfNegativeChunkHaveDistinctIndices() {
+        Vector3i chunkPos = new Vector3i(-2, -1, -3);
+        TIntSet blockIndices = new TIntHashSet();
+        for (int z = 0; z < ChunkConstants.SIZE_Z; ++z) {
+            for (int y = 0; y < ChunkConstants.SIZE_Y; ++y) {
+                for (int x = 0; x < ChunkConstants.SIZE_X; ++x) {
+                    Vector3i worldPos = new Vector3i(chunkPos.x * ChunkConstants.SIZE_X + x, chunkPos.y * ChunkConstants.SIZE_Y + y,
+                            chunkPos.z * ChunkConstants.SIZE_Z + z);
+                    int blockIndex = NetMessageUtil.calcBlockIndex(worldPos);
+                    assertTrue(blockIndices.add(blockIndex));
+                    assertEquals(worldPos, NetMessageUtil.calcWorldPos(chunkPos, blockIndex));
+                }
+            }
+        }
+    }
+}
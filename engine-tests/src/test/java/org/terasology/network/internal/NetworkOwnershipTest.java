@@ -16,6 +16,7 @@
 
 package org.terasology.network.internal;
 
+import com.google.common.collect.Sets;
 import org.junit.Before;
 import org.junit.Test;
 import org.terasology.TerasologyTestingEnvironment;
@@ -29,12 +30,20 @@
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.entitySystem.metadata.EventLibrary;
+import org.terasology.entitySystem.stubs.StringComponent;
 import org.terasology.network.NetworkComponent;
 import org.terasology.network.NetworkSystem;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
 import org.terasology.testUtil.ModuleManagerFactory;
 import org.terasology.world.BlockEntityRegistry;
 
+import java.util.Collections;
+
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -181,4 +190,28 @@ public void testClientSendInitialForRelevantOwnedItems() {
         verify(client, times(1)).setNetInitial(entityA.getComponent(NetworkComponent.class).getNetworkId());
 
     }
+
+    @Test
+    public void testEntityDeltaSerializedAgainAfterChangeWithinTick() {
+        connectClient();
+        StringComponent stringComponent = new StringComponent("before");
+        EntityRef entity = entityManager.create(new NetworkComponent(), stringComponent);
+        networkSystem.registerNetworkEntity(entity);
+        int netId = entity.getComponent(NetworkComponent.class).getNetworkId();
+
+        NetworkEntitySerializer serializer = mock(NetworkEntitySerializer.class);
+        when(serializer.serializeChanges(anyCollection(), anyCollection(), anyCollection(), any()))
+                .then(invocation -> EntityData.PackedEntity.newBuilder().build());
+        EntityDeltaCache cache = networkSystem.getEntityDeltaCache();
+
+        EntityData.PackedEntity firstClientUpdate = cache.prepare(serializer, netId, entity, false, Collections.emptySet(),
+                Sets.newHashSet(StringComponent.class), Collections.emptySet()).serialize();
+        stringComponent.value = "after";
+        entity.saveComponent(stringComponent);
+        EntityData.PackedEntity secondClientUpdate = cache.prepare(serializer, netId, entity, false, Collections.emptySet(),
+                Sets.newHashSet(StringComponent.class), Collections.emptySet()).serialize();
+
+        assertNotSame(firstClientUpdate, secondClientUpdate);
+        verify(serializer, times(2)).serializeChanges(anyCollection(), anyCollection(), anyCollection(), any());
+    }
 }
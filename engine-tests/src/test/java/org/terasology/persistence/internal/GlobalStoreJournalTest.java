@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import gnu.trove.set.hash.TLongHashSet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.terasology.protobuf.EntityData;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlobalStoreJournalTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path journalPath;
+    private Path recordPath;
+    private EntityData.GlobalStore globalStore;
+
+    @Before
+    public void setup() throws Exception {
+        journalPath = temporaryFolder.getRoot().toPath().resolve("global.journal");
+        recordPath = temporaryFolder.getRoot().toPath().resolve("global.journal-record");
+        globalStore = EntityData.GlobalStore.newBuilder()
+                .addComponentClass("test:first")
+                .addEntity(createEntity(1, 0))
+                .addEntity(createEntity(2, 0))
+                .setNextEntityId(3)
+                .build();
+    }
+
+    @Test
+    public void testReplayAppliesRecords() throws Exception {
+        EntityData.GlobalStore changes = EntityData.GlobalStore.newBuilder()
+                .addComponentClass("test:second")
+                .addComponentClass("test:first")
+                .addEntity(createEntity(1, 0))
+                .addEntity(createEntity(3, 1))
+                .setNextEntityId(4)
+                .build();
+        append(GlobalStoreJournal.encodeRecord(1, changes, new TLongHashSet(new long[]{2})));
+
+        EntityData.GlobalStore result = GlobalStoreJournal.replay(globalStore, journalPath);
+        assertEquals(Arrays.asList("test:first", "test:second"), result.getComponentClassList());
+        assertEquals(2, result.getEntityCount());
+        assertEquals(1, result.getEntity(0).getId());
+        assertEquals(1, result.getEntity(0).getComponent(0).getTypeIndex());
+        assertEquals(3, result.getEntity(1).getId());
+        assertEquals(0, result.getEntity(1).getComponent(0).getTypeIndex());
+        assertEquals(4, result.getNextEntityId());
+    }
+
+    @Test
+    public void testAppendingRecordAgainHasNoEffect() throws Exception {
+        append(GlobalStoreJournal.encodeRecord(1, createChanges(3), new TLongHashSet()));
+        long size = Files.size(journalPath);
+        GlobalStoreJournal.appendRecord(journalPath, recordPath);
+
+        assertEquals(size, Files.size(journalPath));
+        assertEquals(3, GlobalStoreJournal.replay(globalStore, journalPath).getEntityCount());
+    }
+
+    @Test
+    public void testIncompleteRecordIsDiscarded() throws Exception {
+        append(GlobalStoreJournal.encodeRecord(1, createChanges(3), new TLongHashSet()));
+        byte[] secondRecord = GlobalStoreJournal.encodeRecord(2, createChanges(4), new TLongHashSet());
+        Files.write(journalPath, Arrays.copyOf(secondRecord, secondRecord.length - 2), StandardOpenOption.APPEND);
+
+        assertEquals(3, GlobalStoreJournal.replay(globalStore, journalPath).getEntityCount());
+
+        append(secondRecord);
+        assertEquals(4, GlobalStoreJournal.replay(globalStore, journalPath).getEntityCount());
+    }
+
+    private void append(byte[] record) throws Exception {
+        Files.write(recordPath, record);
+        GlobalStoreJournal.appendRecord(journalPath, recordPath);
+    }
+
+    private static EntityData.GlobalStore createChanges(long entityId) {
+        return EntityData.GlobalStore.newBuilder()
+                .addComponentClass("test:first")
+                .addEntity(createEntity(entityId, 0))
+                .build();
+    }
+
+    private static EntityData.Entity createEntity(long id, int componentTypeIndex) {
+        return EntityData.Entity.newBuilder()
+                .setId(id)
+                .addComponent(EntityData.Component.newBuilder().setTypeIndex(componentTypeIndex))
+                .build();
+    }
+}
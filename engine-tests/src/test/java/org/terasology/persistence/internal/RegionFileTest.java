@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.terasology.math.geom.Vector3i;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RegionFileTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path dataPath;
+    private Path indexPath;
+    private Path newIndexPath;
+
+    @Before
+    public void setup() throws Exception {
+        Path root = temporaryFolder.getRoot().toPath();
+        dataPath = root.resolve("0.0.0.region");
+        indexPath = root.resolve("0.0.0.region.index");
+        newIndexPath = root.resolve("new.region.index");
+    }
+
+    @Test
+    public void testChunksSurviveReopening() throws Exception {
+        byte[] first = createData(100, (byte) 1);
+        byte[] second = createData(2 * RegionFile.SECTOR_SIZE + 1, (byte) 2);
+        save(new Vector3i(0, 0, 0), first, new Vector3i(15, 3, 7), second);
+
+        try (RegionFileReader reader = RegionFileReader.open(dataPath, indexPath)) {
+            assertArrayEquals(first, reader.read(new Vector3i(0, 0, 0)));
+            assertArrayEquals(second, reader.read(new Vector3i(15, 3, 7)));
+            assertNull(reader.read(new Vector3i(1, 0, 0)));
+            assertTrue(reader.contains(new Vector3i(15, 3, 7)));
+            assertFalse(reader.contains(new Vector3i(1, 0, 0)));
+        }
+        try (RegionFile regionFile = RegionFile.open(dataPath, indexPath)) {
+            assertArrayEquals(second, regionFile.read(new Vector3i(15, 3, 7)));
+        }
+    }
+
+    @Test
+    public void testMissingRegionHasNoReader() throws Exception {
+        assertNull(RegionFileReader.open(dataPath, indexPath));
+    }
+
+    @Test
+    public void testChunksAreNotReplacedBeforeIndexIs() throws Exception {
+        save(new Vector3i(0, 0, 0), createData(10, (byte) 1));
+
+        try (RegionFile regionFile = RegionFile.open(dataPath, indexPath)) {
+            regionFile.write(new Vector3i(0, 0, 0), createData(10, (byte) 2));
+            regionFile.write(new Vector3i(1, 0, 0), createData(10, (byte) 3));
+            regionFile.writeIndex(newIndexPath);
+        }
+
+        try (RegionFileReader reader = RegionFileReader.open(dataPath, indexPath)) {
+            assertArrayEquals(createData(10, (byte) 1), reader.read(new Vector3i(0, 0, 0)));
+            assertNull(reader.read(new Vector3i(1, 0, 0)));
+        }
+        try (RegionFileReader reader = RegionFileReader.open(dataPath, newIndexPath)) {
+            assertArrayEquals(createData(10, (byte) 2), reader.read(new Vector3i(0, 0, 0)));
+            assertArrayEquals(createData(10, (byte) 3), reader.read(new Vector3i(1, 0, 0)));
+        }
+    }
+
+    @Test
+    public void testReplacedSectorsAreReusedOnceIndexIsReplaced() throws Exception {
+        save(new Vector3i(0, 0, 0), createData(2 * RegionFile.SECTOR_SIZE, (byte) 1));
+        save(new Vector3i(0, 0, 0), createData(2 * RegionFile.SECTOR_SIZE, (byte) 2));
+        assertEquals(4 * RegionFile.SECTOR_SIZE, Files.size(dataPath));
+
+        save(new Vector3i(1, 0, 0), createData(RegionFile.SECTOR_SIZE, (byte) 3));
+        assertEquals(4 * RegionFile.SECTOR_SIZE, Files.size(dataPath));
+        try (RegionFileReader reader = RegionFileReader.open(dataPath, indexPath)) {
+            assertArrayEquals(createData(2 * RegionFile.SECTOR_SIZE, (byte) 2), reader.read(new Vector3i(0, 0, 0)));
+            assertArrayEquals(createData(RegionFile.SECTOR_SIZE, (byte) 3), reader.read(new Vector3i(1, 0, 0)));
+        }
+    }
+
+    @Test
+    public void testChunksOfNegativeRegions() throws Exception {
+        Vector3i chunkPos = new Vector3i(-1, -16, -17);
+        assertEquals(new Vector3i(-1, -1, -2), RegionFile.getRegionPosition(chunkPos));
+        save(chunkPos, createData(10, (byte) 1));
+        try (RegionFileReader reader = RegionFileReader.open(dataPath, indexPath)) {
+            assertArrayEquals(createData(10, (byte) 1), reader.read(chunkPos));
+            assertNull(reader.read(new Vector3i(15, 0, 14)));
+        }
+    }
+
+    /**
+     * Writes the given chunks and replaces the index, as a save transaction does.
+     */
+    private void save(Object... chunkPositionsAndData) throws Exception {
+        try (RegionFile regionFile = RegionFile.open(dataPath, indexPath)) {
+            for (int i = 0; i < chunkPositionsAndData.length; i += 2) {
+                regionFile.write((Vector3i) chunkPositionsAndData[i], (byte[]) chunkPositionsAndData[i + 1]);
+            }
+            regionFile.writeIndex(newIndexPath);
+        }
+        Files.move(newIndexPath, indexPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static byte[] createData(int length, byte value) {
+        byte[] data = new byte[length];
+        Arrays.fill(data, value);
+        return data;
+    }
+}
@@ -16,6 +16,7 @@
 package org.terasology.persistence.internal;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.nio.file.ShrinkWrapFileSystems;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
@@ -27,6 +28,7 @@
 import org.terasology.TerasologyTestingEnvironment;
 import org.terasology.assets.ResourceUrn;
 import org.terasology.assets.management.AssetManager;
+import org.terasology.config.Config;
 import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
 import org.terasology.engine.paths.PathManager;
 import org.terasology.entitySystem.entity.EntityRef;
@@ -64,6 +66,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -219,6 +222,36 @@ public void testGlobalEntitiesStoredAndRestored() throws Exception {
     }
 
 
+    @Test
+    public void testGlobalEntityChangesStoredInJournal() throws Exception {
+        EntityRef changedEntity = entityManager.create(new StringComponent("Before"));
+        EntityRef destroyedEntity = entityManager.create(new StringComponent("Destroyed"));
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+
+        StringComponent changedComponent = changedEntity.getComponent(StringComponent.class);
+        changedComponent.value = "After";
+        changedEntity.saveComponent(changedComponent);
+        destroyedEntity.destroy();
+        entityManager.create(new StringComponent("Added"));
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        assertTrue(Files.size(new StoragePathProvider(savePath).getGlobalEntityJournalPath()) > 0);
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        StorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager, blockManager,
+                biomeManager, false);
+        newSM.loadGlobalStore();
+
+        Set<String> values = Sets.newHashSet();
+        for (EntityRef entity : newEntityManager.getEntitiesWith(StringComponent.class)) {
+            values.add(entity.getComponent(StringComponent.class).value);
+        }
+        assertEquals(Sets.newHashSet("After", "Added"), values);
+    }
+
     @Test
     public void testReferenceRemainsValidOverStorageRestoral() throws Exception {
         EntityRef someEntity = entityManager.create();
@@ -294,6 +327,109 @@ public void testChunkSurvivesStorageSaveAndRestore() throws Exception {
         assertEquals(testBlock2, restored.getChunk().getBlock(0, 4, 2));
     }
 
+    @Test
+    public void testRegionFileChunkReadAgainAfterNextSave() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.setChunkStorageLayout(ChunkStorageLayout.REGION_FILES);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        while (esm.isSaving()) {
+            Thread.sleep(10);
+        }
+        assertEquals(testBlock, esm.loadChunkStore(CHUNK_POS).getChunk().getBlock(0, 0, 0));
+
+        chunk.setBlock(0, 0, 0, testBlock2);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        assertEquals(testBlock2, esm.loadChunkStore(CHUNK_POS).getChunk().getBlock(0, 0, 0));
+    }
+
+    @Test
+    public void testHasChunkStoreInRegionFiles() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+        assertFalse(esm.hasChunkStore(CHUNK_POS));
+
+        esm.setChunkStorageLayout(ChunkStorageLayout.REGION_FILES);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        assertTrue(esm.hasChunkStore(CHUNK_POS));
+        assertFalse(esm.hasChunkStore(new Vector3i(CHUNK_POS.x + 1, CHUNK_POS.y, CHUNK_POS.z)));
+    }
+
+    @Test
+    public void testChunkSurvivesStorageSaveAndRestoreInRegionFiles() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.setBlock(0, 4, 2, testBlock2);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        when(chunkProvider.getChunk(Matchers.any(Vector3i.class))).thenReturn(chunk);
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.setChunkStorageLayout(ChunkStorageLayout.REGION_FILES);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        StorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager, blockManager,
+                biomeManager, ChunkStorageLayout.REGION_FILES);
+        newSM.loadGlobalStore();
+
+        ChunkStore restored = newSM.loadChunkStore(CHUNK_POS);
+        assertNotNull(restored);
+        assertEquals(CHUNK_POS, restored.getChunkPosition());
+        assertEquals(testBlock, restored.getChunk().getBlock(0, 0, 0));
+        assertEquals(testBlock2, restored.getChunk().getBlock(0, 4, 2));
+    }
+
+    @Test
+    public void testChunksEncodedInParallelSurviveStorage() throws Exception {
+        List<Chunk> chunks = Lists.newArrayList();
+        for (int i = 0; i < 8; ++i) {
+            Chunk chunk = new ChunkImpl(new Vector3i(i, 0, 0), blockManager, biomeManager);
+            chunk.setBlock(i, 0, 0, testBlock);
+            chunk.markReady();
+            chunks.add(chunk);
+        }
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(chunks);
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        Config config = context.get(Config.class);
+        config.getSystem().setChunkSaveThreads(2);
+        esm.setChunkStorageLayout(ChunkStorageLayout.REGION_FILES);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+        config.getSystem().setChunkSaveThreads(0);
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        StorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager, blockManager,
+                biomeManager, ChunkStorageLayout.REGION_FILES);
+        newSM.loadGlobalStore();
+
+        for (int i = 0; i < 8; ++i) {
+            ChunkStore restored = newSM.loadChunkStore(new Vector3i(i, 0, 0));
+            assertNotNull(restored);
+            assertEquals(testBlock, restored.getChunk().getBlock(i, 0, 0));
+        }
+    }
+
     @Test
     public void testEntitySurvivesStorageInChunkStore() throws Exception {
         Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.reflection.copy;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.engine.SimpleUri;
+import org.terasology.entitySystem.stubs.GetterSetterComponent;
+import org.terasology.entitySystem.stubs.ListOfObjectComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.reflection.metadata.ClassMetadata;
+import org.terasology.reflection.metadata.DefaultClassMetadata;
+import org.terasology.reflection.reflect.ReflectFactory;
+import org.terasology.reflection.reflect.ReflectionReflectFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedCopyStrategyFactoryTest {
+
+    private ReflectFactory reflectFactory;
+    private CopyStrategyLibrary copyStrategyLibrary;
+    private GeneratedCopyStrategyFactory factory;
+
+    @Before
+    public void setup() {
+        reflectFactory = new ReflectionReflectFactory();
+        copyStrategyLibrary = new CopyStrategyLibrary(reflectFactory);
+        factory = new GeneratedCopyStrategyFactory();
+    }
+
+    @Test
+    public void testCopyPublicField() throws Exception {
+        CopyStrategy<StringComponent> strategy = factory.createCopyStrategy(createMetadata(StringComponent.class));
+        assertNotNull(strategy);
+
+        StringComponent copy = strategy.copy(new StringComponent("test"));
+        assertEquals("test", copy.value);
+    }
+
+    @Test
+    public void testCopyUsesGetterAndSetter() throws Exception {
+        CopyStrategy<GetterSetterComponent> strategy = factory.createCopyStrategy(createMetadata(GetterSetterComponent.class));
+        assertNotNull(strategy);
+
+        GetterSetterComponent original = new GetterSetterComponent();
+        original.setValue(new Vector3f(1, 2, 3));
+        GetterSetterComponent copy = strategy.copy(original);
+        assertTrue(original.getterUsed);
+        assertTrue(copy.setterUsed);
+        assertEquals(new Vector3f(1, 2, 3), copy.getValue());
+    }
+
+    @Test
+    public void testCopyAppliesFieldCopyStrategies() throws Exception {
+        CopyStrategy<ListOfObjectComponent> strategy = factory.createCopyStrategy(createMetadata(ListOfObjectComponent.class));
+        assertNotNull(strategy);
+
+        ListOfObjectComponent original = new ListOfObjectComponent();
+        original.shortName = "list";
+        ListOfObjectComponent.SubElement element = new ListOfObjectComponent.SubElement();
+        element.id = "id";
+        original.elements.add(element);
+
+        ListOfObjectComponent copy = strategy.copy(original);
+        assertEquals("list", copy.shortName);
+        assertNotSame(original.elements, copy.elements);
+        assertEquals(1, copy.elements.size());
+        assertNotSame(element, copy.elements.get(0));
+        assertEquals("id", copy.elements.get(0).id);
+    }
+
+    @Test
+    public void testGeneratedClassIsReused() throws Exception {
+        CopyStrategy<StringComponent> first = factory.createCopyStrategy(createMetadata(StringComponent.class));
+        CopyStrategy<StringComponent> second = new GeneratedCopyStrategyFactory().createCopyStrategy(createMetadata(StringComponent.class));
+        assertSame(first.getClass(), second.getClass());
+    }
+
+    private <T> ClassMetadata<T, ?> createMetadata(Class<T> type) throws NoSuchMethodException {
+        return new DefaultClassMetadata<>(new SimpleUri("test:" + type.getSimpleName()), type, reflectFactory, copyStrategyLibrary);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.rendering.primitives;
+
+import org.junit.Test;
+
+import java.nio.IntBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DirectIntBufferPoolTest {
+
+    private DirectIntBufferPool pool = new DirectIntBufferPool();
+
+    @Test
+    public void testAcquiredBufferIsLargeEnough() {
+        for (int capacity : new int[]{0, 1, 1024, 1025, 100000}) {
+            IntBuffer buffer = pool.acquire(capacity);
+            assertTrue(buffer.isDirect());
+            assertTrue(buffer.capacity() >= capacity);
+            assertEquals(0, buffer.position());
+            assertEquals(buffer.capacity(), buffer.limit());
+        }
+    }
+
+    @Test
+    public void testReleasedBufferIsReused() {
+        IntBuffer buffer = pool.acquire(3000);
+        buffer.put(1).put(2).flip();
+        pool.release(buffer);
+
+        IntBuffer reused = pool.acquire(2500);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(reused.capacity(), reused.limit());
+    }
+
+    @Test
+    public void testBuffersOfOtherCapacitiesAreNotReused() {
+        IntBuffer buffer = pool.acquire(3000);
+        pool.release(buffer);
+        assertNotSame(buffer, pool.acquire(5000));
+        assertNotSame(buffer, pool.acquire(100));
+    }
+}
@@ -21,6 +21,9 @@
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Rect2i;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.utilities.procedural.BrownianNoise;
 import org.terasology.utilities.procedural.DiscreteWhiteNoise;
 import org.terasology.utilities.procedural.Noise;
@@ -102,4 +105,86 @@ public void testResolution() {
 
         Assert.fail();
     }
+
+    @Test
+    public void testRegionNoise() {
+        Region3i region = Region3i.createFromMinAndSize(new Vector3i(-5, 3, 7), new Vector3i(6, 4, 3));
+        float[] values = new float[region.sizeX() * region.sizeY() * region.sizeZ()];
+        noiseGen.noise(region, values);
+
+        int index = 0;
+        for (int z = region.minZ(); z <= region.maxZ(); ++z) {
+            for (int y = region.minY(); y <= region.maxY(); ++y) {
+                for (int x = region.minX(); x <= region.maxX(); ++x) {
+                    Assert.assertEquals(noiseGen.noise(x, y, z), values[index++], 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAreaNoise() {
+        Rect2i area = Rect2i.createFromMinAndSize(-5, 3, 6, 4);
+        float[] values = new float[area.sizeX() * area.sizeY()];
+        noiseGen.noise(area, values);
+
+        int index = 0;
+        for (int y = area.minY(); y <= area.maxY(); ++y) {
+            for (int x = area.minX(); x <= area.maxX(); ++x) {
+                Assert.assertEquals(noiseGen.noise(x, y), values[index++], 0);
+            }
+        }
+    }
+
+    @Test
+    public void testGridNoise() {
+        float[] xs = randomCoordinates(5);
+        float[] ys = randomCoordinates(4);
+        float[] zs = randomCoordinates(3);
+        float[] values = new float[xs.length * ys.length * zs.length];
+
+        noiseGen.noise(xs, ys, values);
+        int index = 0;
+        for (float y : ys) {
+            for (float x : xs) {
+                Assert.assertEquals(noiseGen.noise(x, y), values[index++], 0);
+            }
+        }
+
+        noiseGen.noise(xs, ys, zs, values);
+        index = 0;
+        for (float z : zs) {
+            for (float y : ys) {
+                for (float x : xs) {
+                    Assert.assertEquals(noiseGen.noise(x, y, z), values[index++], 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGridNoiseWithLeadingCoordinates() {
+        float[] xs = randomCoordinates(6);
+        float[] ys = randomCoordinates(5);
+        float[] zs = randomCoordinates(4);
+        float[] values = new float[xs.length * ys.length * zs.length];
+
+        noiseGen.noise(xs, 4, ys, 3, zs, 2, values);
+        int index = 0;
+        for (int k = 0; k < 2; ++k) {
+            for (int j = 0; j < 3; ++j) {
+                for (int i = 0; i < 4; ++i) {
+                    Assert.assertEquals(noiseGen.noise(xs[i], ys[j], zs[k]), values[index++], 0);
+                }
+            }
+        }
+    }
+
+    private float[] randomCoordinates(int count) {
+        float[] coordinates = new float[count];
+        for (int i = 0; i < count; ++i) {
+            coordinates[i] = rng.nextFloat() * 200f - 100f;
+        }
+        return coordinates;
+    }
 }
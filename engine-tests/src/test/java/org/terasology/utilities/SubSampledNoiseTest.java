@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Rect2i;
+import org.terasology.math.geom.Vector2f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.utilities.procedural.SimplexNoise;
+import org.terasology.utilities.procedural.SubSampledNoise;
+
+/**
+ * Checks that sampling whole areas of {@link SubSampledNoise} gives the same values as sampling single positions.
+ */
+public class SubSampledNoiseTest {
+
+    @Test
+    public void testAreaMatchesPositions() {
+        SubSampledNoise noise = new SubSampledNoise(new SimplexNoise(0xCAFE), new Vector2f(0.01f, 0.01f), 4);
+        Rect2i area = Rect2i.createFromMinAndSize(-13, 6, 38, 21);
+        float[] values = new float[area.sizeX() * area.sizeY()];
+        noise.noise(area, values);
+
+        int index = 0;
+        for (int y = area.minY(); y <= area.maxY(); ++y) {
+            for (int x = area.minX(); x <= area.maxX(); ++x) {
+                Assert.assertEquals(noise.noise((float) x, (float) y), values[index++], 0.00001f);
+            }
+        }
+        Assert.assertArrayEquals(values, noise.noise(area), 0);
+    }
+
+    @Test
+    public void testRegionMatchesPositions() {
+        SubSampledNoise noise = new SubSampledNoise(new SimplexNoise(0xCAFE), new Vector3f(0.01f, 0.02f, 0.01f), 4);
+        Region3i region = Region3i.createFromMinAndSize(new Vector3i(-7, -3, 2), new Vector3i(11, 9, 6));
+        float[] values = new float[region.sizeX() * region.sizeY() * region.sizeZ()];
+        noise.noise(region, values);
+
+        int index = 0;
+        for (int z = region.minZ(); z <= region.maxZ(); ++z) {
+            for (int y = region.minY(); y <= region.maxY(); ++y) {
+                for (int x = region.minX(); x <= region.maxX(); ++x) {
+                    Assert.assertEquals(noise.noise((float) x, (float) y, (float) z), values[index++], 0.00001f);
+                }
+            }
+        }
+    }
+}
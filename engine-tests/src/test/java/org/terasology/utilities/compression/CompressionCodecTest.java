@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.compression;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompressionCodecTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(7);
+        for (CompressionCodec codec : CompressionCodec.values()) {
+            for (int length : new int[]{0, 1, 5, 12, 13, 100, 70000}) {
+                byte[] randomData = new byte[length];
+                random.nextBytes(randomData);
+                assertArrayEquals(randomData, CompressionCodec.decompress(codec.compress(randomData)));
+
+                byte[] repetitiveData = createRepetitiveData(length);
+                assertArrayEquals(repetitiveData, CompressionCodec.decompress(codec.compress(repetitiveData)));
+            }
+        }
+    }
+
+    @Test
+    public void testLz4CompressesRepetitiveData() throws IOException {
+        byte[] data = createRepetitiveData(100000);
+        byte[] compressed = CompressionCodec.LZ4.compress(data);
+        assertTrue(compressed.length < data.length / 10);
+    }
+
+    @Test
+    public void testLz4LongRuns() throws IOException {
+        byte[] data = new byte[100000];
+        Arrays.fill(data, 1000, 90000, (byte) 3);
+        assertArrayEquals(data, CompressionCodec.decompress(CompressionCodec.LZ4.compress(data)));
+    }
+
+    @Test
+    public void testPlainGzipDataIsReadable() throws IOException {
+        byte[] data = createRepetitiveData(1000);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            gzipOut.write(data);
+        }
+        assertArrayEquals(data, CompressionCodec.decompress(baos.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownFormat() throws IOException {
+        CompressionCodec.decompress(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedLz4Data() throws IOException {
+        byte[] compressed = CompressionCodec.LZ4.compress(createRepetitiveData(1000));
+        CompressionCodec.decompress(Arrays.copyOf(compressed, compressed.length - 3));
+    }
+
+    private static byte[] createRepetitiveData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            data[i] = (byte) ((i / 7) % 13);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.propagation.BlockChange;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BlockChangeBatchTest {
+
+    private final Block air = new Block();
+    private final Block stone = new Block();
+
+    @Test
+    public void testChangesAreGroupedByChunk() {
+        BlockChangeBatch batch = new BlockChangeBatch();
+        BlockChange first = new BlockChange(new Vector3i(1, 2, 3), air, stone);
+        BlockChange otherChunk = new BlockChange(new Vector3i(-1, 2, 3), air, stone);
+        BlockChange second = new BlockChange(new Vector3i(ChunkConstants.SIZE_X - 1, 0, 0), stone, air);
+        batch.add(first);
+        batch.add(otherChunk);
+        batch.add(second);
+
+        assertEquals(3, batch.size());
+        assertEquals(Lists.newArrayList(new Vector3i(0, 0, 0), new Vector3i(-1, 0, 0)), Lists.newArrayList(batch.getChunkPositions()));
+        assertEquals(Lists.newArrayList(first, second), batch.getChanges(new Vector3i(0, 0, 0)));
+        assertEquals(Lists.newArrayList(otherChunk), batch.getChanges(new Vector3i(-1, 0, 0)));
+        assertTrue(batch.getChanges(new Vector3i(1, 0, 0)).isEmpty());
+        assertEquals(Lists.newArrayList(first, second, otherChunk), Lists.newArrayList(batch.getChanges()));
+    }
+
+    @Test
+    public void testListenersAreNotifiedPerBlockByDefault() {
+        BlockChangeBatch batch = new BlockChangeBatch();
+        batch.add(new BlockChange(new Vector3i(1, 2, 3), air, stone));
+        batch.add(new BlockChange(new Vector3i(100, 2, 3), stone, air));
+        List<Vector3i> notifiedPositions = Lists.newArrayList();
+
+        WorldChangeListener listener = new WorldChangeListener() {
+            @Override
+            public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
+                notifiedPositions.add(pos);
+            }
+
+            @Override
+            public void onBiomeChanged(Vector3i pos, Biome newBiome, Biome originalBiome) {
+            }
+        };
+        listener.onBlocksChanged(batch);
+
+        assertEquals(Lists.newArrayList(new Vector3i(1, 2, 3), new Vector3i(100, 2, 3)), notifiedPositions);
+    }
+}
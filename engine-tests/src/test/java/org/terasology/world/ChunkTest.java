@@ -39,6 +39,7 @@
 import org.terasology.world.chunks.internal.ChunkImpl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 
 public class ChunkTest extends TerasologyTestingEnvironment {
@@ -73,6 +74,17 @@ public void testChangeBlock() {
         assertEquals(solid, chunk.getBlock(new Vector3i(1, 2, 3)));
     }
 
+    @Test
+    public void testVersionChangesWithBlocks() {
+        int version = chunk.getVersion();
+        chunk.setBlock(new Vector3i(1, 2, 3), solid);
+        assertNotEquals(version, chunk.getVersion());
+
+        version = chunk.getVersion();
+        chunk.setBlock(new Vector3i(1, 2, 3), solid);
+        assertEquals(version, chunk.getVersion());
+    }
+
     @Test
     public void testGetAabb() {
         assertEquals(new Vector3f(0, 0, 0), chunk.getAABB().getMin());
@@ -437,6 +437,23 @@ public void testBlockEntityPrefabCorrectlyAddedOnChangeToBlockWithPrefab() {
         assertEquals(blockWithString.getPrefab().get().getUrn().toString(), entity.getParentPrefab().getUrn().toString());
     }
 
+    @Test
+    public void testApplyToBlocksOnlyVisitsFilteredBlocks() {
+        Vector3i plainPos = new Vector3i(0, 0, 0);
+        Vector3i stringPos = new Vector3i(1, 0, 0);
+        worldProvider.setBlock(plainPos, plainBlock);
+        worldProvider.setBlock(stringPos, blockWithString);
+
+        List<Vector3i> visited = Lists.newArrayList();
+        worldProvider.applyToBlocks(Lists.newArrayList(plainPos, stringPos, new Vector3i(2, 0, 0)), block -> block != plainBlock,
+                (position, blockEntity) -> {
+                    assertEquals(position, blockEntity.getComponent(BlockComponent.class).getPosition());
+                    visited.add(position);
+                });
+
+        assertEquals(Lists.newArrayList(stringPos, new Vector3i(2, 0, 0)), visited);
+    }
+
     public static class LifecycleEventChecker {
         public List<EventInfo> receivedEvents = Lists.newArrayList();
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ChunkIndexTest {
+
+    private ChunkIndex index;
+
+    @Before
+    public void setup() {
+        index = new ChunkIndex();
+    }
+
+    @Test
+    public void testGetAddedChunk() {
+        Chunk chunk = mock(Chunk.class);
+        index.put(new Vector3i(1, -2, 3), chunk);
+        assertSame(chunk, index.get(1, -2, 3));
+        assertSame(chunk, index.get(new Vector3i(1, -2, 3)));
+        assertTrue(index.contains(new Vector3i(1, -2, 3)));
+        assertNull(index.get(1, 2, 3));
+    }
+
+    @Test
+    public void testRemovedChunkIsNotReturnedAsLastChunk() {
+        Chunk chunk = mock(Chunk.class);
+        index.put(new Vector3i(0, 0, 0), chunk);
+        assertSame(chunk, index.get(0, 0, 0));
+        assertSame(chunk, index.remove(new Vector3i(0, 0, 0)));
+        assertNull(index.get(0, 0, 0));
+        assertFalse(index.contains(new Vector3i(0, 0, 0)));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testReplacedChunkIsNotReturnedAsLastChunk() {
+        Chunk reloadedChunk = mock(Chunk.class);
+        index.put(new Vector3i(0, 0, 0), mock(Chunk.class));
+        index.get(0, 0, 0);
+        index.put(new Vector3i(0, 0, 0), reloadedChunk);
+        assertSame(reloadedChunk, index.get(0, 0, 0));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testManyChunks() {
+        Chunk chunk = mock(Chunk.class);
+        for (int x = -20; x < 20; ++x) {
+            for (int z = -20; z < 20; ++z) {
+                index.put(new Vector3i(x, 0, z), chunk);
+            }
+        }
+        for (int x = -20; x < 20; x += 2) {
+            for (int z = -20; z < 20; ++z) {
+                index.remove(new Vector3i(x, 0, z));
+            }
+        }
+        assertEquals(800, index.size());
+        assertEquals(800, index.values().size());
+        assertEquals(800, index.positions().size());
+        for (int x = -20; x < 20; ++x) {
+            for (int z = -20; z < 20; ++z) {
+                assertEquals((x & 1) != 0, index.get(x, 0, z) != null);
+            }
+        }
+    }
+
+    @Test
+    public void testClear() {
+        index.put(new Vector3i(0, 0, 0), mock(Chunk.class));
+        index.get(0, 0, 0);
+        index.clear();
+        assertNull(index.get(0, 0, 0));
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.ChunkStore;
+import org.terasology.persistence.StorageManager;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.internal.ChunkRelevanceRegion;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChunkPrefetcherTest {
+
+    /**
+     * A 3x1x3 region moving along the x axis by one chunk, ahead of which 2 * 3 chunks are prefetched.
+     */
+    private static final Vector3i RELEVANCE_DISTANCE = new Vector3i(3, 1, 3);
+    private static final Vector3i AHEAD = new Vector3i(3, 0, 0);
+
+    private StorageManager storageManager;
+    private ChunkPrefetcher prefetcher;
+    private List<ChunkRelevanceRegion> regions;
+
+    @Before
+    public void setup() {
+        storageManager = mock(StorageManager.class);
+        LocationComponent location = new LocationComponent(new Vector3f());
+        EntityRef entity = mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(location);
+        when(entity.hasComponent(LocationComponent.class)).thenReturn(true);
+        ChunkRelevanceRegion region = new ChunkRelevanceRegion(entity, RELEVANCE_DISTANCE);
+        location.setWorldPosition(new Vector3f(ChunkConstants.SIZE_X, 0, 0));
+        region.update();
+        regions = Lists.newArrayList(region);
+    }
+
+    @After
+    public void teardown() {
+        if (prefetcher != null) {
+            prefetcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testPrefetchedChunkIsNotReadAgain() throws Exception {
+        ChunkStore store = mockStore();
+        CountDownLatch read = new CountDownLatch(1);
+        when(storageManager.loadChunkStore(AHEAD)).thenAnswer(invocation -> {
+            read.countDown();
+            return store;
+        });
+        prefetcher = new ChunkPrefetcher(storageManager, ChunkPrefetcher.DEFAULT_CAPACITY);
+
+        prefetcher.prefetch(regions, pos -> false);
+        assertTrue(read.await(10, TimeUnit.SECONDS));
+
+        assertSame(store, prefetcher.loadChunkStore(AHEAD));
+        verify(storageManager, times(1)).loadChunkStore(AHEAD);
+        assertEquals(5, prefetcher.size());
+    }
+
+    @Test
+    public void testChunkNotPrefetchedIsRead() {
+        ChunkStore store = mockStore();
+        Vector3i behind = new Vector3i(-1, 0, 0);
+        when(storageManager.loadChunkStore(behind)).thenReturn(store);
+        prefetcher = new ChunkPrefetcher(storageManager, ChunkPrefetcher.DEFAULT_CAPACITY);
+
+        prefetcher.prefetch(regions, pos -> false);
+
+        assertSame(store, prefetcher.loadChunkStore(behind));
+        verify(storageManager, times(1)).loadChunkStore(behind);
+    }
+
+    @Test
+    public void testChunkBeingReadIsJoined() throws Exception {
+        ChunkStore store = mockStore();
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch finishRead = new CountDownLatch(1);
+        when(storageManager.loadChunkStore(AHEAD)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            finishRead.await();
+            return store;
+        });
+        prefetcher = new ChunkPrefetcher(storageManager, ChunkPrefetcher.DEFAULT_CAPACITY);
+
+        prefetcher.prefetch(regions, pos -> false);
+        assertTrue(readStarted.await(10, TimeUnit.SECONDS));
+        finishRead.countDown();
+
+        assertSame(store, prefetcher.loadChunkStore(AHEAD));
+        verify(storageManager, times(1)).loadChunkStore(AHEAD);
+    }
+
+    @Test
+    public void testChunkInvalidatedDuringReadIsReadAgain() throws Exception {
+        ChunkStore staleStore = mockStore();
+        ChunkStore store = mockStore();
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch finishRead = new CountDownLatch(1);
+        when(storageManager.loadChunkStore(AHEAD)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            finishRead.await();
+            return staleStore;
+        }).thenReturn(store);
+        prefetcher = new ChunkPrefetcher(storageManager, ChunkPrefetcher.DEFAULT_CAPACITY);
+
+        prefetcher.prefetch(regions, pos -> false);
+        assertTrue(readStarted.await(10, TimeUnit.SECONDS));
+        prefetcher.invalidate(AHEAD);
+        finishRead.countDown();
+
+        assertSame(store, prefetcher.loadChunkStore(AHEAD));
+        verify(storageManager, times(2)).loadChunkStore(AHEAD);
+        verify(staleStore.getChunk(), timeout(10000)).dispose();
+        verify(store.getChunk(), never()).dispose();
+    }
+
+    @Test
+    public void testPrefetchedChunksAreBoundedByCapacity() {
+        when(storageManager.loadChunkStore(any(Vector3i.class))).thenReturn(null);
+        prefetcher = new ChunkPrefetcher(storageManager, 4);
+
+        prefetcher.prefetch(regions, pos -> false);
+        assertEquals(4, prefetcher.size());
+
+        prefetcher.prefetch(regions, pos -> false);
+        assertEquals(4, prefetcher.size());
+    }
+
+    @Test
+    public void testNothingIsPrefetchedWithoutMovement() {
+        prefetcher = new ChunkPrefetcher(storageManager, ChunkPrefetcher.DEFAULT_CAPACITY);
+
+        prefetcher.prefetch(Collections.singletonList(new ChunkRelevanceRegion(mock(EntityRef.class), RELEVANCE_DISTANCE)),
+                pos -> false);
+        assertEquals(0, prefetcher.size());
+    }
+
+    private static ChunkStore mockStore() {
+        ChunkStore store = mock(ChunkStore.class);
+        Chunk chunk = mock(Chunk.class);
+        when(store.getChunk()).thenReturn(chunk);
+        return store;
+    }
+}
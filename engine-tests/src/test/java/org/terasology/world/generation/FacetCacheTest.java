@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import org.junit.Test;
+import org.terasology.context.Context;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.generation.facets.base.BaseFacet2D;
+import org.terasology.world.generation.facets.base.BaseFacet3D;
+import org.terasology.world.generator.plugin.WorldGeneratorPluginLibrary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class FacetCacheTest {
+
+    private Context context = new ContextImpl();
+
+    @Test
+    public void testColumnFacetsAreShared() {
+        HeightProvider heightProvider = new HeightProvider();
+        HeightUpdater heightUpdater = new HeightUpdater();
+        WorldBuilder worldBuilder = new WorldBuilder(context.get(WorldGeneratorPluginLibrary.class));
+        worldBuilder.setSeed(12);
+        worldBuilder.addProvider(heightProvider);
+        worldBuilder.addProvider(heightUpdater);
+        World world = worldBuilder.build();
+
+        Region lower = world.getWorldData(Region3i.createFromMinAndSize(new Vector3i(0, 0, 0), new Vector3i(8, 8, 8)));
+        Region upper = world.getWorldData(Region3i.createFromMinAndSize(new Vector3i(0, 8, 0), new Vector3i(8, 8, 8)));
+
+        HeightFacet lowerFacet = lower.getFacet(HeightFacet.class);
+        assertSame(lowerFacet, upper.getFacet(HeightFacet.class));
+        assertEquals(1, heightProvider.processed);
+        assertEquals(1, heightUpdater.processed);
+        assertEquals(1, lowerFacet.updates);
+    }
+
+    @Test
+    public void testNeighbourColumnsAreNotShared() {
+        HeightProvider heightProvider = new HeightProvider();
+        WorldBuilder worldBuilder = new WorldBuilder(context.get(WorldGeneratorPluginLibrary.class));
+        worldBuilder.setSeed(12);
+        worldBuilder.addProvider(heightProvider);
+        World world = worldBuilder.build();
+
+        Region first = world.getWorldData(Region3i.createFromMinAndSize(new Vector3i(0, 0, 0), new Vector3i(8, 8, 8)));
+        Region second = world.getWorldData(Region3i.createFromMinAndSize(new Vector3i(8, 0, 0), new Vector3i(8, 8, 8)));
+
+        assertNotSame(first.getFacet(HeightFacet.class), second.getFacet(HeightFacet.class));
+        assertEquals(2, heightProvider.processed);
+    }
+
+    @Test
+    public void testFacetsUpdatedBy3DProvidersAreNotCached() {
+        HeightProvider heightProvider = new HeightProvider();
+        WorldBuilder worldBuilder = new WorldBuilder(context.get(WorldGeneratorPluginLibrary.class));
+        worldBuilder.setSeed(12);
+        worldBuilder.addProvider(heightProvider);
+        worldBuilder.addProvider(new DensityProvider());
+        World world = worldBuilder.build();
+
+        Region lower = world.getWorldData(Region3i.createFromMinAndSize(new Vector3i(0, 0, 0), new Vector3i(8, 8, 8)));
+        Region upper = world.getWorldData(Region3i.createFromMinAndSize(new Vector3i(0, 8, 0), new Vector3i(8, 8, 8)));
+
+        lower.getFacet(DensityFacet.class);
+        upper.getFacet(DensityFacet.class);
+        assertNotSame(lower.getFacet(HeightFacet.class), upper.getFacet(HeightFacet.class));
+        assertEquals(2, heightProvider.processed);
+    }
+
+    public static class HeightFacet extends BaseFacet2D {
+        public int updates;
+
+        public HeightFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class DensityFacet extends BaseFacet3D {
+        public DensityFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    @Produces(HeightFacet.class)
+    public static class HeightProvider implements FacetProvider {
+        private int processed;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            processed++;
+            region.setRegionFacet(HeightFacet.class, new HeightFacet(region.getRegion(), region.getBorderForFacet(HeightFacet.class)));
+        }
+    }
+
+    @Updates(@Facet(HeightFacet.class))
+    public static class HeightUpdater implements FacetProvider {
+        private int processed;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            processed++;
+            region.getRegionFacet(HeightFacet.class).updates++;
+        }
+    }
+
+    @Produces(DensityFacet.class)
+    @Updates(@Facet(HeightFacet.class))
+    public static class DensityProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(DensityFacet.class, new DensityFacet(region.getRegion(), region.getBorderForFacet(DensityFacet.class)));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.internal;
+
+import com.google.common.collect.Maps;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.terasology.context.Context;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.engine.SimpleUri;
+import org.terasology.math.geom.BaseVector3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.BlockChangeBatch;
+import org.terasology.world.WorldChangeListener;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.GeneratingChunkProvider;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorldProviderCoreImplTest {
+
+    private final Map<Vector3i, Chunk> chunks = Maps.newHashMap();
+    private final Block air = new Block();
+    private final Block stone = new Block();
+    private WorldProviderCoreImpl worldProvider;
+    private WorldChangeListener listener;
+
+    @Before
+    public void setup() {
+        GeneratingChunkProvider chunkProvider = mock(GeneratingChunkProvider.class);
+        when(chunkProvider.getChunk(any(Vector3i.class))).then(invocation -> getChunk(invocation.getArgument(0)));
+        when(chunkProvider.getChunk(anyInt(), anyInt(), anyInt())).then(invocation ->
+                getChunk(new Vector3i(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1), invocation.<Integer>getArgument(2))));
+
+        Context context = new ContextImpl();
+        worldProvider = new WorldProviderCoreImpl("test", "seed", 0, new SimpleUri("test:generator"), chunkProvider, air, context);
+        listener = mock(WorldChangeListener.class);
+        worldProvider.registerListener(listener);
+    }
+
+    private Chunk getChunk(Vector3i chunkPos) {
+        return chunks.computeIfAbsent(chunkPos, pos -> {
+            Chunk chunk = mock(Chunk.class);
+            when(chunk.setBlock(any(BaseVector3i.class), any(Block.class))).thenReturn(air);
+            return chunk;
+        });
+    }
+
+    private BlockChangeBatch notifiedBatch() {
+        ArgumentCaptor<BlockChangeBatch> changes = ArgumentCaptor.forClass(BlockChangeBatch.class);
+        verify(listener, times(1)).onBlocksChanged(changes.capture());
+        verify(listener, never()).onBlockChanged(any(), any(), any());
+        return changes.getValue();
+    }
+
+    @Test
+    public void testBatchNotifiesListenersOnce() {
+        worldProvider.batchBlockChanges(() -> {
+            worldProvider.setBlock(new Vector3i(1, 1, 1), stone);
+            worldProvider.setBlock(new Vector3i(2, 1, 1), stone);
+            worldProvider.setBlock(new Vector3i(-40, 1, 1), stone);
+            verify(listener, never()).onBlocksChanged(any());
+        });
+        assertEquals(3, notifiedBatch().size());
+    }
+
+    @Test
+    public void testNestedBatchesAreReentrant() {
+        worldProvider.batchBlockChanges(() -> {
+            worldProvider.setBlock(new Vector3i(1, 1, 1), stone);
+            worldProvider.batchBlockChanges(() -> worldProvider.setBlock(new Vector3i(2, 1, 1), stone));
+            verify(listener, never()).onBlocksChanged(any());
+            worldProvider.setBlocks(Collections.singletonMap(new Vector3i(3, 1, 1), stone));
+            verify(listener, never()).onBlocksChanged(any());
+        });
+        assertEquals(3, notifiedBatch().size());
+    }
+
+    @Test
+    public void testEachChunkIsDirtiedOnce() {
+        worldProvider.batchBlockChanges(() -> {
+            for (int x = 0; x < 4; ++x) {
+                worldProvider.setBlock(new Vector3i(x, 1, 1), stone);
+            }
+        });
+        verify(chunks.get(new Vector3i(0, 0, 0)), times(1)).setDirty(true);
+        verify(chunks.get(new Vector3i(-1, 0, 0)), times(1)).setDirty(true);
+        verify(getChunk(new Vector3i(1, 0, 0)), never()).setDirty(anyBoolean());
+    }
+
+    @Test
+    public void testChangeOutsideBatchNotifiesImmediately() {
+        worldProvider.setBlock(new Vector3i(1, 1, 1), stone);
+        verify(listener, times(1)).onBlockChanged(new Vector3i(1, 1, 1), stone, air);
+        verify(listener, never()).onBlocksChanged(any());
+        verify(chunks.get(new Vector3i(0, 0, 0)), times(1)).setDirty(true);
+    }
+
+    @Test
+    public void testBatchOnlyCoversItsOwnThread() throws InterruptedException {
+        worldProvider.batchBlockChanges(() -> {
+            worldProvider.setBlock(new Vector3i(1, 1, 1), stone);
+            Thread otherThread = new Thread(() -> worldProvider.setBlock(new Vector3i(5, 5, 5), stone));
+            otherThread.start();
+            try {
+                otherThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            verify(listener, times(1)).onBlockChanged(new Vector3i(5, 5, 5), stone, air);
+        });
+        ArgumentCaptor<BlockChangeBatch> changes = ArgumentCaptor.forClass(BlockChangeBatch.class);
+        verify(listener, times(1)).onBlocksChanged(changes.capture());
+        assertEquals(1, changes.getValue().size());
+    }
+}
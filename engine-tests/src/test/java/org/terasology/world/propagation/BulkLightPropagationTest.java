@@ -18,21 +18,12 @@
 import org.junit.Before;
 import org.junit.Test;
 import org.terasology.TerasologyTestingEnvironment;
-import org.terasology.assets.ResourceUrn;
 import org.terasology.assets.management.AssetManager;
 import org.terasology.math.Diamond3iIterator;
 import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.registry.CoreRegistry;
 import org.terasology.world.block.Block;
-import org.terasology.world.block.BlockManager;
-import org.terasology.world.block.BlockUri;
-import org.terasology.world.block.family.SymmetricBlockFamilyFactory;
-import org.terasology.world.block.internal.BlockManagerImpl;
-import org.terasology.world.block.loader.BlockFamilyDefinition;
-import org.terasology.world.block.loader.BlockFamilyDefinitionData;
-import org.terasology.world.block.shapes.BlockShape;
-import org.terasology.world.block.tiles.NullWorldAtlas;
 import org.terasology.world.chunks.ChunkConstants;
 import org.terasology.world.propagation.light.LightPropagationRules;
 
@@ -42,7 +33,6 @@
  */
 public class BulkLightPropagationTest extends TerasologyTestingEnvironment {
 
-    private BlockManagerImpl blockManager;
     private Block air;
     private Block fullLight;
     private Block weakLight;
@@ -51,61 +41,23 @@ public class BulkLightPropagationTest extends TerasologyTestingEnvironment {
     private Block solidMediumLight;
     private LightPropagationRules lightRules;
 
-    private Region3i testingRegion = Region3i.createFromMinMax(new Vector3i(-ChunkConstants.SIZE_X, -ChunkConstants.SIZE_Y, -ChunkConstants.SIZE_Z),
-            new Vector3i(2 * ChunkConstants.SIZE_X, 2 * ChunkConstants.SIZE_Y, 2 * ChunkConstants.SIZE_Z));
+    private Region3i testingRegion = LightPropagationFixture.TESTING_REGION;
 
     @Before
     public void setup() throws Exception {
         super.setup();
         lightRules = new LightPropagationRules();
-        AssetManager assetManager = CoreRegistry.get(AssetManager.class);
-        blockManager = new BlockManagerImpl(new NullWorldAtlas(), assetManager, true);
-        CoreRegistry.put(BlockManager.class, blockManager);
-        BlockFamilyDefinitionData fullLightData = new BlockFamilyDefinitionData();
-        fullLightData.getBaseSection().setDisplayName("Torch");
-        fullLightData.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
-        fullLightData.getBaseSection().setLuminance(ChunkConstants.MAX_LIGHT);
-        fullLightData.getBaseSection().setTranslucent(true);
-        fullLightData.setFamilyFactory(new SymmetricBlockFamilyFactory());
-        assetManager.loadAsset(new ResourceUrn("engine:torch"), fullLightData, BlockFamilyDefinition.class);
-        fullLight = blockManager.getBlock(new BlockUri(new ResourceUrn("engine:torch")));
-
-        BlockFamilyDefinitionData weakLightData = new BlockFamilyDefinitionData();
-        weakLightData.getBaseSection().setDisplayName("PartLight");
-        weakLightData.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
-        weakLightData.getBaseSection().setLuminance((byte) 2);
-        weakLightData.getBaseSection().setTranslucent(true);
-        weakLightData.setFamilyFactory(new SymmetricBlockFamilyFactory());
-        assetManager.loadAsset(new ResourceUrn("engine:weakLight"), weakLightData, BlockFamilyDefinition.class);
-        weakLight = blockManager.getBlock(new BlockUri(new ResourceUrn("engine:weakLight")));
-
-        BlockFamilyDefinitionData mediumLightData = new BlockFamilyDefinitionData();
-        mediumLightData.getBaseSection().setDisplayName("MediumLight");
-        mediumLightData.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
-        mediumLightData.getBaseSection().setLuminance((byte) 5);
-        mediumLightData.getBaseSection().setTranslucent(true);
-        mediumLightData.setFamilyFactory(new SymmetricBlockFamilyFactory());
-        assetManager.loadAsset(new ResourceUrn("engine:mediumLight"), mediumLightData, BlockFamilyDefinition.class);
-        mediumLight = blockManager.getBlock(new BlockUri(new ResourceUrn("engine:mediumLight")));
-
-        BlockFamilyDefinitionData solidData = new BlockFamilyDefinitionData();
-        solidData.getBaseSection().setDisplayName("Stone");
-        solidData.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
-        solidData.getBaseSection().setTranslucent(false);
-        solidData.setFamilyFactory(new SymmetricBlockFamilyFactory());
-        assetManager.loadAsset(new ResourceUrn("engine:stone"), solidData, BlockFamilyDefinition.class);
-        solid = blockManager.getBlock(new BlockUri(new ResourceUrn("engine:stone")));
-
-        BlockFamilyDefinitionData solidMediumLightData = new BlockFamilyDefinitionData();
-        solidMediumLightData.getBaseSection().setDisplayName("SolidMediumLight");
-        solidMediumLightData.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
-        solidMediumLightData.getBaseSection().setTranslucent(false);
-        solidMediumLightData.getBaseSection().setLuminance((byte) 5);
-        solidMediumLightData.setFamilyFactory(new SymmetricBlockFamilyFactory());
-        assetManager.loadAsset(new ResourceUrn("engine:solidMediumLight"), solidMediumLightData, BlockFamilyDefinition.class);
-        solidMediumLight = blockManager.getBlock(new BlockUri(new ResourceUrn("engine:solidMediumLight")));
-
-        air = blockManager.getBlock(BlockManager.AIR_ID);
+        LightPropagationFixture fixture = new LightPropagationFixture(CoreRegistry.get(AssetManager.class));
+        fullLight = fixture.getFullLight();
+        weakLight = fixture.getWeakLight();
+        mediumLight = fixture.getMediumLight();
+        solid = fixture.getSolid();
+        solidMediumLight = fixture.getSolidMediumLight();
+        air = fixture.getAir();
+    }
+
+    protected BatchPropagator createPropagator(PropagatorWorldView worldView) {
+        return new StandardBatchPropagator(lightRules, worldView);
     }
 
     @Test
@@ -113,7 +65,7 @@ public void testAddLightInVacuum() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(Vector3i.zero(), fullLight);
 
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(Vector3i.zero(), air, fullLight));
 
         assertEquals(fullLight.getLuminance(), worldView.getValueAt(Vector3i.zero()));
@@ -130,7 +82,7 @@ public void testAddLightInVacuum() {
     public void testRemoveLightInVacuum() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(Vector3i.zero(), fullLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(Vector3i.zero(), air, fullLight));
 
         worldView.setBlockAt(Vector3i.zero(), air);
@@ -148,7 +100,7 @@ public void testRemoveLightInVacuum() {
     public void testReduceLight() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(Vector3i.zero(), fullLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(Vector3i.zero(), air, fullLight));
 
         worldView.setBlockAt(Vector3i.zero(), weakLight);
@@ -170,7 +122,7 @@ public void testAddOverlappingLights() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(ChunkConstants.CHUNK_REGION, air);
         worldView.setBlockAt(Vector3i.zero(), fullLight);
         worldView.setBlockAt(lightPos, fullLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(Vector3i.zero(), air, fullLight), new BlockChange(lightPos, air, fullLight));
 
         assertEquals(fullLight.getLuminance(), worldView.getValueAt(Vector3i.zero()));
@@ -188,7 +140,7 @@ public void testRemoveOverlappingLight() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(Vector3i.zero(), fullLight);
         worldView.setBlockAt(lightPos, fullLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(Vector3i.zero(), air, fullLight), new BlockChange(lightPos, air, fullLight));
 
         worldView.setBlockAt(lightPos, air);
@@ -209,7 +161,7 @@ public void testRemoveLightOverlappingAtEdge() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(Vector3i.zero(), weakLight);
         worldView.setBlockAt(lightPos, weakLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(Vector3i.zero(), air, weakLight), new BlockChange(lightPos, air, weakLight));
 
         worldView.setBlockAt(lightPos, air);
@@ -227,7 +179,7 @@ public void testRemoveLightOverlappingAtEdge() {
     public void testAddLightInLight() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(new Vector3i(2, 0, 0), mediumLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(new Vector3i(2, 0, 0), air, mediumLight));
 
         worldView.setBlockAt(Vector3i.zero(), fullLight);
@@ -246,7 +198,7 @@ public void testAddAdjacentLights() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(new Vector3i(1, 0, 0), mediumLight);
         worldView.setBlockAt(new Vector3i(0, 0, 0), mediumLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(new Vector3i(1, 0, 0), air, mediumLight), new BlockChange(new Vector3i(0, 0, 0), air, mediumLight));
 
         for (int i = 0; i < fullLight.getLuminance() + 1; ++i) {
@@ -262,7 +214,7 @@ public void testAddAdjacentLights() {
     public void testAddWeakLightNextToStrongLight() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(new Vector3i(0, 0, 0), fullLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(new Vector3i(0, 0, 0), air, fullLight));
 
         worldView.setBlockAt(new Vector3i(1, 0, 0), weakLight);
@@ -275,7 +227,7 @@ public void testRemoveAdjacentLights() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(testingRegion, air);
         worldView.setBlockAt(new Vector3i(1, 0, 0), mediumLight);
         worldView.setBlockAt(new Vector3i(0, 0, 0), mediumLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(new Vector3i(1, 0, 0), air, mediumLight), new BlockChange(new Vector3i(0, 0, 0), air, mediumLight));
 
         worldView.setBlockAt(new Vector3i(1, 0, 0), air);
@@ -294,7 +246,7 @@ public void testRemoveAdjacentLights() {
     public void testAddSolidBlocksLight() {
         StubPropagatorWorldView worldView = new StubPropagatorWorldView(ChunkConstants.CHUNK_REGION, air);
         worldView.setBlockAt(new Vector3i(0, 0, 0), mediumLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(new Vector3i(0, 0, 0), air, mediumLight));
 
         worldView.setBlockAt(new Vector3i(1, 0, 0), solid);
@@ -311,7 +263,7 @@ public void testRemoveSolidAllowsLight() {
             worldView.setBlockAt(pos, solid);
         }
         worldView.setBlockAt(new Vector3i(0, 0, 0), fullLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(new Vector3i(0, 0, 0), air, fullLight));
 
         assertEquals(0, worldView.getValueAt(new Vector3i(1, 0, 0)));
@@ -330,7 +282,7 @@ public void testRemoveSolidAndLight() {
             worldView.setBlockAt(pos, solid);
         }
         worldView.setBlockAt(new Vector3i(0, 0, 0), fullLight);
-        BatchPropagator propagator = new StandardBatchPropagator(lightRules, worldView);
+        BatchPropagator propagator = createPropagator(worldView);
         propagator.process(new BlockChange(new Vector3i(0, 0, 0), air, fullLight));
 
         assertEquals(0, worldView.getValueAt(new Vector3i(1, 0, 0)));
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.propagation;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.assets.management.AssetManager;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.world.block.Block;
+import org.terasology.world.propagation.light.LightPropagationRules;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the light propagated by the {@link PackedBatchPropagator} with the light of the
+ * {@link StandardBatchPropagator} for random block changes, and how long both take.
+ */
+public class PackedBatchPropagatorTest extends TerasologyTestingEnvironment {
+    private static final Logger logger = LoggerFactory.getLogger(PackedBatchPropagatorTest.class);
+
+    private static final int TRIALS = 20;
+    private static final int CHANGES_PER_BATCH = 12;
+    private static final int BATCHES_PER_TRIAL = 4;
+    private static final int TORCH_SPACING = 12;
+    private static final int TORCHES_PER_AXIS = 4;
+
+    private final Region3i region = Region3i.createFromMinMax(new Vector3i(-20, -20, -20), new Vector3i(20, 20, 20));
+    private Block air;
+    private Block torch;
+    private Block[] blocks;
+
+    @Before
+    public void setup() throws Exception {
+        super.setup();
+        LightPropagationFixture fixture = new LightPropagationFixture(CoreRegistry.get(AssetManager.class));
+        air = fixture.getAir();
+        torch = fixture.getFullLight();
+        blocks = new Block[]{air, fixture.getFullLight(), fixture.getWeakLight(), fixture.getMediumLight(), fixture.getSolid(),
+                fixture.getSolidMediumLight()};
+    }
+
+    @Test
+    public void testSameLightAsStandardPropagatorForRandomChanges() {
+        Random random = new Random(24);
+        for (int trial = 0; trial < TRIALS; ++trial) {
+            StubPropagatorWorldView standardView = new StubPropagatorWorldView(region, air);
+            StubPropagatorWorldView packedView = new StubPropagatorWorldView(region, air);
+            BatchPropagator standard = new StandardBatchPropagator(new LightPropagationRules(), standardView);
+            BatchPropagator packed = new PackedBatchPropagator(new LightPropagationRules(), packedView);
+
+            for (int batch = 0; batch < BATCHES_PER_TRIAL; ++batch) {
+                List<BlockChange> changes = Lists.newArrayList();
+                Set<Vector3i> changedPositions = Sets.newHashSet();
+                for (int i = 0; i < CHANGES_PER_BATCH; ++i) {
+                    Vector3i pos = new Vector3i(region.minX() + random.nextInt(region.sizeX()),
+                            region.minY() + random.nextInt(region.sizeY()), region.minZ() + random.nextInt(region.sizeZ()));
+                    Block from = standardView.getBlockAt(pos);
+                    Block to = blocks[random.nextInt(blocks.length)];
+                    // Each position changes at most once per batch, like in the world
+                    if (from != to && changedPositions.add(pos)) {
+                        standardView.setBlockAt(pos, to);
+                        packedView.setBlockAt(pos, to);
+                        changes.add(new BlockChange(pos, from, to));
+                    }
+                }
+                standard.process(changes);
+                packed.process(changes);
+
+                for (Vector3i pos : region) {
+                    if (standardView.getValueAt(pos) != packedView.getValueAt(pos)) {
+                        assertEquals("Trial " + trial + ", batch " + batch + " at " + pos, standardView.getValueAt(pos),
+                                packedView.getValueAt(pos));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Places and removes a grid of torches with both propagators and writes their times to the logger.
+     */
+    @Test
+    public void testSpeed() {
+        final int warmUpCount = 5;
+        final int count = 20;
+
+        List<BlockChange> placeTorches = Lists.newArrayList();
+        List<BlockChange> removeTorches = Lists.newArrayList();
+        for (int x = 0; x < TORCHES_PER_AXIS; ++x) {
+            for (int y = 0; y < TORCHES_PER_AXIS; ++y) {
+                for (int z = 0; z < TORCHES_PER_AXIS; ++z) {
+                    Vector3i pos = new Vector3i(x * TORCH_SPACING, y * TORCH_SPACING, z * TORCH_SPACING);
+                    placeTorches.add(new BlockChange(pos, air, torch));
+                    removeTorches.add(new BlockChange(pos, torch, air));
+                }
+            }
+        }
+
+        logger.info("Time to place and remove {} torches {} times", placeTorches.size(), count);
+
+        StubPropagatorWorldView standardView = new StubPropagatorWorldView(LightPropagationFixture.TESTING_REGION, air);
+        BatchPropagator standard = new StandardBatchPropagator(new LightPropagationRules(), standardView);
+        for (int i = 0; i < warmUpCount; ++i) {
+            placeAndRemove(standardView, standard, placeTorches, removeTorches);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < count; ++i) {
+            placeAndRemove(standardView, standard, placeTorches, removeTorches);
+        }
+        logger.info("StandardBatchPropagator: {}ms.", (System.nanoTime() - start) / 1000000);
+
+        StubPropagatorWorldView packedView = new StubPropagatorWorldView(LightPropagationFixture.TESTING_REGION, air);
+        BatchPropagator packed = new PackedBatchPropagator(new LightPropagationRules(), packedView);
+        for (int i = 0; i < warmUpCount; ++i) {
+            placeAndRemove(packedView, packed, placeTorches, removeTorches);
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < count; ++i) {
+            placeAndRemove(packedView, packed, placeTorches, removeTorches);
+        }
+        logger.info("PackedBatchPropagator: {}ms.", (System.nanoTime() - start) / 1000000);
+    }
+
+    private void placeAndRemove(StubPropagatorWorldView worldView, BatchPropagator propagator,
+                                List<BlockChange> placeTorches, List<BlockChange> removeTorches) {
+        for (BlockChange change : placeTorches) {
+            worldView.setBlockAt(change.getPosition(), change.getTo());
+        }
+        propagator.process(placeTorches);
+        for (BlockChange change : removeTorches) {
+            worldView.setBlockAt(change.getPosition(), change.getTo());
+        }
+        propagator.process(removeTorches);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.propagation.light;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.GeneratingChunkProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LightMergerTest {
+
+    private LightMerger<String> merger;
+
+    @After
+    public void teardown() {
+        if (merger != null) {
+            merger.shutdown();
+        }
+    }
+
+    @Test
+    public void testDistantChunksAreMergedTogether() {
+        merger = new LightMerger<>(mock(GeneratingChunkProvider.class), 2);
+        Chunk first = chunkAt(0, 0, 0);
+        Chunk second = chunkAt(3, 0, 0);
+        assertTrue(merger.beginMerge(first, "first"));
+        assertTrue(merger.beginMerge(second, "second"));
+        assertTrue(merger.isBusy());
+
+        assertEquals(Lists.newArrayList("first", "second"), merger.completeMerge());
+        verify(first).deflateSunlight();
+        verify(second).deflateSunlight();
+        assertFalse(merger.isBusy());
+    }
+
+    @Test
+    public void testOverlappingChunkWaitsForCompletion() {
+        merger = new LightMerger<>(mock(GeneratingChunkProvider.class), 2);
+        Chunk overlapping = chunkAt(2, -2, 2);
+        assertTrue(merger.beginMerge(chunkAt(0, 0, 0), "first"));
+        assertFalse(merger.beginMerge(overlapping, "overlapping"));
+        assertEquals(Lists.newArrayList("first"), merger.completeMerge());
+
+        assertTrue(merger.beginMerge(overlapping, "overlapping"));
+        assertEquals(Lists.newArrayList("overlapping"), merger.completeMerge());
+    }
+
+    @Test
+    public void testChunkOverlappingRefusedChunkWaits() {
+        merger = new LightMerger<>(mock(GeneratingChunkProvider.class), 3);
+        assertTrue(merger.beginMerge(chunkAt(0, 0, 0), "first"));
+        assertFalse(merger.beginMerge(chunkAt(2, 0, 0), "refused"));
+        assertFalse(merger.beginMerge(chunkAt(4, 0, 0), "overlapsRefused"));
+        assertTrue(merger.beginMerge(chunkAt(0, 0, 5), "distant"));
+        assertEquals(Lists.newArrayList("first", "distant"), merger.completeMerge());
+
+        assertTrue(merger.beginMerge(chunkAt(2, 0, 0), "refused"));
+        assertFalse(merger.beginMerge(chunkAt(4, 0, 0), "overlapsRefused"));
+    }
+
+    @Test
+    public void testBusyMergerRefusesMerges() {
+        merger = new LightMerger<>(mock(GeneratingChunkProvider.class), 1);
+        assertTrue(merger.beginMerge(chunkAt(0, 0, 0), "first"));
+        assertTrue(merger.isBusy());
+        assertFalse(merger.beginMerge(chunkAt(10, 0, 0), "second"));
+        assertEquals(Lists.newArrayList("first"), merger.completeMerge());
+    }
+
+    private static Chunk chunkAt(int x, int y, int z) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.getPosition()).thenReturn(new Vector3i(x, y, z));
+        return chunk;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.compression;
+
+import com.google.common.base.Preconditions;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.utilities.compression.CompressionCodec;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compresses or decompresses a set of encoded chunks with one codec.
+ * <br><br>
+ * The compression ratio is printed when the benchmark finishes.
+ */
+public class BenchmarkChunkCompression extends AbstractBenchmark {
+
+    private final CompressionCodec codec;
+    private final boolean decompress;
+    private final List<byte[]> chunks;
+    private byte[][] compressedChunks;
+
+    public BenchmarkChunkCompression(CompressionCodec codec, boolean decompress, List<byte[]> chunks) {
+        super((decompress ? "Decompress " : "Compress ") + chunks.size() + " chunks with " + codec,
+                10, new int[]{20, 50, 100});
+        this.codec = Preconditions.checkNotNull(codec);
+        this.decompress = decompress;
+        this.chunks = Preconditions.checkNotNull(chunks);
+    }
+
+    @Override
+    public void setup() {
+        compressedChunks = new byte[chunks.size()][];
+        for (int i = 0; i < compressedChunks.length; ++i) {
+            compressedChunks[i] = codec.compress(chunks.get(i));
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            for (int i = 0; i < compressedChunks.length; ++i) {
+                if (decompress) {
+                    CompressionCodec.decompress(compressedChunks[i]);
+                } else {
+                    compressedChunks[i] = codec.compress(chunks.get(i));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        long size = 0;
+        long compressedSize = 0;
+        for (int i = 0; i < compressedChunks.length; ++i) {
+            size += chunks.get(i).length;
+            compressedSize += compressedChunks[i].length;
+        }
+        System.out.printf("%s: %d bytes compressed to %d bytes (%.1f%%)%n", codec, size, compressedSize,
+                100.0 * compressedSize / Math.max(size, 1));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.compression;
+
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.internal.RegionFile;
+import org.terasology.utilities.compression.CompressionCodec;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.blockdata.TeraArray;
+import org.terasology.world.chunks.blockdata.TeraDenseArray16Bit;
+import org.terasology.world.chunks.blockdata.TeraDenseArray8Bit;
+import org.terasology.world.chunks.internal.ChunkSerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ChunkCompressionBenchmark compares the compression codecs on encoded chunks.
+ * <br><br>
+ * If the path of a saved game is given as argument, the chunks stored in its chunk and region files are used.
+ * Otherwise chunks of generated layered terrain are encoded like {@link org.terasology.world.chunks.internal.ChunkImpl}
+ * does it before storing or sending them.
+ */
+public final class ChunkCompressionBenchmark {
+
+    private static final int GENERATED_CHUNKS = 200;
+
+    private ChunkCompressionBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<byte[]> chunks = (args.length > 0) ? loadChunks(Paths.get(args[0])) : generateChunks();
+        if (chunks.isEmpty()) {
+            System.out.println("No chunks found");
+            return;
+        }
+
+        final List<Benchmark> benchmarks = new LinkedList<>();
+        for (CompressionCodec codec : CompressionCodec.values()) {
+            benchmarks.add(new BenchmarkChunkCompression(codec, false, chunks));
+            benchmarks.add(new BenchmarkChunkCompression(codec, true, chunks));
+        }
+
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+
+    private static List<byte[]> loadChunks(Path savePath) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(savePath)) {
+            files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        List<byte[]> chunks = new LinkedList<>();
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            if (fileName.endsWith(".chunk")) {
+                chunks.add(CompressionCodec.decompress(Files.readAllBytes(file)));
+            } else if (fileName.endsWith(".region")) {
+                try (RegionFile regionFile = RegionFile.open(file, file.resolveSibling(fileName + ".index"))) {
+                    Vector3i pos = new Vector3i();
+                    for (pos.x = 0; pos.x < RegionFile.REGION_DIM; pos.x++) {
+                        for (pos.y = 0; pos.y < RegionFile.REGION_DIM; pos.y++) {
+                            for (pos.z = 0; pos.z < RegionFile.REGION_DIM; pos.z++) {
+                                byte[] data = regionFile.read(pos);
+                                if (data != null) {
+                                    chunks.add(CompressionCodec.decompress(data));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private static List<byte[]> generateChunks() {
+        Random random = new Random(42);
+        List<byte[]> chunks = new LinkedList<>();
+        for (int i = 0; i < GENERATED_CHUNKS; ++i) {
+            TeraArray blockData = new TeraDenseArray16Bit(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z);
+            TeraArray liquidData = new TeraDenseArray8Bit(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z);
+            TeraArray biomeData = new TeraDenseArray16Bit(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z);
+            int baseHeight = random.nextInt(ChunkConstants.SIZE_Y);
+            int biome = random.nextInt(8);
+            for (int x = 0; x < ChunkConstants.SIZE_X; ++x) {
+                for (int z = 0; z < ChunkConstants.SIZE_Z; ++z) {
+                    int height = baseHeight + (int) (6 * Math.sin(x * 0.3) * Math.cos(z * 0.2)) + random.nextInt(2);
+                    for (int y = 0; y < ChunkConstants.SIZE_Y; ++y) {
+                        int block;
+                        if (y > height) {
+                            block = 0;
+                        } else if (y == height) {
+                            block = 2;
+                        } else if (y > height - 4) {
+                            block = 3;
+                        } else {
+                            // Stone with scattered ores
+                            block = (random.nextInt(50) == 0) ? 10 + random.nextInt(4) : 4;
+                        }
+                        blockData.set(x, y, z, block);
+                        liquidData.set(x, y, z, (block == 0 && y < ChunkConstants.SIZE_Y / 4) ? 0x1F : 0);
+                        biomeData.set(x, y, z, biome);
+                    }
+                }
+            }
+            chunks.add(ChunkSerializer.encode(new Vector3i(i, 0, 0), blockData, liquidData, biomeData).build().toByteArray());
+        }
+        return chunks;
+    }
+}
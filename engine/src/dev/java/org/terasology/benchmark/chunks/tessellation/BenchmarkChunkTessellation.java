@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
+import org.terasology.rendering.primitives.ChunkMesh;
+import org.terasology.rendering.primitives.ChunkTessellator;
+import org.terasology.world.ChunkView;
+import org.terasology.world.chunks.ChunkConstants;
+
+/**
+ * Tessellates the same chunk repeatedly and prints the vertex throughput when finished.
+ * <br><br>
+ * The meshes are disposed right away, which returns pooled buffers like uploading the mesh data would.
+ */
+public class BenchmarkChunkTessellation extends AbstractBenchmark {
+
+    private final ChunkView chunkView;
+    private final ChunkTessellator tessellator;
+    private long vertexCount;
+    private long startTime;
+
+    public BenchmarkChunkTessellation(ChunkView chunkView, boolean pooledBuffers) {
+        super("Chunk tessellation" + (pooledBuffers ? " into pooled buffers" : ""), 100, new int[]{100, 200, 500});
+        this.chunkView = chunkView;
+        this.tessellator = new ChunkTessellator(new GLBufferPool(false), pooledBuffers);
+    }
+
+    @Override
+    public void setup() {
+        vertexCount = 0;
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public void run() {
+        ChunkMesh mesh = tessellator.generateMesh(chunkView, ChunkConstants.SIZE_Y, 0);
+        for (ChunkMesh.RenderType type : ChunkMesh.RenderType.values()) {
+            vertexCount += mesh.getVertexElements(type).vertexCount;
+        }
+        mesh.dispose();
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("%s: %.0f vertices per second%n", getTitle(), vertexCount / seconds);
+    }
+}
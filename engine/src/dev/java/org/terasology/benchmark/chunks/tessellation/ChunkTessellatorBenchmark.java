@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+import org.terasology.world.block.Block;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * ChunkTessellatorBenchmark measures meshing a chunk of terrain, with and without pooled vertex buffers.
+ * <br><br>
+ * It runs headless: the terrain is generated by {@link TerrainChunkView} and the blocks are meshed as plain cubes.
+ */
+public final class ChunkTessellatorBenchmark {
+
+    private ChunkTessellatorBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Block air = new Block();
+        air.setTranslucent(true);
+        air.setShadowCasting(false);
+        air.setMeshGenerator(null);
+        Block ground = new Block();
+        ground.setMeshGenerator(new CubeMeshGenerator());
+        TerrainChunkView chunkView = new TerrainChunkView(air, ground);
+
+        final List<Benchmark> benchmarks = new LinkedList<>();
+        benchmarks.add(new BenchmarkChunkTessellation(chunkView, false));
+        benchmarks.add(new BenchmarkChunkTessellation(chunkView, true));
+
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
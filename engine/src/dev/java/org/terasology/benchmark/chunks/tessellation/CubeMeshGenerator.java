@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import org.terasology.math.Side;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.rendering.assets.mesh.Mesh;
+import org.terasology.rendering.primitives.BlockMeshGenerator;
+import org.terasology.rendering.primitives.ChunkMesh;
+import org.terasology.rendering.primitives.ChunkVertexFlag;
+import org.terasology.world.ChunkView;
+
+/**
+ * Generates the visible faces of a full cube, the way the single shape mesh generator does for a cube shaped block,
+ * but without needing block shapes and textures.
+ */
+public class CubeMeshGenerator implements BlockMeshGenerator {
+
+    private static final int[] FACE_INDICES = {0, 1, 2, 0, 2, 3};
+
+    @Override
+    public void generateChunkMesh(ChunkView view, ChunkMesh mesh, int x, int y, int z) {
+        ChunkMesh.VertexElements elements = mesh.getVertexElements(ChunkMesh.RenderType.OPAQUE);
+        for (Side side : Side.values()) {
+            Vector3i normal = side.getVector3i();
+            if (view.getBlock(x + normal.x, y + normal.y, z + normal.z).getMeshGenerator() != null) {
+                continue;
+            }
+
+            // Two axes spanning the face
+            Vector3i u = new Vector3i(normal.y, normal.z, normal.x);
+            Vector3i v = new Vector3i(normal.z, normal.x, normal.y);
+            int nextIndex = elements.vertexCount;
+            for (int corner = 0; corner < 4; corner++) {
+                float signU = (corner == 0 || corner == 3) ? -0.5f : 0.5f;
+                float signV = (corner < 2) ? -0.5f : 0.5f;
+                elements.vertices.add(x + 0.5f * normal.x + signU * u.x + signV * v.x);
+                elements.vertices.add(y + 0.5f * normal.y + signU * u.y + signV * v.y);
+                elements.vertices.add(z + 0.5f * normal.z + signU * u.z + signV * v.z);
+                elements.normals.add(normal.x);
+                elements.normals.add(normal.y);
+                elements.normals.add(normal.z);
+                elements.tex.add(signU + 0.5f);
+                elements.tex.add(signV + 0.5f);
+                elements.color.add(1.0f);
+                elements.color.add(1.0f);
+                elements.color.add(1.0f);
+                elements.color.add(1.0f);
+                elements.flags.add(ChunkVertexFlag.NORMAL.getValue());
+            }
+            elements.vertexCount += 4;
+            for (int index : FACE_INDICES) {
+                elements.indices.add(nextIndex + index);
+            }
+        }
+    }
+
+    @Override
+    public Mesh getStandaloneMesh() {
+        return null;
+    }
+}
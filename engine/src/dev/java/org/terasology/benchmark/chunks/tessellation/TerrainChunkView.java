@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import org.terasology.math.Region3i;
+import org.terasology.math.TeraMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.ChunkView;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.liquid.LiquidData;
+
+/**
+ * A read-only view of a chunk of generated hilly terrain with small caves, which needs no world, block manager or
+ * chunk provider.
+ */
+public class TerrainChunkView implements ChunkView {
+    private static final byte MAX_LIGHT = 15;
+
+    private final Block air;
+    private final Block ground;
+    private final Region3i chunkRegion = Region3i.createFromMinAndSize(new Vector3i(), new Vector3i(1, 1, 1));
+
+    public TerrainChunkView(Block air, Block ground) {
+        this.air = air;
+        this.ground = ground;
+    }
+
+    private int getHeight(int x, int z) {
+        return ChunkConstants.SIZE_Y / 2 + (int) (8 * Math.sin(x * 0.2) * Math.cos(z * 0.15));
+    }
+
+    private boolean isCave(int x, int y, int z) {
+        return ((x * 73856093 ^ y * 19349663 ^ z * 83492791) & 15) == 0;
+    }
+
+    @Override
+    public Block getBlock(float x, float y, float z) {
+        return getBlock(TeraMath.floorToInt(x + 0.5f), TeraMath.floorToInt(y + 0.5f), TeraMath.floorToInt(z + 0.5f));
+    }
+
+    @Override
+    public Block getBlock(Vector3i pos) {
+        return getBlock(pos.x, pos.y, pos.z);
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z) {
+        if (y > getHeight(x, z) || isCave(x, y, z)) {
+            return air;
+        }
+        return ground;
+    }
+
+    @Override
+    public Biome getBiome(float x, float y, float z) {
+        return null;
+    }
+
+    @Override
+    public Biome getBiome(Vector3i pos) {
+        return null;
+    }
+
+    @Override
+    public Biome getBiome(int x, int y, int z) {
+        return null;
+    }
+
+    @Override
+    public byte getSunlight(float x, float y, float z) {
+        return getSunlight(TeraMath.floorToInt(x + 0.5f), TeraMath.floorToInt(y + 0.5f), TeraMath.floorToInt(z + 0.5f));
+    }
+
+    @Override
+    public byte getSunlight(Vector3i pos) {
+        return getSunlight(pos.x, pos.y, pos.z);
+    }
+
+    @Override
+    public byte getSunlight(int x, int y, int z) {
+        int depth = getHeight(x, z) - y;
+        if (depth < 0) {
+            return MAX_LIGHT;
+        }
+        return (byte) Math.max(0, MAX_LIGHT - 4 * depth);
+    }
+
+    @Override
+    public byte getLight(float x, float y, float z) {
+        return getLight(TeraMath.floorToInt(x + 0.5f), TeraMath.floorToInt(y + 0.5f), TeraMath.floorToInt(z + 0.5f));
+    }
+
+    @Override
+    public byte getLight(Vector3i pos) {
+        return getLight(pos.x, pos.y, pos.z);
+    }
+
+    @Override
+    public byte getLight(int x, int y, int z) {
+        return (byte) (isCave(x, y, z) ? 7 : 0);
+    }
+
+    @Override
+    public void setBlock(Vector3i pos, Block type) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, Block type) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setBiome(Vector3i pos, Biome biome) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setBiome(int x, int y, int z, Biome biome) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public LiquidData getLiquid(Vector3i pos) {
+        return new LiquidData();
+    }
+
+    @Override
+    public LiquidData getLiquid(int x, int y, int z) {
+        return new LiquidData();
+    }
+
+    @Override
+    public void setLiquid(Vector3i pos, LiquidData newState) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setLiquid(int x, int y, int z, LiquidData newState) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Vector3i toWorldPos(Vector3i localPos) {
+        return new Vector3i(localPos);
+    }
+
+    @Override
+    public Region3i getWorldRegion() {
+        return ChunkConstants.CHUNK_REGION;
+    }
+
+    @Override
+    public Region3i getChunkRegion() {
+        return chunkRegion;
+    }
+
+    @Override
+    public void setDirtyAround(Vector3i blockPos) {
+    }
+
+    @Override
+    public void setDirtyAround(Region3i blockRegion) {
+    }
+
+    @Override
+    public boolean isValidView() {
+        return true;
+    }
+}
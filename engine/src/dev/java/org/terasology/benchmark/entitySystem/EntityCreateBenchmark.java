@@ -35,7 +35,11 @@ public class EntityCreateBenchmark extends AbstractBenchmark {
     private List<List<Component>> rawEntityData;
 
     public EntityCreateBenchmark() {
-        super("Create Entities", 10000, new int[]{10000});
+        this("Create Entities");
+    }
+
+    protected EntityCreateBenchmark(String title) {
+        super(title, 10000, new int[]{10000});
     }
 
     @Override
@@ -38,8 +38,13 @@ public static void main(String[] args) {
         final List<Benchmark> benchmarks = Lists.newArrayList();
 
         benchmarks.add(new EntityCreateBenchmark());
+        benchmarks.add(new PrefabEntityCreateBenchmark(false));
+        benchmarks.add(new PrefabEntityCreateBenchmark(true));
         benchmarks.add(new IterateSingleComponentBenchmark());
         benchmarks.add(new IterateMultipleComponentBenchmark());
+        for (EventHandlerInvocationBenchmark.Mode mode : EventHandlerInvocationBenchmark.Mode.values()) {
+            benchmarks.add(new EventHandlerInvocationBenchmark(mode));
+        }
         Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
 
     }
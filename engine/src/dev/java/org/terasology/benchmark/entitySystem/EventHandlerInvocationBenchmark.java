@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.entitySystem;
+
+import com.esotericsoftware.reflectasm.MethodAccess;
+import com.google.common.collect.Lists;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.event.Event;
+import org.terasology.entitySystem.event.internal.EventHandlerInvoker;
+import org.terasology.entitySystem.event.internal.EventHandlerInvokerFactory;
+import org.terasology.logic.location.LocationComponent;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Compares the ways to call an event handler method: plain reflection, ReflectASM and a generated invoker.
+ */
+public class EventHandlerInvocationBenchmark extends AbstractBenchmark {
+
+    private static final int EVENTS_PER_RUN = 100000;
+
+    private final Mode mode;
+    private final TestEvent event = new TestEvent();
+    private final TestHandler handler = new TestHandler();
+    private EntityRef entity;
+    private Method method;
+    private MethodAccess methodAccess;
+    private int methodIndex;
+    private EventHandlerInvoker invoker;
+
+    public EventHandlerInvocationBenchmark(Mode mode) {
+        super("Invoke Event Handlers (" + mode + ")", 100, new int[]{100});
+        this.mode = mode;
+    }
+
+    @Override
+    public void setup() {
+        entity = new PojoEntityManager().create(new LocationComponent());
+        try {
+            method = TestHandler.class.getMethod("onEvent", TestEvent.class, EntityRef.class, LocationComponent.class);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+        methodAccess = MethodAccess.get(TestHandler.class);
+        methodIndex = methodAccess.getIndex(method.getName(), method.getParameterTypes());
+        List<Class<? extends Component>> componentParams = Lists.newArrayList(LocationComponent.class);
+        invoker = new EventHandlerInvokerFactory().createInvoker(method, componentParams);
+        if (invoker == null) {
+            throw new IllegalStateException("Failed to generate the event handler invoker");
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            for (int i = 0; i < EVENTS_PER_RUN; ++i) {
+                switch (mode) {
+                    case REFLECTION:
+                        method.invoke(handler, event, entity, entity.getComponent(LocationComponent.class));
+                        break;
+                    case METHOD_ACCESS:
+                        methodAccess.invoke(handler, methodIndex, event, entity, entity.getComponent(LocationComponent.class));
+                        break;
+                    default:
+                        invoker.invoke(handler, entity, event);
+                        break;
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        entity = null;
+    }
+
+    public enum Mode {
+        REFLECTION,
+        METHOD_ACCESS,
+        GENERATED
+    }
+
+    public static class TestEvent implements Event {
+    }
+
+    public static class TestHandler {
+        private int count;
+
+        public void onEvent(TestEvent testEvent, EntityRef entityRef, LocationComponent location) {
+            if (location != null) {
+                count++;
+            }
+        }
+    }
+}
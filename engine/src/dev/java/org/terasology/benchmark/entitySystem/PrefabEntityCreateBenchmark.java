@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.entitySystem;
+
+import com.google.common.collect.Lists;
+import org.terasology.assets.AssetFactory;
+import org.terasology.assets.AssetType;
+import org.terasology.assets.ResourceUrn;
+import org.terasology.context.Context;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.engine.SimpleUri;
+import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.metadata.ComponentLibrary;
+import org.terasology.entitySystem.prefab.Prefab;
+import org.terasology.entitySystem.prefab.PrefabData;
+import org.terasology.entitySystem.prefab.internal.PojoPrefab;
+import org.terasology.logic.common.DisplayNameComponent;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.rendering.logic.MeshComponent;
+import org.terasology.utilities.random.FastRandom;
+import org.terasology.world.block.BlockComponent;
+
+import java.util.List;
+
+/**
+ * Creates entities from prefabs, either copying the prefab components or sharing them copy-on-write.
+ */
+public class PrefabEntityCreateBenchmark extends EntityCreateBenchmark {
+
+    private final boolean copyOnWrite;
+    private ComponentLibrary componentLibrary;
+    private List<Prefab> prefabs;
+
+    public PrefabEntityCreateBenchmark(boolean copyOnWrite) {
+        super("Create Entities from Prefabs (" + (copyOnWrite ? "copy-on-write" : "copy") + ")");
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    @Override
+    public void setup() {
+        Context context = new ContextImpl();
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        componentLibrary = context.get(ComponentLibrary.class);
+        componentLibrary.register(new SimpleUri("engine:location"), LocationComponent.class);
+        componentLibrary.register(new SimpleUri("engine:mesh"), MeshComponent.class);
+        componentLibrary.register(new SimpleUri("engine:block"), BlockComponent.class);
+        componentLibrary.register(new SimpleUri("engine:displayName"), DisplayNameComponent.class);
+
+        AssetType<Prefab, PrefabData> prefabType = new AssetType<>(Prefab.class, (AssetFactory<Prefab, PrefabData>) PojoPrefab::new);
+        FastRandom rand = new FastRandom(0L);
+        prefabs = Lists.newArrayList();
+        for (int i = 0; i < 1000; ++i) {
+            PrefabData prefabData = new PrefabData();
+            if (rand.nextFloat() < 0.75f) {
+                prefabData.addComponent(new LocationComponent());
+            }
+            if (rand.nextFloat() < 0.5f) {
+                prefabData.addComponent(new MeshComponent());
+            }
+            if (rand.nextFloat() < 0.25f) {
+                prefabData.addComponent(new BlockComponent());
+            }
+            DisplayNameComponent displayName = new DisplayNameComponent();
+            displayName.name = "Prefab " + i;
+            prefabData.addComponent(displayName);
+            prefabs.add(prefabType.loadAsset(new ResourceUrn("benchmark:prefab" + i), prefabData));
+        }
+    }
+
+    @Override
+    public void run() {
+        PojoEntityManager entityManager = new PojoEntityManager();
+        entityManager.setComponentLibrary(componentLibrary);
+        entityManager.setCopyOnWritePrefabComponents(copyOnWrite);
+        prefabs.forEach(entityManager::create);
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        prefabs = null;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.reflectFactory;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.engine.SimpleUri;
+import org.terasology.reflection.copy.CopyStrategy;
+import org.terasology.reflection.copy.CopyStrategyLibrary;
+import org.terasology.reflection.copy.GeneratedCopyStrategyFactory;
+import org.terasology.reflection.metadata.ClassMetadata;
+import org.terasology.reflection.metadata.DefaultClassMetadata;
+import org.terasology.reflection.reflect.ReflectFactory;
+
+/**
+ * Compares copying a component field by field through its metadata with a generated copy strategy.
+ */
+public class CopyBenchmark extends AbstractBenchmark {
+
+    private static final int COPIES_PER_RUN = 100000;
+
+    private final ReflectFactory reflectFactory;
+    private final boolean generated;
+    private ClassMetadata<CopyComponent, ?> metadata;
+    private CopyComponent component;
+    private int checksum;
+
+    public CopyBenchmark(ReflectFactory reflectFactory, boolean generated) {
+        super("Copy via " + (generated ? "generated copy strategy" : reflectFactory.getClass().getSimpleName()), 100, new int[]{100});
+        this.reflectFactory = reflectFactory;
+        this.generated = generated;
+    }
+
+    @Override
+    public void setup() {
+        component = new CopyComponent();
+        try {
+            metadata = new DefaultClassMetadata<>(new SimpleUri("benchmark:copy"), CopyComponent.class, reflectFactory,
+                    new CopyStrategyLibrary(reflectFactory));
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+        if (generated) {
+            CopyStrategy<CopyComponent> strategy = new GeneratedCopyStrategyFactory().createCopyStrategy(metadata);
+            if (strategy == null) {
+                throw new IllegalStateException("Failed to generate the copy strategy");
+            }
+            metadata.setCopyStrategy(strategy);
+        }
+    }
+
+    @Override
+    public void run() {
+        for (int i = 0; i < COPIES_PER_RUN; ++i) {
+            checksum += metadata.copy(component).count;
+        }
+    }
+}
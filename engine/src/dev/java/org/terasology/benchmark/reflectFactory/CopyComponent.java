@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.reflectFactory;
+
+import com.google.common.collect.Lists;
+import org.terasology.entitySystem.Component;
+
+import java.util.List;
+
+/**
+ * A component mixing public fields, a getter/setter pair and a field with a non trivial copy strategy.
+ */
+public class CopyComponent implements Component {
+    public int count = 3;
+    public float speed = 2.5f;
+    public boolean active = true;
+    public String name = "benchmark";
+    public List<String> tags = Lists.newArrayList("a", "b");
+    private long value = 7;
+
+    public long getValue() {
+        return value;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+}
@@ -19,6 +19,7 @@
 import com.google.common.collect.Lists;
 
 import org.terasology.engine.TerasologyConstants;
+import org.terasology.utilities.compression.CompressionCodec;
 
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +50,16 @@ public class NetworkConfig {
      */
     private String masterServer = "meta.terasology.org";
 
+    /**
+     * The codec used to compress the data sent to clients that support it, others get deflate
+     */
+    private CompressionCodec compression = CompressionCodec.LZ4;
+
+    /**
+     * The number of threads that build and send the messages to the clients in parallel, or 0 to do so on the main thread
+     */
+    private int clientUpdateThreads;
+
     public void clear() {
         servers.clear();
     }
@@ -89,6 +100,25 @@ public List<ServerInfo> getServerInfos() {
         return Collections.unmodifiableList(servers);
     }
 
+    public CompressionCodec getCompression() {
+        if (compression == null) {
+            return CompressionCodec.LZ4;
+        }
+        return compression;
+    }
+
+    public void setCompression(CompressionCodec compression) {
+        this.compression = compression;
+    }
+
+    public int getClientUpdateThreads() {
+        return clientUpdateThreads;
+    }
+
+    public void setClientUpdateThreads(int clientUpdateThreads) {
+        this.clientUpdateThreads = clientUpdateThreads;
+    }
+
     public String getMasterServer() {
         return masterServer;
     }
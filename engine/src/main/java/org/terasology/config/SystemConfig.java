@@ -16,6 +16,12 @@
 
 package org.terasology.config;
 
+import org.terasology.entitySystem.entity.internal.EntityStorageMode;
+import org.terasology.entitySystem.event.internal.EventQueueOverflowPolicy;
+import org.terasology.entitySystem.event.internal.EventSystemImpl;
+import org.terasology.persistence.internal.ChunkStorageLayout;
+import org.terasology.utilities.compression.CompressionCodec;
+
 import java.util.Locale;
 import java.util.Locale.Category;
 
@@ -23,6 +29,7 @@
  */
 public class SystemConfig {
     public static final String SAVED_GAMES_ENABLED_PROPERTY = "org.terasology.savedGamesEnabled";
+    public static final String ENTITY_STORAGE_MODE_PROPERTY = "org.terasology.entityStorageMode";
 
     private long dayNightLengthInMs;
     private int maxThreads;
@@ -32,6 +39,14 @@ public class SystemConfig {
     private boolean monitoringEnabled;
     private boolean writeSaveGamesEnabled;
     private String locale;
+    private EntityStorageMode entityStorageMode = EntityStorageMode.COMPONENT_TABLE;
+    private ChunkStorageLayout chunkStorageLayout = ChunkStorageLayout.ZIPS;
+    private CompressionCodec chunkCompression = CompressionCodec.LZ4;
+    private int chunkSaveThreads;
+    private int lightMergeThreads;
+    private int pendingEventCapacity = EventSystemImpl.DEFAULT_PENDING_EVENT_CAPACITY;
+    private EventQueueOverflowPolicy pendingEventOverflowPolicy = EventQueueOverflowPolicy.SPILL;
+    private boolean copyOnWritePrefabComponents;
 
     public long getDayNightLengthInMs() {
         return dayNightLengthInMs;
@@ -93,6 +108,119 @@ public void setWriteSaveGamesEnabled(boolean writeSaveGamesEnabled) {
         this.writeSaveGamesEnabled = writeSaveGamesEnabled;
     }
 
+    public EntityStorageMode getEntityStorageMode() {
+        String property = System.getProperty(ENTITY_STORAGE_MODE_PROPERTY);
+        if (property != null) {
+            return EntityStorageMode.valueOf(property.toUpperCase(Locale.ENGLISH));
+        }
+        if (entityStorageMode == null) {
+            return EntityStorageMode.COMPONENT_TABLE;
+        }
+        return entityStorageMode;
+    }
+
+    public void setEntityStorageMode(EntityStorageMode entityStorageMode) {
+        this.entityStorageMode = entityStorageMode;
+    }
+
+    /**
+     * @return how the chunks of save games are laid out on disk. Chunks saved in zips can still be loaded after switching to
+     * region files, but not the other way round.
+     */
+    public ChunkStorageLayout getChunkStorageLayout() {
+        if (chunkStorageLayout == null) {
+            return ChunkStorageLayout.ZIPS;
+        }
+        return chunkStorageLayout;
+    }
+
+    public void setChunkStorageLayout(ChunkStorageLayout chunkStorageLayout) {
+        this.chunkStorageLayout = chunkStorageLayout;
+    }
+
+    /**
+     * @return the codec used to compress chunks when saving. Chunks compressed by any codec can be loaded.
+     */
+    public CompressionCodec getChunkCompression() {
+        if (chunkCompression == null) {
+            return CompressionCodec.LZ4;
+        }
+        return chunkCompression;
+    }
+
+    public void setChunkCompression(CompressionCodec chunkCompression) {
+        this.chunkCompression = chunkCompression;
+    }
+
+    /**
+     * @return the number of threads that encode and compress chunks while saving, 1 to encode them on the save thread.
+     * If not configured, half of the available processors get used, as saving runs alongside the game, the chunk
+     * generation and the light merging threads.
+     */
+    public int getChunkSaveThreads() {
+        if (chunkSaveThreads <= 0) {
+            return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        return chunkSaveThreads;
+    }
+
+    public void setChunkSaveThreads(int chunkSaveThreads) {
+        this.chunkSaveThreads = chunkSaveThreads;
+    }
+
+    /**
+     * @return the number of threads that merge the light of newly available chunks with their neighbours.
+     * If not configured, all but one of the available processors get used.
+     */
+    public int getLightMergeThreads() {
+        if (lightMergeThreads <= 0) {
+            return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+        return lightMergeThreads;
+    }
+
+    public void setLightMergeThreads(int lightMergeThreads) {
+        this.lightMergeThreads = lightMergeThreads;
+    }
+
+    /**
+     * @return the number of events sent from other threads that can wait for the main thread before the overflow
+     * policy applies, rounded up to a power of two
+     */
+    public int getPendingEventCapacity() {
+        if (pendingEventCapacity <= 0) {
+            return EventSystemImpl.DEFAULT_PENDING_EVENT_CAPACITY;
+        }
+        return Integer.highestOneBit(Math.min(pendingEventCapacity, 1 << 30) * 2 - 1);
+    }
+
+    public void setPendingEventCapacity(int pendingEventCapacity) {
+        this.pendingEventCapacity = pendingEventCapacity;
+    }
+
+    public EventQueueOverflowPolicy getPendingEventOverflowPolicy() {
+        if (pendingEventOverflowPolicy == null) {
+            return EventQueueOverflowPolicy.SPILL;
+        }
+        return pendingEventOverflowPolicy;
+    }
+
+    public void setPendingEventOverflowPolicy(EventQueueOverflowPolicy pendingEventOverflowPolicy) {
+        this.pendingEventOverflowPolicy = pendingEventOverflowPolicy;
+    }
+
+    /**
+     * @return whether entities share the components of their prefab until they access them, instead of copying them
+     * when they are created
+     */
+    public boolean isCopyOnWritePrefabComponents() {
+        return copyOnWritePrefabComponents;
+    }
+
+    public void setCopyOnWritePrefabComponents(boolean copyOnWritePrefabComponents) {
+        this.copyOnWritePrefabComponents = copyOnWritePrefabComponents;
+    }
+
     public Locale getLocale() {
         if (locale == null) {
             setLocale(Locale.getDefault(Category.DISPLAY));
@@ -16,6 +16,7 @@
 
 package org.terasology.engine.bootstrap;
 
+import org.terasology.config.Config;
 import org.terasology.context.Context;
 import org.terasology.engine.SimpleUri;
 import org.terasology.engine.module.ModuleManager;
@@ -23,6 +24,7 @@
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.entitySystem.entity.internal.EntityStorageMode;
 import org.terasology.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.entitySystem.event.Event;
 import org.terasology.entitySystem.event.internal.EventSystem;
@@ -93,7 +95,12 @@ public static void addEntityManagementRelatedClasses(Context context) {
         NetworkSystem networkSystem = context.get(NetworkSystem.class);
 
         // Entity Manager
-        PojoEntityManager entityManager = new PojoEntityManager();
+        Config config = context.get(Config.class);
+        EntityStorageMode storageMode = (config != null) ? config.getSystem().getEntityStorageMode() : EntityStorageMode.COMPONENT_TABLE;
+        PojoEntityManager entityManager = new PojoEntityManager(storageMode);
+        if (config != null) {
+            entityManager.setCopyOnWritePrefabComponents(config.getSystem().isCopyOnWritePrefabComponents());
+        }
         context.put(EntityManager.class, entityManager);
         context.put(EngineEntityManager.class, entityManager);
 
@@ -111,7 +118,13 @@ public static void addEntityManagementRelatedClasses(Context context) {
         entityManager.setComponentLibrary(library.getComponentLibrary());
 
         // Event System
-        EventSystem eventSystem = new EventSystemImpl(library.getEventLibrary(), networkSystem);
+        EventSystem eventSystem;
+        if (config != null) {
+            eventSystem = new EventSystemImpl(library.getEventLibrary(), networkSystem,
+                    config.getSystem().getPendingEventCapacity(), config.getSystem().getPendingEventOverflowPolicy());
+        } else {
+            eventSystem = new EventSystemImpl(library.getEventLibrary(), networkSystem);
+        }
         entityManager.setEventSystem(eventSystem);
         context.put(EventSystem.class, eventSystem);
 
@@ -168,6 +168,7 @@ public void dispose(boolean shuttingDown) {
     @Override
     public void update(float delta) {
 
+        entityManager.tickQueries();
         eventSystem.process();
 
         for (UpdateSubscriberSystem system : componentSystemManager.iterateUpdateSubscribers()) {
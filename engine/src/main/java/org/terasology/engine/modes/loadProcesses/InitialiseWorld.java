@@ -33,6 +33,7 @@
 import org.terasology.logic.players.LocalPlayer;
 import org.terasology.module.ModuleEnvironment;
 import org.terasology.persistence.StorageManager;
+import org.terasology.persistence.internal.ChunkStorageLayout;
 import org.terasology.persistence.internal.ReadOnlyStorageManager;
 import org.terasology.persistence.internal.ReadWriteStorageManager;
 import org.terasology.rendering.backdrop.BackdropProvider;
@@ -46,6 +47,8 @@
 import org.terasology.world.biomes.BiomeManager;
 import org.terasology.world.block.Block;
 import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.localChunkProvider.ChunkPregenerationSystem;
+import org.terasology.world.chunks.localChunkProvider.ChunkPregenerator;
 import org.terasology.world.chunks.localChunkProvider.LocalChunkProvider;
 import org.terasology.world.chunks.localChunkProvider.RelevanceSystem;
 import org.terasology.world.generator.UnresolvedWorldGeneratorException;
@@ -115,12 +118,13 @@ public boolean step() {
         // Init. a new world
         EngineEntityManager entityManager = (EngineEntityManager) context.get(EntityManager.class);
         boolean writeSaveGamesEnabled = context.get(Config.class).getSystem().isWriteSaveGamesEnabled();
+        ChunkStorageLayout chunkStorageLayout = context.get(Config.class).getSystem().getChunkStorageLayout();
         Path savePath = PathManager.getInstance().getSavePath(gameManifest.getTitle());
         StorageManager storageManager;
         try {
             storageManager = writeSaveGamesEnabled
-                    ? new ReadWriteStorageManager(savePath, environment, entityManager, blockManager, biomeManager)
-                    : new ReadOnlyStorageManager(savePath, environment, entityManager, blockManager, biomeManager);
+                    ? new ReadWriteStorageManager(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageLayout)
+                    : new ReadOnlyStorageManager(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageLayout);
         } catch (IOException e) {
             logger.error("Unable to create storage manager!", e);
             context.get(GameEngine.class).changeState(new StateMainMenu("Unable to create storage manager!"));
@@ -128,8 +132,19 @@ public boolean step() {
         }
         context.put(StorageManager.class, storageManager);
         LocalChunkProvider chunkProvider = new LocalChunkProvider(storageManager, entityManager, worldGenerator,
-                blockManager, biomeManager);
+                blockManager, biomeManager, context.get(Config.class).getSystem().getLightMergeThreads());
         context.get(ComponentSystemManager.class).register(new RelevanceSystem(chunkProvider), "engine:relevanceSystem");
+        String pregenerationRegion = System.getProperty(ChunkPregenerationSystem.PREGENERATION_REGION_PROPERTY);
+        if (pregenerationRegion != null) {
+            if (!writeSaveGamesEnabled) {
+                logger.warn("Saving is disabled, pre-generated chunks will not be stored");
+            }
+            ChunkPregenerator pregenerator = new ChunkPregenerator(ChunkPregenerator.parseChunkRegion(pregenerationRegion),
+                    storageManager, entityManager, worldGenerator, blockManager, biomeManager, chunkProvider,
+                    context.get(Config.class).getSystem().getLightMergeThreads());
+            context.get(ComponentSystemManager.class).register(new ChunkPregenerationSystem(pregenerator, storageManager,
+                    context.get(GameEngine.class)), "engine:chunkPregenerationSystem");
+        }
         Block unloadedBlock = blockManager.getBlock(BlockManager.UNLOADED_ID);
         WorldProviderCoreImpl worldProviderCore = new WorldProviderCoreImpl(worldInfo, chunkProvider, unloadedBlock, context);
         EntityAwareWorldProvider entityWorldProvider = new EntityAwareWorldProvider(worldProviderCore, context);
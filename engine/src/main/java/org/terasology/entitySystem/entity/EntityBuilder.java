@@ -57,7 +57,15 @@ public boolean hasComponent(Class<? extends Component> component) {
 
     @Override
     public <T extends Component> T getComponent(Class<T> componentClass) {
-        return componentClass.cast(components.get(componentClass));
+        T component = componentClass.cast(components.get(componentClass));
+        if (component != null) {
+            T ownComponent = manager.copyIfShared(component);
+            if (ownComponent != component) {
+                components.put(componentClass, ownComponent);
+            }
+            return ownComponent;
+        }
+        return null;
     }
 
     @Override
@@ -66,6 +74,15 @@ public <T extends Component> T addComponent(T component) {
         return component;
     }
 
+    /**
+     * Adds a component of a prefab, which is copied unless the entity manager shares prefab components copy-on-write.
+     *
+     * @return the added component, which must not be modified
+     */
+    public <T extends Component> T addPrefabComponent(T prefabComponent) {
+        return addComponent(manager.instantiatePrefabComponent(prefabComponent));
+    }
+
     @Override
     public void removeComponent(Class<? extends Component> componentClass) {
         components.remove(componentClass);
@@ -78,6 +95,7 @@ public void saveComponent(Component component) {
 
     @Override
     public Iterable<Component> iterateComponents() {
+        components.replaceAll((componentClass, component) -> manager.copyIfShared(component));
         return components.values();
     }
 
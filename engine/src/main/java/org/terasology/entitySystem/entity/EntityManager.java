@@ -141,6 +141,15 @@ public interface EntityManager {
      */
     int getCountOfEntitiesWith(Class<? extends Component>... componentClasses);
 
+    /**
+     * Creates a query that keeps track of the entities with the provided component types. Prefer this over
+     * {@link #getEntitiesWith(Class[])} for sets of entities that are iterated every frame.
+     *
+     * @param componentClasses
+     * @return A query that is kept up to date until it is disposed
+     */
+    EntityQuery createQuery(Class<? extends Component>... componentClasses);
+
     /**
      * @return The event system being used by the entity manager
      */
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity;
+
+import java.util.Collection;
+
+/**
+ * A live view of all entities that have a given set of components, created through
+ * {@link EntityManager#createQuery(Class[])}.
+ * <br><br>
+ * The matching entities are maintained as components are added and removed, so iterating over a query doesn't
+ * re-filter the entities. Systems should create their queries once (e.g. in initialise) and dispose them on shutdown.
+ * <br><br>
+ * Entities may be modified while iterating: the iteration covers the entities that matched when it started.
+ */
+public interface EntityQuery extends Iterable<EntityRef> {
+
+    /**
+     * @return The number of entities currently matching this query
+     */
+    int size();
+
+    boolean isEmpty();
+
+    boolean contains(EntityRef entity);
+
+    /**
+     * @return The entities that started matching this query during the previous tick and still matched at its end.
+     */
+    Collection<EntityRef> getAddedSinceLastTick();
+
+    /**
+     * @return The entities that stopped matching this query during the previous tick and didn't match at its end.
+     */
+    Collection<EntityRef> getRemovedSinceLastTick();
+
+    /**
+     * Stops maintaining this query. It must not be used afterwards.
+     */
+    void dispose();
+}
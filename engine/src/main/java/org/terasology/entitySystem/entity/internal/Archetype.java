@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.Lists;
+import gnu.trove.list.TLongList;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.terasology.entitySystem.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A group of entities that have exactly the same set of component types (their signature).
+ * <br><br>
+ * The components are stored in one dense array per component type, with the entity ids in a parallel array. Rows are
+ * kept packed by moving the last row into the gap whenever an entity leaves the archetype.
+ *
+ */
+final class Archetype {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int index;
+    private final BitSet signature;
+    private final int[] columnTypeIds;
+    private final int[] columnByTypeId;
+
+    private long[] entityIds = new long[INITIAL_CAPACITY];
+    private Component[][] columns;
+    private int size;
+
+    private final TIntObjectMap<Archetype> addTransitions = new TIntObjectHashMap<>();
+    private final TIntObjectMap<Archetype> removeTransitions = new TIntObjectHashMap<>();
+
+    /**
+     * @param index     the index of this archetype within its store
+     * @param signature the ids of the component types of this archetype
+     */
+    Archetype(int index, BitSet signature) {
+        this.index = index;
+        this.signature = (BitSet) signature.clone();
+        this.columnTypeIds = signature.stream().toArray();
+        this.columnByTypeId = new int[signature.length()];
+        Arrays.fill(columnByTypeId, -1);
+        for (int column = 0; column < columnTypeIds.length; ++column) {
+            columnByTypeId[columnTypeIds[column]] = column;
+        }
+        this.columns = new Component[columnTypeIds.length][INITIAL_CAPACITY];
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return a copy of the signature of this archetype
+     */
+    public BitSet getSignature() {
+        return (BitSet) signature.clone();
+    }
+
+    /**
+     * @return whether this archetype has all the component types of the given signature
+     */
+    public boolean containsAll(BitSet typeIds) {
+        // Checks the bits one by one rather than on a copy, as this runs for every archetype a query looks at
+        for (int typeId = typeIds.nextSetBit(0); typeId >= 0; typeId = typeIds.nextSetBit(typeId + 1)) {
+            if (!signature.get(typeId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getColumnCount() {
+        return columnTypeIds.length;
+    }
+
+    public int getColumnTypeId(int column) {
+        return columnTypeIds[column];
+    }
+
+    /**
+     * @return the column holding components of the given type, or -1 if this archetype lacks that type.
+     */
+    public int columnOf(int typeId) {
+        if (typeId < columnByTypeId.length) {
+            return columnByTypeId[typeId];
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getEntityId(int row) {
+        return entityIds[row];
+    }
+
+    public Component get(int row, int column) {
+        return columns[column][row];
+    }
+
+    public void set(int row, int column, Component component) {
+        columns[column][row] = component;
+    }
+
+    /**
+     * Appends a row for the given entity. All of its components are null until set.
+     *
+     * @return the row of the entity
+     */
+    public int add(long entityId) {
+        if (size == entityIds.length) {
+            int capacity = size * 2;
+            entityIds = Arrays.copyOf(entityIds, capacity);
+            for (int column = 0; column < columns.length; ++column) {
+                columns[column] = Arrays.copyOf(columns[column], capacity);
+            }
+        }
+        entityIds[size] = entityId;
+        return size++;
+    }
+
+    /**
+     * Removes a row by moving the last row into its place.
+     *
+     * @return the id of the entity that was moved into the given row, or {@link PojoEntityManager#NULL_ID} if the
+     *         removed row was the last one.
+     */
+    public long remove(int row) {
+        int last = size - 1;
+        long movedEntity = PojoEntityManager.NULL_ID;
+        if (row != last) {
+            movedEntity = entityIds[last];
+            entityIds[row] = movedEntity;
+            for (Component[] column : columns) {
+                column[row] = column[last];
+            }
+        }
+        for (Component[] column : columns) {
+            column[last] = null;
+        }
+        size = last;
+        return movedEntity;
+    }
+
+    public List<Component> getComponents(int row) {
+        List<Component> components = Lists.newArrayListWithCapacity(columns.length);
+        for (Component[] column : columns) {
+            components.add(column[row]);
+        }
+        return components;
+    }
+
+    /**
+     * @return an iterator over the components of a row, without copying them. It must not be used after rows have
+     *         been added to or removed from this archetype.
+     */
+    public Iterator<Component> iterateComponents(int row) {
+        return new Iterator<Component>() {
+            private int column;
+
+            @Override
+            public boolean hasNext() {
+                return column < columns.length;
+            }
+
+            @Override
+            public Component next() {
+                if (column >= columns.length) {
+                    throw new NoSuchElementException();
+                }
+                return columns[column++][row];
+            }
+        };
+    }
+
+    public void addEntityIdsTo(TLongList target) {
+        target.add(entityIds, 0, size);
+    }
+
+    public Archetype getAddTransition(int typeId) {
+        return addTransitions.get(typeId);
+    }
+
+    public void setAddTransition(int typeId, Archetype target) {
+        addTransitions.put(typeId, target);
+    }
+
+    public Archetype getRemoveTransition(int typeId) {
+        return removeTransitions.get(typeId);
+    }
+
+    public void setRemoveTransition(int typeId, Archetype target) {
+        removeTransitions.put(typeId, target);
+    }
+
+    public void clear() {
+        for (Component[] column : columns) {
+            Arrays.fill(column, 0, size, null);
+        }
+        size = 0;
+    }
+}
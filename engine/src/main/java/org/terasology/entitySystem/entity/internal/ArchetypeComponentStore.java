@@ -0,0 +1,440 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.impl.Constants;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongLongMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import org.terasology.entitySystem.Component;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A component store that groups entities by their set of component types into {@link Archetype}s.
+ * <br><br>
+ * Queries for entities with several components become linear scans over the archetypes that contain all of the
+ * requested types, rather than probing a map per component type for every entity. The matching archetypes of each
+ * query are cached and kept up to date as new archetypes appear. The cost is that adding or removing a component moves
+ * the entity to another archetype.
+ * <br><br>
+ * Like {@link ComponentTable}, the lookups of component types, archetypes and cached queries may be read from other
+ * threads while the main thread adds to them. The rows of the archetypes are not guarded, so changing components is
+ * still limited to a single thread.
+ *
+ */
+class ArchetypeComponentStore implements ComponentStore {
+    private static final long NO_LOCATION = -1L;
+
+    private final Map<Class<? extends Component>, Integer> typeIds = Maps.newConcurrentMap();
+    private final List<List<Archetype>> archetypesByType = Lists.newCopyOnWriteArrayList();
+
+    // Archetypes are only ever added, and rarely, so the lists of them are copied on write to be safe to iterate
+    private final List<Archetype> archetypes = Lists.newCopyOnWriteArrayList();
+    private final Map<BitSet, Archetype> archetypesBySignature = Maps.newConcurrentMap();
+    private final Map<BitSet, List<Archetype>> queryCache = Maps.newConcurrentMap();
+    private final Archetype emptyArchetype;
+
+    /**
+     * Location of each stored entity, packed as the archetype index in the high and the row in the low 32 bits.
+     */
+    private final TLongLongMap locations = new TLongLongHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR,
+            PojoEntityManager.NULL_ID, NO_LOCATION);
+
+    ArchetypeComponentStore() {
+        emptyArchetype = getOrCreateArchetype(new BitSet());
+    }
+
+    @Override
+    public <T extends Component> T get(long entityId, Class<T> componentClass) {
+        Integer typeId = typeIds.get(componentClass);
+        if (typeId == null) {
+            return null;
+        }
+        long location = locations.get(entityId);
+        if (location == NO_LOCATION) {
+            return null;
+        }
+        Archetype archetype = archetypes.get(archetypeIndex(location));
+        int column = archetype.columnOf(typeId);
+        if (column < 0) {
+            return null;
+        }
+        return componentClass.cast(archetype.get(row(location), column));
+    }
+
+    @Override
+    public Component put(long entityId, Component component) {
+        int typeId = getOrCreateTypeId(component.getClass());
+        long location = locations.get(entityId);
+        Archetype source = emptyArchetype;
+        int row = -1;
+        if (location != NO_LOCATION) {
+            source = archetypes.get(archetypeIndex(location));
+            row = row(location);
+            int column = source.columnOf(typeId);
+            if (column >= 0) {
+                Component oldComponent = source.get(row, column);
+                source.set(row, column, component);
+                return oldComponent;
+            }
+        }
+        Archetype target = getArchetypeWith(source, typeId);
+        int newRow = move(entityId, source, row, target);
+        target.set(newRow, target.columnOf(typeId), component);
+        return null;
+    }
+
+    @Override
+    public <T extends Component> Component remove(long entityId, Class<T> componentClass) {
+        Integer typeId = typeIds.get(componentClass);
+        if (typeId == null) {
+            return null;
+        }
+        long location = locations.get(entityId);
+        if (location == NO_LOCATION) {
+            return null;
+        }
+        Archetype source = archetypes.get(archetypeIndex(location));
+        int row = row(location);
+        int column = source.columnOf(typeId);
+        if (column < 0) {
+            return null;
+        }
+        Component component = source.get(row, column);
+        Archetype target = getArchetypeWithout(source, typeId);
+        if (target == emptyArchetype) {
+            removeRow(source, row);
+            locations.remove(entityId);
+        } else {
+            move(entityId, source, row, target);
+        }
+        return component;
+    }
+
+    @Override
+    public List<Component> removeAndReturnComponentsOf(long entityId) {
+        long location = locations.remove(entityId);
+        if (location == NO_LOCATION) {
+            return Lists.newArrayList();
+        }
+        Archetype archetype = archetypes.get(archetypeIndex(location));
+        List<Component> components = archetype.getComponents(row(location));
+        removeRow(archetype, row(location));
+        return components;
+    }
+
+    @Override
+    public void remove(long entityId) {
+        long location = locations.remove(entityId);
+        if (location != NO_LOCATION) {
+            removeRow(archetypes.get(archetypeIndex(location)), row(location));
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Archetype archetype : archetypes) {
+            archetype.clear();
+        }
+        locations.clear();
+    }
+
+    @Override
+    public int getComponentCount(Class<? extends Component> componentClass) {
+        Integer typeId = typeIds.get(componentClass);
+        if (typeId == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Archetype archetype : archetypesByType.get(typeId)) {
+            count += archetype.size();
+        }
+        return count;
+    }
+
+    /**
+     * Iterates over the row of the entity directly, rather than over a copy of its components.
+     */
+    @Override
+    public Iterable<Component> iterateComponents(long entityId) {
+        long location = locations.get(entityId);
+        if (location == NO_LOCATION) {
+            return Collections.emptyList();
+        }
+        Archetype archetype = archetypes.get(archetypeIndex(location));
+        int row = row(location);
+        return () -> archetype.iterateComponents(row);
+    }
+
+    @Override
+    public List<Component> getComponentsInNewList(long entityId) {
+        long location = locations.get(entityId);
+        if (location == NO_LOCATION) {
+            return Lists.newArrayList();
+        }
+        return archetypes.get(archetypeIndex(location)).getComponents(row(location));
+    }
+
+    @Override
+    public <T extends Component> TLongObjectIterator<T> componentIterator(Class<T> componentClass) {
+        Integer typeId = typeIds.get(componentClass);
+        if (typeId == null) {
+            return null;
+        }
+        return new ArchetypeComponentIterator<>(archetypesByType.get(typeId), typeId, componentClass);
+    }
+
+    @Override
+    public TLongList getEntityIdsWith(Class<? extends Component>... componentClasses) {
+        BitSet query = new BitSet();
+        for (Class<? extends Component> componentClass : componentClasses) {
+            Integer typeId = typeIds.get(componentClass);
+            if (typeId == null) {
+                return new TLongArrayList();
+            }
+            query.set(typeId);
+        }
+        List<Archetype> matches = queryCache.get(query);
+        if (matches == null) {
+            matches = cacheQuery(query);
+        }
+        int count = 0;
+        for (Archetype archetype : matches) {
+            count += archetype.size();
+        }
+        TLongList result = new TLongArrayList(count);
+        for (Archetype archetype : matches) {
+            archetype.addEntityIdsTo(result);
+        }
+        return result;
+    }
+
+    @Override
+    public TLongIterator entityIdIterator() {
+        TLongList result = new TLongArrayList(locations.size());
+        for (Archetype archetype : archetypes) {
+            archetype.addEntityIdsTo(result);
+        }
+        return result.iterator();
+    }
+
+    @Override
+    public int numEntities() {
+        return locations.size();
+    }
+
+    private int getOrCreateTypeId(Class<? extends Component> componentClass) {
+        Integer typeId = typeIds.get(componentClass);
+        if (typeId == null) {
+            typeId = archetypesByType.size();
+            archetypesByType.add(Lists.newCopyOnWriteArrayList());
+            typeIds.put(componentClass, typeId);
+        }
+        return typeId;
+    }
+
+    private Archetype getArchetypeWith(Archetype source, int typeId) {
+        Archetype target = source.getAddTransition(typeId);
+        if (target == null) {
+            BitSet signature = source.getSignature();
+            signature.set(typeId);
+            target = getOrCreateArchetype(signature);
+            source.setAddTransition(typeId, target);
+        }
+        return target;
+    }
+
+    private Archetype getArchetypeWithout(Archetype source, int typeId) {
+        Archetype target = source.getRemoveTransition(typeId);
+        if (target == null) {
+            BitSet signature = source.getSignature();
+            signature.clear(typeId);
+            target = getOrCreateArchetype(signature);
+            source.setRemoveTransition(typeId, target);
+        }
+        return target;
+    }
+
+    private Archetype getOrCreateArchetype(BitSet signature) {
+        Archetype archetype = archetypesBySignature.get(signature);
+        if (archetype == null) {
+            archetype = new Archetype(archetypes.size(), signature);
+            archetypes.add(archetype);
+            archetypesBySignature.put(archetype.getSignature(), archetype);
+            synchronized (queryCache) {
+                for (int typeId = signature.nextSetBit(0); typeId >= 0; typeId = signature.nextSetBit(typeId + 1)) {
+                    archetypesByType.get(typeId).add(archetype);
+                }
+                for (Map.Entry<BitSet, List<Archetype>> query : queryCache.entrySet()) {
+                    if (archetype.containsAll(query.getKey())) {
+                        query.getValue().add(archetype);
+                    }
+                }
+            }
+        }
+        return archetype;
+    }
+
+    /**
+     * Finds the archetypes matching a query and caches them. Holds the lock on the cache, which new archetypes are
+     * also registered under, so that each of them is either found here or added to the cached list afterwards.
+     */
+    private List<Archetype> cacheQuery(BitSet query) {
+        synchronized (queryCache) {
+            List<Archetype> matches = queryCache.get(query);
+            if (matches == null) {
+                matches = Lists.newCopyOnWriteArrayList();
+                for (Archetype archetype : archetypesByType.get(query.nextSetBit(0))) {
+                    if (archetype.containsAll(query)) {
+                        matches.add(archetype);
+                    }
+                }
+                queryCache.put(query, matches);
+            }
+            return matches;
+        }
+    }
+
+    /**
+     * Moves an entity and all its components shared with the target archetype from one archetype to the other.
+     *
+     * @param row the row of the entity in the source archetype, or -1 if the entity isn't stored yet
+     * @return the row of the entity in the target archetype
+     */
+    private int move(long entityId, Archetype source, int row, Archetype target) {
+        int newRow = target.add(entityId);
+        if (row >= 0) {
+            for (int column = 0; column < source.getColumnCount(); ++column) {
+                int targetColumn = target.columnOf(source.getColumnTypeId(column));
+                if (targetColumn >= 0) {
+                    target.set(newRow, targetColumn, source.get(row, column));
+                }
+            }
+            removeRow(source, row);
+        }
+        locations.put(entityId, location(target.getIndex(), newRow));
+        return newRow;
+    }
+
+    private void removeRow(Archetype archetype, int row) {
+        long movedEntity = archetype.remove(row);
+        if (movedEntity != PojoEntityManager.NULL_ID) {
+            locations.put(movedEntity, location(archetype.getIndex(), row));
+        }
+    }
+
+    private static long location(int archetypeIndex, int row) {
+        return ((long) archetypeIndex << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private static int archetypeIndex(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int row(long location) {
+        return (int) location;
+    }
+
+    /**
+     * Iterates over the components of one type in all archetypes that have it. Like the iterators of
+     * {@link ComponentTable}, removing the current entry removes the component from its entity, which moves the entity
+     * to an archetype without that type.
+     */
+    private final class ArchetypeComponentIterator<T extends Component> implements TLongObjectIterator<T> {
+        private final List<Archetype> archetypeList;
+        private final int typeId;
+        private final Class<T> componentClass;
+
+        private int archetypePosition;
+        private int row = -1;
+        private Archetype current;
+        private int column;
+        private boolean removed;
+
+        ArchetypeComponentIterator(List<Archetype> archetypeList, int typeId, Class<T> componentClass) {
+            this.archetypeList = archetypeList;
+            this.typeId = typeId;
+            this.componentClass = componentClass;
+        }
+
+        @Override
+        public boolean hasNext() {
+            int position = archetypePosition;
+            int nextRow = row + 1;
+            while (position < archetypeList.size()) {
+                if (nextRow < archetypeList.get(position).size()) {
+                    return true;
+                }
+                position++;
+                nextRow = 0;
+            }
+            return false;
+        }
+
+        @Override
+        public void advance() {
+            removed = false;
+            row++;
+            while (archetypePosition < archetypeList.size() && row >= archetypeList.get(archetypePosition).size()) {
+                archetypePosition++;
+                row = 0;
+            }
+            if (archetypePosition >= archetypeList.size()) {
+                throw new NoSuchElementException();
+            }
+            current = archetypeList.get(archetypePosition);
+            column = current.columnOf(typeId);
+        }
+
+        @Override
+        public long key() {
+            return current.getEntityId(row);
+        }
+
+        @Override
+        public T value() {
+            return componentClass.cast(current.get(row, column));
+        }
+
+        @Override
+        public T setValue(T val) {
+            T oldValue = value();
+            current.set(row, column, val);
+            return oldValue;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null || removed) {
+                throw new IllegalStateException();
+            }
+            ArchetypeComponentStore.this.remove(current.getEntityId(row), componentClass);
+            removed = true;
+            // The last row of the archetype has been moved into the removed one, so it is visited next
+            row--;
+        }
+    }
+}
@@ -28,6 +28,13 @@ public interface EngineEntityManager extends LowLevelEntityManager {
 
     void setEntityRefStrategy(RefStrategy strategy);
 
+    /**
+     * Starts a new tick for all entity queries, making the changes collected during the previous tick available
+     * through {@link org.terasology.entitySystem.entity.EntityQuery#getAddedSinceLastTick()} and
+     * {@link org.terasology.entitySystem.entity.EntityQuery#getRemovedSinceLastTick()}.
+     */
+    void tickQueries();
+
     /**
      * Creates an entity but doesn't send any lifecycle events.
      * <br><br>
@@ -50,6 +57,39 @@ public interface EngineEntityManager extends LowLevelEntityManager {
 
     EntityRef createEntityWithoutLifecycleEvents(Prefab prefab);
 
+    /**
+     * Returns the component a new entity should receive for a component of its prefab. This is either a copy, or in
+     * copy-on-write mode the prefab's own component, which is copied once it is accessed through the entity.
+     *
+     * @param prefabComponent a component of a prefab
+     * @return the component to add to the new entity
+     */
+    <T extends Component> T instantiatePrefabComponent(T prefabComponent);
+
+    /**
+     * @return a copy of the component if it is a prefab component shared copy-on-write, otherwise the component itself
+     */
+    <T extends Component> T copyIfShared(T component);
+
+    /**
+     * Iterates over the components of an entity without copying the prefab components it shares copy-on-write.
+     * The components must not be modified, which makes this only suitable for reading them, e.g. for serialization.
+     *
+     * @param entityId the id of the entity
+     * @return the components of the entity
+     */
+    Iterable<Component> iterateComponentsForReading(long entityId);
+
+    /**
+     * Gets a component of an entity without copying it if it is a prefab component shared copy-on-write. The
+     * component must not be modified.
+     *
+     * @param entityId       the id of the entity
+     * @param componentClass the type of the component
+     * @return the component, or null if the entity doesn't have it
+     */
+    <T extends Component> T getComponentForReading(long entityId, Class<T> componentClass);
+
     /**
      * Destroys an entity without sending lifecycle events.
      * <br><br>
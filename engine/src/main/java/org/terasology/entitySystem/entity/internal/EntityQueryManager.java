@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityQuery;
+import org.terasology.entitySystem.entity.EntityRef;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the {@link EntityQuery}s of an entity manager up to date, by being informed of all component additions and
+ * removals. Only the queries involving the changed component type are checked.
+ *
+ */
+class EntityQueryManager implements EntityChangeSubscriber {
+    private final List<MaintainedEntityQuery> queries = Lists.newArrayList();
+    private final ListMultimap<Class<? extends Component>, MaintainedEntityQuery> queriesByComponent = ArrayListMultimap.create();
+
+    /**
+     * @param componentClasses the components the entities of the query must have
+     * @param currentMatches   the entities that currently have all those components
+     */
+    public EntityQuery createQuery(Class<? extends Component>[] componentClasses, Iterable<EntityRef> currentMatches) {
+        MaintainedEntityQuery query = new MaintainedEntityQuery(this, Arrays.copyOf(componentClasses, componentClasses.length));
+        for (EntityRef entity : currentMatches) {
+            query.onComponentAdded(entity);
+        }
+        // The initial matches are reported as added during the first tick of the query
+        query.tick();
+        queries.add(query);
+        for (Class<? extends Component> componentClass : componentClasses) {
+            queriesByComponent.put(componentClass, query);
+        }
+        return query;
+    }
+
+    void removeQuery(MaintainedEntityQuery query) {
+        if (queries.remove(query)) {
+            for (Class<? extends Component> componentClass : query.getComponentClasses()) {
+                queriesByComponent.remove(componentClass, query);
+            }
+        }
+    }
+
+    /**
+     * Makes the changes collected since the previous call available as the changes since the last tick.
+     */
+    public void tick() {
+        for (MaintainedEntityQuery query : queries) {
+            query.tick();
+        }
+    }
+
+    public void clear() {
+        for (MaintainedEntityQuery query : queries) {
+            query.clear();
+        }
+    }
+
+    @Override
+    public void onEntityComponentAdded(EntityRef entity, Class<? extends Component> component) {
+        for (MaintainedEntityQuery query : queriesByComponent.get(component)) {
+            query.onComponentAdded(entity);
+        }
+    }
+
+    @Override
+    public void onEntityComponentChange(EntityRef entity, Class<? extends Component> component) {
+    }
+
+    @Override
+    public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component> component) {
+        for (MaintainedEntityQuery query : queriesByComponent.get(component)) {
+            query.onComponentRemoved(entity);
+        }
+    }
+
+    @Override
+    public void onReactivation(EntityRef entity, Collection<Component> components) {
+        for (Component component : components) {
+            onEntityComponentAdded(entity, component.getClass());
+        }
+    }
+
+    @Override
+    public void onBeforeDeactivation(EntityRef entity, Collection<Component> components) {
+        for (Component component : components) {
+            onEntityComponentRemoved(entity, component.getClass());
+        }
+    }
+}
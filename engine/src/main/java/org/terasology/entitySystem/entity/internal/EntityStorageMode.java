@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity.internal;
+
+/**
+ * The ways a {@link PojoEntityManager} can store the components of its entities.
+ */
+public enum EntityStorageMode {
+    /**
+     * One map from entity id to component per component type. Cheap component additions and removals.
+     */
+    COMPONENT_TABLE {
+        @Override
+        ComponentStore createStore() {
+            return new ComponentTable();
+        }
+    },
+
+    /**
+     * Entities grouped by their set of component types, with dense component arrays. Fast multi-component queries.
+     */
+    ARCHETYPE {
+        @Override
+        ComponentStore createStore() {
+            return new ArchetypeComponentStore();
+        }
+    };
+
+    abstract ComponentStore createStore();
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import gnu.trove.impl.Constants;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityQuery;
+import org.terasology.entitySystem.entity.EntityRef;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An {@link EntityQuery} kept up to date by the {@link EntityQueryManager}.
+ * <br><br>
+ * Iteration happens over an array snapshot of the matching entities, which is only rebuilt after the set of matching
+ * entities changed.
+ */
+class MaintainedEntityQuery implements EntityQuery {
+    private static final EntityRef[] NO_ENTITIES = new EntityRef[0];
+
+    private final EntityQueryManager manager;
+    private final Class<? extends Component>[] componentClasses;
+
+    private final List<EntityRef> entities = Lists.newArrayList();
+    private final TLongIntMap indexById = new TLongIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR,
+            PojoEntityManager.NULL_ID, -1);
+    private EntityRef[] snapshot = NO_ENTITIES;
+
+    private final TLongObjectMap<EntityRef> pendingAdded = new TLongObjectHashMap<>();
+    private final TLongObjectMap<EntityRef> pendingRemoved = new TLongObjectHashMap<>();
+    private final List<EntityRef> addedLastTick = Lists.newArrayList();
+    private final List<EntityRef> removedLastTick = Lists.newArrayList();
+    private final Collection<EntityRef> addedView = Collections.unmodifiableList(addedLastTick);
+    private final Collection<EntityRef> removedView = Collections.unmodifiableList(removedLastTick);
+
+    MaintainedEntityQuery(EntityQueryManager manager, Class<? extends Component>[] componentClasses) {
+        this.manager = manager;
+        this.componentClasses = componentClasses;
+    }
+
+    Class<? extends Component>[] getComponentClasses() {
+        return componentClasses;
+    }
+
+    /**
+     * Adds the entity if it now has all components of this query.
+     */
+    void onComponentAdded(EntityRef entity) {
+        if (indexById.containsKey(entity.getId())) {
+            return;
+        }
+        for (Class<? extends Component> componentClass : componentClasses) {
+            if (!entity.hasComponent(componentClass)) {
+                return;
+            }
+        }
+        indexById.put(entity.getId(), entities.size());
+        entities.add(entity);
+        snapshot = null;
+        if (pendingRemoved.remove(entity.getId()) == null) {
+            pendingAdded.put(entity.getId(), entity);
+        }
+    }
+
+    /**
+     * Removes the entity, as it lost (or is about to lose) one of the components of this query.
+     */
+    void onComponentRemoved(EntityRef entity) {
+        int index = indexById.remove(entity.getId());
+        if (index == -1) {
+            return;
+        }
+        int last = entities.size() - 1;
+        EntityRef lastEntity = entities.remove(last);
+        if (index != last) {
+            entities.set(index, lastEntity);
+            indexById.put(lastEntity.getId(), index);
+        }
+        snapshot = null;
+        if (pendingAdded.remove(entity.getId()) == null) {
+            pendingRemoved.put(entity.getId(), entity);
+        }
+    }
+
+    void tick() {
+        addedLastTick.clear();
+        addedLastTick.addAll(pendingAdded.valueCollection());
+        pendingAdded.clear();
+        removedLastTick.clear();
+        removedLastTick.addAll(pendingRemoved.valueCollection());
+        pendingRemoved.clear();
+    }
+
+    void clear() {
+        entities.clear();
+        indexById.clear();
+        snapshot = NO_ENTITIES;
+        pendingAdded.clear();
+        pendingRemoved.clear();
+        addedLastTick.clear();
+        removedLastTick.clear();
+    }
+
+    @Override
+    public Iterator<EntityRef> iterator() {
+        if (snapshot == null) {
+            snapshot = entities.toArray(new EntityRef[entities.size()]);
+        }
+        return Iterators.forArray(snapshot);
+    }
+
+    @Override
+    public int size() {
+        return entities.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entities.isEmpty();
+    }
+
+    @Override
+    public boolean contains(EntityRef entity) {
+        return indexById.containsKey(entity.getId());
+    }
+
+    @Override
+    public Collection<EntityRef> getAddedSinceLastTick() {
+        return addedView;
+    }
+
+    @Override
+    public Collection<EntityRef> getRemovedSinceLastTick() {
+        return removedView;
+    }
+
+    @Override
+    public void dispose() {
+        manager.removeQuery(this);
+        clear();
+    }
+}
@@ -32,6 +32,7 @@
 import org.slf4j.LoggerFactory;
 import org.terasology.entitySystem.Component;
 import org.terasology.entitySystem.entity.EntityBuilder;
+import org.terasology.entitySystem.entity.EntityQuery;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.entitySystem.entity.lifecycleEvents.BeforeEntityCreated;
@@ -59,6 +60,13 @@
 
 /**
  * Prototype entity manager. Not intended for final use, but a stand in for experimentation.
+ * <br><br>
+ * In copy-on-write mode, entities created from a prefab share the prefab's component instances instead of receiving
+ * copies. A shared component is copied into the entity the first time it is handed out, by
+ * {@link #getComponent(long, Class)}, {@link #iterateComponents(long)} and the like, so callers that modify and save
+ * it never modify the prefab. Components that are never accessed, which is common for the many entities of blocks,
+ * items and creatures, are never copied. Serializers only read components, so they use
+ * {@link #iterateComponentsForReading(long)} and {@link #getComponentForReading(long, Class)}, which don't copy.
  *
  */
 public class PojoEntityManager implements EngineEntityManager {
@@ -69,19 +77,31 @@ public class PojoEntityManager implements EngineEntityManager {
     private long nextEntityId = 1;
     private TLongSet loadedIds = new TLongHashSet();
     private Map<Long, BaseEntityRef> entityCache = new MapMaker().weakValues().concurrencyLevel(4).initialCapacity(1000).makeMap();
-    private ComponentTable store = new ComponentTable();
+    private final ComponentStore store;
 
     private Set<EntityChangeSubscriber> subscribers = Sets.newLinkedHashSet();
     private Set<EntityDestroySubscriber> destroySubscribers = Sets.newLinkedHashSet();
+    private EntityQueryManager queryManager = new EntityQueryManager();
     private EventSystem eventSystem;
     private PrefabManager prefabManager;
     private ComponentLibrary componentLibrary;
 
+    private boolean copyOnWritePrefabComponents;
+    private volatile boolean anyPrefabComponentShared;
+    private final Object copyOnReadLock = new Object();
+    private final Set<Component> sharedPrefabComponents = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+
     private RefStrategy refStrategy = new DefaultRefStrategy();
 
     private TypeSerializationLibrary typeSerializerLibrary;
 
     public PojoEntityManager() {
+        this(EntityStorageMode.COMPONENT_TABLE);
+    }
+
+    public PojoEntityManager(EntityStorageMode storageMode) {
+        this.store = storageMode.createStore();
+        subscribers.add(queryManager);
     }
 
     public void setTypeSerializerLibrary(TypeSerializationLibrary serializerLibrary) {
@@ -96,13 +116,28 @@ public void setPrefabManager(PrefabManager prefabManager) {
         this.prefabManager = prefabManager;
     }
 
+    /**
+     * Enables or disables sharing the components of prefabs with the entities created from them, until they are
+     * accessed. Only affects entities created afterwards.
+     */
+    public void setCopyOnWritePrefabComponents(boolean copyOnWritePrefabComponents) {
+        this.copyOnWritePrefabComponents = copyOnWritePrefabComponents;
+    }
+
+    public boolean isCopyOnWritePrefabComponents() {
+        return copyOnWritePrefabComponents;
+    }
+
     @Override
     public void clear() {
         entityCache.values().forEach(BaseEntityRef::invalidate);
         store.clear();
+        queryManager.clear();
         nextEntityId = 1;
         loadedIds.clear();
         entityCache.clear();
+        sharedPrefabComponents.clear();
+        anyPrefabComponentShared = false;
     }
 
     @Override
@@ -128,7 +163,7 @@ public EntityBuilder newBuilder(Prefab prefab) {
         EntityBuilder builder = new EntityBuilder(this);
         if (prefab != null) {
             for (Component component : prefab.iterateComponents()) {
-                builder.addComponent(componentLibrary.copy(component));
+                builder.addPrefabComponent(component);
             }
             builder.addComponent(new EntityInfoComponent(prefab, prefab.isPersisted(), prefab.isAlwaysRelevant()));
         }
@@ -232,12 +267,13 @@ public EntityRef create(String prefabName, Vector3f position) {
     public EntityRef create(Prefab prefab, Vector3f position, Quat4f rotation) {
         List<Component> components = Lists.newArrayList();
         for (Component component : prefab.iterateComponents()) {
-            Component newComp = componentLibrary.copy(component);
-            components.add(newComp);
-            if (newComp instanceof LocationComponent) {
-                LocationComponent loc = (LocationComponent) newComp;
+            if (component instanceof LocationComponent) {
+                LocationComponent loc = (LocationComponent) componentLibrary.copy(component);
                 loc.setWorldPosition(position);
                 loc.setWorldRotation(rotation);
+                components.add(loc);
+            } else {
+                components.add(instantiatePrefabComponent(component));
             }
         }
         components.add(new EntityInfoComponent(prefab, prefab.isPersisted(), prefab.isAlwaysRelevant()));
@@ -253,11 +289,12 @@ public EntityRef getEntity(long id) {
     public EntityRef create(Prefab prefab, Vector3f position) {
         List<Component> components = Lists.newArrayList();
         for (Component component : prefab.iterateComponents()) {
-            Component newComp = componentLibrary.copy(component);
-            components.add(newComp);
-            if (newComp instanceof LocationComponent) {
-                LocationComponent loc = (LocationComponent) newComp;
+            if (component instanceof LocationComponent) {
+                LocationComponent loc = (LocationComponent) componentLibrary.copy(component);
                 loc.setWorldPosition(position);
+                components.add(loc);
+            } else {
+                components.add(instantiatePrefabComponent(component));
             }
         }
         components.add(new EntityInfoComponent(prefab, prefab.isPersisted(), prefab.isAlwaysRelevant()));
@@ -268,7 +305,7 @@ public EntityRef create(Prefab prefab, Vector3f position) {
     public EntityRef create(Prefab prefab) {
         List<Component> components = Lists.newArrayList();
         for (Component component : prefab.iterateComponents()) {
-            components.add(componentLibrary.copy(component));
+            components.add(instantiatePrefabComponent(component));
         }
         components.add(new EntityInfoComponent(prefab, prefab.isPersisted(), prefab.isAlwaysRelevant()));
         return create(components);
@@ -280,7 +317,7 @@ public EntityRef copy(EntityRef other) {
             return EntityRef.NULL;
         }
         List<Component> newEntityComponents = Lists.newArrayList();
-        for (Component c : other.iterateComponents()) {
+        for (Component c : iterateComponentsForReading(other.getId())) {
             newEntityComponents.add(componentLibrary.copy(c));
         }
         return create(newEntityComponents);
@@ -289,7 +326,7 @@ public EntityRef copy(EntityRef other) {
     @Override
     public Map<Class<? extends Component>, Component> copyComponents(EntityRef other) {
         Map<Class<? extends Component>, Component> result = Maps.newHashMap();
-        for (Component c : other.iterateComponents()) {
+        for (Component c : iterateComponentsForReading(other.getId())) {
             result.put(c.getClass(), componentLibrary.copy(c));
         }
         return result;
@@ -306,45 +343,22 @@ public final Iterable<EntityRef> getEntitiesWith(Class<? extends Component>... c
         if (componentClasses.length == 0) {
             return getAllEntities();
         }
-        if (componentClasses.length == 1) {
-            return iterateEntities(componentClasses[0]);
-        }
-        TLongList idList = new TLongArrayList();
-        TLongObjectIterator<? extends Component> primeIterator = store.componentIterator(componentClasses[0]);
-        if (primeIterator == null) {
+        TLongList idList = store.getEntityIdsWith(componentClasses);
+        if (idList.isEmpty()) {
             return Collections.emptyList();
         }
-
-        while (primeIterator.hasNext()) {
-            primeIterator.advance();
-            long id = primeIterator.key();
-            boolean discard = false;
-            for (int i = 1; i < componentClasses.length; ++i) {
-                if (store.get(id, componentClasses[i]) == null) {
-                    discard = true;
-                    break;
-                }
-            }
-            if (!discard) {
-                idList.add(primeIterator.key());
-            }
-        }
         return new EntityIterable(idList);
     }
 
-    private Iterable<EntityRef> iterateEntities(Class<? extends Component> componentClass) {
-        TLongList idList = new TLongArrayList();
-        TLongObjectIterator<? extends Component> primeIterator = store.componentIterator(componentClass);
-        if (primeIterator == null) {
-            return Collections.emptyList();
-        }
+    @SafeVarargs
+    @Override
+    public final EntityQuery createQuery(Class<? extends Component>... componentClasses) {
+        return queryManager.createQuery(componentClasses, getEntitiesWith(componentClasses));
+    }
 
-        while (primeIterator.hasNext()) {
-            primeIterator.advance();
-            long id = primeIterator.key();
-            idList.add(primeIterator.key());
-        }
-        return new EntityIterable(idList);
+    @Override
+    public void tickQueries() {
+        queryManager.tick();
     }
 
     @Override
@@ -408,7 +422,7 @@ public EntityRef createEntityWithoutLifecycleEvents(Prefab prefab) {
         if (prefab != null) {
             List<Component> components = Lists.newArrayList();
             for (Component component : prefab.iterateComponents()) {
-                components.add(componentLibrary.copy(component));
+                components.add(instantiatePrefabComponent(component));
             }
             components.add(new EntityInfoComponent(prefab, prefab.isPersisted(), prefab.isAlwaysRelevant()));
 
@@ -536,6 +550,9 @@ public boolean isActiveEntity(long id) {
      */
     @Override
     public Iterable<Component> iterateComponents(long entityId) {
+        if (anyPrefabComponentShared) {
+            copySharedComponents(entityId);
+        }
         return store.iterateComponents(entityId);
     }
 
@@ -587,8 +604,11 @@ private void destroy(EntityRef ref) {
      */
     @Override
     public <T extends Component> T getComponent(long entityId, Class<T> componentClass) {
-        //return componentLibrary.copy(store.get(entityId, componentClass));
-        return store.get(entityId, componentClass);
+        T component = store.get(entityId, componentClass);
+        if (component != null && isSharedPrefabComponent(component)) {
+            return replaceByCopy(entityId, componentClass, component);
+        }
+        return component;
     }
 
     /**
@@ -631,7 +651,7 @@ public <T extends Component> T addComponent(long entityId, T component) {
      */
     @Override
     public <T extends Component> T removeComponent(long entityId, Class<T> componentClass) {
-        T component = store.get(entityId, componentClass);
+        T component = getComponent(entityId, componentClass);
         if (component != null) {
             if (eventSystem != null) {
                 EntityRef entityRef = createEntityRef(entityId);
@@ -672,10 +692,100 @@ public void saveComponent(long entityId, Component component) {
         }
     }
 
+    @Override
+    public <T extends Component> T instantiatePrefabComponent(T prefabComponent) {
+        if (copyOnWritePrefabComponents) {
+            sharedPrefabComponents.add(prefabComponent);
+            anyPrefabComponentShared = true;
+            return prefabComponent;
+        }
+        return componentLibrary.copy(prefabComponent);
+    }
+
+    @Override
+    public Iterable<Component> iterateComponentsForReading(long entityId) {
+        return store.iterateComponents(entityId);
+    }
+
+    @Override
+    public <T extends Component> T getComponentForReading(long entityId, Class<T> componentClass) {
+        return store.get(entityId, componentClass);
+    }
+
+    @Override
+    public <T extends Component> T copyIfShared(T component) {
+        if (isSharedPrefabComponent(component)) {
+            return componentLibrary.copy(component);
+        }
+        return component;
+    }
+
     /*
      * Implementation
      */
 
+    private boolean isSharedPrefabComponent(Component component) {
+        return anyPrefabComponentShared && sharedPrefabComponents.contains(component);
+    }
+
+    /**
+     * Replaces a shared prefab component of an entity by a copy, unless another reader replaced it first.
+     *
+     * @return the component the entity has afterwards
+     */
+    private <T extends Component> T replaceByCopy(long entityId, Class<T> componentClass, Component sharedComponent) {
+        T copy = componentClass.cast(componentLibrary.copy(sharedComponent));
+        synchronized (copyOnReadLock) {
+            T current = store.get(entityId, componentClass);
+            if (current == sharedComponent) {
+                store.put(entityId, copy);
+                return copy;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Replaces all prefab components the entity still shares by copies.
+     */
+    private void copySharedComponents(long entityId) {
+        List<Component> sharedComponents = null;
+        for (Component component : store.iterateComponents(entityId)) {
+            if (sharedPrefabComponents.contains(component)) {
+                if (sharedComponents == null) {
+                    sharedComponents = Lists.newArrayList();
+                }
+                sharedComponents.add(component);
+            }
+        }
+        if (sharedComponents != null) {
+            for (Component component : sharedComponents) {
+                replaceByCopy(entityId, component.getClass(), component);
+            }
+        }
+    }
+
+    /**
+     * Replaces all prefab components of the given type that entities still share by copies.
+     */
+    private <T extends Component> void copySharedComponents(Class<T> componentClass) {
+        TLongObjectIterator<T> iterator = store.componentIterator(componentClass);
+        if (iterator == null) {
+            return;
+        }
+        TLongList sharingEntityIds = new TLongArrayList();
+        while (iterator.hasNext()) {
+            iterator.advance();
+            if (sharedPrefabComponents.contains(iterator.value())) {
+                sharingEntityIds.add(iterator.key());
+            }
+        }
+        sharingEntityIds.forEach(entityId -> {
+            getComponent(entityId, componentClass);
+            return true;
+        });
+    }
+
     private EntityRef createEntityRef(long entityId) {
         if (entityId == NULL_ID) {
             return EntityRef.NULL;
@@ -736,11 +846,14 @@ public final int getCountOfEntitiesWith(Class<? extends Component>... componentC
             case 1:
                 return store.getComponentCount(componentClasses[0]);
             default:
-                return Lists.newArrayList(getEntitiesWith(componentClasses)).size();
+                return store.getEntityIdsWith(componentClasses).size();
         }
     }
 
     public <T extends Component> Iterable<Map.Entry<EntityRef, T>> listComponents(Class<T> componentClass) {
+        if (anyPrefabComponentShared) {
+            copySharedComponents(componentClass);
+        }
         TLongObjectIterator<T> iterator = store.componentIterator(componentClass);
         if (iterator != null) {
             List<Map.Entry<EntityRef, T>> list = new ArrayList<>();
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.event.internal;
+
+import javassist.CannotCompileException;
+import javassist.CtClass;
+import javassist.CtNewMethod;
+import javassist.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.event.Event;
+import org.terasology.reflection.reflect.ClassGenerator;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates a class per event handler method, which calls the method directly with typed parameters. This avoids
+ * the argument array and the index based dispatch of ReflectASM.
+ * <br><br>
+ * The handler class and the types its method takes need to be public, see {@link ClassGenerator}.
+ */
+public class EventHandlerInvokerFactory {
+    private static final Logger logger = LoggerFactory.getLogger(EventHandlerInvokerFactory.class);
+
+    private final ClassGenerator classGenerator = new ClassGenerator();
+
+    /**
+     * @param method          a public method of a public class, taking the event, the entity and the given components
+     * @param componentParams the components taken by the method after the event and the entity
+     * @return an invoker for the method, or null if none could be generated
+     */
+    public EventHandlerInvoker createInvoker(Method method, List<Class<? extends Component>> componentParams) {
+        Class<?> handlerClass = method.getDeclaringClass();
+        if (!ClassGenerator.isAccessible(handlerClass)
+                || !Arrays.stream(method.getParameterTypes()).allMatch(ClassGenerator::isAccessible)) {
+            return null;
+        }
+
+        try {
+            Class<?> invokerClass = classGenerator.loadOrGenerate(handlerClass, getInvokerClassName(method), (generatedClass, pool) -> {
+                generatedClass.setInterfaces(new CtClass[]{pool.get(EventHandlerInvoker.class.getName())});
+                generatedClass.addMethod(CtNewMethod.make(getInvokeMethod(method, componentParams), generatedClass));
+            });
+            return (EventHandlerInvoker) invokerClass.getConstructor().newInstance();
+        } catch (CannotCompileException | NotFoundException | ReflectiveOperationException | RuntimeException | LinkageError e) {
+            logger.warn("Failed to generate invoker for event handler '{}', falling back on ReflectASM", method, e);
+            return null;
+        }
+    }
+
+    private static String getInvokeMethod(Method method, List<Class<? extends Component>> componentParams) {
+        StringBuilder body = new StringBuilder();
+        body.append("public void invoke(Object handler, ").append(EntityRef.class.getName()).append(" entity, ")
+                .append(Event.class.getName()).append(" event) {");
+        body.append("((").append(method.getDeclaringClass().getName()).append(") handler).").append(method.getName());
+        body.append("((").append(method.getParameterTypes()[0].getName()).append(") event, entity");
+        for (Class<? extends Component> componentParam : componentParams) {
+            body.append(", (").append(componentParam.getName()).append(") entity.getComponent(")
+                    .append(componentParam.getName()).append(".class)");
+        }
+        body.append(");}");
+        return body.toString();
+    }
+
+    /**
+     * The name includes a hash of the parameter types, to tell overloaded handler methods apart.
+     */
+    static String getInvokerClassName(Method method) {
+        int parameterHash = Arrays.hashCode(Arrays.stream(method.getParameterTypes()).map(Class::getName).toArray());
+        return method.getDeclaringClass().getName() + "_" + method.getName() + "_" + Integer.toHexString(parameterHash)
+                + "_EventInvoker";
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.event.internal;
+
+/**
+ * What happens to an event sent from another thread while the queue of events waiting for the main thread is full.
+ */
+public enum EventQueueOverflowPolicy {
+    /**
+     * The event is kept in an unbounded overflow list, which costs an allocation per event until the queue is drained.
+     */
+    SPILL,
+
+    /**
+     * The sending thread waits until the main thread has drained the queue.
+     */
+    BLOCK,
+
+    /**
+     * The event is discarded. Only suitable if losing events is preferable to delaying the sending threads.
+     */
+    DROP
+}
@@ -24,7 +24,6 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import org.reflections.ReflectionUtils;
@@ -62,7 +61,6 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 
 /**
  * An implementation of the EventSystem.
@@ -70,37 +68,57 @@
  */
 public class EventSystemImpl implements EventSystem {
 
+    public static final int DEFAULT_PENDING_EVENT_CAPACITY = 8192;
+
     private static final Logger logger = LoggerFactory.getLogger(EventSystemImpl.class);
 
     private Map<Class<? extends Event>, SetMultimap<Class<? extends Component>, EventHandlerInfo>> componentSpecificHandlers = Maps.newHashMap();
     private SetMultimap<Class<? extends Event>, EventHandlerInfo> generalHandlers = HashMultimap.create();
     private Comparator<EventHandlerInfo> priorityComparator = new EventHandlerPriorityComparator();
 
+    // Dispatch plans, derived from the handlers above and cleared whenever they change
+    private Map<Class<? extends Event>, DispatchPlan> dispatchPlans = Maps.newHashMap();
+    private Map<Class<? extends Event>, Map<Class<? extends Component>, EventHandlerInfo[]>> componentDispatchPlans = Maps.newHashMap();
+    private int dispatchPlansVersion;
+
     // Event metadata
     private BiMap<SimpleUri, Class<? extends Event>> eventIdMap = HashBiMap.create();
     private SetMultimap<Class<? extends Event>, Class<? extends Event>> childEvents = HashMultimap.create();
 
     private Thread mainThread;
-    private BlockingQueue<PendingEvent> pendingEvents = Queues.newLinkedBlockingQueue();
+    private PendingEventQueue pendingEvents;
+    private PendingEventDispatcher pendingEventDispatcher = new PendingEventDispatcher();
 
     private EventLibrary eventLibrary;
     private NetworkSystem networkSystem;
+    private EventHandlerInvokerFactory invokerFactory = new EventHandlerInvokerFactory();
 
     public EventSystemImpl(EventLibrary eventLibrary, NetworkSystem networkSystem) {
+        this(eventLibrary, networkSystem, DEFAULT_PENDING_EVENT_CAPACITY, EventQueueOverflowPolicy.SPILL);
+    }
+
+    /**
+     * @param pendingEventCapacity the number of events sent from other threads that can wait for the main thread
+     *                             without applying the overflow policy, must be a power of two
+     * @param overflowPolicy       what to do with events sent from other threads while that many are waiting
+     */
+    public EventSystemImpl(EventLibrary eventLibrary, NetworkSystem networkSystem, int pendingEventCapacity,
+                           EventQueueOverflowPolicy overflowPolicy) {
         this.mainThread = Thread.currentThread();
         this.eventLibrary = eventLibrary;
         this.networkSystem = networkSystem;
+        this.pendingEvents = new PendingEventQueue(pendingEventCapacity, overflowPolicy);
     }
 
     @Override
     public void process() {
-        for (PendingEvent event = pendingEvents.poll(); event != null; event = pendingEvents.poll()) {
-            if (event.getComponent() != null) {
-                send(event.getEntity(), event.getEvent(), event.getComponent());
-            } else {
-                send(event.getEntity(), event.getEvent());
-            }
+        if (PerformanceMonitor.isEnabled()) {
+            PerformanceMonitor.recordStatistic("Events: Pending", pendingEvents.size());
+            PerformanceMonitor.recordStatistic("Events: Overflowed", pendingEvents.getOverflowCount());
+            PerformanceMonitor.recordStatistic("Events: Dropped", pendingEvents.getDropCount());
         }
+        pendingEvents.drain(pendingEventDispatcher);
+        pendingEventDispatcher.reset();
     }
 
     @Override
@@ -115,6 +133,7 @@ public void registerEvent(SimpleUri uri, Class<? extends Event> eventType) {
         if (shouldAddToLibrary(eventType)) {
             eventLibrary.register(uri, eventType);
         }
+        clearDispatchPlans();
     }
 
     /**
@@ -166,7 +185,8 @@ public void registerEventHandler(ComponentSystem handler) {
                 }
 
                 ByteCodeEventHandlerInfo handlerInfo = new ByteCodeEventHandlerInfo(handler, method, receiveEventAnnotation.priority(),
-                        receiveEventAnnotation.activity(), requiredComponents, componentParams);
+                        receiveEventAnnotation.activity(), requiredComponents, componentParams,
+                        invokerFactory.createInvoker(method, componentParams));
                 addEventHandler((Class<? extends Event>) types[0], handlerInfo, requiredComponents);
             }
         }
@@ -191,9 +211,11 @@ public void unregisterEventHandler(ComponentSystem handler) {
                 eventHandlerIterator.remove();
             }
         }
+        clearDispatchPlans();
     }
 
     private void addEventHandler(Class<? extends Event> type, EventHandlerInfo handler, Collection<Class<? extends Component>> components) {
+        clearDispatchPlans();
         if (components.isEmpty()) {
             generalHandlers.put(type, handler);
             for (Class<? extends Event> childType : childEvents.get(type)) {
@@ -241,25 +263,76 @@ public <T extends Event> void unregisterEventReceiver(EventReceiver<T> eventRece
                 }
             }
         }
+        clearDispatchPlans();
+    }
+
+    private void clearDispatchPlans() {
+        dispatchPlans.clear();
+        componentDispatchPlans.clear();
+        dispatchPlansVersion++;
     }
 
     @Override
     public void send(EntityRef entity, Event event) {
         if (Thread.currentThread() != mainThread) {
-            pendingEvents.offer(new PendingEvent(entity, event));
+            pendingEvents.add(entity, event, null);
         } else {
-            networkReplicate(entity, event);
+            send(entity, event, getDispatchPlan(event.getClass()));
+        }
+    }
 
-            Set<EventHandlerInfo> selectedHandlersSet = selectEventHandlers(event.getClass(), entity);
-            List<EventHandlerInfo> selectedHandlers = Lists.newArrayList(selectedHandlersSet);
-            Collections.sort(selectedHandlers, priorityComparator);
+    private void send(EntityRef entity, Event event, DispatchPlan plan) {
+        networkReplicate(entity, event);
 
-            if (event instanceof ConsumableEvent) {
-                sendConsumableEvent(entity, event, selectedHandlers);
-            } else {
-                sendStandardEvent(entity, event, selectedHandlers);
+        if (plan.isSignatureSupported()) {
+            dispatch(entity, event, plan);
+            return;
+        }
+
+        Set<EventHandlerInfo> selectedHandlersSet = selectEventHandlers(event.getClass(), entity);
+        List<EventHandlerInfo> selectedHandlers = Lists.newArrayList(selectedHandlersSet);
+        Collections.sort(selectedHandlers, priorityComparator);
+
+        if (event instanceof ConsumableEvent) {
+            sendConsumableEvent(entity, event, selectedHandlers);
+        } else {
+            sendStandardEvent(entity, event, selectedHandlers);
+        }
+    }
+
+    /**
+     * Sends an event to the handlers of a plan that were valid for the entity when the event was sent, without
+     * allocating any objects.
+     */
+    private void dispatch(EntityRef entity, Event event, DispatchPlan plan) {
+        long signature = plan.getComponentSignature(entity);
+        ConsumableEvent consumableEvent = (event instanceof ConsumableEvent) ? (ConsumableEvent) event : null;
+        EventHandlerInfo[] handlers = plan.getHandlers();
+        for (int i = 0; i < handlers.length; ++i) {
+            // Check isValid at each stage in case components were removed.
+            if (plan.isSelected(i, signature) && handlers[i].isValidFor(entity)) {
+                handlers[i].invoke(entity, event);
+                if (consumableEvent != null && consumableEvent.isConsumed()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private DispatchPlan getDispatchPlan(Class<? extends Event> eventType) {
+        DispatchPlan plan = dispatchPlans.get(eventType);
+        if (plan == null) {
+            Set<EventHandlerInfo> handlers = Sets.newLinkedHashSet(generalHandlers.get(eventType));
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> componentHandlers = componentSpecificHandlers.get(eventType);
+            if (componentHandlers != null) {
+                handlers.addAll(componentHandlers.values());
             }
+            List<EventHandlerInfo> sortedHandlers = Lists.newArrayList(handlers);
+            Collections.sort(sortedHandlers, priorityComparator);
+            plan = new DispatchPlan(sortedHandlers);
+            dispatchPlans.put(eventType, plan);
         }
+        return plan;
     }
 
     private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
@@ -346,21 +419,33 @@ private void broadcastEvent(EntityRef entity, Event event, EventMetadata metadat
     @Override
     public void send(EntityRef entity, Event event, Component component) {
         if (Thread.currentThread() != mainThread) {
-            pendingEvents.offer(new PendingEvent(entity, event, component));
+            pendingEvents.add(entity, event, component);
         } else {
-            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(event.getClass());
-            if (handlers != null) {
-                List<EventHandlerInfo> eventHandlers = Lists.newArrayList(handlers.get(component.getClass()));
-                Collections.sort(eventHandlers, priorityComparator);
-                for (EventHandlerInfo eventHandler : eventHandlers) {
-                    if (eventHandler.isValidFor(entity)) {
-                        eventHandler.invoke(entity, event);
-                    }
+            for (EventHandlerInfo eventHandler : getComponentDispatchPlan(event.getClass(), component.getClass())) {
+                if (eventHandler.isValidFor(entity)) {
+                    eventHandler.invoke(entity, event);
                 }
             }
         }
     }
 
+    private EventHandlerInfo[] getComponentDispatchPlan(Class<? extends Event> eventType, Class<? extends Component> componentType) {
+        Map<Class<? extends Component>, EventHandlerInfo[]> plans = componentDispatchPlans.get(eventType);
+        if (plans == null) {
+            plans = Maps.newHashMap();
+            componentDispatchPlans.put(eventType, plans);
+        }
+        EventHandlerInfo[] plan = plans.get(componentType);
+        if (plan == null) {
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+            List<EventHandlerInfo> eventHandlers = (handlers != null) ? Lists.newArrayList(handlers.get(componentType)) : Lists.newArrayList();
+            Collections.sort(eventHandlers, priorityComparator);
+            plan = eventHandlers.toArray(new EventHandlerInfo[eventHandlers.size()]);
+            plans.put(componentType, plan);
+        }
+        return plan;
+    }
+
     private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventType, EntityRef entity) {
         Set<EventHandlerInfo> result = Sets.newHashSet();
         result.addAll(generalHandlers.get(eventType));
@@ -381,6 +466,35 @@ private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventTy
         return result;
     }
 
+    /**
+     * Sends the events drained from the pending event queue. Consecutive events of the same type, such as those of a
+     * burst of chunk callbacks, share a single lookup of their dispatch plan.
+     */
+    private class PendingEventDispatcher implements PendingEventQueue.EventConsumer {
+        private Class<? extends Event> eventType;
+        private DispatchPlan plan;
+        private int planVersion;
+
+        @Override
+        public void accept(EntityRef entity, Event event, Component component) {
+            if (component != null) {
+                send(entity, event, component);
+                return;
+            }
+            if (event.getClass() != eventType || planVersion != dispatchPlansVersion) {
+                eventType = event.getClass();
+                plan = getDispatchPlan(eventType);
+                planVersion = dispatchPlansVersion;
+            }
+            send(entity, event, plan);
+        }
+
+        void reset() {
+            eventType = null;
+            plan = null;
+        }
+    }
+
     private static class EventHandlerPriorityComparator implements Comparator<EventHandlerInfo> {
 
         @Override
@@ -389,9 +503,68 @@ public int compare(EventHandlerInfo o1, EventHandlerInfo o2) {
         }
     }
 
+    /**
+     * All handlers of an event type, sorted by priority, along with the components each of them requires.
+     * <br><br>
+     * When an event is sent, the entity is checked once for each component required by any handler. The result is
+     * the component signature of the entity, relative to this plan, which selects the handlers the event is sent to.
+     * This only works for plans with at most 64 distinct required components, as the signature is stored in a long.
+     */
+    private static final class DispatchPlan {
+        private static final int MAX_SIGNATURE_COMPONENTS = Long.SIZE;
+
+        private final EventHandlerInfo[] handlers;
+        private final Class<? extends Component>[] components;
+        private final long[] requiredSignatures;
+
+        @SuppressWarnings("unchecked")
+        DispatchPlan(List<EventHandlerInfo> sortedHandlers) {
+            handlers = sortedHandlers.toArray(new EventHandlerInfo[sortedHandlers.size()]);
+            List<Class<? extends Component>> componentList = Lists.newArrayList();
+            requiredSignatures = new long[handlers.length];
+            for (int i = 0; i < handlers.length; ++i) {
+                for (Class<? extends Component> component : handlers[i].getFilterComponents()) {
+                    int index = componentList.indexOf(component);
+                    if (index == -1) {
+                        index = componentList.size();
+                        componentList.add(component);
+                    }
+                    if (index < MAX_SIGNATURE_COMPONENTS) {
+                        requiredSignatures[i] |= 1L << index;
+                    }
+                }
+            }
+            components = componentList.toArray(new Class[componentList.size()]);
+        }
+
+        boolean isSignatureSupported() {
+            return components.length <= MAX_SIGNATURE_COMPONENTS;
+        }
+
+        EventHandlerInfo[] getHandlers() {
+            return handlers;
+        }
+
+        long getComponentSignature(EntityRef entity) {
+            long signature = 0;
+            for (int i = 0; i < components.length; ++i) {
+                if (entity.hasComponent(components[i])) {
+                    signature |= 1L << i;
+                }
+            }
+            return signature;
+        }
+
+        boolean isSelected(int handlerIndex, long signature) {
+            return (requiredSignatures[handlerIndex] & signature) == requiredSignatures[handlerIndex];
+        }
+    }
+
     private interface EventHandlerInfo {
         boolean isValidFor(EntityRef entity);
 
+        Collection<Class<? extends Component>> getFilterComponents();
+
         void invoke(EntityRef entity, Event event);
 
         int getPriority();
@@ -428,6 +601,11 @@ public boolean isValidFor(EntityRef entity) {
             return true;
         }
 
+        @Override
+        public Collection<Class<? extends Component>> getFilterComponents() {
+            return filterComponents;
+        }
+
         @Override
         public void invoke(EntityRef entity, Event event) {
             try {
@@ -457,24 +635,35 @@ public ComponentSystem getHandler() {
     private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
         private ComponentSystem handler;
         private String activity;
+        private EventHandlerInvoker invoker;
         private MethodAccess methodAccess;
         private int methodIndex;
         private ImmutableList<Class<? extends Component>> filterComponents;
         private ImmutableList<Class<? extends Component>> componentParams;
         private int priority;
+        /**
+         * Reused for every invocation. Events are only dispatched on the main thread, and the arguments are read from
+         * the array before the handler method is entered, so even nested invocations of the same handler are safe.
+         */
+        private Object[] params;
 
         ByteCodeEventHandlerInfo(ComponentSystem handler,
                                         Method method,
                                         int priority,
                                         String activity,
                                         Collection<Class<? extends Component>> filterComponents,
-                                        Collection<Class<? extends Component>> componentParams) {
+                                        Collection<Class<? extends Component>> componentParams,
+                                        EventHandlerInvoker invoker) {
 
 
             this.handler = handler;
             this.activity = activity;
-            this.methodAccess = MethodAccess.get(handler.getClass());
-            methodIndex = methodAccess.getIndex(method.getName(), method.getParameterTypes());
+            this.invoker = invoker;
+            if (invoker == null) {
+                this.methodAccess = MethodAccess.get(handler.getClass());
+                methodIndex = methodAccess.getIndex(method.getName(), method.getParameterTypes());
+                this.params = new Object[2 + componentParams.size()];
+            }
             this.filterComponents = ImmutableList.copyOf(filterComponents);
             this.componentParams = ImmutableList.copyOf(componentParams);
             this.priority = priority;
@@ -490,20 +679,23 @@ public boolean isValidFor(EntityRef entity) {
             return true;
         }
 
+        @Override
+        public Collection<Class<? extends Component>> getFilterComponents() {
+            return filterComponents;
+        }
+
         @Override
         public void invoke(EntityRef entity, Event event) {
             try {
-                Object[] params = new Object[2 + componentParams.size()];
-                params[0] = event;
-                params[1] = entity;
-                for (int i = 0; i < componentParams.size(); ++i) {
-                    params[i + 2] = entity.getComponent(componentParams.get(i));
-                }
                 if (!activity.isEmpty()) {
                     PerformanceMonitor.startActivity(activity);
                 }
                 try {
-                    methodAccess.invoke(handler, methodIndex, params);
+                    if (invoker != null) {
+                        invoker.invoke(handler, entity, event);
+                    } else {
+                        invokeMethodAccess(entity, event);
+                    }
                 } finally {
                     if (!activity.isEmpty()) {
                         PerformanceMonitor.endActivity();
@@ -514,6 +706,20 @@ public void invoke(EntityRef entity, Event event) {
             }
         }
 
+        private void invokeMethodAccess(EntityRef entity, Event event) {
+            params[0] = event;
+            params[1] = entity;
+            for (int i = 0; i < componentParams.size(); ++i) {
+                params[i + 2] = entity.getComponent(componentParams.get(i));
+            }
+            try {
+                methodAccess.invoke(handler, methodIndex, params);
+            } finally {
+                // Do not keep the event and components alive
+                Arrays.fill(params, null);
+            }
+        }
+
         @Override
         public int getPriority() {
             return priority;
@@ -546,6 +752,11 @@ public boolean isValidFor(EntityRef entity) {
             return true;
         }
 
+        @Override
+        public Collection<Class<? extends Component>> getFilterComponents() {
+            return Arrays.asList(components);
+        }
+
         @Override
         public void invoke(EntityRef entity, Event event) {
             receiver.onEvent((T) event, entity);
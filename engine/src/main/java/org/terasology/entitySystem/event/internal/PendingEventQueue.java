@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.event.internal;
+
+import com.google.common.base.Preconditions;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.event.Event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded queue of events sent from other threads, waiting to be dispatched by the main thread.
+ * <br><br>
+ * Any number of threads may add events, but only a single thread may drain them. Adding an event claims a slot of a
+ * ring buffer with a compare-and-set, so no locks are taken and no nodes are allocated. Each slot has a sequence
+ * number which tells producers whether the slot is free and the consumer whether its event has been written.
+ * <br><br>
+ * Events are drained in the order in which they claimed their slots. Events that overflowed the ring buffer under
+ * {@link EventQueueOverflowPolicy#SPILL} are drained after those in the ring buffer, so they may be delivered out of
+ * order relative to events sent concurrently.
+ */
+class PendingEventQueue {
+    private static final long BLOCK_WAIT_NANOS = 100_000;
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final EntityRef[] entities;
+    private final Event[] events;
+    private final Component[] components;
+    private final EventQueueOverflowPolicy overflowPolicy;
+
+    private final AtomicLong tail = new AtomicLong();
+    // Only accessed by the draining thread
+    private long head;
+    private long overflowDrained;
+
+    private final Queue<PendingEvent> overflow = new ConcurrentLinkedQueue<>();
+    private final LongAdder overflowCount = new LongAdder();
+    private final LongAdder dropCount = new LongAdder();
+
+    /**
+     * @param capacity       the size of the ring buffer, must be a power of two
+     * @param overflowPolicy what to do with events while the ring buffer is full
+     */
+    PendingEventQueue(int capacity, EventQueueOverflowPolicy overflowPolicy) {
+        Preconditions.checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "Capacity must be a power of two: %s", capacity);
+        this.mask = capacity - 1;
+        this.overflowPolicy = Preconditions.checkNotNull(overflowPolicy);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; ++i) {
+            sequences.set(i, i);
+        }
+        this.entities = new EntityRef[capacity];
+        this.events = new Event[capacity];
+        this.components = new Component[capacity];
+    }
+
+    /**
+     * Adds an event, handling a full queue according to the overflow policy. May be called from any thread.
+     *
+     * @param component the component the event is targeted at, or null if it is sent to all handlers
+     * @return whether the event was added, false only if it was dropped
+     */
+    boolean add(EntityRef entity, Event event, Component component) {
+        if (overflow.isEmpty() && tryAdd(entity, event, component)) {
+            return true;
+        }
+        switch (overflowPolicy) {
+            case BLOCK:
+                while (!tryAdd(entity, event, component)) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        dropCount.increment();
+                        return false;
+                    }
+                    LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+                }
+                return true;
+            case DROP:
+                dropCount.increment();
+                return false;
+            default:
+                overflow.add(new PendingEvent(entity, event, component));
+                overflowCount.increment();
+                return true;
+        }
+    }
+
+    private boolean tryAdd(EntityRef entity, Event event, Component component) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    entities[index] = entity;
+                    events[index] = event;
+                    components[index] = component;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds an event from the previous lap, so the ring buffer is full
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Passes the events in the queue to the consumer, in order. Must only be called by a single thread at a time.
+     * At most a ring buffer full of events and the events that had overflowed when draining started are drained,
+     * so producers that keep adding events cannot stall the consumer.
+     *
+     * @return the number of events drained
+     */
+    int drain(EventConsumer consumer) {
+        int count = 0;
+        long position = head;
+        int capacity = mask + 1;
+        while (count < capacity) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            EntityRef entity = entities[index];
+            Event event = events[index];
+            Component component = components[index];
+            entities[index] = null;
+            events[index] = null;
+            components[index] = null;
+            sequences.lazySet(index, position + capacity);
+            position++;
+            head = position;
+            count++;
+            consumer.accept(entity, event, component);
+        }
+        // Events keep overflowing until the overflow list is empty, so only drain those already counted
+        long overflowLimit = overflowCount.sum();
+        while (overflowDrained < overflowLimit) {
+            PendingEvent pendingEvent = overflow.poll();
+            if (pendingEvent == null) {
+                break;
+            }
+            overflowDrained++;
+            count++;
+            consumer.accept(pendingEvent.getEntity(), pendingEvent.getEvent(), pendingEvent.getComponent());
+        }
+        return count;
+    }
+
+    /**
+     * Counts the waiting events from the positions and counters, without walking the overflow list.
+     *
+     * @return the approximate number of events waiting to be drained. Must only be called by the draining thread.
+     */
+    int size() {
+        return (int) (Math.max(0, tail.get() - head) + Math.max(0, overflowCount.sum() - overflowDrained));
+    }
+
+    /**
+     * @return the number of events which overflowed the ring buffer under {@link EventQueueOverflowPolicy#SPILL}
+     */
+    long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    /**
+     * @return the number of events which were discarded because the ring buffer was full
+     */
+    long getDropCount() {
+        return dropCount.sum();
+    }
+
+    interface EventConsumer {
+        void accept(EntityRef entity, Event event, Component component);
+    }
+}
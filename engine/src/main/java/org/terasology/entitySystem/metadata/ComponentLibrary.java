@@ -25,6 +25,7 @@
 import org.terasology.naming.Name;
 import org.terasology.reflection.copy.CopyStrategy;
 import org.terasology.reflection.copy.CopyStrategyLibrary;
+import org.terasology.reflection.copy.GeneratedCopyStrategyFactory;
 import org.terasology.reflection.metadata.AbstractClassLibrary;
 import org.terasology.reflection.metadata.ClassMetadata;
 import org.terasology.reflection.reflect.ReflectFactory;
@@ -36,6 +37,8 @@ public class ComponentLibrary extends AbstractClassLibrary<Component> {
 
     private static final Logger logger = LoggerFactory.getLogger(ComponentLibrary.class);
 
+    private GeneratedCopyStrategyFactory copyStrategyFactory;
+
     public ComponentLibrary(Context context) {
         super(context);
     }
@@ -65,6 +68,11 @@ public <T> ComponentLibrary createCopyUsingCopyStrategy(Class<T> type, CopyStrat
             logger.error("Class not found, {}", type.getSimpleName(), e);
             throw e;
         }
+        // Created lazily, as this is called by the constructor of the super class
+        if (copyStrategyFactory == null) {
+            copyStrategyFactory = new GeneratedCopyStrategyFactory();
+        }
+        info.setCopyStrategy(copyStrategyFactory.createCopyStrategy(info));
         return info;
     }
 
@@ -17,6 +17,7 @@
 
 import org.terasology.engine.Time;
 import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityQuery;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.event.ReceiveEvent;
 import org.terasology.entitySystem.systems.BaseComponentSystem;
@@ -57,13 +58,24 @@ public class HierarchicalAISystem extends BaseComponentSystem implements
 
     private boolean idling;
 
+    private EntityQuery hierarchicalAIs;
+
     // TODO add way to recognize if attacked
 
+    @Override
+    public void initialise() {
+        hierarchicalAIs = entityManager.createQuery(HierarchicalAIComponent.class, CharacterMovementComponent.class,
+                LocationComponent.class);
+    }
+
+    @Override
+    public void shutdown() {
+        hierarchicalAIs.dispose();
+    }
+
     @Override
     public void update(float delta) {
-        for (EntityRef entity : entityManager.getEntitiesWith(
-                HierarchicalAIComponent.class, CharacterMovementComponent.class,
-                LocationComponent.class)) {
+        for (EntityRef entity : hierarchicalAIs) {
             LocationComponent location = entity
                     .getComponent(LocationComponent.class);
             Vector3f worldPos = location.getWorldPosition();
@@ -17,6 +17,7 @@
 
 import org.terasology.engine.Time;
 import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityQuery;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.event.ReceiveEvent;
 import org.terasology.entitySystem.systems.BaseComponentSystem;
@@ -49,9 +50,21 @@ public class SimpleAISystem extends BaseComponentSystem implements UpdateSubscri
     @In
     private LocalPlayer localPlayer;
 
+    private EntityQuery simpleAIs;
+
+    @Override
+    public void initialise() {
+        simpleAIs = entityManager.createQuery(SimpleAIComponent.class, CharacterMovementComponent.class, LocationComponent.class);
+    }
+
+    @Override
+    public void shutdown() {
+        simpleAIs.dispose();
+    }
+
     @Override
     public void update(float delta) {
-        for (EntityRef entity : entityManager.getEntitiesWith(SimpleAIComponent.class, CharacterMovementComponent.class, LocationComponent.class)) {
+        for (EntityRef entity : simpleAIs) {
             LocationComponent location = entity.getComponent(LocationComponent.class);
             Vector3f worldPos = location.getWorldPosition();
 
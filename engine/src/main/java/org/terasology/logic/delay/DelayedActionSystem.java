@@ -18,9 +18,9 @@
 import com.google.common.collect.Ordering;
 import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.terasology.engine.Time;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityQuery;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
@@ -38,15 +38,23 @@
 import java.util.Set;
 
 /**
+ * Schedules the actions of the entities with a {@link DelayedActionComponent} or {@link PeriodicActionComponent} by
+ * their next wake-up time. Entities are scheduled as soon as their component is activated. Entity queries tell
+ * whether there is anything to run in a frame, and wake-ups of entities which lost their component or were unloaded
+ * since they were scheduled are skipped.
  */
 @RegisterSystem(RegisterMode.AUTHORITY)
 @Share(value = DelayManager.class)
 public class DelayedActionSystem extends BaseComponentSystem implements UpdateSubscriberSystem, DelayManager {
-    private static final Logger logger = LoggerFactory.getLogger(DelayedActionSystem.class);
-
     @In
     private Time time;
 
+    @In
+    private EntityManager entityManager;
+
+    private EntityQuery delayedEntities;
+    private EntityQuery periodicEntities;
+
     private SortedSetMultimap<Long, EntityRef> delayedOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
     private SortedSetMultimap<Long, EntityRef> periodicOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
 
@@ -55,11 +63,27 @@ void setTime(Time t) {
         time = t;
     }
 
+    @Override
+    public void initialise() {
+        delayedEntities = entityManager.createQuery(DelayedActionComponent.class);
+        periodicEntities = entityManager.createQuery(PeriodicActionComponent.class);
+    }
+
+    @Override
+    public void shutdown() {
+        delayedEntities.dispose();
+        periodicEntities.dispose();
+    }
+
     @Override
     public void update(float delta) {
         final long currentWorldTime = time.getGameTimeInMs();
-        invokeDelayedOperations(currentWorldTime);
-        invokePeriodicOperations(currentWorldTime);
+        if (!delayedEntities.isEmpty()) {
+            invokeDelayedOperations(currentWorldTime);
+        }
+        if (!periodicEntities.isEmpty()) {
+            invokePeriodicOperations(currentWorldTime);
+        }
     }
 
     private void invokeDelayedOperations(long currentWorldTime) {
@@ -75,25 +99,18 @@ private void invokeDelayedOperations(long currentWorldTime) {
             scheduledOperationsIterator.remove();
         }
 
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(delayedEntity -> {
+        // Entities which lost their component since they were scheduled, possibly in an earlier action, are skipped
+        operationsToInvoke.stream().filter(delayedEntities::contains).forEach(delayedEntity -> {
             final DelayedActionComponent delayedActions = delayedEntity.getComponent(DelayedActionComponent.class);
+            final Set<String> actionIds = delayedActions.removeActionsUpTo(currentWorldTime);
+            saveOrRemoveComponent(delayedEntity, delayedActions);
 
-            // If there is a DelayedActionComponent, proceed. Else report an error to the log.
-            if (delayedActions != null) {
-                final Set<String> actionIds = delayedActions.removeActionsUpTo(currentWorldTime);
-                saveOrRemoveComponent(delayedEntity, delayedActions);
-
-                if (!delayedActions.isEmpty()) {
-                    delayedOperationsSortedByTime.put(delayedActions.getLowestWakeUp(), delayedEntity);
-                }
+            if (!delayedActions.isEmpty()) {
+                delayedOperationsSortedByTime.put(delayedActions.getLowestWakeUp(), delayedEntity);
+            }
 
-                for (String actionId : actionIds) {
-                    delayedEntity.send(new DelayedActionTriggeredEvent(actionId));
-                }
-            } else {
-                logger.error("ERROR: This entity is missing a DelayedActionComponent. " +
-                        "So skipping delayed actions for this entity",
-                        delayedEntity);
+            for (String actionId : actionIds) {
+                delayedEntity.send(new DelayedActionTriggeredEvent(actionId));
             }
         });
     }
@@ -111,24 +128,17 @@ private void invokePeriodicOperations(long currentWorldTime) {
             scheduledOperationsIterator.remove();
         }
 
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(periodicEntity -> {
+        operationsToInvoke.stream().filter(periodicEntities::contains).forEach(periodicEntity -> {
             final PeriodicActionComponent periodicActionComponent = periodicEntity.getComponent(PeriodicActionComponent.class);
+            final Set<String> actionIds = periodicActionComponent.getTriggeredActionsAndReschedule(currentWorldTime);
+            saveOrRemoveComponent(periodicEntity, periodicActionComponent);
 
-            // If there is a PeriodicActionComponent, proceed. Else report an error to the log.
-            if (periodicActionComponent != null) {
-                final Set<String> actionIds = periodicActionComponent.getTriggeredActionsAndReschedule(currentWorldTime);
-                saveOrRemoveComponent(periodicEntity, periodicActionComponent);
-
-                if (!periodicActionComponent.isEmpty()) {
-                    periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), periodicEntity);
-                }
+            if (!periodicActionComponent.isEmpty()) {
+                periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), periodicEntity);
+            }
 
-                for (String actionId : actionIds) {
-                    periodicEntity.send(new PeriodicActionTriggeredEvent(actionId));
-                }
-            } else {
-                logger.error("ERROR: This entity is missing a DelayedActionComponent. " +
-                        "So skipping delayed actions for this entity", periodicEntity);
+            for (String actionId : actionIds) {
+                periodicEntity.send(new PeriodicActionTriggeredEvent(actionId));
             }
         });
     }
@@ -150,7 +160,7 @@ public void delayedComponentDeactivated(BeforeDeactivateComponent event, EntityR
 
     @ReceiveEvent
     public void periodicComponentDeactivated(BeforeDeactivateComponent event, EntityRef entity, PeriodicActionComponent periodicActionComponent) {
-        delayedOperationsSortedByTime.remove(periodicActionComponent.getLowestWakeUp(), entity);
+        periodicOperationsSortedByTime.remove(periodicActionComponent.getLowestWakeUp(), entity);
     }
 
     @Override
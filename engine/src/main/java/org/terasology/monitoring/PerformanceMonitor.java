@@ -140,6 +140,69 @@ public static TObjectDoubleMap<String> getAllocationMean() {
         return instance.getAllocationMean();
     }
 
+    /**
+     * Records a lookup in a cache, counting towards the hit rate of that cache. May be called from any thread.
+     *
+     * @param cacheName the name of the cache
+     * @param hit whether the lookup found a cached value
+     */
+    public static void recordCacheAccess(String cacheName, boolean hit) {
+        instance.recordCacheAccess(cacheName, hit);
+    }
+
+    /**
+     * Records a number of lookups in a cache at once, for caches that count their lookups themselves because they are
+     * too frequent to be recorded one by one. May be called from any thread.
+     *
+     * @param cacheName the name of the cache
+     * @param hits the number of lookups that found a cached value
+     * @param misses the number of lookups that did not
+     */
+    public static void recordCacheAccesses(String cacheName, long hits, long misses) {
+        instance.recordCacheAccesses(cacheName, hits, misses);
+    }
+
+    /**
+     * Returns a mapping from the name of a cache to the percentage of lookups in it that found a cached value,
+     * since the Performance Monitoring system was enabled.
+     *
+     * @return a mapping from cache name to hit rate, in percent.
+     */
+    public static TObjectDoubleMap<String> getCacheHitRates() {
+        return instance.getCacheHitRates();
+    }
+
+    /**
+     * Records the current value of a statistic, such as the length of a queue, replacing its previous value.
+     * May be called from any thread.
+     *
+     * @param statisticName the name of the statistic
+     * @param value the current value of the statistic
+     */
+    public static void recordStatistic(String statisticName, double value) {
+        instance.recordStatistic(statisticName, value);
+    }
+
+    /**
+     * Returns a mapping from the name of a statistic to the value it was last recorded with,
+     * since the Performance Monitoring system was enabled.
+     *
+     * @return a mapping from statistic name to its last value.
+     */
+    public static TObjectDoubleMap<String> getStatistics() {
+        return instance.getStatistics();
+    }
+
+    /**
+     * Tells whether the Performance Monitoring system is enabled, so that statistics which are costly to gather
+     * can be skipped while nobody is looking at them.
+     *
+     * @return True if the Performance Monitoring system is ON.
+     */
+    public static boolean isEnabled() {
+        return instance instanceof PerformanceMonitorImpl;
+    }
+
     /**
      * Enables or disables the Performance Monitoring system.
      * <br><br>
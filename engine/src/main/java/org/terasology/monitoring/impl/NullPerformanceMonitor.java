@@ -53,4 +53,26 @@ public TObjectDoubleMap<String> getAllocationMean() {
         return metrics;
     }
 
+    @Override
+    public void recordCacheAccess(String cacheName, boolean hit) {
+    }
+
+    @Override
+    public void recordCacheAccesses(String cacheName, long hits, long misses) {
+    }
+
+    @Override
+    public TObjectDoubleMap<String> getCacheHitRates() {
+        return metrics;
+    }
+
+    @Override
+    public void recordStatistic(String statisticName, double value) {
+    }
+
+    @Override
+    public TObjectDoubleMap<String> getStatistics() {
+        return metrics;
+    }
+
 }
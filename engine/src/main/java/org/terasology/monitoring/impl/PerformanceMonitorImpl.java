@@ -16,6 +16,7 @@
 package org.terasology.monitoring.impl;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 import gnu.trove.map.TObjectDoubleMap;
 import gnu.trove.map.TObjectLongMap;
@@ -30,6 +31,9 @@
 
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Active implementation of Performance Monitor
@@ -67,6 +71,9 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
     private final SetterOfActivityToRunningMeanMapEntry setExecutionTimeRunningMean;
     private final SetterOfActivityToRunningMeanMapEntry setAllocatedMemoryRunningMean;
 
+    private final ConcurrentMap<String, CacheAccessCounts> cacheAccessCounts = Maps.newConcurrentMap();
+    private final ConcurrentMap<String, Double> statistics = Maps.newConcurrentMap();
+
     private final Thread mainThread;
     private final EngineTime timer;
 
@@ -184,6 +191,55 @@ public TObjectDoubleMap<String> getAllocationMean() {
         return activityToMeanMap;
     }
 
+    @Override
+    public void recordCacheAccess(String cacheName, boolean hit) {
+        CacheAccessCounts counts = cacheAccessCounts.computeIfAbsent(cacheName, name -> new CacheAccessCounts());
+        if (hit) {
+            counts.hits.increment();
+        } else {
+            counts.misses.increment();
+        }
+    }
+
+    @Override
+    public void recordCacheAccesses(String cacheName, long hits, long misses) {
+        CacheAccessCounts counts = cacheAccessCounts.computeIfAbsent(cacheName, name -> new CacheAccessCounts());
+        counts.hits.add(hits);
+        counts.misses.add(misses);
+    }
+
+    @Override
+    public TObjectDoubleMap<String> getCacheHitRates() {
+        TObjectDoubleMap<String> cacheToHitRateMap = new TObjectDoubleHashMap<>();
+        for (Map.Entry<String, CacheAccessCounts> entry : cacheAccessCounts.entrySet()) {
+            long hits = entry.getValue().hits.sum();
+            long total = hits + entry.getValue().misses.sum();
+            if (total > 0) {
+                cacheToHitRateMap.put(entry.getKey(), 100.0 * hits / total);
+            }
+        }
+        return cacheToHitRateMap;
+    }
+
+    @Override
+    public void recordStatistic(String statisticName, double value) {
+        statistics.put(statisticName, value);
+    }
+
+    @Override
+    public TObjectDoubleMap<String> getStatistics() {
+        TObjectDoubleMap<String> statisticToValueMap = new TObjectDoubleHashMap<>();
+        for (Map.Entry<String, Double> entry : statistics.entrySet()) {
+            statisticToValueMap.put(entry.getKey(), entry.getValue());
+        }
+        return statisticToValueMap;
+    }
+
+    private static class CacheAccessCounts {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
     private class ActivityInfo {
         public String name;
         public long startTime;
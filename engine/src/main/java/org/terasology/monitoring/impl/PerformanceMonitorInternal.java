@@ -34,4 +34,14 @@ public interface PerformanceMonitorInternal {
     TObjectDoubleMap<String> getDecayingSpikes();
 
     TObjectDoubleMap<String> getAllocationMean();
+
+    void recordCacheAccess(String cacheName, boolean hit);
+
+    void recordCacheAccesses(String cacheName, long hits, long misses);
+
+    TObjectDoubleMap<String> getCacheHitRates();
+
+    void recordStatistic(String statisticName, double value);
+
+    TObjectDoubleMap<String> getStatistics();
 }
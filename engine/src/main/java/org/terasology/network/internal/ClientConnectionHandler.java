@@ -34,6 +34,7 @@
 import org.terasology.network.JoinStatus;
 import org.terasology.protobuf.NetData;
 import org.terasology.registry.CoreRegistry;
+import org.terasology.utilities.compression.CompressionCodec;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
@@ -218,6 +219,10 @@ private void receiveModule(ChannelHandlerContext channelHandlerContext, NetData.
     private void completeJoin(ChannelHandlerContext channelHandlerContext, NetData.JoinCompleteMessage joinComplete) {
         logger.info("Join complete received");
         server.setClientId(joinComplete.getClientId());
+        if (joinComplete.hasCompression()) {
+            logger.info("Server uses {} compression", joinComplete.getCompression());
+            channelHandlerContext.getPipeline().replace(CompressionDecoder.NAME, CompressionDecoder.NAME, new CompressionDecoder());
+        }
 
         channelHandlerContext.getPipeline().remove(this);
         channelHandlerContext.getPipeline().get(ClientHandler.class).joinComplete(server);
@@ -259,6 +264,10 @@ private void sendJoin(ChannelHandlerContext channelHandlerContext) {
         bldr.setName(config.getPlayer().getName());
         bldr.setViewDistanceLevel(config.getRendering().getViewDistance().getIndex());
         bldr.setColor(clrbldr.setRgba(config.getPlayer().getColor().rgba()).build());
+        for (CompressionCodec codec : CompressionCodec.values()) {
+            bldr.addCompression(codec.name());
+        }
+        bldr.setChunkBlockChanges(true);
 
         channelHandlerContext.getChannel().write(NetData.NetMessage.newBuilder().setJoin(bldr).build());
     }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.handler.codec.oneone.OneToOneEncoder;
+import org.terasology.utilities.compression.CompressionCodec;
+
+/**
+ * A Netty handler compressing each outgoing message on its own with a {@link CompressionCodec}.
+ * <br><br>
+ * Connections start with a zlib stream under the same name, which is replaced by this handler once the client
+ * has agreed to another codec.
+ */
+public class CompressionEncoder extends OneToOneEncoder {
+
+    public static final String NAME = "compressionEncoder";
+
+    private final CompressionCodec codec;
+
+    public CompressionEncoder(CompressionCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    protected Object encode(ChannelHandlerContext ctx, Channel channel, Object msg) throws Exception {
+        if (!(msg instanceof ChannelBuffer)) {
+            return msg;
+        }
+        ChannelBuffer buffer = (ChannelBuffer) msg;
+        byte[] data = new byte[buffer.readableBytes()];
+        buffer.readBytes(data);
+        return ChannelBuffers.wrappedBuffer(codec.compress(data));
+    }
+}
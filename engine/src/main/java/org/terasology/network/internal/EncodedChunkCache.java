@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.terasology.monitoring.PerformanceMonitor;
+import org.terasology.protobuf.EntityData;
+import org.terasology.world.chunks.Chunk;
+
+/**
+ * A size-bounded, thread-safe cache of encoded chunks, shared by all clients of a server.
+ * <br><br>
+ * When several clients need the same chunk, it is only run-length encoded once. Entries are keyed by the chunk
+ * instance, which identifies the chunk position for as long as the chunk is loaded, and remember the
+ * {@link Chunk#getVersion() version} they were encoded at, so a chunk that changed since is encoded again. The keys
+ * are weak, so unloaded chunks are not kept alive by the cache.
+ */
+class EncodedChunkCache {
+    static final String CACHE_NAME = "Network: Encoded Chunks";
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final Cache<Chunk, Entry> cache = CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_ENTRIES).build();
+
+    /**
+     * @return the encoded chunk, taken from the cache if the chunk did not change since it was last encoded
+     */
+    EntityData.ChunkStore get(Chunk chunk) {
+        int version = chunk.getVersion();
+        Entry entry = cache.getIfPresent(chunk);
+        boolean hit = entry != null && entry.version == version;
+        PerformanceMonitor.recordCacheAccess(CACHE_NAME, hit);
+        if (hit) {
+            return entry.store;
+        }
+        EntityData.ChunkStore store = chunk.encode().build();
+        cache.put(chunk, new Entry(version, store));
+        return store;
+    }
+
+    void clear() {
+        cache.invalidateAll();
+    }
+
+    private static final class Entry {
+        private final int version;
+        private final EntityData.ChunkStore store;
+
+        private Entry(int version, EntityData.ChunkStore store) {
+            this.version = version;
+            this.store = store;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.monitoring.PerformanceMonitor;
+import org.terasology.network.serialization.EntityRefSnapshot;
+import org.terasology.network.serialization.NetEntityRefTypeHandler;
+import org.terasology.network.serialization.ServerComponentFieldCheck;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A cache of the entity updates prepared during one net tick, shared by all clients of a server.
+ * <br><br>
+ * Clients that are told about the same changes of an entity get the same update, so the changed components of an
+ * entity are copied at most twice per tick, and each copy is serialized once: once for its owner, who also receives the
+ * owner-to-server fields, and once for everybody else. The cache must only be used from the main thread, while the
+ * updates it hands out may be serialized on any thread. The updates of an entity are invalidated whenever one of its
+ * components changes, and the whole cache is cleared after every net tick.
+ */
+class EntityDeltaCache {
+    static final String CACHE_NAME = "Network: Entity Deltas";
+
+    private final TIntObjectMap<Map<Key, EntityDelta>> cache = new TIntObjectHashMap<>();
+
+    /**
+     * Copies the changed components of an entity, unless the same changes have been prepared for another client.
+     *
+     * @return the changes of the entity, serialized on first use
+     * @see NetworkEntitySerializer#copyComponents(EntityRef, java.util.Collection)
+     */
+    EntityDelta prepare(NetworkEntitySerializer entitySerializer, int netId, EntityRef entity, boolean isOwner,
+                        Set<Class<? extends Component>> added, Set<Class<? extends Component>> changed,
+                        Set<Class<? extends Component>> removed) {
+        Map<Key, EntityDelta> entityCache = cache.get(netId);
+        if (entityCache == null) {
+            entityCache = Maps.newHashMap();
+            cache.put(netId, entityCache);
+        }
+        Key key = new Key(isOwner, added, changed, removed);
+        EntityDelta delta = entityCache.get(key);
+        PerformanceMonitor.recordCacheAccess(CACHE_NAME, delta != null);
+        if (delta == null) {
+            List<Component> addedComponents = entitySerializer.copyComponents(entity, key.added);
+            List<Component> changedComponents = entitySerializer.copyComponents(entity, key.changed);
+            delta = new EntityDelta(entitySerializer, isOwner, addedComponents, changedComponents, key.removed,
+                    entitySerializer.snapshotEntityRefs(Iterables.concat(addedComponents, changedComponents)));
+            entityCache.put(key, delta);
+        }
+        return delta;
+    }
+
+    /**
+     * Drops the cached updates of an entity, so that clients that are sent its changes later in the same tick get
+     * its current state.
+     *
+     * @param netId the network id of the changed entity
+     */
+    void invalidate(int netId) {
+        cache.remove(netId);
+    }
+
+    void clear() {
+        cache.clear();
+    }
+
+    /**
+     * The changes of an entity as copies of its components, together with the entities they reference, which are
+     * serialized by whichever client thread needs them first.
+     */
+    static final class EntityDelta {
+        private final NetworkEntitySerializer entitySerializer;
+        private final boolean isOwner;
+        private final List<Component> added;
+        private final List<Component> changed;
+        private final Set<Class<? extends Component>> removed;
+        private final EntityRefSnapshot entityRefs;
+
+        private boolean serialized;
+        private EntityData.PackedEntity entityData;
+
+        private EntityDelta(NetworkEntitySerializer entitySerializer, boolean isOwner, List<Component> added, List<Component> changed,
+                            Set<Class<? extends Component>> removed, EntityRefSnapshot entityRefs) {
+            this.entitySerializer = entitySerializer;
+            this.isOwner = isOwner;
+            this.added = added;
+            this.changed = changed;
+            this.removed = removed;
+            this.entityRefs = entityRefs;
+        }
+
+        /**
+         * @return the serialized changes, or null if there is nothing to send
+         */
+        synchronized EntityData.PackedEntity serialize() {
+            if (!serialized) {
+                entityData = NetEntityRefTypeHandler.serializeWith(entityRefs,
+                        () -> entitySerializer.serializeChanges(added, changed, removed, new ServerComponentFieldCheck(isOwner, false)));
+                serialized = true;
+            }
+            return entityData;
+        }
+    }
+
+    private static final class Key {
+        private final boolean isOwner;
+        private final Set<Class<? extends Component>> added;
+        private final Set<Class<? extends Component>> changed;
+        private final Set<Class<? extends Component>> removed;
+
+        private Key(boolean isOwner, Set<Class<? extends Component>> added, Set<Class<? extends Component>> changed,
+                    Set<Class<? extends Component>> removed) {
+            this.isOwner = isOwner;
+            this.added = ImmutableSet.copyOf(added);
+            this.changed = ImmutableSet.copyOf(changed);
+            this.removed = ImmutableSet.copyOf(removed);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return isOwner == other.isOwner && added.equals(other.added)
+                        && changed.equals(other.changed) && removed.equals(other.removed);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(isOwner, added, changed, removed);
+        }
+    }
+}
@@ -25,6 +25,10 @@
 import com.google.common.collect.Sets;
 
 import gnu.trove.iterator.TIntIterator;
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
 import gnu.trove.set.TIntSet;
 import gnu.trove.set.hash.TIntHashSet;
 
@@ -39,17 +43,21 @@
 import org.terasology.entitySystem.metadata.EventLibrary;
 import org.terasology.entitySystem.metadata.EventMetadata;
 import org.terasology.entitySystem.metadata.NetworkEventType;
+import org.terasology.entitySystem.prefab.Prefab;
 import org.terasology.identity.PublicIdentityCertificate;
 import org.terasology.logic.characters.PredictionSystem;
 import org.terasology.logic.common.DisplayNameComponent;
 import org.terasology.logic.location.LocationComponent;
 import org.terasology.math.ChunkMath;
 import org.terasology.math.geom.Vector3i;
+import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.network.Client;
 import org.terasology.network.ClientComponent;
 import org.terasology.network.ColorComponent;
 import org.terasology.network.NetMetricSource;
 import org.terasology.network.NetworkComponent;
+import org.terasology.network.serialization.EntityRefSnapshot;
+import org.terasology.network.serialization.NetEntityRefTypeHandler;
 import org.terasology.network.serialization.ServerComponentFieldCheck;
 import org.terasology.persistence.serializers.EventSerializer;
 import org.terasology.persistence.serializers.NetworkEntitySerializer;
@@ -60,6 +68,8 @@
 import org.terasology.registry.CoreRegistry;
 import org.terasology.rendering.nui.Color;
 import org.terasology.rendering.world.viewDistance.ViewDistance;
+import org.terasology.utilities.compression.CompressionCodec;
+import org.terasology.world.BlockChangeBatch;
 import org.terasology.world.WorldChangeListener;
 import org.terasology.world.WorldProvider;
 import org.terasology.world.biomes.Biome;
@@ -68,6 +78,7 @@
 import org.terasology.world.block.BlockComponent;
 import org.terasology.world.block.family.BlockFamily;
 import org.terasology.world.chunks.Chunk;
+import org.terasology.world.propagation.BlockChange;
 
 import java.math.RoundingMode;
 import java.util.Arrays;
@@ -118,6 +129,7 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
 
     // Outgoing messages
     private BlockingQueue<NetData.BlockChangeMessage> queuedOutgoingBlockChanges = Queues.newLinkedBlockingQueue();
+    private final Map<Vector3i, TIntIntMap> queuedOutgoingChunkBlockChanges = Maps.newLinkedHashMap();
     private BlockingQueue<NetData.BiomeChangeMessage> queuedOutgoingBiomeChanges = Queues.newLinkedBlockingQueue();
     private List<NetData.EventMessage> queuedOutgoingEvents = Lists.newArrayList();
     private final List<BlockFamily> newlyRegisteredFamilies = Lists.newArrayList();
@@ -135,6 +147,8 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private AtomicInteger sentMessages = new AtomicInteger();
     private AtomicInteger sentBytes = new AtomicInteger();
     private Color color;
+    private CompressionCodec compression = CompressionCodec.DEFLATE;
+    private boolean chunkBlockChangesSupported;
 
     public NetClient(Channel channel, NetworkSystemImpl networkSystem, PublicIdentityCertificate identity) {
         this.channel = channel;
@@ -216,20 +230,67 @@ public void disconnect() {
     @Override
     public void update(boolean netTick) {
         if (netTick) {
-            NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder();
-            message.setTime(time.getGameTimeInMs());
-            sendRegisteredBlocks(message);
-            sendChunkInvalidations(message);
-            sendNewChunks(message);
-            sendRemovedEntities(message);
-            sendInitialEntities(message);
-            sendDirtyEntities(message);
-            sendEvents(message);
-            send(message.build());
+            sendNetTick(prepareNetTick());
         }
         processReceivedMessages();
     }
 
+    /**
+     * Collects everything that is sent to the client on a net tick. This copies the components of the entities the
+     * client has to be told about, so it must be called from the main thread.
+     *
+     * @return the message, to be completed and sent by {@link #sendNetTick(NetTickMessage)}
+     */
+    NetTickMessage prepareNetTick() {
+        NetTickMessage netTick = new NetTickMessage();
+        netTick.clientName = getName();
+        NetData.NetMessage.Builder message = netTick.message;
+        message.setTime(time.getGameTimeInMs());
+        sendRegisteredBlocks(message);
+        sendChunkInvalidations(message);
+        sendNewChunks(netTick);
+        sendRemovedEntities(message);
+        sendInitialEntities(netTick);
+        sendDirtyEntities(netTick);
+        sendEvents(message);
+        return netTick;
+    }
+
+    /**
+     * Serializes the entity copies and encodes the chunks of a prepared message, then builds and sends it. The entities
+     * referenced by the copies were resolved when the message was prepared, so this may run on any thread, as long as
+     * the messages of a client are sent in order.
+     *
+     * @return the time it took to build and send the message, in milliseconds
+     */
+    double sendNetTick(NetTickMessage netTick) {
+        long startTime = System.nanoTime();
+        NetData.NetMessage.Builder message = netTick.message;
+        for (InitialEntity initialEntity : netTick.initialEntities) {
+            NetData.CreateEntityMessage.Builder createMessage = NetData.CreateEntityMessage.newBuilder()
+                    .setEntity(NetEntityRefTypeHandler.serializeWith(initialEntity.entityRefs,
+                            () -> entitySerializer.serializeComponents(initialEntity.prefab, initialEntity.components, true,
+                                    new ServerComponentFieldCheck(initialEntity.owned, true))));
+            if (initialEntity.blockPos != null) {
+                createMessage.setBlockPos(initialEntity.blockPos);
+            }
+            message.addCreateEntity(createMessage);
+        }
+        for (int i = 0; i < netTick.dirtyNetIds.size(); ++i) {
+            EntityData.PackedEntity entityData = netTick.dirtyEntities.get(i).serialize();
+            if (entityData != null) {
+                message.addUpdateEntity(NetData.UpdateEntityMessage.newBuilder().setEntity(entityData).setNetId(netTick.dirtyNetIds.get(i)));
+            }
+        }
+        for (Chunk chunk : netTick.chunks) {
+            message.addChunkInfo(networkSystem.getEncodedChunkCache().get(chunk));
+        }
+        send(message.build());
+        double buildTime = (System.nanoTime() - startTime) / 1000000.0;
+        PerformanceMonitor.recordStatistic("Network: Message Build Time (ms) - " + netTick.clientName, buildTime);
+        return buildTime;
+    }
+
     private void sendRegisteredBlocks(NetData.NetMessage.Builder message) {
         synchronized (newlyRegisteredFamilies) {
             for (BlockFamily family : newlyRegisteredFamilies) {
@@ -244,7 +305,7 @@ private void sendRegisteredBlocks(NetData.NetMessage.Builder message) {
         }
     }
 
-    private void sendNewChunks(NetData.NetMessage.Builder message) {
+    private void sendNewChunks(NetTickMessage netTick) {
         if (!readyChunks.isEmpty()) {
             chunkSendCounter += chunkSendRate * NET_TICK_RATE * networkSystem.getBandwidthPerClient();
             if (chunkSendCounter > 1.0f) {
@@ -265,7 +326,7 @@ private void sendNewChunks(NetData.NetMessage.Builder message) {
                 }
                 Chunk chunk = readyChunks.remove(pos);
                 relevantChunks.add(pos);
-                message.addChunkInfo(chunk.encode());
+                netTick.chunks.add(chunk);
             }
         } else {
             chunkSendCounter = 1.0f;
@@ -394,11 +455,48 @@ public void onChunkIrrelevant(Vector3i pos) {
     public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
         Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
         if (relevantChunks.contains(chunkPos)) {
-            queuedOutgoingBlockChanges.add(NetData.BlockChangeMessage.newBuilder()
-                    .setPos(NetMessageUtil.convert(pos))
-                    .setNewBlock(newBlock.getId())
-                    .build());
+            if (chunkBlockChangesSupported) {
+                synchronized (queuedOutgoingChunkBlockChanges) {
+                    getQueuedChunkBlockChanges(chunkPos).put(NetMessageUtil.calcBlockIndex(pos), newBlock.getId());
+                }
+            } else {
+                queuedOutgoingBlockChanges.add(NetData.BlockChangeMessage.newBuilder()
+                        .setPos(NetMessageUtil.convert(pos))
+                        .setNewBlock(newBlock.getId())
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Queues the changed blocks of each chunk as a single message, if the client supports that. Later changes of a
+     * block replace earlier ones that have not been sent yet.
+     */
+    @Override
+    public void onBlocksChanged(BlockChangeBatch changes) {
+        if (!chunkBlockChangesSupported) {
+            WorldChangeListener.super.onBlocksChanged(changes);
+            return;
+        }
+        synchronized (queuedOutgoingChunkBlockChanges) {
+            for (Vector3i chunkPos : changes.getChunkPositions()) {
+                if (relevantChunks.contains(chunkPos)) {
+                    TIntIntMap chunkBlockChanges = getQueuedChunkBlockChanges(chunkPos);
+                    for (BlockChange change : changes.getChanges(chunkPos)) {
+                        chunkBlockChanges.put(NetMessageUtil.calcBlockIndex(change.getPosition()), change.getTo().getId());
+                    }
+                }
+            }
+        }
+    }
+
+    private TIntIntMap getQueuedChunkBlockChanges(Vector3i chunkPos) {
+        TIntIntMap chunkBlockChanges = queuedOutgoingChunkBlockChanges.get(chunkPos);
+        if (chunkBlockChanges == null) {
+            chunkBlockChanges = new TIntIntHashMap();
+            queuedOutgoingChunkBlockChanges.put(chunkPos, chunkBlockChanges);
         }
+        return chunkBlockChanges;
     }
 
     @Override
@@ -430,6 +528,20 @@ private void sendEvents(NetData.NetMessage.Builder message) {
         queuedOutgoingBlockChanges.drainTo(blockChanges);
         message.addAllBlockChange(blockChanges);
 
+        synchronized (queuedOutgoingChunkBlockChanges) {
+            for (Map.Entry<Vector3i, TIntIntMap> entry : queuedOutgoingChunkBlockChanges.entrySet()) {
+                NetData.ChunkBlockChangesMessage.Builder chunkBlockChanges = NetData.ChunkBlockChangesMessage.newBuilder()
+                        .setChunkPos(NetMessageUtil.convert(entry.getKey()));
+                entry.getValue().forEachEntry((blockIndex, newBlock) -> {
+                    chunkBlockChanges.addBlockIndex(blockIndex);
+                    chunkBlockChanges.addNewBlock(newBlock);
+                    return true;
+                });
+                message.addChunkBlockChanges(chunkBlockChanges);
+            }
+            queuedOutgoingChunkBlockChanges.clear();
+        }
+
         List<NetData.BiomeChangeMessage> biomeChanges = Lists.newArrayListWithExpectedSize(queuedOutgoingBiomeChanges.size());
         queuedOutgoingBiomeChanges.drainTo(biomeChanges);
         message.addAllBiomeChange(biomeChanges);
@@ -448,7 +560,7 @@ private void processEntityUpdates(NetData.NetMessage message) {
         }
     }
 
-    private void sendDirtyEntities(NetData.NetMessage.Builder message) {
+    private void sendDirtyEntities(NetTickMessage netTick) {
         TIntIterator dirtyIterator = netDirty.iterator();
         while (dirtyIterator.hasNext()) {
             int netId = dirtyIterator.next();
@@ -457,11 +569,9 @@ private void sendDirtyEntities(NetData.NetMessage.Builder message) {
                 logger.error("Sending non-existent entity update for netId {}", netId);
             }
             boolean isOwner = networkSystem.getOwner(entity) == this;
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, addedComponents.get(netId), dirtyComponents.get(netId), removedComponents.get(netId),
-                    new ServerComponentFieldCheck(isOwner, false));
-            if (entityData != null) {
-                message.addUpdateEntity(NetData.UpdateEntityMessage.newBuilder().setEntity(entityData).setNetId(netId));
-            }
+            netTick.dirtyNetIds.add(netId);
+            netTick.dirtyEntities.add(networkSystem.getEntityDeltaCache().prepare(entitySerializer, netId, entity, isOwner,
+                    addedComponents.get(netId), dirtyComponents.get(netId), removedComponents.get(netId)));
         }
         netDirty.clear();
         addedComponents.clear();
@@ -477,7 +587,7 @@ private void sendRemovedEntities(NetData.NetMessage.Builder message) {
         netRemoved.clear();
     }
 
-    private void sendInitialEntities(NetData.NetMessage.Builder message) {
+    private void sendInitialEntities(NetTickMessage netTick) {
         int[] initial = netInitial.toArray();
         netInitial.clear();
         Arrays.sort(initial);
@@ -490,13 +600,14 @@ private void sendInitialEntities(NetData.NetMessage.Builder message) {
             }
             // Note: Send owner->server fields on initial create
             Client owner = networkSystem.getOwner(entity);
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, true, new ServerComponentFieldCheck(owner == this, true)).build();
-            NetData.CreateEntityMessage.Builder createMessage = NetData.CreateEntityMessage.newBuilder().setEntity(entityData);
+            List<Component> components = entitySerializer.copyComponents(entity);
+            InitialEntity initialEntity = new InitialEntity(entity.getParentPrefab(), components,
+                    entitySerializer.snapshotEntityRefs(components), owner == this);
             BlockComponent blockComponent = entity.getComponent(BlockComponent.class);
             if (blockComponent != null) {
-                createMessage.setBlockPos(NetMessageUtil.convert(blockComponent.getPosition()));
+                initialEntity.blockPos = NetMessageUtil.convert(blockComponent.getPosition());
             }
-            message.addCreateEntity(createMessage);
+            netTick.initialEntities.add(initialEntity);
         }
 
     }
@@ -556,9 +667,80 @@ public void setViewDistanceMode(ViewDistance distanceMode) {
         this.viewDistance = distanceMode;
     }
 
+    /**
+     * @return the compression codec agreed on with the client, used once the join is complete
+     */
+    public CompressionCodec getCompression() {
+        return compression;
+    }
+
+    void setCompression(CompressionCodec compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * @param chunkBlockChangesSupported whether the client understands block changes grouped per chunk
+     */
+    void setChunkBlockChangesSupported(boolean chunkBlockChangesSupported) {
+        this.chunkBlockChangesSupported = chunkBlockChangesSupported;
+    }
+
+    /**
+     * Sends the join complete message, which tells the client about the agreed compression codec, and uses that codec
+     * for all following messages.
+     */
+    void sendJoinComplete(int clientId) {
+        NetData.JoinCompleteMessage.Builder joinComplete = NetData.JoinCompleteMessage.newBuilder().setClientId(clientId);
+        if (compression != CompressionCodec.DEFLATE) {
+            joinComplete.setCompression(compression.name());
+        }
+        send(NetData.NetMessage.newBuilder().setJoinComplete(joinComplete).build());
+        if (compression != CompressionCodec.DEFLATE) {
+            channel.getPipeline().replace(CompressionEncoder.NAME, CompressionEncoder.NAME, new CompressionEncoder(compression));
+        }
+    }
+
     public void blockFamilyRegistered(BlockFamily family) {
         synchronized (newlyRegisteredFamilies) {
             newlyRegisteredFamilies.add(family);
         }
     }
+
+    /**
+     * The message of a net tick, holding everything that needs the entity system, while the entity copies are still to
+     * be serialized and the chunks to be encoded.
+     */
+    static final class NetTickMessage {
+        private final NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder();
+        private final List<InitialEntity> initialEntities = Lists.newArrayList();
+        private final TIntList dirtyNetIds = new TIntArrayList();
+        private final List<EntityDeltaCache.EntityDelta> dirtyEntities = Lists.newArrayList();
+        private final List<Chunk> chunks = Lists.newArrayList();
+        private String clientName;
+
+        /**
+         * @return the message as prepared so far, without the entities and chunks that are added when it is sent
+         */
+        NetData.NetMessage.Builder getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * A copy of an entity the client is told about for the first time.
+     */
+    private static final class InitialEntity {
+        private final Prefab prefab;
+        private final List<Component> components;
+        private final EntityRefSnapshot entityRefs;
+        private final boolean owned;
+        private NetData.Vector3iData blockPos;
+
+        private InitialEntity(Prefab prefab, List<Component> components, EntityRefSnapshot entityRefs, boolean owned) {
+            this.prefab = prefab;
+            this.components = components;
+            this.entityRefs = entityRefs;
+            this.owned = owned;
+        }
+    }
 }
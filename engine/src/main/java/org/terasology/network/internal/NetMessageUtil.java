@@ -18,8 +18,10 @@
 
 import com.google.protobuf.ByteString;
 import org.terasology.identity.PublicIdentityCertificate;
+import org.terasology.math.ChunkMath;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.protobuf.NetData;
+import org.terasology.world.chunks.ChunkConstants;
 
 import java.math.BigInteger;
 
@@ -39,6 +41,24 @@ public static NetData.Vector3iData convert(Vector3i data) {
         return NetData.Vector3iData.newBuilder().setX(data.x).setY(data.y).setZ(data.z).build();
     }
 
+    /**
+     * @param worldPos the world position of a block
+     * @return the index of the block within its chunk, as used by {@link NetData.ChunkBlockChangesMessage}
+     */
+    public static int calcBlockIndex(Vector3i worldPos) {
+        return ChunkMath.calcBlockPosX(worldPos.x)
+                + ChunkConstants.SIZE_X * (ChunkMath.calcBlockPosY(worldPos.y) + ChunkConstants.SIZE_Y * ChunkMath.calcBlockPosZ(worldPos.z));
+    }
+
+    /**
+     * @return the world position of the block with the given index in the chunk, see {@link #calcBlockIndex(Vector3i)}
+     */
+    public static Vector3i calcWorldPos(Vector3i chunkPos, int blockIndex) {
+        return new Vector3i(chunkPos.x * ChunkConstants.SIZE_X + blockIndex % ChunkConstants.SIZE_X,
+                chunkPos.y * ChunkConstants.SIZE_Y + blockIndex / ChunkConstants.SIZE_X % ChunkConstants.SIZE_Y,
+                chunkPos.z * ChunkConstants.SIZE_Z + blockIndex / (ChunkConstants.SIZE_X * ChunkConstants.SIZE_Y));
+    }
+
     public static NetData.Certificate convert(PublicIdentityCertificate data) {
         return NetData.Certificate.newBuilder()
                 .setId(data.getId())
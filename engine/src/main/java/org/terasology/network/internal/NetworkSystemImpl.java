@@ -106,6 +106,9 @@
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 /**
  * Implementation of the Network System using Netty and TCP/IP
@@ -116,6 +119,8 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private static final int OWNER_DEPTH_LIMIT = 50;
     private static final int NET_TICK_RATE = 50;
     private static final int NULL_NET_ID = 0;
+    private static final String NET_TICK_TIME_STATISTIC = "Network: Net Tick Messages (ms)";
+    private static final String SLOWEST_NET_TICK_STATISTIC = "Network: Slowest Message Build Time (ms)";
 
     // Shared
     private Context context;
@@ -150,6 +155,9 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private Map<EntityRef, EntityRef> ownerLookup = Maps.newHashMap();
     private SetMultimap<EntityRef, EntityRef> ownedLookup = HashMultimap.create();
     private StorageManager storageManager;
+    private final EncodedChunkCache encodedChunkCache = new EncodedChunkCache();
+    private final EntityDeltaCache entityDeltaCache = new EntityDeltaCache();
+    private ForkJoinPool clientUpdatePool;
 
     // Client only
     private ServerImpl server;
@@ -172,6 +180,13 @@ public void host(int port, boolean dedicatedServer) throws HostingFailedExceptio
                     registerNetworkEntity(entity);
                 }
                 generateSerializationTables();
+                if (config.getClientUpdateThreads() > 0) {
+                    clientUpdatePool = new ForkJoinPool(config.getClientUpdateThreads(), pool -> {
+                        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                        thread.setName("Client-Update-" + thread.getPoolIndex());
+                        return thread;
+                    }, null, false);
+                }
 
                 factory = new NioServerSocketChannelFactory(Executors.newCachedThreadPool(), Executors.newCachedThreadPool());
                 ServerBootstrap bootstrap = new ServerBootstrap(factory);
@@ -263,6 +278,10 @@ public void shutdown() {
         }
         processPendingDisconnects();
         clientList.forEach(this::processRemovedClient);
+        if (clientUpdatePool != null) {
+            clientUpdatePool.shutdown();
+            clientUpdatePool = null;
+        }
         server = null;
         nextNetId = 1;
         netIdToEntityId.clear();
@@ -290,6 +309,8 @@ public void shutdown() {
         ownedLookup.clear();
         ownershipHelper = null;
         storageManager = null;
+        encodedChunkCache.clear();
+        entityDeltaCache.clear();
         logger.info("Network shutdown");
     }
 
@@ -315,9 +336,16 @@ public void update() {
                     netTick = true;
                 }
                 PerformanceMonitor.startActivity("Client update");
-                for (Client client : clientList) {
-                    client.update(netTick);
+                if (netTick && clientUpdatePool != null) {
+                    updateClientsInParallel();
+                } else if (netTick) {
+                    updateClients();
+                } else {
+                    for (Client client : clientList) {
+                        client.update(false);
+                    }
                 }
+                entityDeltaCache.clear();
                 PerformanceMonitor.endActivity();
                 if (server != null) {
                     server.update(netTick);
@@ -326,6 +354,68 @@ public void update() {
         }
     }
 
+    /**
+     * Sends the net tick messages of all clients before any of the messages they sent are processed, as processing
+     * them changes entities and would make the entity updates shared between the clients of this tick stale.
+     */
+    private void updateClients() {
+        long startTime = System.nanoTime();
+        double slowestBuildTime = 0;
+        for (Client client : clientList) {
+            if (client instanceof NetClient) {
+                NetClient netClient = (NetClient) client;
+                slowestBuildTime = Math.max(slowestBuildTime, netClient.sendNetTick(netClient.prepareNetTick()));
+            } else {
+                client.update(true);
+            }
+        }
+        PerformanceMonitor.recordStatistic(NET_TICK_TIME_STATISTIC, (System.nanoTime() - startTime) / 1000000.0);
+        PerformanceMonitor.recordStatistic(SLOWEST_NET_TICK_STATISTIC, slowestBuildTime);
+        for (NetClient netClient : netClientList) {
+            netClient.update(false);
+        }
+    }
+
+    /**
+     * Prepares the net tick messages of all remote clients on the main thread, copying the entity data they need, and
+     * then serializes, encodes and sends the messages on the client update pool. The main thread waits for all
+     * messages to be sent, so the clients are not accessed concurrently after this returns. Each client records how
+     * long its message took to build, next to the slowest of them and the time of the whole net tick.
+     */
+    private void updateClientsInParallel() {
+        long startTime = System.nanoTime();
+        List<NetClient> netTickClients = Lists.newArrayListWithCapacity(netClientList.size());
+        List<NetClient.NetTickMessage> netTickMessages = Lists.newArrayListWithCapacity(netClientList.size());
+        for (Client client : clientList) {
+            if (client instanceof NetClient) {
+                NetClient netClient = (NetClient) client;
+                netTickClients.add(netClient);
+                netTickMessages.add(netClient.prepareNetTick());
+            } else {
+                client.update(true);
+            }
+        }
+        List<ForkJoinTask<Double>> netTicks = Lists.newArrayListWithCapacity(netTickClients.size());
+        for (int i = 0; i < netTickClients.size(); ++i) {
+            NetClient netClient = netTickClients.get(i);
+            NetClient.NetTickMessage netTick = netTickMessages.get(i);
+            netTicks.add(clientUpdatePool.submit(() -> netClient.sendNetTick(netTick)));
+        }
+        double slowestBuildTime = 0;
+        for (ForkJoinTask<Double> netTick : netTicks) {
+            try {
+                slowestBuildTime = Math.max(slowestBuildTime, netTick.join());
+            } catch (RuntimeException e) {
+                logger.error("Failed to send net tick message", e);
+            }
+        }
+        PerformanceMonitor.recordStatistic(NET_TICK_TIME_STATISTIC, (System.nanoTime() - startTime) / 1000000.0);
+        PerformanceMonitor.recordStatistic(SLOWEST_NET_TICK_STATISTIC, slowestBuildTime);
+        for (NetClient netClient : netClientList) {
+            netClient.update(false);
+        }
+    }
+
     private void processPendingDisconnects() {
         if (!disconnectedClients.isEmpty()) {
             List<NetClient> removedPlayers = Lists.newArrayListWithExpectedSize(disconnectedClients.size());
@@ -371,6 +461,14 @@ NetClient getNetOwner(EntityRef entity) {
         return null;
     }
 
+    EncodedChunkCache getEncodedChunkCache() {
+        return encodedChunkCache;
+    }
+
+    EntityDeltaCache getEntityDeltaCache() {
+        return entityDeltaCache;
+    }
+
     public int getBandwidthPerClient() {
         if (netClientList.size() > 0) {
             return config.getUpstreamBandwidth() / netClientList.size();
@@ -540,7 +638,7 @@ public void connectToEntitySystem(EngineEntityManager newEntityManager, EventLib
         context.get(ComponentSystemManager.class).register(new NetworkEntitySystem(this), "engine:networkEntitySystem");
 
         TypeSerializationLibrary typeSerializationLibrary = new TypeSerializationLibrary(entityManager.getTypeSerializerLibrary());
-        typeSerializationLibrary.add(EntityRef.class, new NetEntityRefTypeHandler(this, blockEntityRegistry));
+        typeSerializationLibrary.add(EntityRef.class, new NetEntityRefTypeHandler(this, newEntityManager, blockEntityRegistry));
         // TODO: Add network override types here (that use id lookup tables)
 
         eventSerializer = new EventSerializer(eventLibrary, typeSerializationLibrary);
@@ -562,6 +660,7 @@ public void onEntityComponentAdded(EntityRef entity, Class<? extends Component>
         ComponentMetadata<? extends Component> metadata = componentLibrary.getMetadata(component);
         NetworkComponent netComp = entity.getComponent(NetworkComponent.class);
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
+            entityDeltaCache.invalidate(netComp.getNetworkId());
             if (mode.isServer()) {
                 if (metadata.isReplicated()) {
                     for (NetClient client : netClientList) {
@@ -579,6 +678,7 @@ public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component
         ComponentMetadata<? extends Component> metadata = componentLibrary.getMetadata(component);
         NetworkComponent netComp = entity.getComponent(NetworkComponent.class);
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
+            entityDeltaCache.invalidate(netComp.getNetworkId());
             if (mode.isServer()) {
                 if (metadata.isReplicated()) {
                     for (NetClient client : netClientList) {
@@ -608,6 +708,7 @@ public void onEntityComponentChange(EntityRef entity, Class<? extends Component>
         NetworkComponent netComp = entity.getComponent(NetworkComponent.class);
         ComponentMetadata<? extends Component> metadata = componentLibrary.getMetadata(component);
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
+            entityDeltaCache.invalidate(netComp.getNetworkId());
             switch (mode) {
                 case LISTEN_SERVER:
                 case DEDICATED_SERVER:
@@ -799,8 +900,7 @@ private void processNewClient(NetClient client) {
         client.connected(entityManager, entitySerializer, eventSerializer, eventLibrary);
         // log after connect so that the name has been set:
         logger.info("New client connected: {}", client.getName());
-        client.send(NetData.NetMessage.newBuilder().setJoinComplete(
-                NetData.JoinCompleteMessage.newBuilder().setClientId(client.getEntity().getComponent(NetworkComponent.class).getNetworkId())).build());
+        client.sendJoinComplete(client.getEntity().getComponent(NetworkComponent.class).getNetworkId());
         clientList.add(client);
         netClientList.add(client);
         clientPlayerLookup.put(client.getEntity(), client);
@@ -23,6 +23,7 @@
 import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.terasology.config.Config;
 import org.terasology.engine.module.ModuleManager;
 import org.terasology.identity.PublicIdentityCertificate;
 import org.terasology.module.Module;
@@ -31,6 +32,7 @@
 import org.terasology.registry.CoreRegistry;
 import org.terasology.rendering.nui.Color;
 import org.terasology.rendering.world.viewDistance.ViewDistance;
+import org.terasology.utilities.compression.CompressionCodec;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
@@ -132,6 +134,11 @@ private void receivedConnect(NetData.JoinMessage message) {
         client.setPreferredName(message.getName());
         client.setColor(new Color(message.getColor().getRgba()));
         client.setViewDistanceMode(ViewDistance.forIndex(message.getViewDistanceLevel()));
+        CompressionCodec compression = CoreRegistry.get(Config.class).getNetwork().getCompression();
+        if (message.getCompressionList().contains(compression.name())) {
+            client.setCompression(compression);
+        }
+        client.setChunkBlockChangesSupported(message.getChunkBlockChanges());
         channelHandlerContext.getPipeline().remove(this);
         serverHandler.connectionComplete(client);
     }
@@ -99,6 +99,7 @@ public class ServerImpl implements Server {
     private TIntSet netDirty = new TIntHashSet();
     private SetMultimap<Integer, Class<? extends Component>> changedComponents = HashMultimap.create();
     private ListMultimap<Vector3i, NetData.BlockChangeMessage> awaitingChunkReadyBlockUpdates = ArrayListMultimap.create();
+    private ListMultimap<Vector3i, NetData.ChunkBlockChangesMessage> awaitingChunkReadyChunkBlockUpdates = ArrayListMultimap.create();
     private ListMultimap<Vector3i, NetData.BiomeChangeMessage> awaitingChunkReadyBiomeUpdates = ArrayListMultimap.create();
 
     private EngineTime time;
@@ -267,6 +268,7 @@ private void processMessages() {
             processReceivedChunks(message);
             processInvalidatedChunks(message);
             processBlockChanges(message);
+            processChunkBlockChanges(message);
             processBiomeChanges(message);
             processRemoveEntities(message);
             message.getCreateEntityList().forEach(this::createEntityMessage);
@@ -308,6 +310,28 @@ private void processBlockChanges(NetData.NetMessage message) {
         }
     }
 
+    private void processChunkBlockChanges(NetData.NetMessage message) {
+        WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
+        for (NetData.ChunkBlockChangesMessage chunkBlockChanges : message.getChunkBlockChangesList()) {
+            Vector3i chunkPos = NetMessageUtil.convert(chunkBlockChanges.getChunkPos());
+            logger.debug("Received {} block changes in chunk {}", chunkBlockChanges.getBlockIndexCount(), chunkPos);
+            if (worldProvider.isBlockRelevant(NetMessageUtil.calcWorldPos(chunkPos, 0))) {
+                applyChunkBlockChanges(worldProvider, chunkPos, chunkBlockChanges);
+            } else {
+                awaitingChunkReadyChunkBlockUpdates.put(chunkPos, chunkBlockChanges);
+            }
+        }
+    }
+
+    private void applyChunkBlockChanges(WorldProvider worldProvider, Vector3i chunkPos, NetData.ChunkBlockChangesMessage chunkBlockChanges) {
+        Map<Vector3i, Block> blocks = Maps.newHashMapWithExpectedSize(chunkBlockChanges.getBlockIndexCount());
+        for (int i = 0; i < chunkBlockChanges.getBlockIndexCount(); ++i) {
+            Vector3i pos = NetMessageUtil.calcWorldPos(chunkPos, chunkBlockChanges.getBlockIndex(i));
+            blocks.put(pos, blockManager.getBlock((short) chunkBlockChanges.getNewBlock(i)));
+        }
+        worldProvider.setBlocks(blocks);
+    }
+
     private void processBiomeChanges(NetData.NetMessage message) {
         for (NetData.BiomeChangeMessage biomeChange : message.getBiomeChangeList()) {
             logger.debug("Received block change to {}", blockManager.getBlock((short) biomeChange.getNewBiome()));
@@ -328,6 +352,7 @@ private void processInvalidatedChunks(NetData.NetMessage message) {
             Vector3i chunkPos = NetMessageUtil.convert(chunk.getPos());
             remoteWorldProvider.invalidateChunks(chunkPos);
             awaitingChunkReadyBlockUpdates.removeAll(chunkPos);
+            awaitingChunkReadyChunkBlockUpdates.removeAll(chunkPos);
             awaitingChunkReadyBiomeUpdates.removeAll(chunkPos);
         }
     }
@@ -418,6 +443,10 @@ public void onChunkReady(Vector3i chunkPos) {
             worldProvider.setBlock(pos, newBlock);
         }
 
+        for (NetData.ChunkBlockChangesMessage message : awaitingChunkReadyChunkBlockUpdates.removeAll(chunkPos)) {
+            applyChunkBlockChanges(worldProvider, chunkPos, message);
+        }
+
         List<NetData.BiomeChangeMessage> updateBiomeMessages = awaitingChunkReadyBiomeUpdates.removeAll(chunkPos);
         for (NetData.BiomeChangeMessage message : updateBiomeMessages) {
             Vector3i pos = NetMessageUtil.convert(message.getPos());
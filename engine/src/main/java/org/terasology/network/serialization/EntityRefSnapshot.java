@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.serialization;
+
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.network.NetworkComponent;
+import org.terasology.persistence.typeHandling.PersistedData;
+import org.terasology.persistence.typeHandling.SerializationContext;
+import org.terasology.world.block.BlockComponent;
+
+/**
+ * The network encoding of the entities referenced by a set of copied components, resolved on the main thread so that
+ * the copies can be serialized on another thread without reading the entity manager.
+ *
+ * @see NetEntityRefTypeHandler#serializeWith(EntityRefSnapshot, java.util.function.Supplier)
+ */
+public final class EntityRefSnapshot {
+    private final TLongObjectMap<Vector3i> blockPositions = new TLongObjectHashMap<>();
+    private final TLongIntMap netIds = new TLongIntHashMap();
+
+    /**
+     * Resolves a referenced entity to its block position or network id. Must be called from the main thread.
+     */
+    public void add(EntityRef ref, EngineEntityManager entityManager) {
+        long id = ref.getId();
+        if (blockPositions.containsKey(id) || netIds.containsKey(id)) {
+            return;
+        }
+        BlockComponent blockComponent = entityManager.getComponentForReading(id, BlockComponent.class);
+        if (blockComponent != null) {
+            blockPositions.put(id, new Vector3i(blockComponent.getPosition()));
+            return;
+        }
+        NetworkComponent netComponent = entityManager.getComponentForReading(id, NetworkComponent.class);
+        if (netComponent != null) {
+            netIds.put(id, netComponent.getNetworkId());
+        }
+    }
+
+    PersistedData serialize(EntityRef ref, SerializationContext context) {
+        long id = ref.getId();
+        Vector3i pos = blockPositions.get(id);
+        if (pos != null) {
+            return context.create(pos.x, pos.y, pos.z);
+        }
+        if (netIds.containsKey(id)) {
+            return context.create(netIds.get(id));
+        }
+        return context.createNull();
+    }
+}
@@ -19,6 +19,7 @@
 import com.google.common.collect.Lists;
 import gnu.trove.list.TIntList;
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.network.NetworkComponent;
 import org.terasology.network.internal.NetworkSystemImpl;
@@ -32,29 +33,56 @@
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * This type handler encodes EntityRef for network transferals. For normal entities, the Network Id of the entity is used.
  * For block entities the block position is used instead (this allows overriding simulated block entities).
+ * <br><br>
+ * Components serialized off the main thread must have their references resolved beforehand into an
+ * {@link EntityRefSnapshot}, which is then used instead of the entity manager by {@link #serializeWith}.
  *
  */
 public class NetEntityRefTypeHandler implements TypeHandler<EntityRef> {
+    private static final ThreadLocal<EntityRefSnapshot> SNAPSHOT = new ThreadLocal<>();
+
     private NetworkSystemImpl networkSystem;
+    private EngineEntityManager entityManager;
     private BlockEntityRegistry blockEntityRegistry;
 
-    public NetEntityRefTypeHandler(NetworkSystemImpl networkSystem, BlockEntityRegistry blockEntityRegistry) {
+    public NetEntityRefTypeHandler(NetworkSystemImpl networkSystem, EngineEntityManager entityManager, BlockEntityRegistry blockEntityRegistry) {
         this.networkSystem = networkSystem;
+        this.entityManager = entityManager;
         this.blockEntityRegistry = blockEntityRegistry;
     }
 
+    /**
+     * Runs a serialization on the current thread, encoding entity references from the given snapshot.
+     *
+     * @param snapshot the resolved references, or null to read the entity manager
+     */
+    public static <T> T serializeWith(EntityRefSnapshot snapshot, Supplier<T> serialization) {
+        EntityRefSnapshot previous = SNAPSHOT.get();
+        SNAPSHOT.set(snapshot);
+        try {
+            return serialization.get();
+        } finally {
+            SNAPSHOT.set(previous);
+        }
+    }
+
     @Override
     public PersistedData serialize(EntityRef value, SerializationContext context) {
-        BlockComponent blockComponent = value.getComponent(BlockComponent.class);
+        EntityRefSnapshot snapshot = SNAPSHOT.get();
+        if (snapshot != null) {
+            return snapshot.serialize(value, context);
+        }
+        BlockComponent blockComponent = entityManager.getComponentForReading(value.getId(), BlockComponent.class);
         if (blockComponent != null) {
             Vector3i pos = blockComponent.getPosition();
             return context.create(pos.x, pos.y, pos.z);
         }
-        NetworkComponent netComponent = value.getComponent(NetworkComponent.class);
+        NetworkComponent netComponent = entityManager.getComponentForReading(value.getId(), NetworkComponent.class);
         if (netComponent != null) {
             return context.create(netComponent.getNetworkId());
         }
@@ -80,13 +108,18 @@ public EntityRef deserialize(PersistedData data, DeserializationContext context)
     @Override
     public PersistedData serializeCollection(Collection<EntityRef> value, SerializationContext context) {
         List<PersistedData> items = Lists.newArrayList();
+        EntityRefSnapshot snapshot = SNAPSHOT.get();
         for (EntityRef ref : value) {
-            BlockComponent blockComponent = ref.getComponent(BlockComponent.class);
+            if (snapshot != null) {
+                items.add(snapshot.serialize(ref, context));
+                continue;
+            }
+            BlockComponent blockComponent = entityManager.getComponentForReading(ref.getId(), BlockComponent.class);
             if (blockComponent != null) {
                 Vector3i blockPos = blockComponent.getPosition();
                 items.add(context.create(blockPos.x, blockPos.y, blockPos.z));
             } else {
-                NetworkComponent netComponent = ref.getComponent(NetworkComponent.class);
+                NetworkComponent netComponent = entityManager.getComponentForReading(ref.getId(), NetworkComponent.class);
                 if (netComponent != null) {
                     items.add(context.create(netComponent.getNetworkId()));
                 } else {
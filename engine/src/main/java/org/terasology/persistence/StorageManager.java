@@ -52,6 +52,13 @@ public interface StorageManager {
      */
     ChunkStore loadChunkStore(Vector3i chunkPos);
 
+    /**
+     * Checks whether a chunk has been stored, without reading and decoding it like {@link #loadChunkStore(Vector3i)}.
+     *
+     * @param chunkPos
+     */
+    boolean hasChunkStore(Vector3i chunkPos);
+
     void finishSavingAndShutdown();
 
     /**
@@ -16,6 +16,9 @@
 
 package org.terasology.persistence.internal;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,21 +35,23 @@
 import org.terasology.persistence.StorageManager;
 import org.terasology.persistence.serializers.PrefabSerializer;
 import org.terasology.protobuf.EntityData;
+import org.terasology.utilities.compression.CompressionCodec;
 import org.terasology.world.biomes.BiomeManager;
 import org.terasology.world.block.BlockManager;
 import org.terasology.world.chunks.Chunk;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.ClosedChannelException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 /**
  * An abstract implementation of {@link StorageManager} that is able
@@ -56,6 +61,7 @@
 public abstract class AbstractStorageManager implements StorageManager {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractStorageManager.class);
+    private static final int MAX_OPEN_REGION_FILES = 64;
 
     private final StoragePathProvider storagePathProvider;
     private final BlockManager blockManager;
@@ -66,13 +72,29 @@ public abstract class AbstractStorageManager implements StorageManager {
     private final PrefabSerializer prefabSerializer;
     private final OwnershipHelper helper;
 
-    private boolean storeChunksInZips = true;
+    private ChunkStorageLayout chunkStorageLayout;
+
+    /**
+     * Open readers of the recently used region files, or empty if a region has not been saved yet.
+     */
+    private final Cache<Vector3i, Optional<RegionFileReader>> regionFileReaders = CacheBuilder.newBuilder()
+            .maximumSize(MAX_OPEN_REGION_FILES)
+            .removalListener((RemovalNotification<Vector3i, Optional<RegionFileReader>> notification) ->
+                    notification.getValue().ifPresent(AbstractStorageManager::closeRegionFileReader))
+            .build();
 
     public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, BiomeManager biomeManager, boolean storeChunksInZips) {
+        this(savePath, environment, entityManager, blockManager, biomeManager,
+                storeChunksInZips ? ChunkStorageLayout.ZIPS : ChunkStorageLayout.FILES);
+    }
+
+    public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                  BlockManager blockManager, BiomeManager biomeManager,
+                                  ChunkStorageLayout chunkStorageLayout) {
         this.entityManager = entityManager;
         this.environment = environment;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageLayout = chunkStorageLayout;
         this.prefabSerializer = new PrefabSerializer(entityManager.getComponentLibrary(), entityManager.getTypeSerializerLibrary());
         this.blockManager = blockManager;
         this.biomeManager = biomeManager;
@@ -87,6 +109,7 @@ public void loadGlobalStore() throws IOException {
         if (Files.isRegularFile(globalDataFile)) {
             try (InputStream in = new BufferedInputStream(Files.newInputStream(globalDataFile))) {
                 EntityData.GlobalStore store = EntityData.GlobalStore.parseFrom(in);
+                store = GlobalStoreJournal.replay(store, storagePathProvider.getGlobalEntityJournalPath());
                 GlobalStoreLoader loader = new GlobalStoreLoader(environment, entityManager, prefabSerializer);
                 loader.load(store);
             }
@@ -107,9 +130,8 @@ public ChunkStore loadChunkStore(Vector3i chunkPos) {
         byte[] chunkData = loadCompressedChunk(chunkPos);
         ChunkStore store = null;
         if (chunkData != null) {
-            ByteArrayInputStream bais = new ByteArrayInputStream(chunkData);
-            try (GZIPInputStream gzipIn = new GZIPInputStream(bais)) {
-                EntityData.ChunkStore storeData = EntityData.ChunkStore.parseFrom(gzipIn);
+            try {
+                EntityData.ChunkStore storeData = EntityData.ChunkStore.parseFrom(CompressionCodec.decompress(chunkData));
                 store = new ChunkStoreInternal(storeData, entityManager, blockManager, biomeManager);
             } catch (IOException e) {
                 logger.error("Failed to read existing saved chunk {}", chunkPos);
@@ -118,6 +140,41 @@ public ChunkStore loadChunkStore(Vector3i chunkPos) {
         return store;
     }
 
+    @Override
+    public boolean hasChunkStore(Vector3i chunkPos) {
+        switch (chunkStorageLayout) {
+            case REGION_FILES:
+                return containsChunkInRegionFile(chunkPos) || containsChunkZip(chunkPos);
+            case ZIPS:
+                return containsChunkZip(chunkPos);
+            default:
+                return Files.isRegularFile(storagePathProvider.getChunkPath(chunkPos));
+        }
+    }
+
+    private boolean containsChunkZip(Vector3i chunkPos) {
+        Path chunkPath = storagePathProvider.getChunkZipPath(storagePathProvider.getChunkZipPosition(chunkPos));
+        if (Files.isRegularFile(chunkPath)) {
+            try (FileSystem chunkZip = FileSystems.newFileSystem(chunkPath, null)) {
+                return Files.isRegularFile(chunkZip.getPath(storagePathProvider.getChunkFilename(chunkPos)));
+            } catch (IOException e) {
+                logger.error("Failed to open chunk zip {}", chunkPath, e);
+            }
+        }
+        return false;
+    }
+
+    private boolean containsChunkInRegionFile(Vector3i chunkPos) {
+        Vector3i regionPos = RegionFile.getRegionPosition(chunkPos);
+        try {
+            RegionFileReader reader = getRegionFileReader(regionPos);
+            return reader != null && reader.contains(chunkPos);
+        } catch (IOException e) {
+            logger.error("Failed to open region {}", regionPos, e);
+            return false;
+        }
+    }
+
     protected byte[] loadChunkZip(Vector3i chunkPos) {
         byte[] chunkData = null;
         Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(chunkPos);
@@ -135,36 +192,100 @@ protected byte[] loadChunkZip(Vector3i chunkPos) {
         return chunkData;
     }
 
+    protected byte[] loadChunkFromRegionFile(Vector3i chunkPos) {
+        Vector3i regionPos = RegionFile.getRegionPosition(chunkPos);
+        try {
+            RegionFileReader reader = getRegionFileReader(regionPos);
+            if (reader == null) {
+                return null;
+            }
+            try {
+                return reader.read(chunkPos);
+            } catch (ClosedChannelException e) {
+                // The reader got evicted, or another reading thread got interrupted, so read with a new one
+                regionFileReaders.asMap().remove(regionPos, Optional.of(reader));
+                reader = getRegionFileReader(regionPos);
+                return (reader != null) ? reader.read(chunkPos) : null;
+            }
+        } catch (IOException e) {
+            logger.error("Failed to load chunk {} from region {}", chunkPos, regionPos, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return a reader of the region file, or null if the region has not been saved yet
+     */
+    protected RegionFileReader getRegionFileReader(Vector3i regionPos) throws IOException {
+        try {
+            return regionFileReaders.get(regionPos, () -> Optional.ofNullable(RegionFileReader.open(
+                    storagePathProvider.getChunkRegionPath(regionPos), storagePathProvider.getChunkRegionIndexPath(regionPos))))
+                    .orElse(null);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to open region " + regionPos, e.getCause());
+        }
+    }
+
+    /**
+     * Closes the readers of all region files, so that chunks get read with the current region indexes. Must not be
+     * called while chunks are being read.
+     */
+    protected void closeRegionFileReaders() {
+        regionFileReaders.invalidateAll();
+    }
+
+    private static void closeRegionFileReader(RegionFileReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close region file", e);
+        }
+    }
+
     @Override
     public void update() {
     }
 
     public boolean isStoreChunksInZips() {
-        return storeChunksInZips;
+        return chunkStorageLayout == ChunkStorageLayout.ZIPS;
     }
 
     /**
      * For tests only
      */
     void setStoreChunksInZips(boolean storeChunksInZips) {
-        this.storeChunksInZips = storeChunksInZips;
+        setChunkStorageLayout(storeChunksInZips ? ChunkStorageLayout.ZIPS : ChunkStorageLayout.FILES);
+    }
+
+    public ChunkStorageLayout getChunkStorageLayout() {
+        return chunkStorageLayout;
+    }
+
+    /**
+     * For tests only
+     */
+    void setChunkStorageLayout(ChunkStorageLayout chunkStorageLayout) {
+        this.chunkStorageLayout = chunkStorageLayout;
     }
 
     protected byte[] loadCompressedChunk(Vector3i chunkPos) {
-        if (isStoreChunksInZips()) {
-            return loadChunkZip(chunkPos);
-        } else {
-            Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
-            if (Files.isRegularFile(chunkPath)) {
-                try {
-                    return Files.readAllBytes(chunkPath);
-                } catch (IOException e) {
-                    logger.error("Failed to load chunk {}", chunkPos, e);
+        switch (chunkStorageLayout) {
+            case REGION_FILES:
+                byte[] chunkData = loadChunkFromRegionFile(chunkPos);
+                return (chunkData != null) ? chunkData : loadChunkZip(chunkPos);
+            case ZIPS:
+                return loadChunkZip(chunkPos);
+            default:
+                Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
+                if (Files.isRegularFile(chunkPath)) {
+                    try {
+                        return Files.readAllBytes(chunkPath);
+                    } catch (IOException e) {
+                        logger.error("Failed to load chunk {}", chunkPos, e);
+                    }
                 }
-            }
+                return null;
         }
-
-        return null;
     }
 
     protected EntityData.PlayerStore loadPlayerStoreData(String playerId) {
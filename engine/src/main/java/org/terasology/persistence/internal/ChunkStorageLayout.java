@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+/**
+ * The ways the chunks of a save game can be laid out on disk.
+ */
+public enum ChunkStorageLayout {
+    /**
+     * One file per chunk.
+     */
+    FILES,
+
+    /**
+     * One zip file per 32x32x32 chunks, with one entry per chunk.
+     */
+    ZIPS,
+
+    /**
+     * One {@link RegionFile}, a data and an index file, per 16x16x16 chunks. Chunks missing from the region files are read from chunk zips, so
+     * that save games written with {@link #ZIPS} can still be loaded.
+     */
+    REGION_FILES
+}
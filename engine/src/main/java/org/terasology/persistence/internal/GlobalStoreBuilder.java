@@ -25,6 +25,7 @@
 import org.terasology.persistence.serializers.PrefabSerializer;
 import org.terasology.protobuf.EntityData;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +43,22 @@ final class GlobalStoreBuilder {
     }
     
     public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<EntityRef> entities) {
+        return build(entityManager, entities, Collections.emptySet());
+    }
+
+    /**
+     * Builds a record of the {@link GlobalStoreJournal}: a global store with only the given entities, which contains
+     * only the prefabs that are not stored yet.
+     *
+     * @param storedPrefabs the names of the prefabs in the saved global store
+     */
+    public EntityData.GlobalStore buildChanges(EngineEntityManager entityManager, Iterable<EntityRef> changedEntities,
+                                               Set<String> storedPrefabs) {
+        return build(entityManager, changedEntities, storedPrefabs);
+    }
+
+    private EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<EntityRef> entities,
+                                         Set<String> storedPrefabs) {
         EntityData.GlobalStore.Builder store = EntityData.GlobalStore.newBuilder();
 
         Map<Class<? extends Component>, Integer> componentIdTable = Maps.newHashMap();
@@ -57,7 +74,7 @@ public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<
         Set<Prefab> prefabsRequiredForEntityStorage = new HashSet<>();
         for (EntityRef entityRef : entityManager.getAllEntities()) {
             Prefab prefab = entityRef.getParentPrefab();
-            if (prefab != null) {
+            if (prefab != null && !storedPrefabs.contains(prefab.getName())) {
                 prefabsRequiredForEntityStorage.add(prefab);
             }
         }
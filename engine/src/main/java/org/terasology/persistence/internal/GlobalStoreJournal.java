@@ -0,0 +1,352 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.protobuf.EntityData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only journal of changes to the global entity store, so that a save only has to write the entities that
+ * changed since the last save instead of the whole global store.
+ * <br><br>
+ * Each record contains the entities that changed or got added to the global store, in the format of a
+ * {@link EntityData.GlobalStore}, and the ids of the entities that left it. The records get replayed on top of the
+ * global store when it gets loaded. Once the journal grows too large compared to the global store, the next save
+ * writes the complete global store again and starts a new, empty journal.
+ * <br><br>
+ * A save transaction writes its record as a separate file, which gets appended to the journal when the changes get
+ * merged. Records carry a sequence number and a checksum, so merging a record again after an interruption does not
+ * duplicate it and a partially appended record gets discarded.
+ */
+final class GlobalStoreJournal {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalStoreJournal.class);
+
+    /**
+     * The journal gets compacted once it is larger than this size and the given fraction of the global store.
+     */
+    private static final long MIN_COMPACTION_SIZE = 1024 * 1024;
+    private static final double COMPACTION_RATIO = 0.5;
+
+    // Length and checksum of the record data
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MIN_RECORD_LENGTH = Long.BYTES + Integer.BYTES;
+
+    private final StoragePathProvider storagePathProvider;
+
+    /*
+     * The ids of the entities and the names of the prefabs in the saved global store including its journal, or null
+     * if they are not known. Only accessed by the save transactions, which run one after another.
+     */
+    private TLongSet storedEntityIds;
+    private Set<String> storedPrefabs;
+
+    GlobalStoreJournal(StoragePathProvider storagePathProvider) {
+        this.storagePathProvider = storagePathProvider;
+    }
+
+    /**
+     * @return true if the next save should write the complete global store instead of a journal record
+     */
+    boolean isCompactionDue() throws IOException {
+        if (storedEntityIds == null) {
+            return true;
+        }
+        Path journalPath = storagePathProvider.getGlobalEntityJournalPath();
+        Path globalStorePath = storagePathProvider.getGlobalEntityStorePath();
+        if (!Files.isRegularFile(globalStorePath)) {
+            return true;
+        }
+        long journalSize = Files.isRegularFile(journalPath) ? Files.size(journalPath) : 0;
+        return journalSize > Math.max(MIN_COMPACTION_SIZE, Files.size(globalStorePath) * COMPACTION_RATIO);
+    }
+
+    /**
+     * @return the ids of the entities in the saved global store, or null if they are not known and the complete
+     * global store needs to be saved
+     */
+    TLongSet getStoredEntityIds() {
+        return storedEntityIds;
+    }
+
+    /**
+     * @return the names of the prefabs in the saved global store, or null if they are not known
+     */
+    Set<String> getStoredPrefabs() {
+        return storedPrefabs;
+    }
+
+    /**
+     * Must be called once a save transaction got merged into the save game.
+     *
+     * @param entityIds   the ids of the entities in the global store that got saved
+     * @param prefabNames the names of the prefabs in the global store that got saved
+     */
+    void onSaveCompleted(TLongSet entityIds, Set<String> prefabNames) {
+        this.storedEntityIds = entityIds;
+        this.storedPrefabs = prefabNames;
+    }
+
+    /**
+     * Must be called when a save failed, as it is then unknown what the saved global store contains.
+     */
+    void invalidate() {
+        this.storedEntityIds = null;
+        this.storedPrefabs = null;
+    }
+
+    /**
+     * @return the sequence number the next record of the journal must have
+     */
+    long getNextSequence() throws IOException {
+        Path journalPath = storagePathProvider.getGlobalEntityJournalPath();
+        if (!Files.isRegularFile(journalPath)) {
+            return 1;
+        }
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            return scan(channel).lastSequence + 1;
+        }
+    }
+
+    /**
+     * @param sequence        the sequence number of the record, see {@link #getNextSequence()}
+     * @param changes         the entities that changed or got added to the global store, with the prefabs and
+     *                        component classes they need
+     * @param removedEntities the ids of the entities that are no longer part of the global store
+     * @return the record including its header
+     */
+    static byte[] encodeRecord(long sequence, EntityData.GlobalStore changes, TLongSet removedEntities) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeLong(sequence);
+            out.writeInt(removedEntities.size());
+            for (long id : removedEntities.toArray()) {
+                out.writeLong(id);
+            }
+            changes.writeTo(out);
+        } catch (IOException e) {
+            // as no real IO is involved this should not happen
+            throw new RuntimeException(e);
+        }
+        ByteBuffer record = ByteBuffer.wrap(baos.toByteArray());
+        int length = record.capacity() - RECORD_HEADER_SIZE;
+        record.putInt(0, length);
+        record.putInt(Integer.BYTES, checksum(record.array(), RECORD_HEADER_SIZE, length));
+        return record.array();
+    }
+
+    /**
+     * Appends a record written by a save transaction to the journal. Does nothing if the journal already contains the
+     * record, so that an interrupted merge can be repeated.
+     */
+    static void appendRecord(Path journalPath, Path recordPath) throws IOException {
+        byte[] record = Files.readAllBytes(recordPath);
+        long sequence = ByteBuffer.wrap(record).getLong(RECORD_HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ScanResult scanResult = scan(channel);
+            if (scanResult.lastSequence >= sequence) {
+                return;
+            }
+            // Discards the remains of an interrupted append
+            channel.truncate(scanResult.validLength);
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            long position = scanResult.validLength;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Applies the records of the journal to the global store.
+     *
+     * @param globalStore the global store the journal belongs to
+     * @return the global store with the changes of all complete journal records
+     */
+    static EntityData.GlobalStore replay(EntityData.GlobalStore globalStore, Path journalPath) throws IOException {
+        if (!Files.isRegularFile(journalPath)) {
+            return globalStore;
+        }
+        byte[] journal = Files.readAllBytes(journalPath);
+        if (journal.length == 0) {
+            return globalStore;
+        }
+
+        List<String> componentClasses = Lists.newArrayList(globalStore.getComponentClassList());
+        Map<String, Integer> componentClassIndices = Maps.newHashMap();
+        for (int i = 0; i < componentClasses.size(); ++i) {
+            componentClassIndices.put(componentClasses.get(i), i);
+        }
+        Map<String, EntityData.Prefab> prefabs = Maps.newLinkedHashMap();
+        for (EntityData.Prefab prefab : globalStore.getPrefabList()) {
+            prefabs.put(prefab.getName(), prefab);
+        }
+        Map<Long, EntityData.Entity> entities = Maps.newLinkedHashMap();
+        for (EntityData.Entity entity : globalStore.getEntityList()) {
+            entities.put(entity.getId(), entity);
+        }
+        long nextEntityId = globalStore.getNextEntityId();
+
+        ByteBuffer buffer = ByteBuffer.wrap(journal);
+        int recordCount = 0;
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < MIN_RECORD_LENGTH || length > buffer.remaining()
+                    || checksum(journal, start + RECORD_HEADER_SIZE, length) != checksum) {
+                logger.warn("Ignoring the incomplete end of the global store journal at byte {}", start);
+                break;
+            }
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(journal, buffer.position(), length))) {
+                in.readLong();
+                int removedCount = in.readInt();
+                for (int i = 0; i < removedCount; ++i) {
+                    entities.remove(in.readLong());
+                }
+                EntityData.GlobalStore changes = EntityData.GlobalStore.parseFrom(in);
+
+                int[] componentIndexMapping = new int[changes.getComponentClassCount()];
+                for (int i = 0; i < componentIndexMapping.length; ++i) {
+                    String componentClass = changes.getComponentClass(i);
+                    Integer index = componentClassIndices.get(componentClass);
+                    if (index == null) {
+                        index = componentClasses.size();
+                        componentClasses.add(componentClass);
+                        componentClassIndices.put(componentClass, index);
+                    }
+                    componentIndexMapping[i] = index;
+                }
+                for (EntityData.Prefab prefab : changes.getPrefabList()) {
+                    EntityData.Prefab.Builder prefabBuilder = prefab.toBuilder();
+                    for (int i = 0; i < prefabBuilder.getComponentCount(); ++i) {
+                        prefabBuilder.setComponent(i, remapComponent(prefabBuilder.getComponent(i), componentIndexMapping));
+                    }
+                    prefabs.put(prefab.getName(), prefabBuilder.build());
+                }
+                for (EntityData.Entity entity : changes.getEntityList()) {
+                    EntityData.Entity.Builder entityBuilder = entity.toBuilder();
+                    for (int i = 0; i < entityBuilder.getComponentCount(); ++i) {
+                        entityBuilder.setComponent(i, remapComponent(entityBuilder.getComponent(i), componentIndexMapping));
+                    }
+                    entities.put(entity.getId(), entityBuilder.build());
+                }
+                if (changes.hasNextEntityId()) {
+                    nextEntityId = Math.max(nextEntityId, changes.getNextEntityId());
+                }
+            }
+            buffer.position(buffer.position() + length);
+            recordCount++;
+        }
+        logger.info("Replayed {} global store journal records", recordCount);
+
+        return globalStore.toBuilder()
+                .clearComponentClass().addAllComponentClass(componentClasses)
+                .clearPrefab().addAllPrefab(prefabs.values())
+                .clearEntity().addAllEntity(entities.values())
+                .setNextEntityId(nextEntityId)
+                .build();
+    }
+
+    private static EntityData.Component remapComponent(EntityData.Component component, int[] componentIndexMapping) {
+        if (!component.hasTypeIndex() || component.getTypeIndex() < 0
+                || component.getTypeIndex() >= componentIndexMapping.length) {
+            return component;
+        }
+        return component.toBuilder().setTypeIndex(componentIndexMapping[component.getTypeIndex()]).build();
+    }
+
+    /**
+     * Walks over the record headers of the journal. Only the checksum of the last record gets verified, as only the
+     * last append can have been interrupted.
+     */
+    private static ScanResult scan(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE + Long.BYTES);
+        ScanResult result = new ScanResult();
+        long lastRecordStart = -1;
+        long previousSequence = 0;
+        long position = 0;
+        while (position + header.capacity() <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            if (length < MIN_RECORD_LENGTH || position + RECORD_HEADER_SIZE + length > size) {
+                break;
+            }
+            previousSequence = result.lastSequence;
+            result.lastSequence = header.getLong(RECORD_HEADER_SIZE);
+            lastRecordStart = position;
+            position += RECORD_HEADER_SIZE + length;
+        }
+        result.validLength = position;
+
+        if (lastRecordStart >= 0) {
+            ByteBuffer record = ByteBuffer.allocate((int) (position - lastRecordStart));
+            readFully(channel, record, lastRecordStart);
+            int length = record.capacity() - RECORD_HEADER_SIZE;
+            if (checksum(record.array(), RECORD_HEADER_SIZE, length) != record.getInt(Integer.BYTES)) {
+                result.validLength = lastRecordStart;
+                result.lastSequence = previousSequence;
+            }
+        }
+        return result;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long readPosition = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, readPosition);
+            if (read < 0) {
+                throw new IOException("Unexpected end of the global store journal");
+            }
+            readPosition += read;
+        }
+    }
+
+    private static int checksum(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static final class ScanResult {
+        private long validLength;
+        private long lastSequence;
+    }
+}
@@ -36,7 +36,7 @@ public final class ReadOnlyStorageManager extends AbstractStorageManager {
 
     public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, BiomeManager biomeManager) {
-        this(savePath, environment, entityManager, blockManager, biomeManager, true);
+        this(savePath, environment, entityManager, blockManager, biomeManager, ChunkStorageLayout.ZIPS);
     }
 
     public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
@@ -44,6 +44,12 @@ public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, Engi
         super(savePath, environment, entityManager, blockManager, biomeManager, storeChunksInZips);
     }
 
+    public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                  BlockManager blockManager, BiomeManager biomeManager,
+                                  ChunkStorageLayout chunkStorageLayout) {
+        super(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageLayout);
+    }
+
     @Override
     public void finishSavingAndShutdown() {
         // don't care
@@ -79,6 +79,7 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
 
     private final TaskMaster<Task> saveThreadManager;
     private final SaveTransactionHelper saveTransactionHelper;
+    private final GlobalStoreJournal globalStoreJournal;
 
     /**
      * This lock should be hold during read and write operation in the world directory. Currently it is being hold
@@ -116,12 +117,19 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
 
     public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                    BlockManager blockManager, BiomeManager biomeManager) throws IOException {
-        this(savePath, environment, entityManager, blockManager, biomeManager, true);
+        this(savePath, environment, entityManager, blockManager, biomeManager, ChunkStorageLayout.ZIPS);
     }
 
     public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                    BlockManager blockManager, BiomeManager biomeManager, boolean storeChunksInZips) throws IOException {
-        super(savePath, environment, entityManager, blockManager, biomeManager, storeChunksInZips);
+        this(savePath, environment, entityManager, blockManager, biomeManager,
+                storeChunksInZips ? ChunkStorageLayout.ZIPS : ChunkStorageLayout.FILES);
+    }
+
+    public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                   BlockManager blockManager, BiomeManager biomeManager,
+                                   ChunkStorageLayout chunkStorageLayout) throws IOException {
+        super(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageLayout);
 
         entityManager.subscribeForDestruction(this);
         entityManager.subscribeForChanges(this);
@@ -129,6 +137,7 @@ public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, Eng
         this.privateEntityManager = createPrivateEntityManager(entityManager.getComponentLibrary());
         Files.createDirectories(getStoragePathProvider().getStoragePathDirectory());
         this.saveTransactionHelper = new SaveTransactionHelper(getStoragePathProvider());
+        this.globalStoreJournal = new GlobalStoreJournal(getStoragePathProvider());
         this.saveThreadManager = TaskMaster.createFIFOTaskMaster("Saving", 1);
         this.config = CoreRegistry.get(Config.class);
         this.entityRefReplacingComponentLibrary = privateEntityManager.getComponentLibrary()
@@ -148,12 +157,20 @@ private static EngineEntityManager createPrivateEntityManager(ComponentLibrary c
     public void finishSavingAndShutdown() {
         saveThreadManager.shutdown(new ShutdownTask(), true);
         checkSaveTransactionAndClearUpIfItIsDone();
+        closeRegionFileReaders();
     }
 
     private void checkSaveTransactionAndClearUpIfItIsDone() {
         if (saveTransaction != null) {
             SaveTransactionResult result = saveTransaction.getResult();
             if (result != null) {
+                // The next save may overwrite the sectors of chunks replaced by this one, so stop reading them
+                worldDirectoryWriteLock.lock();
+                try {
+                    closeRegionFileReaders();
+                } finally {
+                    worldDirectoryWriteLock.unlock();
+                }
                 Throwable t = saveTransaction.getResult().getCatchedThrowable();
                 if (t != null) {
                     throw new RuntimeException("Saving failed", t);
@@ -245,7 +262,9 @@ private void waitForCompletionOfPreviousSave() {
 
     private SaveTransaction createSaveTransaction() {
         SaveTransactionBuilder saveTransactionBuilder = new SaveTransactionBuilder(privateEntityManager,
-                entitySetDeltaRecorder, isStoreChunksInZips(), getStoragePathProvider(), worldDirectoryWriteLock);
+                entitySetDeltaRecorder, getChunkStorageLayout(), config.getSystem().getChunkCompression(),
+                config.getSystem().getChunkSaveThreads(), getStoragePathProvider(), globalStoreJournal,
+                worldDirectoryWriteLock);
 
         ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
         NetworkSystem networkSystem = CoreRegistry.get(NetworkSystem.class);
@@ -308,11 +327,24 @@ public void deactivateChunk(Chunk chunk) {
         Collection<EntityRef> entitiesOfChunk = getEntitiesOfChunk(chunk);
         ChunkImpl chunkImpl = (ChunkImpl) chunk; // storage manager only works with ChunkImpl
         unloadedAndUnsavedChunkMap.put(chunk.getPosition(), new CompressedChunkBuilder(getEntityManager(), chunkImpl,
-                entitiesOfChunk, true));
+                entitiesOfChunk, true, config.getSystem().getChunkCompression()));
 
         entitiesOfChunk.forEach(this::deactivateOrDestroyEntityRecursive);
     }
 
+    @Override
+    public boolean hasChunkStore(Vector3i chunkPos) {
+        if (unloadedAndUnsavedChunkMap.containsKey(chunkPos) || unloadedAndSavingChunkMap.containsKey(chunkPos)) {
+            return true;
+        }
+        worldDirectoryReadLock.lock();
+        try {
+            return super.hasChunkStore(chunkPos);
+        } finally {
+            worldDirectoryReadLock.unlock();
+        }
+    }
+
     @Override
     protected byte[] loadCompressedChunk(Vector3i chunkPos) {
         CompressedChunkBuilder disposedUnsavedChunk = unloadedAndUnsavedChunkMap.get(chunkPos);
@@ -453,6 +485,7 @@ public void deleteWorld() {
         unloadedAndSavingChunkMap.clear();
         unloadedAndUnsavedPlayerMap.clear();
         unloadedAndSavingPlayerMap.clear();
+        closeRegionFileReaders();
 
         try {
             FilesUtil.recursiveDelete(getStoragePathProvider().getWorldPath());
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import org.terasology.math.geom.Vector3i;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * The encoded chunks of a cubic region of {@link #REGION_DIM}<sup>3</sup> chunks, stored in a data file and an index
+ * file.
+ * <br><br>
+ * The data file is divided into sectors of {@link #SECTOR_SIZE} bytes which hold the chunks. The index file holds the
+ * first sector and byte length of each chunk. Saving a chunk is a single positioned write into sectors the current
+ * index does not reference, so the chunks it references stay intact. The new index is written to a separate file,
+ * and replacing the old index file by it switches to all new chunks at once. The sectors of replaced chunks can be
+ * reused once the new index is in place.
+ * <br><br>
+ * Use {@link RegionFileReader} to read chunks. Instances are not thread safe.
+ */
+public final class RegionFile implements Closeable {
+    public static final int REGION_DIM = 16;
+    public static final int SECTOR_SIZE = 4096;
+
+    static final int INDEX_SIZE = REGION_DIM * REGION_DIM * REGION_DIM * 2 * Integer.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer index;
+    private final BitSet usedSectors;
+    private boolean written;
+
+    private RegionFile(FileChannel channel, ByteBuffer index) {
+        this.channel = channel;
+        this.index = index;
+        this.usedSectors = getUsedSectors(index);
+    }
+
+    /**
+     * Opens the data file of a region for writing, creating it if it does not exist.
+     *
+     * @param dataPath  the data file of the region
+     * @param indexPath the current index file of the region, which need not exist
+     */
+    public static RegionFile open(Path dataPath, Path indexPath) throws IOException {
+        ByteBuffer index = readIndex(indexPath);
+        if (index == null) {
+            index = ByteBuffer.allocate(INDEX_SIZE);
+        }
+        return new RegionFile(FileChannel.open(dataPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE), index);
+    }
+
+    /**
+     * @return the encoded chunk, or null if the chunk is not stored in this region
+     */
+    public byte[] read(Vector3i chunkPos) throws IOException {
+        return readChunk(channel, index, chunkPos);
+    }
+
+    /**
+     * Writes a chunk into free sectors of the data file. The chunk is part of the region once the index written by
+     * {@link #writeIndex(Path)} replaces the current index.
+     */
+    public void write(Vector3i chunkPos, byte[] data) throws IOException {
+        int entry = getEntryOffset(chunkPos);
+        int sectorCount = getSectorCount(data.length);
+        int sector = findFreeSectors(sectorCount);
+        usedSectors.set(sector, sector + sectorCount);
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long position = (long) sector * SECTOR_SIZE;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        index.putInt(entry, sector);
+        index.putInt(entry + Integer.BYTES, data.length);
+        written = true;
+    }
+
+    /**
+     * Flushes the written chunks to the disk and writes the index referencing them.
+     *
+     * @param path the file to write the new index to
+     */
+    public void writeIndex(Path path) throws IOException {
+        if (written) {
+            channel.force(false);
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write(index.array());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * @return the position of the region containing the given chunk, in regions
+     */
+    public static Vector3i getRegionPosition(Vector3i chunkPos) {
+        return new Vector3i(Math.floorDiv(chunkPos.x, REGION_DIM), Math.floorDiv(chunkPos.y, REGION_DIM),
+                Math.floorDiv(chunkPos.z, REGION_DIM));
+    }
+
+    /**
+     * @return the index of the region, or null if the index file does not exist
+     */
+    static ByteBuffer readIndex(Path indexPath) throws IOException {
+        if (!Files.isRegularFile(indexPath)) {
+            return null;
+        }
+        ByteBuffer index = ByteBuffer.allocate(INDEX_SIZE);
+        try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            readFully(indexChannel, index, 0);
+        }
+        return index;
+    }
+
+    static boolean containsChunk(ByteBuffer index, Vector3i chunkPos) {
+        return index.getInt(getEntryOffset(chunkPos) + Integer.BYTES) != 0;
+    }
+
+    /**
+     * @return the encoded chunk, or null if the index has no entry for it
+     */
+    static byte[] readChunk(FileChannel dataChannel, ByteBuffer index, Vector3i chunkPos) throws IOException {
+        int entry = getEntryOffset(chunkPos);
+        int length = index.getInt(entry + Integer.BYTES);
+        if (length == 0) {
+            return null;
+        }
+        ByteBuffer data = ByteBuffer.allocate(length);
+        readFully(dataChannel, data, (long) index.getInt(entry) * SECTOR_SIZE);
+        return data.array();
+    }
+
+    private static BitSet getUsedSectors(ByteBuffer index) {
+        BitSet usedSectors = new BitSet();
+        for (int entry = 0; entry < INDEX_SIZE; entry += 2 * Integer.BYTES) {
+            int length = index.getInt(entry + Integer.BYTES);
+            if (length != 0) {
+                int sector = index.getInt(entry);
+                usedSectors.set(sector, sector + getSectorCount(length));
+            }
+        }
+        return usedSectors;
+    }
+
+    private static int getEntryOffset(Vector3i chunkPos) {
+        int x = Math.floorMod(chunkPos.x, REGION_DIM);
+        int y = Math.floorMod(chunkPos.y, REGION_DIM);
+        int z = Math.floorMod(chunkPos.z, REGION_DIM);
+        return (x + REGION_DIM * (y + REGION_DIM * z)) * 2 * Integer.BYTES;
+    }
+
+    private static int getSectorCount(int length) {
+        return (length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+    }
+
+    private int findFreeSectors(int count) {
+        int start = usedSectors.nextClearBit(0);
+        while (true) {
+            int end = usedSectors.nextSetBit(start);
+            if (end == -1 || end - start >= count) {
+                return start;
+            }
+            start = usedSectors.nextClearBit(end);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long currentPosition = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, currentPosition);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of region file");
+            }
+            currentPosition += read;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import org.terasology.math.geom.Vector3i;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads chunks from a {@link RegionFile}, keeping its data file open and its index in memory.
+ * <br><br>
+ * A reader keeps reading the chunks of the index it was opened with. These stay intact until the next save after
+ * the index was replaced, so readers have to be reopened before that. Instances may be used by several threads.
+ */
+public final class RegionFileReader implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer index;
+
+    private RegionFileReader(FileChannel channel, ByteBuffer index) {
+        this.channel = channel;
+        this.index = index;
+    }
+
+    /**
+     * @param dataPath  the data file of the region
+     * @param indexPath the index file of the region
+     * @return a reader for the region, or null if the region has not been saved yet
+     */
+    public static RegionFileReader open(Path dataPath, Path indexPath) throws IOException {
+        ByteBuffer index = RegionFile.readIndex(indexPath);
+        if (index == null || !Files.isRegularFile(dataPath)) {
+            return null;
+        }
+        return new RegionFileReader(FileChannel.open(dataPath, StandardOpenOption.READ), index);
+    }
+
+    /**
+     * @return whether the chunk is stored in the region, without reading it
+     */
+    public boolean contains(Vector3i chunkPos) {
+        return RegionFile.containsChunk(index, chunkPos);
+    }
+
+    /**
+     * @return the encoded chunk, or null if the chunk is not stored in the region
+     */
+    public byte[] read(Vector3i chunkPos) throws IOException {
+        return RegionFile.readChunk(channel, index, chunkPos);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
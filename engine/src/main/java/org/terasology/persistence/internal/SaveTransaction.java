@@ -16,8 +16,12 @@
 package org.terasology.persistence.internal;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.entitySystem.Component;
@@ -28,8 +32,10 @@
 import org.terasology.math.ChunkMath;
 import org.terasology.math.geom.Vector3f;
 import org.terasology.math.geom.Vector3i;
+import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.network.ClientComponent;
 import org.terasology.protobuf.EntityData;
+import org.terasology.utilities.compression.CompressionCodec;
 import org.terasology.utilities.concurrency.AbstractTask;
 import org.terasology.world.chunks.internal.ChunkImpl;
 
@@ -53,6 +59,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -79,25 +89,39 @@ public class SaveTransaction extends AbstractTask {
     private final GlobalStoreBuilder globalStoreBuilder;
 
     // processed data:
+    /**
+     * The complete global store if it gets compacted, otherwise null and the changes are in the journal record.
+     */
     private EntityData.GlobalStore globalStore;
+    private byte[] globalStoreJournalRecord;
+    private TLongSet globalEntityIds;
+    private Set<String> globalPrefabs;
     private Map<String, EntityData.PlayerStore> allPlayers;
     private Map<Vector3i, CompressedChunkBuilder> allChunks;
+    private ForkJoinPool chunkEncodingPool;
+    private Map<Vector3i, ForkJoinTask<byte[]>> encodedChunks;
+    private long writtenChunkBytes;
 
 
     // Save parameters:
-    private final boolean storeChunksInZips;
+    private final ChunkStorageLayout chunkStorageLayout;
+    private final CompressionCodec chunkCompression;
+    private final int chunkSaveThreads;
 
     // utility classes for saving:
     private final StoragePathProvider storagePathProvider;
     private final SaveTransactionHelper saveTransactionHelper;
+    private final GlobalStoreJournal globalStoreJournal;
 
 
     public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
                            Map<String, EntityData.PlayerStore> unloadedPlayers,
                            Map<String, PlayerStoreBuilder> loadedPlayers, GlobalStoreBuilder globalStoreBuilder,
                            Map<Vector3i, CompressedChunkBuilder> unloadedChunks, Map<Vector3i, ChunkImpl> loadedChunks,
-                           GameManifest gameManifest, boolean storeChunksInZips,
-                           StoragePathProvider storagePathProvider, Lock worldDirectoryWriteLock) {
+                           GameManifest gameManifest, ChunkStorageLayout chunkStorageLayout,
+                           CompressionCodec chunkCompression, int chunkSaveThreads,
+                           StoragePathProvider storagePathProvider, GlobalStoreJournal globalStoreJournal,
+                           Lock worldDirectoryWriteLock) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
         this.unloadedPlayers = unloadedPlayers;
@@ -106,9 +130,12 @@ public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaR
         this.loadedChunks = loadedChunks;
         this.globalStoreBuilder = globalStoreBuilder;
         this.gameManifest = gameManifest;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageLayout = chunkStorageLayout;
+        this.chunkCompression = chunkCompression;
+        this.chunkSaveThreads = chunkSaveThreads;
         this.storagePathProvider = storagePathProvider;
         this.saveTransactionHelper = new SaveTransactionHelper(storagePathProvider);
+        this.globalStoreJournal = globalStoreJournal;
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
     }
 
@@ -120,6 +147,7 @@ public String getName() {
 
     @Override
     public void run() {
+        long startTime = System.nanoTime();
         try {
             if (Files.exists(storagePathProvider.getUnmergedChangesPath())) {
                 // should not happen, as initialization should clean it up
@@ -135,15 +163,23 @@ public void run() {
             saveGameManifest();
             perpareChangesForMerge();
             mergeChanges();
+            globalStoreJournal.onSaveCompleted(globalEntityIds, globalPrefabs);
             result = SaveTransactionResult.createSuccessResult();
-            logger.info("Save game finished");
+            double duration = (System.nanoTime() - startTime) / (double) TimeUnit.SECONDS.toNanos(1);
+            PerformanceMonitor.recordStatistic("Saving: Duration (s)", duration);
+            logger.info("Save game finished in {} s", String.format("%.2f", duration));
         } catch (IOException | RuntimeException t) {
             logger.error("Save game creation failed", t);
+            globalStoreJournal.invalidate();
             result = SaveTransactionResult.createFailureResult(t);
+        } finally {
+            if (chunkEncodingPool != null) {
+                chunkEncodingPool.shutdownNow();
+            }
         }
     }
 
-    private void prepareChunksPlayersAndGlobalStore() {
+    private void prepareChunksPlayersAndGlobalStore() throws IOException {
         /**
          * Currently loaded persistent entities without owner that have not been saved yet.
          */
@@ -155,7 +191,55 @@ private void prepareChunksPlayersAndGlobalStore() {
         }
         preparePlayerStores(unsavedEntities);
         prepareCompressedChunkBuilders(unsavedEntities);
-        this.globalStore = globalStoreBuilder.build(privateEntityManager, unsavedEntities);
+        prepareGlobalStore(unsavedEntities);
+    }
+
+    /**
+     * Prepares either the complete global store or a journal record with the changes since the last save. The
+     * entities that changed are the ones with a delta, the ones that were not in the global store before and the
+     * ones that left the global store, e.g. as they are now stored in a chunk.
+     *
+     * @param globalEntities the persistent entities that get stored in the global store.
+     */
+    private void prepareGlobalStore(Set<EntityRef> globalEntities) throws IOException {
+        globalEntityIds = new TLongHashSet(globalEntities.size());
+        for (EntityRef entity : globalEntities) {
+            globalEntityIds.add(entity.getId());
+        }
+
+        if (globalStoreJournal.isCompactionDue()) {
+            globalStore = globalStoreBuilder.build(privateEntityManager, globalEntities);
+            globalPrefabs = new HashSet<>();
+            for (EntityData.Prefab prefab : globalStore.getPrefabList()) {
+                globalPrefabs.add(prefab.getName());
+            }
+        } else {
+            TLongSet storedEntityIds = globalStoreJournal.getStoredEntityIds();
+            List<EntityRef> changedEntities = Lists.newArrayList();
+            for (EntityRef entity : globalEntities) {
+                long id = entity.getId();
+                if (!storedEntityIds.contains(id) || deltaToSave.getEntityDeltas().containsKey(id)) {
+                    changedEntities.add(entity);
+                }
+            }
+            TLongSet removedEntityIds = new TLongHashSet();
+            storedEntityIds.forEach(id -> {
+                if (!globalEntityIds.contains(id)) {
+                    removedEntityIds.add(id);
+                }
+                return true;
+            });
+
+            EntityData.GlobalStore changes = globalStoreBuilder.buildChanges(privateEntityManager, changedEntities,
+                    globalStoreJournal.getStoredPrefabs());
+            globalStoreJournalRecord = GlobalStoreJournal.encodeRecord(globalStoreJournal.getNextSequence(), changes,
+                    removedEntityIds);
+            globalPrefabs = new HashSet<>(globalStoreJournal.getStoredPrefabs());
+            for (EntityData.Prefab prefab : changes.getPrefabList()) {
+                globalPrefabs.add(prefab.getName());
+            }
+            logger.info("Saving {} changed and {} removed global entities", changedEntities.size(), removedEntityIds.size());
+        }
     }
 
 
@@ -176,7 +260,7 @@ private void prepareCompressedChunkBuilders(Set<EntityRef> unsavedEntities) {
             ChunkImpl chunk = chunkEntry.getValue();
             unsavedEntities.removeAll(entitiesToStore);
             CompressedChunkBuilder compressedChunkBuilder = new CompressedChunkBuilder(privateEntityManager, chunk,
-                    entitiesToStore, false);
+                    entitiesToStore, false, chunkCompression);
             unsavedEntities.removeAll(compressedChunkBuilder.getStoredEntities());
             allChunks.put(chunkEntry.getKey(), compressedChunkBuilder);
         }
@@ -339,66 +423,151 @@ private void writePlayerStores() throws IOException {
     }
 
     private void writeGlobalStore() throws IOException {
+        if (globalStore == null) {
+            Files.write(storagePathProvider.getGlobalEntityJournalRecordTempPath(), globalStoreJournalRecord);
+            return;
+        }
         Path path = storagePathProvider.getGlobalEntityStoreTempPath();
         try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
             globalStore.writeTo(out);
         }
+        // Replaces the journal of the previous global store with an empty one
+        Files.write(storagePathProvider.getGlobalEntityJournalTempPath(), new byte[0]);
     }
 
     private void writeChunkStores() throws IOException {
         Path chunksPath = storagePathProvider.getWorldTempPath();
         Files.createDirectories(chunksPath);
-        if (storeChunksInZips) {
-            Map<Vector3i, FileSystem> newChunkZips = Maps.newHashMap();
-            for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
-                Vector3i chunkPos = entry.getKey();
-                Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(chunkPos);
-                FileSystem zip = newChunkZips.get(chunkZipPos);
-                if (zip == null) {
-                    Path targetPath = storagePathProvider.getChunkZipTempPath(chunkZipPos);
-                    Files.deleteIfExists(targetPath);
-                    zip = FileSystems.newFileSystem(URI.create("jar:" + targetPath.toUri()), CREATE_ZIP_OPTIONS);
-                    newChunkZips.put(chunkZipPos, zip);
-                }
-                Path chunkPath = zip.getPath(storagePathProvider.getChunkFilename(chunkPos));
-                CompressedChunkBuilder compressedChunkBuilder = entry.getValue();
-                byte[] compressedChunk = compressedChunkBuilder.buildEncodedChunk();
-                try (BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
-                    bos.write(compressedChunk);
+        long startTime = System.nanoTime();
+        switch (chunkStorageLayout) {
+            case REGION_FILES:
+                writeChunkRegionFiles();
+                break;
+            case ZIPS:
+                writeChunkZips();
+                break;
+            default:
+                writeChunkFiles();
+                break;
+        }
+        double duration = (System.nanoTime() - startTime) / (double) TimeUnit.SECONDS.toNanos(1);
+        if (duration > 0) {
+            PerformanceMonitor.recordStatistic("Saving: Chunk Bytes/s", writtenChunkBytes / duration);
+        }
+        logger.info("Wrote {} chunks with {} bytes in {} s", allChunks.size(), writtenChunkBytes,
+                String.format("%.2f", duration));
+    }
+
+    /**
+     * Starts encoding and compressing the chunks on a fork-join pool, if more than one thread may be used. The chunks
+     * get submitted in the order in which they will be written, so that writing can start with the first chunks while
+     * the later ones are still encoded.
+     */
+    private void startEncodingChunks(Iterable<Vector3i> chunkPositionsInWriteOrder) {
+        if (chunkSaveThreads <= 1 || allChunks.size() <= 1) {
+            return;
+        }
+        chunkEncodingPool = new ForkJoinPool(chunkSaveThreads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Saving-Chunks-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        encodedChunks = Maps.newHashMapWithExpectedSize(allChunks.size());
+        for (Vector3i chunkPos : chunkPositionsInWriteOrder) {
+            encodedChunks.put(chunkPos, chunkEncodingPool.submit(allChunks.get(chunkPos)::buildEncodedChunk));
+        }
+    }
+
+    /**
+     * @return the encoded chunk, waiting for it if it gets encoded on the fork-join pool
+     */
+    private byte[] getEncodedChunk(Vector3i chunkPos) {
+        byte[] encodedChunk;
+        if (encodedChunks != null) {
+            encodedChunk = encodedChunks.get(chunkPos).join();
+        } else {
+            encodedChunk = allChunks.get(chunkPos).buildEncodedChunk();
+        }
+        writtenChunkBytes += encodedChunk.length;
+        return encodedChunk;
+    }
+
+    /**
+     * Writes the chunks into free sectors of their region files, with one positioned write per chunk. Only the new
+     * indexes of the regions are written into the transaction, they replace the old ones when the changes get merged.
+     */
+    private void writeChunkRegionFiles() throws IOException {
+        ListMultimap<Vector3i, Vector3i> chunksByRegion = LinkedListMultimap.create();
+        for (Vector3i chunkPos : allChunks.keySet()) {
+            chunksByRegion.put(RegionFile.getRegionPosition(chunkPos), chunkPos);
+        }
+        List<Vector3i> chunkPositionsInWriteOrder = Lists.newArrayListWithCapacity(allChunks.size());
+        for (Vector3i regionPos : chunksByRegion.keySet()) {
+            chunkPositionsInWriteOrder.addAll(chunksByRegion.get(regionPos));
+        }
+        startEncodingChunks(chunkPositionsInWriteOrder);
+        Files.createDirectories(storagePathProvider.getWorldPath());
+        for (Vector3i regionPos : chunksByRegion.keySet()) {
+            try (RegionFile regionFile = RegionFile.open(storagePathProvider.getChunkRegionPath(regionPos),
+                    storagePathProvider.getChunkRegionIndexPath(regionPos))) {
+                for (Vector3i chunkPos : chunksByRegion.get(regionPos)) {
+                    regionFile.write(chunkPos, getEncodedChunk(chunkPos));
                 }
+                regionFile.writeIndex(storagePathProvider.getChunkRegionIndexTempPath(regionPos));
+            }
+        }
+    }
+
+    private void writeChunkZips() throws IOException {
+        Map<Vector3i, FileSystem> newChunkZips = Maps.newHashMap();
+        startEncodingChunks(allChunks.keySet());
+        for (Vector3i chunkPos : allChunks.keySet()) {
+            Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(chunkPos);
+            FileSystem zip = newChunkZips.get(chunkZipPos);
+            if (zip == null) {
+                Path targetPath = storagePathProvider.getChunkZipTempPath(chunkZipPos);
+                Files.deleteIfExists(targetPath);
+                zip = FileSystems.newFileSystem(URI.create("jar:" + targetPath.toUri()), CREATE_ZIP_OPTIONS);
+                newChunkZips.put(chunkZipPos, zip);
+            }
+            Path chunkPath = zip.getPath(storagePathProvider.getChunkFilename(chunkPos));
+            byte[] compressedChunk = getEncodedChunk(chunkPos);
+            try (BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
+                bos.write(compressedChunk);
             }
-            // Copy existing, unmodified content into the zips and close them
-            for (Map.Entry<Vector3i, FileSystem> chunkZipEntry : newChunkZips.entrySet()) {
-                Vector3i chunkZipPos = chunkZipEntry.getKey();
-                Path oldChunkZipPath = storagePathProvider.getChunkZipPath(chunkZipPos);
-                final FileSystem zip = chunkZipEntry.getValue();
-                if (Files.isRegularFile(oldChunkZipPath)) {
-                    try (FileSystem oldZip = FileSystems.newFileSystem(oldChunkZipPath, null)) {
-                        for (Path root : oldZip.getRootDirectories()) {
-                            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
-                                @Override
-                                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
-                                        throws IOException {
-                                    if (!Files.isRegularFile(zip.getPath(file.toString()))) {
-                                        Files.copy(file, zip.getPath(file.toString()));
-                                    }
-                                    return FileVisitResult.CONTINUE;
+        }
+        // Copy existing, unmodified content into the zips and close them
+        for (Map.Entry<Vector3i, FileSystem> chunkZipEntry : newChunkZips.entrySet()) {
+            Vector3i chunkZipPos = chunkZipEntry.getKey();
+            Path oldChunkZipPath = storagePathProvider.getChunkZipPath(chunkZipPos);
+            final FileSystem zip = chunkZipEntry.getValue();
+            if (Files.isRegularFile(oldChunkZipPath)) {
+                try (FileSystem oldZip = FileSystems.newFileSystem(oldChunkZipPath, null)) {
+                    for (Path root : oldZip.getRootDirectories()) {
+                        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                            @Override
+                            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                                    throws IOException {
+                                if (!Files.isRegularFile(zip.getPath(file.toString()))) {
+                                    Files.copy(file, zip.getPath(file.toString()));
                                 }
-                            });
-                        }
+                                return FileVisitResult.CONTINUE;
+                            }
+                        });
                     }
                 }
-                zip.close();
             }
-        } else {
-            for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
-                Vector3i chunkPos = entry.getKey();
-                CompressedChunkBuilder compressedChunkBuilder = entry.getValue();
-                byte[] compressedChunk = compressedChunkBuilder.buildEncodedChunk();
-                Path chunkPath = storagePathProvider.getChunkTempPath(chunkPos);
-                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
-                    out.write(compressedChunk);
-                }
+            zip.close();
+        }
+    }
+
+    private void writeChunkFiles() throws IOException {
+        startEncodingChunks(allChunks.keySet());
+        for (Vector3i chunkPos : allChunks.keySet()) {
+            byte[] compressedChunk = getEncodedChunk(chunkPos);
+            Path chunkPath = storagePathProvider.getChunkTempPath(chunkPos);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
+                out.write(compressedChunk);
             }
         }
     }
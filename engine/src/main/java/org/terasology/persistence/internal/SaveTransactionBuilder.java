@@ -20,6 +20,7 @@
 import org.terasology.game.GameManifest;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.protobuf.EntityData;
+import org.terasology.utilities.compression.CompressionCodec;
 import org.terasology.world.chunks.internal.ChunkImpl;
 
 import java.util.Map;
@@ -38,17 +39,24 @@ class SaveTransactionBuilder {
     private Map<Vector3i, CompressedChunkBuilder> unloadedChunks = Maps.newHashMap();
     private Map<Vector3i, ChunkImpl> loadedChunks = Maps.newHashMap();
     private GlobalStoreBuilder globalStoreBuilder;
-    private final boolean storeChunksInZips;
+    private final ChunkStorageLayout chunkStorageLayout;
+    private final CompressionCodec chunkCompression;
+    private final int chunkSaveThreads;
     private final StoragePathProvider storagePathProvider;
+    private final GlobalStoreJournal globalStoreJournal;
     private GameManifest gameManifest;
 
     SaveTransactionBuilder(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
-                           boolean storeChunksInZips, StoragePathProvider storagePathProvider,
+                           ChunkStorageLayout chunkStorageLayout, CompressionCodec chunkCompression,
+                           int chunkSaveThreads, StoragePathProvider storagePathProvider, GlobalStoreJournal globalStoreJournal,
                            Lock worldDirectoryWriteLock) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageLayout = chunkStorageLayout;
+        this.chunkCompression = chunkCompression;
+        this.chunkSaveThreads = chunkSaveThreads;
         this.storagePathProvider = storagePathProvider;
+        this.globalStoreJournal = globalStoreJournal;
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
     }
 
@@ -75,8 +83,8 @@ public void addLoadedChunk(final Vector3i chunkPosition, final ChunkImpl chunk)
 
     public SaveTransaction build() {
         return new SaveTransaction(privateEntityManager, deltaToSave, unloadedPlayers, loadedPlayers, globalStoreBuilder,
-                unloadedChunks, loadedChunks, gameManifest, storeChunksInZips, storagePathProvider,
-                worldDirectoryWriteLock);
+                unloadedChunks, loadedChunks, gameManifest, chunkStorageLayout, chunkCompression, chunkSaveThreads,
+                storagePathProvider, globalStoreJournal, worldDirectoryWriteLock);
 
     }
 
@@ -69,6 +69,7 @@ public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOEx
     public void mergeChanges() throws IOException {
         final Path sourceDirectory = storagePathProvider.getUnmergedChangesPath();
         final Path targetDirectory = storagePathProvider.getStoragePathDirectory();
+        final Path journalRecordPath = storagePathProvider.getUnmergedGlobalEntityJournalRecordPath();
 
         Files.walkFileTree(sourceDirectory, new SimpleFileVisitor<Path>() {
             boolean atomicNotPossibleLogged;
@@ -84,6 +85,12 @@ public FileVisitResult preVisitDirectory(Path sourceSubDir, BasicFileAttributes
 
             @Override
             public FileVisitResult visitFile(Path sourcePath, BasicFileAttributes attrs) throws IOException {
+                if (sourcePath.equals(journalRecordPath)) {
+                    // Appending is repeatable, so the record is only deleted once it is in the journal
+                    GlobalStoreJournal.appendRecord(storagePathProvider.getGlobalEntityJournalPath(), sourcePath);
+                    Files.delete(sourcePath);
+                    return FileVisitResult.CONTINUE;
+                }
                 Path targetPath = targetDirectory.resolve(sourceDirectory.relativize(sourcePath));
                 try {
                     // Delete file, as behavior of atomic move is undefined if target file exists:
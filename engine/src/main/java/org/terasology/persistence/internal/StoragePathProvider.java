@@ -28,6 +28,8 @@ public class StoragePathProvider {
     private static final String WORLDS_PATH = "worlds";
     private static final String PLAYER_STORE_EXTENSION = ".player";
     private static final String GLOBAL_ENTITY_STORE = "global.dat";
+    private static final String GLOBAL_ENTITY_JOURNAL = "global.journal";
+    private static final String GLOBAL_ENTITY_JOURNAL_RECORD = "global.journal-record";
     private static final String UNFINISHED_SAVE_TRANSACTION = "unfinished-save-transaction";
     private static final String UNMERGED_CHANGED = "unmerged-changes";
     private static final int CHUNK_ZIP_DIM = 32;
@@ -90,6 +92,22 @@ public Path getChunkZipTempPath(Vector3i chunkZipPos) {
         return getWorldTempPath().resolve(getChunkZipFilename(chunkZipPos));
     }
 
+    public Path getChunkRegionPath(Vector3i regionPos) {
+        return worldPath.resolve(getChunkRegionFilename(regionPos));
+    }
+
+    public Path getChunkRegionIndexPath(Vector3i regionPos) {
+        return worldPath.resolve(getChunkRegionIndexFilename(regionPos));
+    }
+
+    /**
+     * @return the path of a region index written by a save transaction. The data files of regions are written in
+     * place, see {@link RegionFile}.
+     */
+    public Path getChunkRegionIndexTempPath(Vector3i regionPos) {
+        return getWorldTempPath().resolve(getChunkRegionIndexFilename(regionPos));
+    }
+
     public Path getGlobalEntityStorePath() {
         return globalEntityStorePath;
     }
@@ -98,6 +116,26 @@ public Path getGlobalEntityStoreTempPath() {
         return unfinishedSaveTransactionPath.resolve(GLOBAL_ENTITY_STORE);
     }
 
+    public Path getGlobalEntityJournalPath() {
+        return storagePathDirectory.resolve(GLOBAL_ENTITY_JOURNAL);
+    }
+
+    public Path getGlobalEntityJournalTempPath() {
+        return unfinishedSaveTransactionPath.resolve(GLOBAL_ENTITY_JOURNAL);
+    }
+
+    /**
+     * @return the path of a journal record written by a save transaction, which gets appended to the journal instead
+     * of replacing a file when the changes get merged.
+     */
+    public Path getGlobalEntityJournalRecordTempPath() {
+        return unfinishedSaveTransactionPath.resolve(GLOBAL_ENTITY_JOURNAL_RECORD);
+    }
+
+    public Path getUnmergedGlobalEntityJournalRecordPath() {
+        return unmergedChangesPath.resolve(GLOBAL_ENTITY_JOURNAL_RECORD);
+    }
+
     public String getChunkFilename(Vector3i pos) {
         return String.format("%d.%d.%d.chunk", pos.x, pos.y, pos.z);
     }
@@ -107,6 +145,14 @@ private String getChunkZipFilename(Vector3i pos) {
         return String.format("%d.%d.%d.chunks.zip", pos.x, pos.y, pos.z);
     }
 
+    private String getChunkRegionFilename(Vector3i pos) {
+        return String.format("%d.%d.%d.region", pos.x, pos.y, pos.z);
+    }
+
+    private String getChunkRegionIndexFilename(Vector3i pos) {
+        return String.format("%d.%d.%d.region.index", pos.x, pos.y, pos.z);
+    }
+
     public Vector3i getChunkZipPosition(Vector3i chunkPos) {
         Vector3i result = new Vector3i(chunkPos);
         result.div(CHUNK_ZIP_DIM);
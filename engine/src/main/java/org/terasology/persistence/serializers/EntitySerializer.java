@@ -247,7 +247,7 @@ private EntityData.Entity serializeEntityFull(EntityRef entityRef, FieldSerializ
         if (owner.exists()) {
             entity.setOwner(owner.getId());
         }
-        for (Component component : entityRef.iterateComponents()) {
+        for (Component component : entityManager.iterateComponentsForReading(entityRef.getId())) {
             if (!componentSerializeCheck.serialize(componentLibrary.getMetadata(component.getClass()))) {
                 continue;
             }
@@ -274,7 +274,7 @@ private EntityData.Entity serializeEntityDelta(EntityRef entityRef, Prefab prefa
             entity.setOwner(owner.getId());
         }
         Set<Class<? extends Component>> presentClasses = Sets.newHashSet();
-        for (Component component : entityRef.iterateComponents()) {
+        for (Component component : entityManager.iterateComponentsForReading(entityRef.getId())) {
             if (!componentSerializeCheck.serialize(componentLibrary.getMetadata(component.getClass()))) {
                 continue;
             }
@@ -20,6 +20,8 @@
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.protobuf.ByteString;
@@ -30,10 +32,12 @@
 import org.terasology.entitySystem.entity.EntityBuilder;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.entitySystem.metadata.ComponentFieldMetadata;
 import org.terasology.entitySystem.metadata.ComponentLibrary;
 import org.terasology.entitySystem.metadata.ComponentMetadata;
 import org.terasology.entitySystem.metadata.ReplicatedFieldMetadata;
 import org.terasology.entitySystem.prefab.Prefab;
+import org.terasology.network.serialization.EntityRefSnapshot;
 import org.terasology.persistence.typeHandling.PersistedData;
 import org.terasology.persistence.typeHandling.Serializer;
 import org.terasology.persistence.typeHandling.TypeSerializationLibrary;
@@ -41,7 +45,12 @@
 import org.terasology.persistence.typeHandling.protobuf.ProtobufPersistedData;
 import org.terasology.persistence.typeHandling.protobuf.ProtobufSerializationContext;
 import org.terasology.protobuf.EntityData;
+import org.terasology.reflection.MappedContainer;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -56,6 +65,7 @@ public class NetworkEntitySerializer {
     private TypeSerializationLibrary typeSerializationLibrary;
     private ProtobufSerializationContext serializationContext;
     private ProtobufDeserializationContext deserializationContext;
+    private Map<Class<?>, List<Field>> mappedContainerFields = Maps.newHashMap();
     private BiMap<Class<? extends Component>, Integer> idTable = ImmutableBiMap.<Class<? extends Component>, Integer>builder().build();
 
     public NetworkEntitySerializer(EngineEntityManager entityManager, ComponentLibrary componentLibrary, TypeSerializationLibrary typeSerializationLibrary) {
@@ -83,19 +93,59 @@ public void setIdMapping(Map<Class<? extends Component>, Integer> componentIdMap
     }
 
     public EntityData.PackedEntity.Builder serialize(EntityRef entity, boolean deltaAgainstPrefab, FieldSerializeCheck<Component> fieldCheck) {
-        Prefab prefab = entity.getParentPrefab();
+        return serializeComponents(entity.getParentPrefab(), entityManager.iterateComponentsForReading(entity.getId()), deltaAgainstPrefab, fieldCheck);
+    }
+
+    /**
+     * Serializes an entity made up of the given components, such as those copied by {@link #copyComponents(EntityRef)}.
+     *
+     * @param prefab the parent prefab of the entity, or null if it has none
+     */
+    public EntityData.PackedEntity.Builder serializeComponents(Prefab prefab, Iterable<Component> components, boolean deltaAgainstPrefab,
+                                                               FieldSerializeCheck<Component> fieldCheck) {
         if (prefab != null && deltaAgainstPrefab) {
-            return serializeEntityDelta(entity, prefab, fieldCheck);
+            return serializeEntityDelta(components, prefab, fieldCheck);
         } else {
-            return serializeEntityFull(entity, fieldCheck);
+            return serializeEntityFull(components, fieldCheck);
+        }
+    }
+
+    /**
+     * Copies the replicated components of an entity, so that they can be serialized after the entity has changed, or on
+     * another thread.
+     */
+    public List<Component> copyComponents(EntityRef entity) {
+        List<Component> copies = Lists.newArrayList();
+        for (Component component : entityManager.iterateComponentsForReading(entity.getId())) {
+            if (componentSerializeCheck.serialize(componentLibrary.getMetadata(component.getClass()))) {
+                copies.add(componentLibrary.copy(component));
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Copies the given components of an entity, so that they can be serialized after the entity has changed, or on
+     * another thread. Components the entity doesn't have are left out.
+     */
+    public List<Component> copyComponents(EntityRef entity, Collection<Class<? extends Component>> componentTypes) {
+        List<Component> copies = Lists.newArrayListWithCapacity(componentTypes.size());
+        for (Class<? extends Component> componentType : componentTypes) {
+            Component component = entityManager.getComponentForReading(entity.getId(), componentType);
+            if (component != null) {
+                copies.add(componentLibrary.copy(component));
+            } else {
+                logger.error("Non-existent component marked for sending: {}", componentType);
+            }
         }
+        return copies;
     }
 
-    private EntityData.PackedEntity.Builder serializeEntityFull(EntityRef entityRef, FieldSerializeCheck<Component> fieldCheck) {
+    private EntityData.PackedEntity.Builder serializeEntityFull(Iterable<Component> components, FieldSerializeCheck<Component> fieldCheck) {
         EntityData.PackedEntity.Builder entity = EntityData.PackedEntity.newBuilder();
         ByteString.Output fieldIds = ByteString.newOutput();
         ByteString.Output componentFieldCounts = ByteString.newOutput();
-        for (Component component : entityRef.iterateComponents()) {
+        for (Component component : components) {
             if (!componentSerializeCheck.serialize(componentLibrary.getMetadata(component.getClass()))) {
                 continue;
             }
@@ -108,14 +158,14 @@ private EntityData.PackedEntity.Builder serializeEntityFull(EntityRef entityRef,
         return entity;
     }
 
-    private EntityData.PackedEntity.Builder serializeEntityDelta(EntityRef entityRef, Prefab prefab, FieldSerializeCheck<Component> fieldCheck) {
+    private EntityData.PackedEntity.Builder serializeEntityDelta(Iterable<Component> components, Prefab prefab, FieldSerializeCheck<Component> fieldCheck) {
         EntityData.PackedEntity.Builder entity = EntityData.PackedEntity.newBuilder();
         entity.setParentPrefabUri(prefab.getName());
         Set<Class<? extends Component>> presentClasses = Sets.newHashSet();
 
         ByteString.Output fieldIds = ByteString.newOutput();
         ByteString.Output componentFieldCounts = ByteString.newOutput();
-        for (Component component : entityRef.iterateComponents()) {
+        for (Component component : components) {
             if (!componentSerializeCheck.serialize(componentLibrary.getMetadata(component.getClass()))) {
                 continue;
             }
@@ -273,25 +323,100 @@ public EntityRef deserialize(EntityData.PackedEntity entityData) {
 
     public EntityData.PackedEntity serialize(EntityRef entityRef, Set<Class<? extends Component>> added, Set<Class<? extends Component>> changed,
                                              Set<Class<? extends Component>> removed, FieldSerializeCheck<Component> fieldCheck) {
-        EntityData.PackedEntity.Builder entity = EntityData.PackedEntity.newBuilder();
-
-        ByteString.Output fieldIds = ByteString.newOutput();
-        ByteString.Output componentFieldCounts = ByteString.newOutput();
+        List<Component> addedComponents = Lists.newArrayListWithCapacity(added.size());
         for (Class<? extends Component> componentType : added) {
-            Component component = entityRef.getComponent(componentType);
-            if (component == null) {
+            Component component = entityManager.getComponentForReading(entityRef.getId(), componentType);
+            if (component != null) {
+                addedComponents.add(component);
+            } else {
                 logger.error("Non-existent component marked as added: {}", componentType);
             }
-            serializeComponentFull(entityRef.getComponent(componentType), false, fieldCheck, entity, fieldIds, componentFieldCounts, true);
         }
+        List<Component> changedComponents = Lists.newArrayListWithCapacity(changed.size());
         for (Class<? extends Component> componentType : changed) {
-            Component comp = entityRef.getComponent(componentType);
-            if (comp != null) {
-                serializeComponentFull(comp, true, fieldCheck, entity, fieldIds, componentFieldCounts, false);
+            Component component = entityManager.getComponentForReading(entityRef.getId(), componentType);
+            if (component != null) {
+                changedComponents.add(component);
             } else {
                 logger.error("Non-existent component marked as changed: {}", componentType);
             }
         }
+        return serializeChanges(addedComponents, changedComponents, removed, fieldCheck);
+    }
+
+    /**
+     * Resolves the entities referenced by copied components, such as those from {@link #copyComponents(EntityRef)}, so
+     * that the copies can be serialized on another thread. Must be called from the main thread.
+     */
+    public EntityRefSnapshot snapshotEntityRefs(Iterable<Component> components) {
+        EntityRefSnapshot snapshot = new EntityRefSnapshot();
+        for (Component component : components) {
+            ComponentMetadata<?> metadata = componentLibrary.getMetadata(component.getClass());
+            for (ComponentFieldMetadata<?, ?> field : metadata.getFields()) {
+                snapshotEntityRefs(field.getValue(component), snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    private void snapshotEntityRefs(Object value, EntityRefSnapshot snapshot) {
+        if (value instanceof EntityRef) {
+            snapshot.add((EntityRef) value, entityManager);
+        } else if (value instanceof Collection) {
+            for (Object item : (Collection<?>) value) {
+                snapshotEntityRefs(item, snapshot);
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                snapshotEntityRefs(entry.getKey(), snapshot);
+                snapshotEntityRefs(entry.getValue(), snapshot);
+            }
+        } else if (value != null && value.getClass().isAnnotationPresent(MappedContainer.class)) {
+            for (Field field : getMappedContainerFields(value.getClass())) {
+                try {
+                    snapshotEntityRefs(field.get(value), snapshot);
+                } catch (IllegalAccessException e) {
+                    logger.error("Unable to read field {} of {}", field.getName(), value.getClass(), e);
+                }
+            }
+        }
+    }
+
+    private List<Field> getMappedContainerFields(Class<?> type) {
+        List<Field> fields = mappedContainerFields.get(type);
+        if (fields == null) {
+            fields = Lists.newArrayList();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            mappedContainerFields.put(type, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Serializes the changes of an entity from the given components, such as those copied by
+     * {@link #copyComponents(EntityRef, Collection)}.
+     *
+     * @return the serialized changes, or null if there is nothing to send
+     */
+    public EntityData.PackedEntity serializeChanges(Collection<Component> added, Collection<Component> changed,
+                                                    Collection<Class<? extends Component>> removed, FieldSerializeCheck<Component> fieldCheck) {
+        EntityData.PackedEntity.Builder entity = EntityData.PackedEntity.newBuilder();
+
+        ByteString.Output fieldIds = ByteString.newOutput();
+        ByteString.Output componentFieldCounts = ByteString.newOutput();
+        for (Component component : added) {
+            serializeComponentFull(component, false, fieldCheck, entity, fieldIds, componentFieldCounts, true);
+        }
+        for (Component component : changed) {
+            serializeComponentFull(component, true, fieldCheck, entity, fieldIds, componentFieldCounts, false);
+        }
         for (Class<? extends Component> componentType : removed) {
             entity.addRemovedComponent(idTable.get(componentType));
         }
@@ -15,11 +15,14 @@
  */
 package org.terasology.reflection.copy;
 
+import org.terasology.module.sandbox.API;
+
 /**
  * A strategy for copying an object/type.
  * This may be returning the object unchanged for immutable or otherwise safe to share types.
  * Copy strategies are deep-copies - contents should also be copied where appropriate.
  */
+@API
 @FunctionalInterface
 public interface CopyStrategy<T> {
 
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.reflection.copy;
+
+import com.google.common.collect.Lists;
+import javassist.CannotCompileException;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.reflection.metadata.ClassMetadata;
+import org.terasology.reflection.metadata.FieldMetadata;
+import org.terasology.reflection.reflect.ClassGenerator;
+import org.terasology.utilities.ReflectionUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Generates a copy strategy per class, which constructs the copy and copies the fields with plain field accesses and
+ * getter/setter calls instead of reflection. Only fields whose copy strategy does more than returning the value are
+ * still passed through their strategy.
+ * <br><br>
+ * The copied class needs to be public and to have a public default constructor, see {@link ClassGenerator}. Fields
+ * which are neither public nor have public getters and setters are still copied through their field metadata.
+ * Strategies generated earlier for the same class and field layout are reused.
+ */
+public class GeneratedCopyStrategyFactory {
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedCopyStrategyFactory.class);
+
+    private final ClassGenerator classGenerator = new ClassGenerator();
+
+    /**
+     * @param classMetadata the metadata of the class to copy, whose fields are copied like by {@link ClassMetadata#copy(Object)}
+     * @return a generated copy strategy for the class, or null if none could be generated
+     */
+    public synchronized <T> CopyStrategy<T> createCopyStrategy(ClassMetadata<T, ?> classMetadata) {
+        Class<T> type = classMetadata.getType();
+        if (!ClassGenerator.isAccessible(type) || Modifier.isAbstract(type.getModifiers()) || !hasPublicDefaultConstructor(type)) {
+            return null;
+        }
+
+        List<CopiedField> copiedFields = Lists.newArrayList();
+        List<CopyStrategy<?>> strategies = Lists.newArrayList();
+        List<FieldMetadata<T, ?>> reflectedFields = Lists.newArrayList();
+        StringBuilder layout = new StringBuilder();
+        for (FieldMetadata<T, ?> fieldMetadata : classMetadata.getFields()) {
+            CopiedField copiedField = new CopiedField(fieldMetadata);
+            if (copiedField.reflected) {
+                copiedField.index = reflectedFields.size();
+                reflectedFields.add(fieldMetadata);
+            } else if (copiedField.strategyUsed) {
+                copiedField.index = strategies.size();
+                strategies.add(fieldMetadata.getCopyStrategy());
+            }
+            copiedFields.add(copiedField);
+            layout.append(copiedField.getLayout());
+        }
+        if (copiedFields.stream().allMatch(field -> field.reflected)) {
+            return null;
+        }
+
+        String className = type.getName() + "_" + Integer.toHexString(layout.toString().hashCode()) + "_CopyStrategy";
+        CopyStrategy<?>[] strategyArray = strategies.toArray(new CopyStrategy<?>[strategies.size()]);
+        FieldMetadata<?, ?>[] fieldArray = reflectedFields.toArray(new FieldMetadata<?, ?>[reflectedFields.size()]);
+        try {
+            Class<?> strategyClass = classGenerator.loadOrGenerate(type, className,
+                    (generatedClass, pool) -> buildClass(generatedClass, pool.get(CopyStrategy.class.getName()), type, copiedFields));
+            return instantiate(strategyClass, strategyArray, fieldArray);
+        } catch (CannotCompileException | NotFoundException | ReflectiveOperationException | RuntimeException | LinkageError e) {
+            logger.warn("Failed to generate copy strategy for '{}', falling back on field metadata", type, e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CopyStrategy<T> instantiate(Class<?> strategyClass, CopyStrategy<?>[] strategies,
+                                                   FieldMetadata<?, ?>[] fields) throws ReflectiveOperationException {
+        return (CopyStrategy<T>) strategyClass.getConstructor(CopyStrategy[].class, FieldMetadata[].class)
+                .newInstance(strategies, fields);
+    }
+
+    private static void buildClass(CtClass strategyClass, CtClass copyStrategyInterface, Class<?> type,
+                                   List<CopiedField> copiedFields) throws CannotCompileException {
+        String typeName = getSourceName(type);
+        StringBuilder body = new StringBuilder();
+        body.append("public Object copy(Object value) {");
+        body.append(typeName).append(" source = (").append(typeName).append(") value;");
+        body.append(typeName).append(" result = new ").append(typeName).append("();");
+        for (CopiedField copiedField : copiedFields) {
+            body.append(copiedField.getCopyStatement());
+        }
+        body.append("return result;}");
+
+        strategyClass.setInterfaces(new CtClass[]{copyStrategyInterface});
+        strategyClass.addField(CtField.make("private " + CopyStrategy.class.getName() + "[] strategies;", strategyClass));
+        strategyClass.addField(CtField.make("private " + FieldMetadata.class.getName() + "[] fields;", strategyClass));
+        strategyClass.addConstructor(CtNewConstructor.make("public " + strategyClass.getSimpleName() + "("
+                + CopyStrategy.class.getName() + "[] strategies, " + FieldMetadata.class.getName() + "[] fields) {"
+                + "this.strategies = strategies; this.fields = fields;}", strategyClass));
+        strategyClass.addMethod(CtNewMethod.make(body.toString(), strategyClass));
+    }
+
+    private static boolean hasPublicDefaultConstructor(Class<?> type) {
+        try {
+            type.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String getSourceName(Class<?> type) {
+        if (type.isArray()) {
+            return getSourceName(type.getComponentType()) + "[]";
+        }
+        return type.getName();
+    }
+
+    /**
+     * How a single field is copied by the generated class. Mirrors the field accessors, which use a getter and setter
+     * pair if there is one and the field otherwise.
+     */
+    private static final class CopiedField {
+        private final Field field;
+        private final String typeName;
+        private Method getter;
+        private Method setter;
+        private boolean reflected;
+        private boolean strategyUsed;
+        private int index;
+
+        private CopiedField(FieldMetadata<?, ?> fieldMetadata) {
+            field = fieldMetadata.getField();
+            Class<?> type = fieldMetadata.getType();
+            typeName = getSourceName(type);
+            strategyUsed = !CopyStrategyLibrary.isReturnAsIs(fieldMetadata.getCopyStrategy());
+
+            getter = ReflectionUtil.findGetter(field.getName(), field.getDeclaringClass(), type);
+            setter = ReflectionUtil.findSetter(field.getName(), field.getDeclaringClass(), type);
+            if (getter == null || setter == null) {
+                getter = null;
+                setter = null;
+                int modifiers = field.getModifiers();
+                reflected = !Modifier.isPublic(modifiers) || Modifier.isFinal(modifiers)
+                        || !ClassGenerator.isAccessible(field.getDeclaringClass());
+            } else {
+                reflected = !ClassGenerator.isAccessible(getter.getDeclaringClass())
+                        || !ClassGenerator.isAccessible(setter.getDeclaringClass());
+            }
+            // Strategies return objects, which the generated code would have to unbox
+            reflected |= !ClassGenerator.isAccessible(type) || (strategyUsed && type.isPrimitive());
+        }
+
+        private String getLayout() {
+            if (reflected) {
+                return field.getName() + ":r;";
+            }
+            return field.getName() + (getter != null ? ":p" : ":f") + (strategyUsed ? "s;" : ";");
+        }
+
+        private String getCopyStatement() {
+            if (reflected) {
+                return "fields[" + index + "].setValue(result, fields[" + index + "].getCopyOfValue(source));";
+            }
+            String value = (getter != null) ? "source." + getter.getName() + "()" : "source." + field.getName();
+            if (strategyUsed) {
+                value = "(" + typeName + ") strategies[" + index + "].copy(" + value + ")";
+            }
+            if (setter != null) {
+                return "result." + setter.getName() + "(" + value + ");";
+            }
+            return "result." + field.getName() + " = " + value + ";";
+        }
+    }
+}
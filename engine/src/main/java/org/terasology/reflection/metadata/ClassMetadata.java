@@ -58,6 +58,7 @@
     private final ObjectConstructor<T> constructor;
     private Map<String, FIELD> fields = Maps.newHashMap();
     private TIntObjectMap<FIELD> fieldsById = new TIntObjectHashMap<>();
+    private CopyStrategy<T> copyStrategy;
 
     /**
      * Creates a class metatdata
@@ -171,6 +172,9 @@ public T newInstance() {
      * @return A copy of the given object
      */
     public T copy(T object) {
+        if (copyStrategy != null) {
+            return copyStrategy.copy(object);
+        }
         T result = constructor.construct();
         if (result != null) {
             for (FIELD field : fields.values()) {
@@ -180,6 +184,19 @@ public T copy(T object) {
         return result;
     }
 
+    /**
+     * Replaces the field by field copy of {@link #copy(Object)}, for example with a generated copy strategy.
+     *
+     * @param copyStrategy A strategy that copies all fields of this class like their field metadata would, or null
+     *                     to copy field by field
+     */
+    public void setCopyStrategy(CopyStrategy<T> copyStrategy) {
+        if (System.getSecurityManager() != null) {
+            System.getSecurityManager().checkPermission(CREATE_CLASS_METADATA);
+        }
+        this.copyStrategy = copyStrategy;
+    }
+
     /**
      * This method is for use in situations where metadata is being used generically and the actual type of the value cannot be
      *
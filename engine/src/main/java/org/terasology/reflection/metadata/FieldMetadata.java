@@ -76,6 +76,13 @@ private static Class<?> determineType(Field field, Class<?> ownerType) {
         return field.getType();
     }
 
+    /**
+     * @return The strategy used to copy the value of this field
+     */
+    public CopyStrategy<U> getCopyStrategy() {
+        return copyStrategy;
+    }
+
     /**
      * @return The class that owns this field
      */
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.reflection.reflect;
+
+import com.google.common.collect.Sets;
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+/**
+ * Generates classes with Javassist for other classes, such as invokers for their methods or copy strategies.
+ * <br><br>
+ * A generated class is defined in the class loader of the class it is generated for, next to it. So it can use that
+ * class and the types it references directly, as long as they are public, also when they are loaded by a module class
+ * loader. A class that was generated earlier under the same name is reused instead of being generated again.
+ */
+public class ClassGenerator {
+    private final ClassPool pool;
+    private final Set<ClassLoader> knownClassLoaders = Sets.newHashSet();
+
+    public ClassGenerator() {
+        pool = ClassPool.getDefault();
+    }
+
+    /**
+     * @param target    the class the generated class is for
+     * @param className the fully qualified name of the generated class, which has to identify what is generated
+     * @param builder   adds the members to the generated class, if it was not generated before
+     * @return the generated class
+     */
+    public Class<?> loadOrGenerate(Class<?> target, String className, ClassBuilder builder)
+            throws CannotCompileException, NotFoundException {
+        ClassLoader classLoader = target.getClassLoader();
+        synchronized (pool) {
+            try {
+                return classLoader.loadClass(className);
+            } catch (ClassNotFoundException ignored) {
+                // Not generated yet
+            }
+            if (knownClassLoaders.add(classLoader)) {
+                pool.appendClassPath(new LoaderClassPath(classLoader));
+            }
+            CtClass generatedClass = pool.makeClass(className);
+            try {
+                builder.build(generatedClass, pool);
+                return generatedClass.toClass(classLoader, target.getProtectionDomain());
+            } finally {
+                generatedClass.detach();
+            }
+        }
+    }
+
+    /**
+     * @return whether generated code can reference the type, which requires it and all classes enclosing it to be
+     *         public
+     */
+    public static boolean isAccessible(Class<?> type) {
+        if (type.isArray()) {
+            return isAccessible(type.getComponentType());
+        }
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the members of a generated class.
+     */
+    @FunctionalInterface
+    public interface ClassBuilder {
+        void build(CtClass generatedClass, ClassPool pool) throws CannotCompileException, NotFoundException;
+    }
+}
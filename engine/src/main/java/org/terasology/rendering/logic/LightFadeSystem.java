@@ -16,6 +16,7 @@
 package org.terasology.rendering.logic;
 
 import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityQuery;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
@@ -33,6 +34,18 @@ public class LightFadeSystem extends BaseComponentSystem implements UpdateSubscr
     @In
     private EntityManager entityManager;
 
+    private EntityQuery fadingLights;
+
+    @Override
+    public void initialise() {
+        fadingLights = entityManager.createQuery(LightFadeComponent.class, LightComponent.class);
+    }
+
+    @Override
+    public void shutdown() {
+        fadingLights.dispose();
+    }
+
     @ReceiveEvent(components = LightFadeComponent.class)
     public void startLightFade(OnActivatedComponent event, EntityRef entity, LightComponent light) {
         light.simulateFading = true;
@@ -47,7 +60,7 @@ public void stopLightFade(BeforeDeactivateComponent event, EntityRef entity, Lig
 
     @Override
     public void update(float delta) {
-        for (EntityRef fadingLight : entityManager.getEntitiesWith(LightFadeComponent.class, LightComponent.class)) {
+        for (EntityRef fadingLight : fadingLights) {
             LightFadeComponent fade = fadingLight.getComponent(LightFadeComponent.class);
             LightComponent light = fadingLight.getComponent(LightComponent.class);
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.rendering.nui.layers.ingame.metrics;
+
+import org.terasology.engine.Time;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.world.chunks.ChunkProvider;
+import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
+import org.terasology.world.chunks.pipeline.ChunkGenerationStage;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Shows the throughput and queue depth of each stage of the chunk generation pipeline.
+ */
+final class ChunkPipelineMode extends MetricsMode {
+    private final Map<ChunkGenerationStage, Long> lastCompleted = new EnumMap<>(ChunkGenerationStage.class);
+    private final Map<ChunkGenerationStage, Long> lastBusyTime = new EnumMap<>(ChunkGenerationStage.class);
+    private long lastTime;
+    private String lastMetric;
+
+    ChunkPipelineMode() {
+        super("Chunk Pipeline");
+        lastMetric = getName();
+    }
+
+    @Override
+    public String getMetrics() {
+        ChunkGenerationPipeline pipeline = getPipeline();
+        Time time = CoreRegistry.get(Time.class);
+        if (pipeline == null || time == null) {
+            return getName();
+        }
+
+        // only update the metric a minimum once a second, cache the result
+        long currentTime = time.getRealTimeInMs();
+        long timeDifference = currentTime - lastTime;
+        if (timeDifference >= 1000) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(getName());
+            builder.append("\n");
+            for (ChunkGenerationStage stage : pipeline.getStages()) {
+                long completed = pipeline.getCompletedTaskCount(stage);
+                long busyTime = pipeline.getBusyTimeInMs(stage);
+                long completedDelta = completed - lastCompleted.getOrDefault(stage, 0L);
+                long busyDelta = busyTime - lastBusyTime.getOrDefault(stage, 0L);
+                int threads = pipeline.getThreadCount(stage);
+                builder.append(String.format("%s: %.1f tasks/s, %.2fms/task, %d%% busy, queued %d, threads %d%n",
+                        stage, completedDelta * 1000.0 / timeDifference,
+                        completedDelta > 0 ? (double) busyDelta / completedDelta : 0.0,
+                        100 * busyDelta / (timeDifference * threads),
+                        pipeline.getQueueSize(stage), threads));
+                lastCompleted.put(stage, completed);
+                lastBusyTime.put(stage, busyTime);
+            }
+            if (lastTime != 0) {
+                // ignore the first update as it will not have useful data
+                lastMetric = builder.toString();
+            }
+            lastTime = currentTime;
+        }
+        return lastMetric;
+    }
+
+    private ChunkGenerationPipeline getPipeline() {
+        ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
+        return chunkProvider != null ? chunkProvider.getPipeline() : null;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return getPipeline() != null;
+    }
+
+    @Override
+    public boolean isPerformanceManagerMode() {
+        return false;
+    }
+}
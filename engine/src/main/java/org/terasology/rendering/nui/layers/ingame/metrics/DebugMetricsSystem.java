@@ -52,8 +52,11 @@ public void initialise() {
         register(new RunningMeansMode());
         register(new SpikesMode());
         register(new AllocationsMode());
+        register(new CacheHitRatesMode());
+        register(new StatisticsMode());
         register(new RunningThreadsMode());
         register(new WorldRendererMode());
+        register(new ChunkPipelineMode());
         register(new RenderingExecTimeMeansMode("Rendering - Execution Time: Running Means - Sorted Alphabetically"));
         currentMode = defaultMode;
     }
@@ -117,9 +117,19 @@ public enum RenderPhase {
     private int timeToGenerateOptimizedBuffers;
 
     private GLBufferPool bufferPool;
+    private DirectIntBufferPool directBufferPool;
 
     public ChunkMesh(GLBufferPool bufferPool) {
+        this(bufferPool, null);
+    }
+
+    /**
+     * @param directBufferPool the pool the final vertex and index buffers are taken from and returned to once they are
+     *                         no longer needed, or null if they are not pooled
+     */
+    ChunkMesh(GLBufferPool bufferPool, DirectIntBufferPool directBufferPool) {
         this.bufferPool = bufferPool;
+        this.directBufferPool = directBufferPool;
         for (RenderType type : RenderType.values()) {
             vertexElements.put(type, new VertexElements());
         }
@@ -151,6 +161,7 @@ public boolean generateVBOs() {
                 }
 
                 // Free unused space on the heap
+                releaseFinalBuffers();
                 vertexElements = null;
                 // Calculate the final amount of triangles
                 triangleCount = (vertexCount[0] + vertexCount[1] + vertexCount[2] + vertexCount[3]) / 3;
@@ -182,6 +193,21 @@ private void generateVBO(RenderType type) {
 
     }
 
+    private void releaseFinalBuffers() {
+        if (directBufferPool != null && vertexElements != null) {
+            for (VertexElements elements : vertexElements.values()) {
+                if (elements.finalVertices != null) {
+                    directBufferPool.release(elements.finalVertices);
+                    elements.finalVertices = null;
+                }
+                if (elements.finalIndices != null) {
+                    directBufferPool.release(elements.finalIndices);
+                    elements.finalIndices = null;
+                }
+            }
+        }
+    }
+
     private void renderVbo(int id) {
         if (lock.tryLock()) {
             try {
@@ -312,6 +338,7 @@ public void dispose() {
                 }
 
                 disposed = true;
+                releaseFinalBuffers();
                 vertexElements = null;
             }
         } finally {
@@ -16,37 +16,54 @@
 package org.terasology.rendering.primitives;
 
 import com.google.common.base.Stopwatch;
-import gnu.trove.iterator.TIntIterator;
 import org.lwjgl.BufferUtils;
 import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
 import org.terasology.math.Direction;
 import org.terasology.math.TeraMath;
-import org.terasology.math.geom.Vector3f;
 import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.rendering.RenderMath;
 import org.terasology.world.ChunkView;
 import org.terasology.world.block.Block;
 import org.terasology.world.chunks.ChunkConstants;
 
+import java.nio.IntBuffer;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Generates tessellated chunk meshes from chunks.
- *
+ * <br><br>
+ * The final vertex data is written without allocating objects per vertex. If enabled, it is written into pooled
+ * direct buffers, which the meshes return to the pool once their data has been uploaded or they are disposed.
  */
 public final class ChunkTessellator {
 
+    /**
+     * The number of ints per vertex: position, tex coords, flags, lighting, packed color and normal.
+     */
+    private static final int VERTEX_SIZE = 3 + 2 + 1 + 3 + 1 + 3;
+
     private static int statVertexArrayUpdateCount;
 
     private GLBufferPool bufferPool;
+    private DirectIntBufferPool directBufferPool;
 
     public ChunkTessellator(GLBufferPool bufferPool) {
+        this(bufferPool, false);
+    }
+
+    /**
+     * @param pooledBuffers whether the final vertex and index buffers of the generated meshes are taken from a pool
+     */
+    public ChunkTessellator(GLBufferPool bufferPool, boolean pooledBuffers) {
         this.bufferPool = bufferPool;
+        if (pooledBuffers) {
+            directBufferPool = new DirectIntBufferPool();
+        }
     }
 
     public ChunkMesh generateMesh(ChunkView chunkView, int meshHeight, int verticalOffset) {
         PerformanceMonitor.startActivity("GenerateMesh");
-        ChunkMesh mesh = new ChunkMesh(bufferPool);
+        ChunkMesh mesh = new ChunkMesh(bufferPool, directBufferPool);
 
         final Stopwatch watch = Stopwatch.createStarted();
 
@@ -77,47 +94,40 @@ public ChunkMesh generateMesh(ChunkView chunkView, int meshHeight, int verticalO
     private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
         PerformanceMonitor.startActivity("OptimizeBuffers");
 
+        float[] lighting = new float[3];
         for (ChunkMesh.RenderType type : ChunkMesh.RenderType.values()) {
             ChunkMesh.VertexElements elements = mesh.getVertexElements(type);
-            // Vertices double to account for light info
-            elements.finalVertices = BufferUtils.createIntBuffer(
-                    elements.vertices.size() + /* POSITION */
-                            elements.tex.size() + /* TEX0 (UV0 and flags) */
-                            elements.tex.size() + /* TEX1 (lighting data) */
-                            elements.flags.size() + /* FLAGS */
-                            elements.color.size() + /* COLOR */
-                            elements.normals.size()  /* NORMALS */
-            );
+            IntBuffer vertices = createIntBuffer(elements.vertices.size() / 3 * VERTEX_SIZE);
 
             int cTex = 0;
             int cColor = 0;
             int cFlags = 0;
             for (int i = 0; i < elements.vertices.size(); i += 3, cTex += 2, cColor += 4, cFlags++) {
-                Vector3f vertexPos = new Vector3f(
-                        elements.vertices.get(i),
-                        elements.vertices.get(i + 1),
-                        elements.vertices.get(i + 2));
+                float x = elements.vertices.get(i);
+                float y = elements.vertices.get(i + 1);
+                float z = elements.vertices.get(i + 2);
 
                 /* POSITION */
-                elements.finalVertices.put(Float.floatToIntBits(vertexPos.x));
-                elements.finalVertices.put(Float.floatToIntBits(vertexPos.y));
-                elements.finalVertices.put(Float.floatToIntBits(vertexPos.z));
+                vertices.put(Float.floatToIntBits(x));
+                vertices.put(Float.floatToIntBits(y));
+                vertices.put(Float.floatToIntBits(z));
 
                 /* UV0 - TEX DATA 0 */
-                elements.finalVertices.put(Float.floatToIntBits(elements.tex.get(cTex)));
-                elements.finalVertices.put(Float.floatToIntBits(elements.tex.get(cTex + 1)));
+                vertices.put(Float.floatToIntBits(elements.tex.get(cTex)));
+                vertices.put(Float.floatToIntBits(elements.tex.get(cTex + 1)));
 
                 /* FLAGS */
-                elements.finalVertices.put(Float.floatToIntBits(elements.flags.get(cFlags)));
+                vertices.put(Float.floatToIntBits(elements.flags.get(cFlags)));
 
-                float[] result = new float[3];
-                Vector3f normal = new Vector3f(elements.normals.get(i), elements.normals.get(i + 1), elements.normals.get(i + 2));
-                calcLightingValuesForVertexPos(chunkView, vertexPos, result, normal);
+                float normalX = elements.normals.get(i);
+                float normalY = elements.normals.get(i + 1);
+                float normalZ = elements.normals.get(i + 2);
+                calcLightingValuesForVertexPos(chunkView, x, y, z, normalX, normalY, normalZ, lighting);
 
                 /* LIGHTING DATA / TEX DATA 1 */
-                elements.finalVertices.put(Float.floatToIntBits(result[0]));
-                elements.finalVertices.put(Float.floatToIntBits(result[1]));
-                elements.finalVertices.put(Float.floatToIntBits(result[2]));
+                vertices.put(Float.floatToIntBits(lighting[0]));
+                vertices.put(Float.floatToIntBits(lighting[1]));
+                vertices.put(Float.floatToIntBits(lighting[2]));
 
                 /* PACKED COLOR */
                 final int packedColor = RenderMath.packColor(
@@ -125,103 +135,88 @@ private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
                         elements.color.get(cColor + 1),
                         elements.color.get(cColor + 2),
                         elements.color.get(cColor + 3));
-                elements.finalVertices.put(packedColor);
+                vertices.put(packedColor);
 
                 /* NORMALS */
-                elements.finalVertices.put(Float.floatToIntBits(normal.x));
-                elements.finalVertices.put(Float.floatToIntBits(normal.y));
-                elements.finalVertices.put(Float.floatToIntBits(normal.z));
+                vertices.put(Float.floatToIntBits(normalX));
+                vertices.put(Float.floatToIntBits(normalY));
+                vertices.put(Float.floatToIntBits(normalZ));
             }
 
-            elements.finalIndices = BufferUtils.createIntBuffer(elements.indices.size());
-            TIntIterator indexIterator = elements.indices.iterator();
-            while (indexIterator.hasNext()) {
-                elements.finalIndices.put(indexIterator.next());
+            IntBuffer indices = createIntBuffer(elements.indices.size());
+            for (int i = 0; i < elements.indices.size(); i++) {
+                indices.put(elements.indices.get(i));
             }
 
-            elements.finalVertices.flip();
-            elements.finalIndices.flip();
+            vertices.flip();
+            indices.flip();
+            elements.finalVertices = vertices;
+            elements.finalIndices = indices;
         }
         PerformanceMonitor.endActivity();
     }
 
-    private void calcLightingValuesForVertexPos(ChunkView chunkView, Vector3f vertexPos, float[] output, Vector3f normal) {
-        PerformanceMonitor.startActivity("calcLighting");
-        float[] lights = new float[8];
-        float[] blockLights = new float[8];
-        Block[] blocks = new Block[4];
-
-        PerformanceMonitor.startActivity("gatherLightInfo");
-        Direction dir = Direction.inDirection(normal);
-        switch (dir) {
-            case LEFT:
-            case RIGHT:
-                blocks[0] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y + 0.1f), (vertexPos.z + 0.1f));
-                blocks[1] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y + 0.1f), (vertexPos.z - 0.1f));
-                blocks[2] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-                blocks[3] = chunkView.getBlock((vertexPos.x + 0.8f * normal.x), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-                break;
-            case FORWARD:
-            case BACKWARD:
-                blocks[0] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y + 0.1f), (vertexPos.z + 0.8f * normal.z));
-                blocks[1] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.8f * normal.z));
-                blocks[2] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.8f * normal.z));
-                blocks[3] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y + 0.1f), (vertexPos.z + 0.8f * normal.z));
-                break;
-            default:
-                blocks[0] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z + 0.1f));
-                blocks[1] = chunkView.getBlock((vertexPos.x + 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z - 0.1f));
-                blocks[2] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z - 0.1f));
-                blocks[3] = chunkView.getBlock((vertexPos.x - 0.1f), (vertexPos.y + 0.8f * normal.y), (vertexPos.z + 0.1f));
+    private IntBuffer createIntBuffer(int capacity) {
+        if (directBufferPool != null) {
+            return directBufferPool.acquire(capacity);
         }
+        return BufferUtils.createIntBuffer(capacity);
+    }
 
-        lights[0] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-        lights[1] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        lights[2] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        lights[3] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-
-        lights[4] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-        lights[5] = chunkView.getSunlight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        lights[6] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        lights[7] = chunkView.getSunlight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-
-        blockLights[0] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-        blockLights[1] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        blockLights[2] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z - 0.1f));
-        blockLights[3] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y + 0.8f), (vertexPos.z + 0.1f));
-
-        blockLights[4] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-        blockLights[5] = chunkView.getLight((vertexPos.x + 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        blockLights[6] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z - 0.1f));
-        blockLights[7] = chunkView.getLight((vertexPos.x - 0.1f), (vertexPos.y - 0.1f), (vertexPos.z + 0.1f));
-        PerformanceMonitor.endActivity();
+    /**
+     * Calculates the sunlight, block light and ambient occlusion of a vertex without allocating any objects, from the
+     * blocks in front of the face and the light around the vertex.
+     *
+     * @param output receives the sunlight, block light and ambient occlusion, in this order
+     */
+    private void calcLightingValuesForVertexPos(ChunkView chunkView, float x, float y, float z,
+                                                float normalX, float normalY, float normalZ, float[] output) {
+        Direction dir = Direction.inDirection(normalX, normalY, normalZ);
+        int occCounter = 0;
+        int occCounterBillboard = 0;
+        for (int i = 0; i < 4; i++) {
+            float offsetA = (i < 2) ? 0.1f : -0.1f;
+            float offsetB = (i == 0 || i == 3) ? 0.1f : -0.1f;
+            Block block;
+            switch (dir) {
+                case LEFT:
+                case RIGHT:
+                    block = chunkView.getBlock(x + 0.8f * normalX, y + offsetA, z + offsetB);
+                    break;
+                case FORWARD:
+                case BACKWARD:
+                    block = chunkView.getBlock(x + offsetA, y + offsetB, z + 0.8f * normalZ);
+                    break;
+                default:
+                    block = chunkView.getBlock(x + offsetA, y + 0.8f * normalY, z + offsetB);
+            }
+
+            if (block.isShadowCasting() && !block.isTranslucent()) {
+                occCounter++;
+            } else if (block.isShadowCasting()) {
+                occCounterBillboard++;
+            }
+        }
 
         float resultLight = 0;
         float resultBlockLight = 0;
         int counterLight = 0;
         int counterBlockLight = 0;
-
-        int occCounter = 0;
-        int occCounterBillboard = 0;
         for (int i = 0; i < 8; i++) {
-            if (lights[i] > 0) {
-                resultLight += lights[i];
+            float sampleX = x + (((i & 1) == 0) ? 0.1f : -0.1f);
+            float sampleY = y + ((i < 4) ? 0.8f : -0.1f);
+            float sampleZ = z + (((i & 2) == 0) ? 0.1f : -0.1f);
+
+            byte light = chunkView.getSunlight(sampleX, sampleY, sampleZ);
+            if (light > 0) {
+                resultLight += light;
                 counterLight++;
             }
-            if (blockLights[i] > 0) {
-                resultBlockLight += blockLights[i];
+            byte blockLight = chunkView.getLight(sampleX, sampleY, sampleZ);
+            if (blockLight > 0) {
+                resultBlockLight += blockLight;
                 counterBlockLight++;
             }
-
-            if (i < 4) {
-                Block b = blocks[i];
-
-                if (b.isShadowCasting() && !b.isTranslucent()) {
-                    occCounter++;
-                } else if (b.isShadowCasting()) {
-                    occCounterBillboard++;
-                }
-            }
         }
 
         double resultAmbientOcclusion = (TeraMath.pow(0.40, occCounter) + TeraMath.pow(0.80, occCounterBillboard)) / 2.0;
@@ -239,7 +234,6 @@ private void calcLightingValuesForVertexPos(ChunkView chunkView, Vector3f vertex
         }
 
         output[2] = (float) resultAmbientOcclusion;
-        PerformanceMonitor.endActivity();
     }
 
     public static int getVertexArrayUpdateCount() {
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.rendering.primitives;
+
+import org.lwjgl.BufferUtils;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A thread-safe pool of direct int buffers, so that the vertex data of chunk meshes is written into buffers that are
+ * reused once the data has been uploaded to the graphics card.
+ * <br><br>
+ * Buffers are grouped by their capacity, which is always a power of two, and only a limited number of buffers of each
+ * capacity is kept.
+ */
+final class DirectIntBufferPool {
+    private static final int MIN_CAPACITY_LOG = 10;
+    private static final int MAX_CAPACITY_LOG = 30;
+    private static final int MAX_POOLED_PER_CAPACITY = 16;
+
+    private final BlockingQueue<IntBuffer>[] pools;
+
+    @SuppressWarnings("unchecked")
+    DirectIntBufferPool() {
+        pools = new BlockingQueue[MAX_CAPACITY_LOG + 1];
+        for (int i = MIN_CAPACITY_LOG; i <= MAX_CAPACITY_LOG; ++i) {
+            pools[i] = new LinkedBlockingQueue<>(MAX_POOLED_PER_CAPACITY);
+        }
+    }
+
+    /**
+     * @return an empty buffer with at least the given capacity
+     */
+    IntBuffer acquire(int capacity) {
+        int capacityLog = Math.max(MIN_CAPACITY_LOG, 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1));
+        IntBuffer buffer = pools[capacityLog].poll();
+        if (buffer == null) {
+            return BufferUtils.createIntBuffer(1 << capacityLog);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer acquired from this pool. The buffer must not be used by the caller afterwards.
+     */
+    void release(IntBuffer buffer) {
+        int capacity = buffer.capacity();
+        int capacityLog = 31 - Integer.numberOfLeadingZeros(capacity);
+        if (capacity == 1 << capacityLog && capacityLog >= MIN_CAPACITY_LOG && capacityLog <= MAX_CAPACITY_LOG) {
+            pools[capacityLog].offer(buffer);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.compression;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression codecs available for stored and transmitted data.
+ * <br><br>
+ * Compressed data starts with a header identifying its codec, so {@link #decompress(byte[])} can read the data of
+ * all codecs, including data written before the codec was selectable.
+ */
+public enum CompressionCodec {
+    /**
+     * Deflate in the gzip format. Compresses well, but is slow. All chunks stored by earlier versions use it.
+     */
+    DEFLATE {
+        @Override
+        public byte[] compress(byte[] data) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length / 4);
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+                gzipOut.write(data);
+            } catch (IOException e) {
+                // as no real IO is involved this should not happen
+                throw new RuntimeException(e);
+            }
+            return baos.toByteArray();
+        }
+
+        @Override
+        boolean isFormatOf(byte[] data) {
+            return data.length >= 2 && data[0] == (byte) GZIPInputStream.GZIP_MAGIC
+                    && data[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+        }
+
+        @Override
+        byte[] decompressData(byte[] data) throws IOException {
+            try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                return ByteStreams.toByteArray(gzipIn);
+            }
+        }
+    },
+
+    /**
+     * The LZ4 block format. Several times faster than deflate in both directions, for a somewhat larger result.
+     */
+    LZ4 {
+        private final byte[] magic = {'L', 'Z', '4', 1};
+        private final int headerSize = magic.length + Integer.BYTES;
+
+        @Override
+        public byte[] compress(byte[] data) {
+            byte[] result = new byte[headerSize + Lz4.maxCompressedLength(data.length)];
+            System.arraycopy(magic, 0, result, 0, magic.length);
+            writeInt(data.length, result, magic.length);
+            int compressedLength = Lz4.compress(data, data.length, result, headerSize);
+            return Arrays.copyOf(result, headerSize + compressedLength);
+        }
+
+        @Override
+        boolean isFormatOf(byte[] data) {
+            return data.length >= headerSize && data[0] == magic[0] && data[1] == magic[1] && data[2] == magic[2]
+                    && data[3] == magic[3];
+        }
+
+        @Override
+        byte[] decompressData(byte[] data) throws IOException {
+            int length = readInt(data, magic.length);
+            if (length < 0) {
+                throw new IOException("Malformed LZ4 data: negative length");
+            }
+            byte[] result = new byte[length];
+            Lz4.decompress(data, headerSize, data.length - headerSize, result);
+            return result;
+        }
+    };
+
+    /**
+     * @return the compressed data, starting with the header of this codec
+     */
+    public abstract byte[] compress(byte[] data);
+
+    abstract boolean isFormatOf(byte[] data);
+
+    abstract byte[] decompressData(byte[] data) throws IOException;
+
+    /**
+     * Decompresses data compressed by any codec.
+     *
+     * @throws IOException if the data was not compressed by a known codec or is corrupt
+     */
+    public static byte[] decompress(byte[] data) throws IOException {
+        for (CompressionCodec codec : values()) {
+            if (codec.isFormatOf(data)) {
+                return codec.decompressData(data);
+            }
+        }
+        throw new IOException("Unknown compression format");
+    }
+
+    private static void writeInt(int value, byte[] dest, int pos) {
+        dest[pos] = (byte) (value >>> 24);
+        dest[pos + 1] = (byte) (value >>> 16);
+        dest[pos + 2] = (byte) (value >>> 8);
+        dest[pos + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] data, int pos) {
+        return (data[pos] & 0xFF) << 24 | (data[pos + 1] & 0xFF) << 16 | (data[pos + 2] & 0xFF) << 8 | (data[pos + 3] & 0xFF);
+    }
+}
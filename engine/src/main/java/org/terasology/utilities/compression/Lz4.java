@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.compression;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pure Java implementation of the LZ4 block format.
+ * <br><br>
+ * Matches are found with a single hash table of 4 byte sequences, as in the fast mode of the reference
+ * implementation, which trades some compression ratio for speed.
+ */
+final class Lz4 {
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int HASH_LOG = 12;
+    private static final int SKIP_STRENGTH = 6;
+    private static final int RUN_MASK = 0xF;
+
+    private Lz4() {
+    }
+
+    /**
+     * @return the maximum size of the compressed data for the given uncompressed size
+     */
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses the source into the destination, which must be at least {@link #maxCompressedLength(int)} long.
+     *
+     * @return the number of bytes written to the destination
+     */
+    static int compress(byte[] src, int srcLength, byte[] dest, int destOffset) {
+        int[] hashTable = new int[1 << HASH_LOG];
+        Arrays.fill(hashTable, -1);
+
+        int anchor = 0;
+        int dp = destOffset;
+        int matchLimit = srcLength - LAST_LITERALS;
+        int findLimit = srcLength - MATCH_FIND_LIMIT;
+        int sp = 0;
+        while (sp < findLimit) {
+            int sequence = readInt(src, sp);
+            int hash = hash(sequence);
+            int ref = hashTable[hash];
+            hashTable[hash] = sp;
+            if (ref < 0 || sp - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                // Skip faster through data that does not compress
+                sp += 1 + ((sp - anchor) >>> SKIP_STRENGTH);
+                continue;
+            }
+
+            while (sp > anchor && ref > 0 && src[sp - 1] == src[ref - 1]) {
+                sp--;
+                ref--;
+            }
+            int matchLength = MIN_MATCH;
+            while (sp + matchLength < matchLimit && src[ref + matchLength] == src[sp + matchLength]) {
+                matchLength++;
+            }
+
+            dp = writeSequence(src, anchor, sp - anchor, sp - ref, matchLength, dest, dp);
+            sp += matchLength;
+            anchor = sp;
+        }
+
+        int literalLength = srcLength - anchor;
+        int tokenPos = dp++;
+        dp = writeLiterals(src, anchor, literalLength, dest, dp);
+        dest[tokenPos] = (byte) (Math.min(literalLength, RUN_MASK) << 4);
+        return dp - destOffset;
+    }
+
+    /**
+     * Decompresses the source into the destination, which must be exactly as long as the uncompressed data.
+     *
+     * @throws IOException if the source is not valid LZ4 data of the expected length
+     */
+    static void decompress(byte[] src, int srcOffset, int srcLength, byte[] dest) throws IOException {
+        int sp = srcOffset;
+        int srcEnd = srcOffset + srcLength;
+        int dp = 0;
+        try {
+            while (true) {
+                int token = src[sp++] & 0xFF;
+
+                int literalLength = token >>> 4;
+                if (literalLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[sp++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 0xFF);
+                }
+                if (sp + literalLength > srcEnd || dp + literalLength > dest.length) {
+                    throw new IOException("Malformed LZ4 data: literals exceed the data");
+                }
+                System.arraycopy(src, sp, dest, dp, literalLength);
+                sp += literalLength;
+                dp += literalLength;
+                if (sp == srcEnd) {
+                    break;
+                }
+
+                int offset = (src[sp++] & 0xFF) | ((src[sp++] & 0xFF) << 8);
+                int matchLength = token & RUN_MASK;
+                if (matchLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[sp++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 0xFF);
+                }
+                matchLength += MIN_MATCH;
+                int ref = dp - offset;
+                if (offset == 0 || ref < 0 || dp + matchLength > dest.length) {
+                    throw new IOException("Malformed LZ4 data: invalid match");
+                }
+                if (offset >= matchLength) {
+                    System.arraycopy(dest, ref, dest, dp, matchLength);
+                } else {
+                    // Overlapping match, repeats the last offset bytes
+                    for (int i = 0; i < matchLength; ++i) {
+                        dest[dp + i] = dest[ref + i];
+                    }
+                }
+                dp += matchLength;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Malformed LZ4 data: unexpected end", e);
+        }
+        if (dp != dest.length) {
+            throw new IOException("Malformed LZ4 data: expected " + dest.length + " bytes but got " + dp);
+        }
+    }
+
+    private static int writeSequence(byte[] src, int literalStart, int literalLength, int offset, int matchLength,
+                                     byte[] dest, int destPos) {
+        int tokenPos = destPos;
+        int dp = writeLiterals(src, literalStart, literalLength, dest, destPos + 1);
+        dest[dp++] = (byte) offset;
+        dest[dp++] = (byte) (offset >>> 8);
+        int remainingMatchLength = matchLength - MIN_MATCH;
+        if (remainingMatchLength >= RUN_MASK) {
+            dp = writeLength(remainingMatchLength - RUN_MASK, dest, dp);
+        }
+        dest[tokenPos] = (byte) ((Math.min(literalLength, RUN_MASK) << 4) | Math.min(remainingMatchLength, RUN_MASK));
+        return dp;
+    }
+
+    /**
+     * Writes the extra literal length bytes and the literals, the token must be written by the caller.
+     */
+    private static int writeLiterals(byte[] src, int start, int length, byte[] dest, int destPos) {
+        int dp = destPos;
+        if (length >= RUN_MASK) {
+            dp = writeLength(length - RUN_MASK, dest, dp);
+        }
+        System.arraycopy(src, start, dest, dp, length);
+        return dp + length;
+    }
+
+    private static int writeLength(int length, byte[] dest, int destPos) {
+        int dp = destPos;
+        int remaining = length;
+        while (remaining >= 0xFF) {
+            dest[dp++] = (byte) 0xFF;
+            remaining -= 0xFF;
+        }
+        dest[dp++] = (byte) remaining;
+        return dp;
+    }
+
+    private static int readInt(byte[] data, int pos) {
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8 | (data[pos + 2] & 0xFF) << 16 | (data[pos + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+}
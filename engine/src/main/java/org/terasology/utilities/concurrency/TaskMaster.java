@@ -86,6 +86,13 @@ public void put(T task) throws InterruptedException {
         taskQueue.put(task);
     }
 
+    /**
+     * @return The number of tasks waiting to be processed
+     */
+    public int getQueueSize() {
+        return taskQueue.size();
+    }
+
     public void shutdown(T shutdownTask, boolean awaitComplete) {
         if (!shutdownTask.isTerminateSignal()) {
             throw new IllegalArgumentException("Expected task to provide terminate signal");
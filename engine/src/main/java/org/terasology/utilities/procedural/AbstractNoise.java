@@ -16,6 +16,9 @@
 
 package org.terasology.utilities.procedural;
 
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Rect2i;
+
 /**
  * An abstract implementation of most methods.
  * The int-based methods delegate to float-bases ones.
@@ -36,4 +39,35 @@ public float noise(int x, int y, int z) {
     public float noise(float x, float y) {
         return noise(x, y, 0);
     }
+
+    private final ScratchBuffer xBuffer = new ScratchBuffer();
+    private final ScratchBuffer yBuffer = new ScratchBuffer();
+    private final ScratchBuffer zBuffer = new ScratchBuffer();
+
+    /**
+     * Like the int-based methods, samples the area at the float positions of its blocks.
+     */
+    @Override
+    public void noise(Rect2i region, float[] output) {
+        noise(coordinates(xBuffer, region.minX(), region.sizeX()), region.sizeX(),
+                coordinates(yBuffer, region.minY(), region.sizeY()), region.sizeY(), output);
+    }
+
+    /**
+     * Like the int-based methods, samples the region at the float positions of its blocks.
+     */
+    @Override
+    public void noise(Region3i region, float[] output) {
+        noise(coordinates(xBuffer, region.minX(), region.sizeX()), region.sizeX(),
+                coordinates(yBuffer, region.minY(), region.sizeY()), region.sizeY(),
+                coordinates(zBuffer, region.minZ(), region.sizeZ()), region.sizeZ(), output);
+    }
+
+    private static float[] coordinates(ScratchBuffer buffer, int min, int size) {
+        float[] coordinates = buffer.floats(size);
+        for (int i = 0; i < size; ++i) {
+            coordinates[i] = min + i;
+        }
+        return coordinates;
+    }
 }
@@ -16,6 +16,8 @@
 
 package org.terasology.utilities.procedural;
 
+import java.util.Arrays;
+
 /**
  * Computes Brownian noise based on some noise generator.
  * Originally, Brown integrates white noise, but using other noises can be sometimes useful, too.
@@ -40,6 +42,11 @@ public class BrownianNoise extends AbstractNoise {
     private float scale;                // 1/sum of all weights
     private final Noise other;
 
+    private final ScratchBuffer workingXBuffer = new ScratchBuffer();
+    private final ScratchBuffer workingYBuffer = new ScratchBuffer();
+    private final ScratchBuffer workingZBuffer = new ScratchBuffer();
+    private final ScratchBuffer octaveBuffer = new ScratchBuffer();
+
     /**
      * Initialize with 9 octaves - <b>this is quite expensive, but backwards compatible</b>
      * @param other the noise to use as a basis
@@ -107,6 +114,70 @@ public float noise(float x, float y, float z) {
         return result * scale;
     }
 
+    /**
+     * Samples the base noise for a whole octave at a time, so that it can share work between the positions.
+     */
+    @Override
+    public void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] output) {
+        int size = sizeX * sizeY;
+        float[] workingXs = copy(xs, sizeX, workingXBuffer);
+        float[] workingYs = copy(ys, sizeY, workingYBuffer);
+        float[] octave = octaveBuffer.floats(size);
+        Arrays.fill(output, 0, size, 0.0f);
+        for (int i = 0; i < getOctaves(); i++) {
+            other.noise(workingXs, sizeX, workingYs, sizeY, octave);
+            for (int index = 0; index < size; index++) {
+                output[index] += octave[index] * spectralWeights[i];
+            }
+
+            scale(workingXs, sizeX, getLacunarity());
+            scale(workingYs, sizeY, getLacunarity());
+        }
+
+        for (int index = 0; index < size; index++) {
+            output[index] *= scale;
+        }
+    }
+
+    /**
+     * Samples the base noise for a whole octave at a time, so that it can share work between the positions.
+     */
+    @Override
+    public void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] zs, int sizeZ, float[] output) {
+        int size = sizeX * sizeY * sizeZ;
+        float[] workingXs = copy(xs, sizeX, workingXBuffer);
+        float[] workingYs = copy(ys, sizeY, workingYBuffer);
+        float[] workingZs = copy(zs, sizeZ, workingZBuffer);
+        float[] octave = octaveBuffer.floats(size);
+        Arrays.fill(output, 0, size, 0.0f);
+        for (int i = 0; i < getOctaves(); i++) {
+            other.noise(workingXs, sizeX, workingYs, sizeY, workingZs, sizeZ, octave);
+            for (int index = 0; index < size; index++) {
+                output[index] += octave[index] * spectralWeights[i];
+            }
+
+            scale(workingXs, sizeX, getLacunarity());
+            scale(workingYs, sizeY, getLacunarity());
+            scale(workingZs, sizeZ, getLacunarity());
+        }
+
+        for (int index = 0; index < size; index++) {
+            output[index] *= scale;
+        }
+    }
+
+    private static float[] copy(float[] coordinates, int size, ScratchBuffer buffer) {
+        float[] copy = buffer.floats(size);
+        System.arraycopy(coordinates, 0, copy, 0, size);
+        return copy;
+    }
+
+    private static void scale(float[] coordinates, int size, double factor) {
+        for (int i = 0; i < size; i++) {
+            coordinates[i] *= factor;
+        }
+    }
+
     private static float computeScale(float[] spectralWeights) {
         float sum = 0;
         for (float weight : spectralWeights) {
@@ -16,6 +16,9 @@
 
 package org.terasology.utilities.procedural;
 
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Rect2i;
+
 /**
  * Provides or generates noise
  *
@@ -59,4 +62,106 @@ public interface Noise {
      * @return The noise value in the range [-1..1]
      */
     float noise(float x, float y, float z);
+
+    /**
+     * Writes the noise values of all positions in the given area to the output array, with the x-axis varying fastest.
+     * Implementations may override this to share work between neighbouring positions.
+     *
+     * @param region the area to sample
+     * @param output receives the values, must hold at least {@code region.sizeX() * region.sizeY()} values
+     */
+    default void noise(Rect2i region, float[] output) {
+        int index = 0;
+        for (int y = region.minY(); y <= region.maxY(); ++y) {
+            for (int x = region.minX(); x <= region.maxX(); ++x) {
+                output[index++] = noise(x, y);
+            }
+        }
+    }
+
+    /**
+     * Writes the noise values at every combination of the given coordinates to the output array, with the
+     * x-coordinates varying fastest.
+     *
+     * @param xs     the coordinates on the x-axis
+     * @param ys     the coordinates on the y-axis
+     * @param output receives the values, must hold at least {@code xs.length * ys.length} values
+     */
+    default void noise(float[] xs, float[] ys, float[] output) {
+        noise(xs, xs.length, ys, ys.length, output);
+    }
+
+    /**
+     * Writes the noise values at every combination of the leading coordinates of the given arrays to the output array,
+     * with the x-coordinates varying fastest. Implementations may override this to share work between the positions.
+     *
+     * @param xs     the coordinates on the x-axis
+     * @param sizeX  the number of coordinates to use from xs
+     * @param ys     the coordinates on the y-axis
+     * @param sizeY  the number of coordinates to use from ys
+     * @param output receives the values, must hold at least {@code sizeX * sizeY} values
+     */
+    default void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] output) {
+        int index = 0;
+        for (int j = 0; j < sizeY; ++j) {
+            for (int i = 0; i < sizeX; ++i) {
+                output[index++] = noise(xs[i], ys[j]);
+            }
+        }
+    }
+
+    /**
+     * Writes the noise values of all positions in the given region to the output array, with the x-axis varying
+     * fastest, followed by the y-axis. Implementations may override this to share work between neighbouring positions.
+     *
+     * @param region the region to sample
+     * @param output receives the values, must hold at least {@code region.sizeX() * region.sizeY() * region.sizeZ()} values
+     */
+    default void noise(Region3i region, float[] output) {
+        int index = 0;
+        for (int z = region.minZ(); z <= region.maxZ(); ++z) {
+            for (int y = region.minY(); y <= region.maxY(); ++y) {
+                for (int x = region.minX(); x <= region.maxX(); ++x) {
+                    output[index++] = noise(x, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the noise values at every combination of the given coordinates to the output array, with the
+     * x-coordinates varying fastest, followed by the y-coordinates.
+     *
+     * @param xs     the coordinates on the x-axis
+     * @param ys     the coordinates on the y-axis
+     * @param zs     the coordinates on the z-axis
+     * @param output receives the values, must hold at least {@code xs.length * ys.length * zs.length} values
+     */
+    default void noise(float[] xs, float[] ys, float[] zs, float[] output) {
+        noise(xs, xs.length, ys, ys.length, zs, zs.length, output);
+    }
+
+    /**
+     * Writes the noise values at every combination of the leading coordinates of the given arrays to the output array,
+     * with the x-coordinates varying fastest, followed by the y-coordinates. Implementations may override this to
+     * share work between the positions.
+     *
+     * @param xs     the coordinates on the x-axis
+     * @param sizeX  the number of coordinates to use from xs
+     * @param ys     the coordinates on the y-axis
+     * @param sizeY  the number of coordinates to use from ys
+     * @param zs     the coordinates on the z-axis
+     * @param sizeZ  the number of coordinates to use from zs
+     * @param output receives the values, must hold at least {@code sizeX * sizeY * sizeZ} values
+     */
+    default void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] zs, int sizeZ, float[] output) {
+        int index = 0;
+        for (int k = 0; k < sizeZ; ++k) {
+            for (int j = 0; j < sizeY; ++j) {
+                for (int i = 0; i < sizeX; ++i) {
+                    output[index++] = noise(xs[i], ys[j], zs[k]);
+                }
+            }
+        }
+    }
 }
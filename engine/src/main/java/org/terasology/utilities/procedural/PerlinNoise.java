@@ -24,8 +24,17 @@
  */
 public class PerlinNoise extends AbstractNoise implements Noise2D, Noise3D {
 
+    private static final float[] ZERO = {0};
+
     private final int[] noisePermutations;
 
+    private final ScratchBuffer xIntBuffer = new ScratchBuffer();
+    private final ScratchBuffer xFractionBuffer = new ScratchBuffer();
+    private final ScratchBuffer xFadeBuffer = new ScratchBuffer();
+    private final ScratchBuffer yIntBuffer = new ScratchBuffer();
+    private final ScratchBuffer yFractionBuffer = new ScratchBuffer();
+    private final ScratchBuffer yFadeBuffer = new ScratchBuffer();
+
     /**
      * Init. a new generator with a given seed value.
      *
@@ -77,9 +86,62 @@ public float noise(float posX, float posY, float posZ) {
         float y = posY - TeraMath.fastFloor(posY);
         float z = posZ - TeraMath.fastFloor(posZ);
 
-        float u = TeraMath.fadePerlin(x);
-        float v = TeraMath.fadePerlin(y);
-        float w = TeraMath.fadePerlin(z);
+        return noise(xInt, yInt, zInt, x, y, z, TeraMath.fadePerlin(x), TeraMath.fadePerlin(y), TeraMath.fadePerlin(z));
+    }
+
+    /**
+     * Samples the 2D noise, which is the 3D noise at z = 0, at every combination of the coordinates.
+     */
+    @Override
+    public void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] output) {
+        noise(xs, sizeX, ys, sizeY, ZERO, 1, output);
+    }
+
+    /**
+     * Samples the 3D noise at every combination of the coordinates, finding the lattice cell and the fade curve of
+     * every coordinate once per axis instead of once per position.
+     */
+    @Override
+    public void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] zs, int sizeZ, float[] output) {
+        int[] xInts = xIntBuffer.ints(sizeX);
+        float[] xFractions = xFractionBuffer.floats(sizeX);
+        float[] xFades = xFadeBuffer.floats(sizeX);
+        for (int i = 0; i < sizeX; ++i) {
+            xInts[i] = (int) TeraMath.fastFloor(xs[i]) & 255;
+            xFractions[i] = xs[i] - TeraMath.fastFloor(xs[i]);
+            xFades[i] = TeraMath.fadePerlin(xFractions[i]);
+        }
+        int[] yInts = yIntBuffer.ints(sizeY);
+        float[] yFractions = yFractionBuffer.floats(sizeY);
+        float[] yFades = yFadeBuffer.floats(sizeY);
+        for (int j = 0; j < sizeY; ++j) {
+            yInts[j] = (int) TeraMath.fastFloor(ys[j]) & 255;
+            yFractions[j] = ys[j] - TeraMath.fastFloor(ys[j]);
+            yFades[j] = TeraMath.fadePerlin(yFractions[j]);
+        }
+
+        int index = 0;
+        for (int k = 0; k < sizeZ; ++k) {
+            int zInt = (int) TeraMath.fastFloor(zs[k]) & 255;
+            float z = zs[k] - TeraMath.fastFloor(zs[k]);
+            float w = TeraMath.fadePerlin(z);
+            for (int j = 0; j < sizeY; ++j) {
+                int yInt = yInts[j];
+                float y = yFractions[j];
+                float v = yFades[j];
+                for (int i = 0; i < sizeX; ++i) {
+                    output[index++] = noise(xInts[i], yInt, zInt, xFractions[i], y, z, xFades[i], v, w);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param xInt the lattice cell on the x-axis, wrapped to [0..255]
+     * @param x    the position within the lattice cell on the x-axis
+     * @param u    the fade curve of x
+     */
+    private float noise(int xInt, int yInt, int zInt, float x, float y, float z, float u, float v, float w) {
         int a = noisePermutations[xInt] + yInt;
         int aa = noisePermutations[a] + zInt;
         int ab = noisePermutations[(a + 1)] + zInt;
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.procedural;
+
+/**
+ * An array that a bulk noise implementation reuses between calls, so that sampling many positions doesn't allocate.
+ * Each thread gets its own array, which grows on demand and may be longer than requested.
+ */
+final class ScratchBuffer {
+    private final ThreadLocal<float[]> floats = new ThreadLocal<>();
+    private final ThreadLocal<int[]> ints = new ThreadLocal<>();
+
+    float[] floats(int minLength) {
+        float[] buffer = floats.get();
+        if (buffer == null || buffer.length < minLength) {
+            buffer = new float[minLength];
+            floats.set(buffer);
+        }
+        return buffer;
+    }
+
+    int[] ints(int minLength) {
+        int[] buffer = ints.get();
+        if (buffer == null || buffer.length < minLength) {
+            buffer = new int[minLength];
+            ints.set(buffer);
+        }
+        return buffer;
+    }
+}
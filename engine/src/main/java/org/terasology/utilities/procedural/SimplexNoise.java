@@ -119,6 +119,25 @@ private static float dot(Grad g, float x, float y, float z, float w) {
      */
     @Override
     public float noise(float xin, float yin) {
+        return noise(perm, permMod12, xin, yin);
+    }
+
+    /**
+     * Samples the 2D noise at every combination of the coordinates, without dispatching every position separately.
+     */
+    @Override
+    public void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] output) {
+        short[] permutation = perm;
+        short[] permutationMod12 = permMod12;
+        int index = 0;
+        for (int j = 0; j < sizeY; ++j) {
+            for (int i = 0; i < sizeX; ++i) {
+                output[index++] = noise(permutation, permutationMod12, xs[i], ys[j]);
+            }
+        }
+    }
+
+    private static float noise(short[] permutation, short[] permutationMod12, float xin, float yin) {
         float n0;
         float n1;
         float n2; // Noise contributions from the three corners
@@ -156,9 +175,9 @@ public float noise(float xin, float yin) {
         // Work out the hashed gradient indices of the three simplex corners
         int ii = i & 255;
         int jj = j & 255;
-        int gi0 = permMod12[ii + perm[jj]];
-        int gi1 = permMod12[ii + i1 + perm[jj + j1]];
-        int gi2 = permMod12[ii + 1 + perm[jj + 1]];
+        int gi0 = permutationMod12[ii + permutation[jj]];
+        int gi1 = permutationMod12[ii + i1 + permutation[jj + j1]];
+        int gi2 = permutationMod12[ii + 1 + permutation[jj + 1]];
 
         // Calculate the contribution from the three corners
         float t0 = 0.5f - x0 * x0 - y0 * y0;
@@ -198,6 +217,27 @@ public float noise(float xin, float yin) {
      */
     @Override
     public float noise(float xin, float yin, float zin) {
+        return noise(perm, permMod12, xin, yin, zin);
+    }
+
+    /**
+     * Samples the 3D noise at every combination of the coordinates, without dispatching every position separately.
+     */
+    @Override
+    public void noise(float[] xs, int sizeX, float[] ys, int sizeY, float[] zs, int sizeZ, float[] output) {
+        short[] permutation = perm;
+        short[] permutationMod12 = permMod12;
+        int index = 0;
+        for (int k = 0; k < sizeZ; ++k) {
+            for (int j = 0; j < sizeY; ++j) {
+                for (int i = 0; i < sizeX; ++i) {
+                    output[index++] = noise(permutation, permutationMod12, xs[i], ys[j], zs[k]);
+                }
+            }
+        }
+    }
+
+    private static float noise(short[] permutation, short[] permutationMod12, float xin, float yin, float zin) {
         float n0;
         float n1;
         float n2;
@@ -291,10 +331,10 @@ public float noise(float xin, float yin, float zin) {
         int ii = i & 255;
         int jj = j & 255;
         int kk = k & 255;
-        int gi0 = permMod12[ii + perm[jj + perm[kk]]];
-        int gi1 = permMod12[ii + i1 + perm[jj + j1 + perm[kk + k1]]];
-        int gi2 = permMod12[ii + i2 + perm[jj + j2 + perm[kk + k2]]];
-        int gi3 = permMod12[ii + 1 + perm[jj + 1 + perm[kk + 1]]];
+        int gi0 = permutationMod12[ii + permutation[jj + permutation[kk]]];
+        int gi1 = permutationMod12[ii + i1 + permutation[jj + j1 + permutation[kk + k1]]];
+        int gi2 = permutationMod12[ii + i2 + permutation[jj + j2 + permutation[kk + k2]]];
+        int gi3 = permutationMod12[ii + 1 + permutation[jj + 1 + permutation[kk + 1]]];
 
         // Calculate the contribution from the four corners
         float t0 = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
@@ -21,9 +21,7 @@
 import org.terasology.math.Region3i;
 import org.terasology.math.TeraMath;
 import org.terasology.math.geom.Vector2f;
-import org.terasology.math.geom.Vector2i;
 import org.terasology.math.geom.Vector3f;
-import org.terasology.math.geom.Vector3i;
 
 /**
  */
@@ -33,6 +31,11 @@ public class SubSampledNoise extends AbstractNoise {
     private Vector3f zoom = new Vector3f(1, 1, 1);
     private int sampleRate = 1;
 
+    private final ScratchBuffer keyXBuffer = new ScratchBuffer();
+    private final ScratchBuffer keyYBuffer = new ScratchBuffer();
+    private final ScratchBuffer keyZBuffer = new ScratchBuffer();
+    private final ScratchBuffer keyDataBuffer = new ScratchBuffer();
+
     /**
      * @param source     the source noise generator
      * @param zoom       the zoom factor for x, y (z will be 1)
@@ -66,71 +69,41 @@ public float noise(float x, float y) {
         return TeraMath.biLerp(q00, q10, q01, q11, xMod / sampleRate, yMod / sampleRate);
     }
 
+    /**
+     * @return a new array with the noise values of all positions in the region, with the x-axis varying fastest
+     */
     public float[] noise(Rect2i region) {
-        Rect2i fullRegion = determineRequiredRegion(region);
-        float[] keyData = getKeyValues(fullRegion);
-        float[] fullData = mapExpand(keyData, fullRegion);
-        return getSubset(fullData, fullRegion, region);
-    }
-
-    private float[] getSubset(float[] fullData, Rect2i fullRegion, Rect2i subRegion) {
-        if (subRegion.sizeX() != fullRegion.sizeX() || subRegion.sizeY() != fullRegion.sizeY()) {
-            float[] result = new float[subRegion.sizeX() * subRegion.sizeY()];
-            Vector2i offset = new Vector2i(subRegion.minX() - fullRegion.minX(), subRegion.minY() - fullRegion.minY());
-            for (int y = 0; y < subRegion.sizeY(); ++y) {
-                System.arraycopy(fullData, offset.getX() + fullRegion.sizeX() * (y + offset.getY()), result, subRegion.sizeX() * y, subRegion.sizeX());
-            }
-            return result;
-        } else {
-            return fullData;
-        }
-    }
-
-    private float[] mapExpand(float[] keyData, Rect2i fullRegion) {
-        float[] fullData = new float[fullRegion.sizeX() * fullRegion.sizeY()];
-        int samplesX = fullRegion.sizeX() / sampleRate + 1;
-        int samplesY = fullRegion.sizeY() / sampleRate + 1;
-        for (int y = 0; y < samplesY - 1; y++) {
-            for (int x = 0; x < samplesX - 1; x++) {
-                float q11 = keyData[x + y * samplesX];
-                float q21 = keyData[x + 1 + y * samplesX];
-                float q12 = keyData[x + (y + 1) * samplesX];
-                float q22 = keyData[(x + 1) + (y + 1) * samplesX];
-                for (int innerY = 0; innerY < sampleRate; ++innerY) {
-                    for (int innerX = 0; innerX < sampleRate; ++innerX) {
-                        fullData[x * sampleRate + innerX + fullRegion.sizeX() * (y * sampleRate + innerY)] =
-                                TeraMath.biLerp(q11, q21, q12, q22, (float) innerX / sampleRate, (float) innerY / sampleRate);
-                    }
-                }
-            }
-        }
-        return fullData;
+        float[] result = new float[region.sizeX() * region.sizeY()];
+        noise(region, result);
+        return result;
     }
 
-    private float[] getKeyValues(Rect2i fullRegion) {
-        int xDim = fullRegion.sizeX() / sampleRate + 1;
-        int yDim = fullRegion.sizeY() / sampleRate + 1;
-        float[] fullData = new float[xDim * yDim];
-        for (int y = 0; y < yDim; y++) {
-            for (int x = 0; x < xDim; x++) {
-                int actualX = x * sampleRate + fullRegion.minX();
-                int actualY = y * sampleRate + fullRegion.minY();
-                fullData[x + y * xDim] = source.noise(zoom.x * actualX, zoom.y * actualY);
+    /**
+     * Samples the source noise only at the key positions, every sampleRate blocks, and interpolates the values in
+     * between directly into the output.
+     */
+    @Override
+    public void noise(Rect2i region, float[] output) {
+        int keyMinX = region.minX() - IntMath.mod(region.minX(), sampleRate);
+        int keyMinY = region.minY() - IntMath.mod(region.minY(), sampleRate);
+        int keysX = (region.maxX() - keyMinX) / sampleRate + 2;
+        int keysY = (region.maxY() - keyMinY) / sampleRate + 2;
+        float[] keyData = keyDataBuffer.floats(keysX * keysY);
+        source.noise(keyCoordinates(keyXBuffer, keyMinX, keysX, zoom.x), keysX,
+                keyCoordinates(keyYBuffer, keyMinY, keysY, zoom.y), keysY, keyData);
+
+        int index = 0;
+        for (int y = region.minY() - keyMinY; y <= region.maxY() - keyMinY; ++y) {
+            int row = (y / sampleRate) * keysX;
+            float innerY = (float) (y % sampleRate) / sampleRate;
+            for (int x = region.minX() - keyMinX; x <= region.maxX() - keyMinX; ++x) {
+                int key = row + x / sampleRate;
+                output[index++] = TeraMath.biLerp(keyData[key], keyData[key + 1], keyData[key + keysX], keyData[key + keysX + 1],
+                        (float) (x % sampleRate) / sampleRate, innerY);
             }
         }
-
-        return fullData;
-    }
-
-    private Rect2i determineRequiredRegion(Rect2i region) {
-        int newMinX = region.minX() - IntMath.mod(region.minX(), sampleRate);
-        int newMinY = region.minY() - IntMath.mod(region.minY(), sampleRate);
-        int newMaxX = region.maxX() + 4 - IntMath.mod(region.maxX(), sampleRate) - 1;
-        int newMaxY = region.maxY() + 4 - IntMath.mod(region.maxY(), sampleRate) - 1;
-        return Rect2i.createFromMinAndMax(newMinX, newMinY, newMaxX, newMaxY);
     }
 
-
     @Override
     public float noise(float x, float y, float z) {
         float xMod = TeraMath.modulus(x, sampleRate);
@@ -155,85 +128,59 @@ public float noise(float x, float y, float z) {
         return TeraMath.triLerp(q000, q100, q010, q110, q001, q101, q011, q111, xMod / sampleRate, yMod / sampleRate, zMod / sampleRate);
     }
 
+    /**
+     * @return a new array with the noise values of all positions in the region, with the x-axis varying fastest,
+     *         followed by the y-axis
+     */
     public float[] noise(Region3i region) {
-        Region3i fullRegion = determineRequiredRegion(region);
-        float[] keyData = getKeyValues(fullRegion);
-        float[] fullData = mapExpand(keyData, fullRegion);
-        return getSubset(fullData, fullRegion, region);
+        float[] result = new float[region.sizeX() * region.sizeY() * region.sizeZ()];
+        noise(region, result);
+        return result;
     }
 
-    private float[] getSubset(float[] fullData, Region3i fullRegion, Region3i subRegion) {
-        if (subRegion.sizeX() != fullRegion.sizeX() || subRegion.sizeY() != fullRegion.sizeY() || subRegion.sizeZ() != fullRegion.sizeZ()) {
-            float[] result = new float[subRegion.sizeX() * subRegion.sizeY() * subRegion.sizeZ()];
-            Vector3i offset = new Vector3i(subRegion.minX() - fullRegion.minX(), subRegion.minY() - fullRegion.minY(), subRegion.minZ() - fullRegion.minZ());
-            for (int z = 0; z < subRegion.sizeZ(); ++z) {
-                for (int y = 0; y < subRegion.sizeY(); ++y) {
-                    System.arraycopy(fullData, offset.x + fullRegion.sizeX() * (y + offset.y + fullRegion.sizeY() * (z + offset.z)),
-                            result, subRegion.sizeX() * (y + subRegion.sizeY() * z), subRegion.sizeX());
-                }
-            }
-            return result;
-        } else {
-            return fullData;
-        }
-    }
-
-    private float[] mapExpand(float[] keyData, Region3i fullRegion) {
-        float[] fullData = new float[fullRegion.sizeX() * fullRegion.sizeY() * fullRegion.sizeZ()];
-        int samplesX = fullRegion.sizeX() / sampleRate + 1;
-        int samplesY = fullRegion.sizeY() / sampleRate + 1;
-        int samplesZ = fullRegion.sizeZ() / sampleRate + 1;
-        for (int z = 0; z < samplesZ - 1; z++) {
-            for (int y = 0; y < samplesY - 1; y++) {
-                for (int x = 0; x < samplesX - 1; x++) {
-                    float q000 = keyData[x + samplesX * (y + samplesY * z)];
-                    float q100 = keyData[x + 1 + samplesX * (y + samplesY * z)];
-                    float q010 = keyData[x + samplesX * (y + 1 + samplesY * z)];
-                    float q110 = keyData[(x + 1) + samplesX * (y + 1 + samplesY * z)];
-                    float q001 = keyData[x + samplesX * (y + samplesY * (z + 1))];
-                    float q101 = keyData[x + 1 + samplesX * (y + samplesY * (z + 1))];
-                    float q011 = keyData[x + samplesX * (y + 1 + samplesY * (z + 1))];
-                    float q111 = keyData[(x + 1) + samplesX * (y + 1 + samplesY * (z + 1))];
-                    for (int innerZ = 0; innerZ < sampleRate; ++innerZ) {
-                        for (int innerY = 0; innerY < sampleRate; ++innerY) {
-                            for (int innerX = 0; innerX < sampleRate; ++innerX) {
-                                fullData[x * sampleRate + innerX + fullRegion.sizeX() * (y * sampleRate + innerY + fullRegion.sizeY() * (z * sampleRate + innerZ))] =
-                                        TeraMath.triLerp(q000, q100, q010, q110, q001, q101, q011, q111,
-                                                (float) innerX / sampleRate, (float) innerY / sampleRate, (float) innerZ / sampleRate);
-                            }
-                        }
-                    }
+    /**
+     * Samples the source noise only at the key positions, every sampleRate blocks, and interpolates the values in
+     * between directly into the output.
+     */
+    @Override
+    public void noise(Region3i region, float[] output) {
+        int keyMinX = region.minX() - IntMath.mod(region.minX(), sampleRate);
+        int keyMinY = region.minY() - IntMath.mod(region.minY(), sampleRate);
+        int keyMinZ = region.minZ() - IntMath.mod(region.minZ(), sampleRate);
+        int keysX = (region.maxX() - keyMinX) / sampleRate + 2;
+        int keysY = (region.maxY() - keyMinY) / sampleRate + 2;
+        int keysZ = (region.maxZ() - keyMinZ) / sampleRate + 2;
+        float[] keyData = keyDataBuffer.floats(keysX * keysY * keysZ);
+        source.noise(keyCoordinates(keyXBuffer, keyMinX, keysX, zoom.x), keysX,
+                keyCoordinates(keyYBuffer, keyMinY, keysY, zoom.y), keysY,
+                keyCoordinates(keyZBuffer, keyMinZ, keysZ, zoom.z), keysZ, keyData);
+
+        int strideZ = keysX * keysY;
+        int index = 0;
+        for (int z = region.minZ() - keyMinZ; z <= region.maxZ() - keyMinZ; ++z) {
+            float innerZ = (float) (z % sampleRate) / sampleRate;
+            for (int y = region.minY() - keyMinY; y <= region.maxY() - keyMinY; ++y) {
+                int row = keysX * (y / sampleRate + keysY * (z / sampleRate));
+                float innerY = (float) (y % sampleRate) / sampleRate;
+                for (int x = region.minX() - keyMinX; x <= region.maxX() - keyMinX; ++x) {
+                    int key = row + x / sampleRate;
+                    output[index++] = TeraMath.triLerp(
+                            keyData[key], keyData[key + 1], keyData[key + keysX], keyData[key + keysX + 1],
+                            keyData[key + strideZ], keyData[key + strideZ + 1], keyData[key + strideZ + keysX], keyData[key + strideZ + keysX + 1],
+                            (float) (x % sampleRate) / sampleRate, innerY, innerZ);
                 }
             }
         }
-        return fullData;
     }
 
-    private float[] getKeyValues(Region3i fullRegion) {
-        int xDim = fullRegion.sizeX() / sampleRate + 1;
-        int yDim = fullRegion.sizeY() / sampleRate + 1;
-        int zDim = fullRegion.sizeZ() / sampleRate + 1;
-        float[] fullData = new float[xDim * yDim * zDim];
-        for (int z = 0; z < zDim; z++) {
-            for (int y = 0; y < yDim; y++) {
-                for (int x = 0; x < xDim; x++) {
-                    int actualX = x * sampleRate + fullRegion.minX();
-                    int actualY = y * sampleRate + fullRegion.minY();
-                    int actualZ = z * sampleRate + fullRegion.minZ();
-                    fullData[x + xDim * (y + yDim * z)] = source.noise(zoom.x * actualX, zoom.y * actualY, zoom.z * actualZ);
-                }
-            }
+    /**
+     * @return the zoomed coordinates of the key positions along one axis, at which the source noise is sampled
+     */
+    private float[] keyCoordinates(ScratchBuffer buffer, int keyMin, int keyCount, float axisZoom) {
+        float[] coordinates = buffer.floats(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            coordinates[i] = axisZoom * (i * sampleRate + keyMin);
         }
-        return fullData;
-    }
-
-    private Region3i determineRequiredRegion(Region3i region) {
-        int newMinX = region.minX() - IntMath.mod(region.minX(), sampleRate);
-        int newMinY = region.minY() - IntMath.mod(region.minY(), sampleRate);
-        int newMinZ = region.minZ() - IntMath.mod(region.minZ(), sampleRate);
-        int newMaxX = region.maxX() + 4 - IntMath.mod(region.maxX(), sampleRate) - 1;
-        int newMaxY = region.maxY() + 4 - IntMath.mod(region.maxY(), sampleRate) - 1;
-        int newMaxZ = region.maxZ() + 4 - IntMath.mod(region.maxZ(), sampleRate) - 1;
-        return Region3i.createFromMinMax(new Vector3i(newMinX, newMinY, newMinZ), new Vector3i(newMaxX, newMaxY, newMaxZ));
+        return coordinates;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.propagation.BlockChange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The blocks changed together by a single bulk edit, grouped by the chunk they are in.
+ */
+public class BlockChangeBatch {
+    private final Map<Vector3i, List<BlockChange>> changesByChunk = Maps.newLinkedHashMap();
+    private int size;
+
+    public void add(BlockChange change) {
+        add(ChunkMath.calcChunkPos(change.getPosition()), change);
+    }
+
+    /**
+     * @param chunkPos the position of the chunk containing the changed block
+     * @param change   the change
+     */
+    public void add(Vector3i chunkPos, BlockChange change) {
+        List<BlockChange> changes = changesByChunk.get(chunkPos);
+        if (changes == null) {
+            changes = Lists.newArrayList();
+            changesByChunk.put(chunkPos, changes);
+        }
+        changes.add(change);
+        size++;
+    }
+
+    /**
+     * @return the positions of the chunks with changed blocks, in the order they were first changed
+     */
+    public Set<Vector3i> getChunkPositions() {
+        return Collections.unmodifiableSet(changesByChunk.keySet());
+    }
+
+    /**
+     * @return the changes of blocks in the given chunk, in the order they were made
+     */
+    public List<BlockChange> getChanges(Vector3i chunkPos) {
+        List<BlockChange> changes = changesByChunk.get(chunkPos);
+        if (changes == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * @return all changes, grouped by chunk
+     */
+    public Iterable<BlockChange> getChanges() {
+        return Iterables.unmodifiableIterable(Iterables.concat(changesByChunk.values()));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
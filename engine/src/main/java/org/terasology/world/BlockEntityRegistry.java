@@ -21,6 +21,10 @@
 import org.terasology.math.geom.Vector3i;
 import org.terasology.world.block.Block;
 
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
 /**
  * Manages creation and lookup of entities linked to blocks
  *
@@ -85,4 +89,15 @@ public interface BlockEntityRegistry {
      * @return Whether the entity at this position is permanent
      */
     boolean hasPermanentBlockEntity(Vector3i blockPos);
+
+    /**
+     * Applies an action to the entities of many blocks, e.g. to damage all blocks hit by an explosion. The entity of a
+     * block is only looked up, and created if needed, when the filter accepts the block. Blocks changed by the action,
+     * like blocks destroyed by damage, are changed in a single batch, see {@link WorldProvider#batchBlockChanges(Runnable)}.
+     *
+     * @param positions the positions of the blocks
+     * @param filter    whether to apply the action to a block
+     * @param action    the action, called with the position and the entity of each accepted block
+     */
+    void applyToBlocks(Collection<Vector3i> positions, Predicate<Block> filter, BiConsumer<Vector3i, EntityRef> action);
 }
@@ -19,6 +19,7 @@
 import org.terasology.math.geom.Vector3i;
 import org.terasology.world.biomes.Biome;
 import org.terasology.world.block.Block;
+import org.terasology.world.propagation.BlockChange;
 
 /**
  */
@@ -26,6 +27,19 @@ public interface WorldChangeListener {
 
     void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock);
 
+    /**
+     * Called once for all blocks changed by a bulk edit, like {@link WorldProvider#setBlocks(java.util.Map)}, instead
+     * of {@link #onBlockChanged(Vector3i, Block, Block)} per block. By default it is passed on to that method for every
+     * change.
+     *
+     * @param changes the changed blocks, grouped by chunk
+     */
+    default void onBlocksChanged(BlockChangeBatch changes) {
+        for (BlockChange change : changes.getChanges()) {
+            onBlockChanged(change.getPosition(), change.getTo(), change.getFrom());
+        }
+    }
+
     void onBiomeChanged(Vector3i pos, Biome newBiome, Biome originalBiome);
 
 }
@@ -57,7 +57,7 @@ public EntityBuilder newBuilder(BlockFamily blockFamily, int quantity) {
         if (prefab.isPresent()) {
             for (Component component : prefab.get().iterateComponents()) {
                 if (component.getClass().getAnnotation(AddToBlockBasedItem.class) != null) {
-                    builder.addComponent(entityManager.getComponentLibrary().copy(component));
+                    builder.addPrefabComponent(component);
                 }
             }
         }
@@ -18,6 +18,7 @@
 
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
 import org.terasology.world.internal.ChunkViewCore;
 
 import java.util.Collection;
@@ -146,4 +147,11 @@ public interface ChunkProvider {
      * Restarts all thread activity of the chunk provider.
      */
     void restart();
+
+    /**
+     * @return The pipeline processing the chunks of this provider, or null if it has none
+     */
+    default ChunkGenerationPipeline getPipeline() {
+        return null;
+    }
 }
@@ -37,6 +37,12 @@ public interface ManagedChunk extends CoreChunk {
 
     void prepareForReactivation();
 
+    /**
+     * @return a number that changes whenever the block, liquid or biome data of the chunk changes, and so whenever
+     *         the result of {@link #encode()} changes.
+     */
+    int getVersion();
+
     // TODO: Expose appropriate iterators, remove this method
     EntityData.ChunkStore.Builder encode();
 }
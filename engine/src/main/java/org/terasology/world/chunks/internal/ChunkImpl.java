@@ -82,6 +82,7 @@ public class ChunkImpl implements Chunk {
     private boolean disposed;
     private boolean ready;
     private volatile boolean dirty;
+    private volatile int version;
     private boolean animated;
 
     // Rendering
@@ -161,6 +162,7 @@ public Block setBlock(int x, int y, int z, Block block) {
         }
         int oldValue = blockData.set(x, y, z, block.getId());
         if (oldValue != block.getId()) {
+            version++;
             if (!block.isLiquid()) {
                 setLiquid(x, y, z, new LiquidData());
             }
@@ -247,7 +249,9 @@ public void setLiquid(int x, int y, int z, LiquidData newState) {
         if (extraData == extraDataSnapshot) {
             extraData = extraData.copy();
         }
-        extraData.set(x, y, z, newValue);
+        if ((byte) extraData.set(x, y, z, newValue) != newValue) {
+            version++;
+        }
     }
 
     @Override
@@ -272,6 +276,9 @@ public Biome setBiome(int x, int y, int z, Biome biome) {
         }
         short shortId = biomeManager.getBiomeShortId(biome);
         short previousShortId = (short) biomeData.set(x, y, z, shortId);
+        if (previousShortId != shortId) {
+            version++;
+        }
         return biomeManager.getBiomeByShortId(previousShortId);
     }
 
@@ -568,6 +575,11 @@ public ChunkBlockIterator getBlockIterator() {
         return new ChunkBlockIteratorImpl(blockManager, getChunkWorldOffset(), blockData);
     }
 
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
     @Override
     public EntityData.ChunkStore.Builder encode() {
         return ChunkSerializer.encode(chunkPos, blockData, extraData, biomeData);
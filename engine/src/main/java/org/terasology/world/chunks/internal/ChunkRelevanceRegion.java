@@ -36,6 +36,7 @@ public class ChunkRelevanceRegion {
     private Vector3i relevanceDistance = new Vector3i();
     private boolean dirty;
     private Vector3i center = new Vector3i();
+    private Vector3i movement = new Vector3i();
     private Region3i currentRegion = Region3i.EMPTY;
     private Region3i previousRegion = Region3i.EMPTY;
     private ChunkRegionListener listener;
@@ -60,6 +61,13 @@ public Vector3i getCenter() {
         return new Vector3i(center);
     }
 
+    /**
+     * @return the direction, in chunks per axis between -1 and 1, in which the center moved the last time it changed
+     */
+    public Vector3i getMovement() {
+        return new Vector3i(movement);
+    }
+
     public void setRelevanceDistance(Vector3i distance) {
         if (!distance.equals(this.relevanceDistance)) {
             reviewRelevantChunks(distance);
@@ -110,6 +118,8 @@ public void update() {
             Vector3i newCenter = calculateCenter();
             if (!newCenter.equals(center)) {
                 dirty = true;
+                movement.set(Integer.signum(newCenter.x - center.x), Integer.signum(newCenter.y - center.y),
+                        Integer.signum(newCenter.z - center.z));
                 center.set(newCenter);
                 currentRegion = calculateRegion();
                 reviewRelevantChunks(relevanceDistance);
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.monitoring.PerformanceMonitor;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The loaded chunks of a {@link LocalChunkProvider}, in an open addressing hash table over the chunk positions packed
+ * into a long.
+ * <br><br>
+ * Chunks are added and removed from the main thread only, while lookups may come from any thread and neither lock nor
+ * allocate. In addition, every thread remembers the chunk it looked up last, which for most block accesses is the one
+ * it needs next, as they tend to be close to each other.
+ */
+final class ChunkIndex {
+    static final String CACHE_NAME = "Chunks: Last Chunk Of Thread";
+    static final String LOOKUP_RATE_STATISTIC = "Chunks: Lookups/s";
+
+    private static final Entry REMOVED = new Entry(0, 0, 0, null);
+    private static final int MIN_CAPACITY = 1024;
+
+    private volatile AtomicReferenceArray<Entry> table = new AtomicReferenceArray<>(MIN_CAPACITY);
+    private int size;
+    private int usedSlots;
+
+    private final List<LookupCounts> allLookupCounts = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<LookupCounts> lookupCounts = ThreadLocal.withInitial(() -> {
+        LookupCounts counts = new LookupCounts();
+        allLookupCounts.add(counts);
+        return counts;
+    });
+    private long recordedHits;
+    private long recordedMisses;
+    private long lastRecordTime;
+
+    /**
+     * Packs a chunk position into a long, using 21 bits per axis.
+     */
+    static long pack(int x, int y, int z) {
+        return ((x & 0x1FFFFFL) << 42) | ((y & 0x1FFFFFL) << 21) | (z & 0x1FFFFFL);
+    }
+
+    Chunk get(Vector3i pos) {
+        return get(pos.x, pos.y, pos.z);
+    }
+
+    Chunk get(int x, int y, int z) {
+        LookupCounts counts = lookupCounts.get();
+        Entry last = counts.last;
+        if (last != null && last.x == x && last.y == y && last.z == z && !last.removed) {
+            counts.hits++;
+            return last.chunk;
+        }
+        counts.misses++;
+        Entry entry = find(table, x, y, z);
+        if (entry == null) {
+            return null;
+        }
+        counts.last = entry;
+        return entry.chunk;
+    }
+
+    boolean contains(Vector3i pos) {
+        return find(table, pos.x, pos.y, pos.z) != null;
+    }
+
+    synchronized void put(Vector3i pos, Chunk chunk) {
+        if ((usedSlots + 1) * 4 > table.length() * 3) {
+            rehash();
+        }
+        AtomicReferenceArray<Entry> slots = table;
+        int mask = slots.length() - 1;
+        int freeSlot = -1;
+        for (int i = hash(pos.x, pos.y, pos.z) & mask; ; i = (i + 1) & mask) {
+            Entry entry = slots.get(i);
+            if (entry == null) {
+                if (freeSlot == -1) {
+                    freeSlot = i;
+                    usedSlots++;
+                }
+                break;
+            }
+            if (entry == REMOVED) {
+                if (freeSlot == -1) {
+                    freeSlot = i;
+                }
+            } else if (entry.x == pos.x && entry.y == pos.y && entry.z == pos.z) {
+                slots.set(i, new Entry(pos.x, pos.y, pos.z, chunk));
+                entry.removed = true;
+                return;
+            }
+        }
+        slots.set(freeSlot, new Entry(pos.x, pos.y, pos.z, chunk));
+        size++;
+    }
+
+    synchronized Chunk remove(Vector3i pos) {
+        AtomicReferenceArray<Entry> slots = table;
+        int mask = slots.length() - 1;
+        for (int i = hash(pos.x, pos.y, pos.z) & mask; ; i = (i + 1) & mask) {
+            Entry entry = slots.get(i);
+            if (entry == null) {
+                return null;
+            }
+            if (entry != REMOVED && entry.x == pos.x && entry.y == pos.y && entry.z == pos.z) {
+                slots.set(i, REMOVED);
+                entry.removed = true;
+                size--;
+                return entry.chunk;
+            }
+        }
+    }
+
+    synchronized void clear() {
+        AtomicReferenceArray<Entry> slots = table;
+        table = new AtomicReferenceArray<>(MIN_CAPACITY);
+        for (int i = 0; i < slots.length(); ++i) {
+            Entry entry = slots.get(i);
+            if (entry != null) {
+                entry.removed = true;
+            }
+        }
+        size = 0;
+        usedSlots = 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return a snapshot of the chunks in the index
+     */
+    List<Chunk> values() {
+        List<Chunk> chunks = Lists.newArrayList();
+        AtomicReferenceArray<Entry> slots = table;
+        for (int i = 0; i < slots.length(); ++i) {
+            Entry entry = slots.get(i);
+            if (entry != null && entry != REMOVED) {
+                chunks.add(entry.chunk);
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * @return a snapshot of the positions of the chunks in the index
+     */
+    List<Vector3i> positions() {
+        List<Vector3i> positions = Lists.newArrayList();
+        AtomicReferenceArray<Entry> slots = table;
+        for (int i = 0; i < slots.length(); ++i) {
+            Entry entry = slots.get(i);
+            if (entry != null && entry != REMOVED) {
+                positions.add(new Vector3i(entry.x, entry.y, entry.z));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Records the lookups since the last call, as the hit rate of the last chunk of each thread and the lookup rate.
+     * The counts are gathered without synchronizing with the threads, so they are approximate. Should be called
+     * regularly from the main thread.
+     */
+    void recordMetrics() {
+        long hits = 0;
+        long misses = 0;
+        for (LookupCounts counts : allLookupCounts) {
+            hits += counts.hits;
+            misses += counts.misses;
+            Entry last = counts.last;
+            if (last != null && last.removed) {
+                // Don't keep unloaded chunks alive, at worst this costs the thread a miss
+                counts.last = null;
+            }
+        }
+        long time = System.nanoTime();
+        if (lastRecordTime != 0 && time > lastRecordTime) {
+            PerformanceMonitor.recordCacheAccesses(CACHE_NAME, hits - recordedHits, misses - recordedMisses);
+            PerformanceMonitor.recordStatistic(LOOKUP_RATE_STATISTIC,
+                    (hits - recordedHits + misses - recordedMisses) * 1.0e9 / (time - lastRecordTime));
+        }
+        recordedHits = hits;
+        recordedMisses = misses;
+        lastRecordTime = time;
+    }
+
+    private static Entry find(AtomicReferenceArray<Entry> slots, int x, int y, int z) {
+        int mask = slots.length() - 1;
+        for (int i = hash(x, y, z) & mask; ; i = (i + 1) & mask) {
+            Entry entry = slots.get(i);
+            if (entry == null) {
+                return null;
+            }
+            if (entry != REMOVED && entry.x == x && entry.y == y && entry.z == z) {
+                return entry;
+            }
+        }
+    }
+
+    private static int hash(int x, int y, int z) {
+        return (int) ((pack(x, y, z) * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    /**
+     * Copies the chunks into a new table with room for twice as many, dropping the removed entries.
+     */
+    private void rehash() {
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 4) {
+            capacity *= 2;
+        }
+        AtomicReferenceArray<Entry> oldSlots = table;
+        AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldSlots.length(); ++i) {
+            Entry entry = oldSlots.get(i);
+            if (entry != null && entry != REMOVED) {
+                int slot = hash(entry.x, entry.y, entry.z) & mask;
+                while (slots.get(slot) != null) {
+                    slot = (slot + 1) & mask;
+                }
+                slots.set(slot, entry);
+            }
+        }
+        usedSlots = size;
+        table = slots;
+    }
+
+    private static final class Entry {
+        private final int x;
+        private final int y;
+        private final int z;
+        private final Chunk chunk;
+        private volatile boolean removed;
+
+        private Entry(int x, int y, int z, Chunk chunk) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.chunk = chunk;
+        }
+    }
+
+    /**
+     * The lookups of one thread, which are only written by that thread.
+     */
+    private static final class LookupCounts {
+        private Entry last;
+        private long hits;
+        private long misses;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.monitoring.PerformanceMonitor;
+import org.terasology.persistence.ChunkStore;
+import org.terasology.persistence.StorageManager;
+import org.terasology.utilities.concurrency.ShutdownTask;
+import org.terasology.utilities.concurrency.Task;
+import org.terasology.utilities.concurrency.TaskMaster;
+import org.terasology.world.chunks.internal.ChunkRelevanceRegion;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Reads and decodes stored chunks ahead of time, in the direction in which the relevance regions move.
+ * <br><br>
+ * The chunks that will enter a region when it moves on by up to {@link #LOOKAHEAD} chunks are queued as one task
+ * per update, whose chunks are read one after another on a single background thread. The decoded chunks are kept in
+ * a bounded cache until the generation pipeline takes them via {@link #loadChunkStore(Vector3i)}, or until no region
+ * is close to them any more.
+ */
+class ChunkPrefetcher {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkPrefetcher.class);
+
+    /**
+     * The number of chunks a region may move on before the chunks entering it should have been prefetched.
+     */
+    static final int LOOKAHEAD = 2;
+    static final int DEFAULT_CAPACITY = 128;
+
+    private final StorageManager storageManager;
+    private final int capacity;
+    private final ConcurrentMap<Vector3i, PrefetchedChunk> prefetchedChunks = Maps.newConcurrentMap();
+    private final TaskMaster<Task> prefetchTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Prefetcher", 1);
+
+    ChunkPrefetcher(StorageManager storageManager, int capacity) {
+        this.storageManager = storageManager;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Requests the chunks the regions are moving towards and drops the prefetched chunks no region is close to.
+     * Must be called from the main thread.
+     *
+     * @param isLoaded whether a chunk is already loaded or being loaded, so that it does not need to be prefetched
+     */
+    void prefetch(Collection<ChunkRelevanceRegion> regions, Predicate<Vector3i> isLoaded) {
+        Iterator<Map.Entry<Vector3i, PrefetchedChunk>> iterator = prefetchedChunks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Vector3i, PrefetchedChunk> entry = iterator.next();
+            if (!isNearAnyRegion(entry.getKey(), regions)) {
+                iterator.remove();
+                entry.getValue().dispose();
+            }
+        }
+
+        List<Vector3i> batch = Lists.newArrayList();
+        for (ChunkRelevanceRegion region : regions) {
+            Vector3i movement = region.getMovement();
+            Region3i currentRegion = region.getCurrentRegion();
+            if ((movement.x == 0 && movement.y == 0 && movement.z == 0) || currentRegion.isEmpty()) {
+                continue;
+            }
+            for (int step = 1; step <= LOOKAHEAD; ++step) {
+                Vector3i offset = new Vector3i(movement.x * step, movement.y * step, movement.z * step);
+                for (Vector3i pos : currentRegion.move(offset)) {
+                    if (prefetchedChunks.size() >= capacity) {
+                        break;
+                    }
+                    if (!currentRegion.encompasses(pos) && !prefetchedChunks.containsKey(pos) && !isLoaded.test(pos)) {
+                        prefetchedChunks.put(pos, new PrefetchedChunk());
+                        batch.add(pos);
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty() && !prefetchTaskMaster.offer(new PrefetchTask(batch))) {
+            for (Vector3i pos : batch) {
+                prefetchedChunks.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * Returns the prefetched chunk store, waiting for it if its read is in progress. Chunks whose read has not started
+     * yet are read from the storage manager directly instead, and will be skipped by the prefetcher.
+     *
+     * @return the chunk store or null if the chunk has not been stored
+     */
+    ChunkStore loadChunkStore(Vector3i chunkPos) {
+        PrefetchedChunk prefetched = prefetchedChunks.remove(chunkPos);
+        if (prefetched != null && !prefetched.claim()) {
+            try {
+                ChunkStore store = prefetched.future.join();
+                PerformanceMonitor.recordCacheAccess("Chunk Prefetch", true);
+                return store;
+            } catch (CompletionException e) {
+                // The prefetcher has logged the failure, the chunk is read again below
+            }
+        }
+        PerformanceMonitor.recordCacheAccess("Chunk Prefetch", false);
+        return storageManager.loadChunkStore(chunkPos);
+    }
+
+    /**
+     * Drops the prefetched version of a chunk, which must be called when the stored version might change, e.g. when
+     * the chunk gets unloaded.
+     */
+    void invalidate(Vector3i chunkPos) {
+        PrefetchedChunk prefetched = prefetchedChunks.remove(chunkPos);
+        if (prefetched != null) {
+            prefetched.dispose();
+        }
+    }
+
+    void clear() {
+        for (Vector3i chunkPos : Lists.newArrayList(prefetchedChunks.keySet())) {
+            invalidate(chunkPos);
+        }
+    }
+
+    void restart() {
+        prefetchTaskMaster.restart();
+    }
+
+    void shutdown() {
+        prefetchTaskMaster.shutdown(new ShutdownTask(), false);
+        clear();
+    }
+
+    int size() {
+        return prefetchedChunks.size();
+    }
+
+    private static boolean isNearAnyRegion(Vector3i pos, Collection<ChunkRelevanceRegion> regions) {
+        for (ChunkRelevanceRegion region : regions) {
+            Region3i currentRegion = region.getCurrentRegion();
+            if (!currentRegion.isEmpty() && currentRegion.expand(LOOKAHEAD).encompasses(pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A chunk requested from the prefetcher. Whoever claims it first reads it: either the prefetch task, which then
+     * completes the future, or the generation pipeline if it needs the chunk before the task got to it.
+     */
+    private static final class PrefetchedChunk {
+        private final CompletableFuture<ChunkStore> future = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * Disposes the chunk once its read finishes, or makes sure that it is never read.
+         */
+        void dispose() {
+            if (!claim()) {
+                future.thenAccept(store -> {
+                    if (store != null) {
+                        store.getChunk().dispose();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Reads a batch of chunks in order, skipping the ones that are no longer wanted or already read by the pipeline.
+     */
+    private class PrefetchTask implements Task {
+        private final List<Vector3i> positions;
+
+        PrefetchTask(List<Vector3i> positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public String getName() {
+            return "Prefetch Chunks";
+        }
+
+        @Override
+        public void run() {
+            for (Vector3i pos : positions) {
+                PrefetchedChunk prefetched = prefetchedChunks.get(pos);
+                if (prefetched == null || !prefetched.claim()) {
+                    continue;
+                }
+                try {
+                    prefetched.future.complete(storageManager.loadChunkStore(pos));
+                } catch (RuntimeException e) {
+                    logger.error("Failed to prefetch chunk {}", pos, e);
+                    // The pipeline reads the chunk itself instead
+                    prefetchedChunks.remove(pos, prefetched);
+                    prefetched.future.completeExceptionally(e);
+                }
+            }
+        }
+
+        @Override
+        public boolean isTerminateSignal() {
+            return false;
+        }
+    }
+}
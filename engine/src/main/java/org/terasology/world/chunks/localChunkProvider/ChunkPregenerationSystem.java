@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.GameEngine;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.persistence.StorageManager;
+
+/**
+ * Drives a {@link ChunkPregenerator} and shuts the engine down once all chunks are generated, so that a headless
+ * server can be used to pre-generate a world in batch mode. Progress and throughput are logged periodically.
+ */
+public class ChunkPregenerationSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    /**
+     * The box of chunk positions to pre-generate, given as "minX,minY,minZ,maxX,maxY,maxZ".
+     */
+    public static final String PREGENERATION_REGION_PROPERTY = "org.terasology.pregenerationRegion";
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkPregenerationSystem.class);
+
+    private static final long REPORT_INTERVAL_MS = 5000;
+
+    private final ChunkPregenerator pregenerator;
+    private final StorageManager storageManager;
+    private final GameEngine gameEngine;
+
+    private long startTime;
+    private long lastReportTime;
+    private int lastReportedChunks;
+    private boolean finished;
+
+    public ChunkPregenerationSystem(ChunkPregenerator pregenerator, StorageManager storageManager, GameEngine gameEngine) {
+        this.pregenerator = pregenerator;
+        this.storageManager = storageManager;
+        this.gameEngine = gameEngine;
+    }
+
+    @Override
+    public void initialise() {
+        logger.info("Pre-generating {} chunks in {}", pregenerator.getTotalChunks(), pregenerator.getChunkRegion());
+        startTime = System.currentTimeMillis();
+        lastReportTime = startTime;
+    }
+
+    @Override
+    public void update(float delta) {
+        if (finished) {
+            return;
+        }
+        pregenerator.update();
+
+        long now = System.currentTimeMillis();
+        if (pregenerator.isDone()) {
+            finished = true;
+            logger.info("Pre-generation finished: {} chunks generated, {} skipped in {} s",
+                    pregenerator.getGeneratedChunks(), pregenerator.getSkippedChunks(), (now - startTime) / 1000);
+            storageManager.requestSaving();
+            gameEngine.shutdown();
+        } else if (now - lastReportTime >= REPORT_INTERVAL_MS) {
+            int processedChunks = pregenerator.getGeneratedChunks() + pregenerator.getSkippedChunks();
+            float chunksPerSecond = 1000f * (processedChunks - lastReportedChunks) / (now - lastReportTime);
+            logger.info("Pre-generation: {}/{} chunks ({}%), {} chunks/s", processedChunks, pregenerator.getTotalChunks(),
+                    100 * processedChunks / pregenerator.getTotalChunks(), String.format("%.1f", chunksPerSecond));
+            lastReportTime = now;
+            lastReportedChunks = processedChunks;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        pregenerator.shutdown();
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.EntityStore;
+import org.terasology.entitySystem.prefab.Prefab;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.StorageManager;
+import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.chunks.pipeline.AbstractChunkTask;
+import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
+import org.terasology.world.chunks.pipeline.ChunkGenerationStage;
+import org.terasology.world.chunks.pipeline.ChunkTask;
+import org.terasology.world.generation.Region;
+import org.terasology.world.generation.impl.EntityBufferImpl;
+import org.terasology.world.generator.WorldGenerator;
+import org.terasology.world.propagation.light.InternalLightProcessor;
+import org.terasology.world.propagation.light.LightMerger;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Generates, lights and stores all chunks of a box without loading them into the world, e.g. to prepare the spawn
+ * area of a server before it opens.
+ * <br><br>
+ * The chunks are generated on the threads of a {@link ChunkGenerationPipeline}, and their light is merged with their
+ * neighbours by a {@link LightMerger} like in the world. A chunk is handed to the storage manager, which saves it with
+ * the next save, once the light of all its neighbours within the box has been merged, so the generated chunks of
+ * about two slabs of the box along the x axis are kept in memory. Chunks that are already stored, or that the
+ * {@link LocalChunkProvider} loads or generates itself, are skipped, so an interrupted pre-generation resumes where its
+ * last save left off.
+ */
+public class ChunkPregenerator {
+    /**
+     * The maximum number of chunks in the generation pipeline at the same time, to bound memory use.
+     */
+    private static final int MAX_PENDING_CHUNKS = 512;
+
+    private final StorageManager storageManager;
+    private final EntityManager entityManager;
+    private final WorldGenerator generator;
+    private final BlockManager blockManager;
+    private final BiomeManager biomeManager;
+    private final LocalChunkProvider chunkProvider;
+
+    private final Region3i chunkRegion;
+    private final int totalChunks;
+    private final ChunkGenerationPipeline pipeline;
+    private final BlockingQueue<PregenerationTask> finishedTasks = Queues.newLinkedBlockingQueue();
+    private final LightMerger<PregenerationTask> lightMerger;
+    private final Map<Vector3i, PregenerationTask> generatedTasks = Maps.newHashMap();
+    private final List<PregenerationTask> unmergedTasks = Lists.newArrayList();
+    /**
+     * The chunk indices of the chunks whose light will not change any of their neighbours any more, because it has
+     * been merged or because the chunk was skipped.
+     */
+    private final BitSet finishedChunks;
+
+    private int nextChunkIndex;
+    private int pendingChunks;
+    private int generatedChunks;
+    private int skippedChunks;
+
+    /**
+     * @param chunkRegion       the box of chunk positions to generate
+     * @param lightMergeThreads the number of threads merging the light of the generated chunks
+     */
+    public ChunkPregenerator(Region3i chunkRegion, StorageManager storageManager, EntityManager entityManager,
+                             WorldGenerator generator, BlockManager blockManager, BiomeManager biomeManager,
+                             LocalChunkProvider chunkProvider, int lightMergeThreads) {
+        this.chunkRegion = chunkRegion;
+        this.storageManager = storageManager;
+        this.entityManager = entityManager;
+        this.generator = generator;
+        this.blockManager = blockManager;
+        this.biomeManager = biomeManager;
+        this.chunkProvider = chunkProvider;
+        this.totalChunks = chunkRegion.sizeX() * chunkRegion.sizeY() * chunkRegion.sizeZ();
+        this.pipeline = new ChunkGenerationPipeline(new ChunkColumnComparator());
+        this.lightMerger = new LightMerger<>(this::getGeneratedChunk, this::getMergedChunk, lightMergeThreads);
+        this.finishedChunks = new BitSet(totalChunks);
+    }
+
+    /**
+     * Parses a box of chunk positions, given as "minX,minY,minZ,maxX,maxY,maxZ".
+     *
+     * @throws IllegalArgumentException if the text is not in the expected format
+     */
+    public static Region3i parseChunkRegion(String text) {
+        String[] parts = text.split(",");
+        if (parts.length != 6) {
+            throw new IllegalArgumentException("Expected minX,minY,minZ,maxX,maxY,maxZ but got '" + text + "'");
+        }
+        int[] values = new int[6];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return Region3i.createBounded(new Vector3i(values[0], values[1], values[2]), new Vector3i(values[3], values[4], values[5]));
+    }
+
+    /**
+     * Merges the light of the chunks generated since the last call, stores the chunks whose neighbours are merged
+     * and keeps the pipeline supplied with new chunks. Must be called on the main thread.
+     */
+    public void update() {
+        for (PregenerationTask task : lightMerger.completeMerge()) {
+            task.merged = true;
+            finish(task.getPosition());
+        }
+
+        List<PregenerationTask> finished = Lists.newArrayListWithExpectedSize(finishedTasks.size());
+        finishedTasks.drainTo(finished);
+        for (PregenerationTask task : finished) {
+            pendingChunks--;
+            if (task.chunk == null) {
+                skippedChunks++;
+                finish(task.getPosition());
+            } else if (chunkProvider.isChunkLoadedOrPreparing(task.getPosition())) {
+                // The world loads or generates the chunk itself, and will take care of storing it
+                task.chunk.dispose();
+                skippedChunks++;
+                finish(task.getPosition());
+            } else {
+                generatedTasks.put(task.getPosition(), task);
+                unmergedTasks.add(task);
+            }
+        }
+
+        Iterator<PregenerationTask> iterator = unmergedTasks.iterator();
+        while (iterator.hasNext() && !lightMerger.isBusy()) {
+            PregenerationTask task = iterator.next();
+            if (lightMerger.beginMerge(task.chunk, task)) {
+                iterator.remove();
+            }
+        }
+
+        while (pendingChunks < MAX_PENDING_CHUNKS && nextChunkIndex < totalChunks) {
+            pipeline.doTask(new PregenerationTask(getChunkPosition(nextChunkIndex++)));
+            pendingChunks++;
+        }
+    }
+
+    public boolean isDone() {
+        return nextChunkIndex == totalChunks && pendingChunks == 0 && generatedTasks.isEmpty();
+    }
+
+    public void shutdown() {
+        pipeline.shutdown();
+        lightMerger.shutdown();
+        // The chunks that have not been stored yet get generated again when the pre-generation is resumed
+        for (PregenerationTask task : generatedTasks.values()) {
+            task.chunk.dispose();
+        }
+        generatedTasks.clear();
+        unmergedTasks.clear();
+    }
+
+    public Region3i getChunkRegion() {
+        return chunkRegion;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    /**
+     * @return the number of chunks generated and stored so far
+     */
+    public int getGeneratedChunks() {
+        return generatedChunks;
+    }
+
+    /**
+     * @return the number of chunks skipped so far, because they were already stored or loaded
+     */
+    public int getSkippedChunks() {
+        return skippedChunks;
+    }
+
+    /**
+     * Marks the chunk as finished and stores the chunks around it that no longer wait for any neighbour.
+     */
+    private void finish(Vector3i chunkPos) {
+        finishedChunks.set(getChunkIndex(chunkPos));
+        for (Vector3i pos : Region3i.createFromCenterExtents(chunkPos, 1)) {
+            PregenerationTask task = generatedTasks.get(pos);
+            if (task != null && task.merged && areNeighboursFinished(pos)) {
+                generatedTasks.remove(pos);
+                if (chunkProvider.isChunkLoadedOrPreparing(pos)) {
+                    task.chunk.dispose();
+                    skippedChunks++;
+                } else {
+                    store(task);
+                    generatedChunks++;
+                }
+            }
+        }
+    }
+
+    private boolean areNeighboursFinished(Vector3i chunkPos) {
+        for (Vector3i pos : Region3i.createFromCenterExtents(chunkPos, 1)) {
+            if (chunkRegion.encompasses(pos) && !finishedChunks.get(getChunkIndex(pos))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Chunk getGeneratedChunk(Vector3i chunkPos) {
+        PregenerationTask task = generatedTasks.get(chunkPos);
+        return (task != null) ? task.chunk : null;
+    }
+
+    private Chunk getMergedChunk(Vector3i chunkPos) {
+        PregenerationTask task = generatedTasks.get(chunkPos);
+        return (task != null && task.merged) ? task.chunk : null;
+    }
+
+    private void store(PregenerationTask task) {
+        for (EntityStore store : task.buffer.getAll()) {
+            Prefab prefab = store.getPrefab();
+            EntityRef entity = (prefab != null) ? entityManager.create(prefab) : entityManager.create();
+            for (Component component : store.iterateComponents()) {
+                entity.addComponent(component);
+            }
+        }
+        storageManager.deactivateChunk(task.chunk);
+        task.chunk.dispose();
+    }
+
+    /**
+     * Chunks are generated column by column, so that the chunks of a column can share their 2D facets.
+     */
+    private Vector3i getChunkPosition(int index) {
+        int y = index % chunkRegion.sizeY();
+        int column = index / chunkRegion.sizeY();
+        int z = column % chunkRegion.sizeZ();
+        int x = column / chunkRegion.sizeZ();
+        return new Vector3i(chunkRegion.minX() + x, chunkRegion.minY() + y, chunkRegion.minZ() + z);
+    }
+
+    private int getChunkIndex(Vector3i chunkPos) {
+        int column = (chunkPos.x - chunkRegion.minX()) * chunkRegion.sizeZ() + chunkPos.z - chunkRegion.minZ();
+        return column * chunkRegion.sizeY() + chunkPos.y - chunkRegion.minY();
+    }
+
+    private class PregenerationTask extends AbstractChunkTask {
+        private final EntityBufferImpl buffer = new EntityBufferImpl();
+        private ChunkGenerationStage stage = ChunkGenerationStage.FACETS;
+        private Chunk chunk;
+        private Region chunkData;
+        private boolean merged;
+
+        PregenerationTask(Vector3i position) {
+            super(position);
+        }
+
+        @Override
+        public String getName() {
+            return "Pre-generate Chunk";
+        }
+
+        @Override
+        public ChunkGenerationStage getStage() {
+            return stage;
+        }
+
+        @Override
+        public void run() {
+            switch (stage) {
+                case FACETS:
+                    if (storageManager.hasChunkStore(getPosition())) {
+                        finishedTasks.offer(this);
+                        return;
+                    }
+                    chunk = new ChunkImpl(getPosition(), blockManager, biomeManager);
+                    chunkData = generator.generateChunkData(chunk.getRegion());
+                    stage = ChunkGenerationStage.RASTERIZATION;
+                    break;
+                case RASTERIZATION:
+                    generator.createChunk(chunk, chunkData, buffer);
+                    chunkData = null;
+                    stage = ChunkGenerationStage.LIGHTING;
+                    break;
+                case LIGHTING:
+                    InternalLightProcessor.generateInternalLighting(chunk);
+                    stage = ChunkGenerationStage.DEFLATION;
+                    break;
+                case DEFLATION:
+                    chunk.deflate();
+                    finishedTasks.offer(this);
+                    return;
+                default:
+                    throw new IllegalStateException("Unexpected stage " + stage);
+            }
+            pipeline.forward(this);
+        }
+    }
+
+    private class ChunkColumnComparator implements Comparator<ChunkTask> {
+
+        @Override
+        public int compare(ChunkTask o1, ChunkTask o2) {
+            if (o1.isTerminateSignal() || o2.isTerminateSignal()) {
+                return Boolean.compare(o2.isTerminateSignal(), o1.isTerminateSignal());
+            }
+            Vector3i pos1 = o1.getPosition();
+            Vector3i pos2 = o2.getPosition();
+            if (pos1.x != pos2.x) {
+                return Integer.compare(pos1.x, pos2.x);
+            }
+            if (pos1.z != pos2.z) {
+                return Integer.compare(pos1.z, pos2.z);
+            }
+            return Integer.compare(pos1.y, pos2.y);
+        }
+    }
+}
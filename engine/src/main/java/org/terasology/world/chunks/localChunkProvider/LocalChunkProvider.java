@@ -63,7 +63,9 @@
 import org.terasology.world.chunks.internal.ReadyChunkInfo;
 import org.terasology.world.chunks.pipeline.AbstractChunkTask;
 import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
+import org.terasology.world.chunks.pipeline.ChunkGenerationStage;
 import org.terasology.world.chunks.pipeline.ChunkTask;
+import org.terasology.world.generation.Region;
 import org.terasology.world.generation.impl.EntityBufferImpl;
 import org.terasology.world.generator.WorldGenerator;
 import org.terasology.world.internal.ChunkViewCore;
@@ -95,11 +97,12 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
 
     private ChunkGenerationPipeline pipeline;
     private TaskMaster<ChunkUnloadRequest> unloadRequestTaskMaster;
+    private ChunkPrefetcher prefetcher;
     private WorldGenerator generator;
 
     private Map<EntityRef, ChunkRelevanceRegion> regions = Maps.newHashMap();
 
-    private Map<Vector3i, Chunk> nearCache = Maps.newConcurrentMap();
+    private ChunkIndex nearCache = new ChunkIndex();
 
     private final Set<Vector3i> preparingChunks = Sets.newHashSet();
     private final BlockingQueue<ReadyChunkInfo> readyChunks = Queues.newLinkedBlockingQueue();
@@ -114,10 +117,19 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
     private BiomeManager biomeManager;
     private BlockEntityRegistry registry;
 
-    private LightMerger<ReadyChunkInfo> lightMerger = new LightMerger<>(this);
+    private final int lightMergeThreads;
+    private LightMerger<ReadyChunkInfo> lightMerger;
 
     public LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
                               BlockManager blockManager, BiomeManager biomeManager) {
+        this(storageManager, entityManager, generator, blockManager, biomeManager, 1);
+    }
+
+    /**
+     * @param lightMergeThreads the number of chunks whose light can be merged with their neighbours at the same time
+     */
+    public LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
+                              BlockManager blockManager, BiomeManager biomeManager, int lightMergeThreads) {
         this.storageManager = storageManager;
         this.entityManager = entityManager;
         this.generator = generator;
@@ -125,6 +137,9 @@ public LocalChunkProvider(StorageManager storageManager, EntityManager entityMan
         this.biomeManager = biomeManager;
         this.pipeline = new ChunkGenerationPipeline(new ChunkTaskRelevanceComparator());
         this.unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 4);
+        this.prefetcher = new ChunkPrefetcher(storageManager, ChunkPrefetcher.DEFAULT_CAPACITY);
+        this.lightMergeThreads = lightMergeThreads;
+        this.lightMerger = new LightMerger<>(this, lightMergeThreads);
         ChunkMonitor.fireChunkProviderInitialized(this);
     }
 
@@ -241,8 +256,7 @@ public void removeRelevanceEntity(EntityRef entity) {
 
     @Override
     public void completeUpdate() {
-        ReadyChunkInfo readyChunkInfo = lightMerger.completeMerge();
-        if (readyChunkInfo != null) {
+        for (ReadyChunkInfo readyChunkInfo : lightMerger.completeMerge()) {
             Chunk chunk = readyChunkInfo.getChunk();
             chunk.markReady();
             updateAdjacentChunksReadyFieldOf(chunk);
@@ -306,6 +320,7 @@ public void beginUpdate() {
             deactivateBlocks();
             checkForUnload();
             makeChunksAvailable();
+            nearCache.recordMetrics();
         } finally {
             regionLock.readLock().unlock();
         }
@@ -324,13 +339,11 @@ private void makeChunksAvailable() {
             Collections.sort(sortedReadyChunks, new ReadyChunkRelevanceComparator());
         }
         if (!sortedReadyChunks.isEmpty()) {
-            boolean loaded = false;
-            for (int i = sortedReadyChunks.size() - 1; i >= 0 && !loaded; i--) {
+            for (int i = sortedReadyChunks.size() - 1; i >= 0 && !lightMerger.isBusy(); i--) {
                 ReadyChunkInfo chunkInfo = sortedReadyChunks.get(i);
                 PerformanceMonitor.startActivity("Make Chunk Available");
                 if (makeChunkAvailable(chunkInfo)) {
                     sortedReadyChunks.remove(i);
-                    loaded = true;
                 }
                 PerformanceMonitor.endActivity();
             }
@@ -362,9 +375,7 @@ private void checkForUnload() {
         PerformanceMonitor.startActivity("Unloading irrelevant chunks");
         int unloaded = 0;
         logger.debug("Compacting cache");
-        Iterator<Vector3i> iterator = nearCache.keySet().iterator();
-        while (iterator.hasNext()) {
-            Vector3i pos = iterator.next();
+        for (Vector3i pos : nearCache.positions()) {
             boolean keep = false;
             for (ChunkRelevanceRegion region : regions.values()) {
                 if (region.getCurrentRegion().expand(UNLOAD_LEEWAY).encompasses(pos)) {
@@ -376,7 +387,7 @@ private void checkForUnload() {
                 // TODO: need some way to not dispose chunks being edited or processed (or do so safely)
                 // Note: Above won't matter if all changes are on the main thread
                 if (unloadChunkInternal(pos)) {
-                    iterator.remove();
+                    nearCache.remove(pos);
                     if (++unloaded >= UNLOAD_PER_FRAME) {
                         break;
                     }
@@ -387,6 +398,7 @@ private void checkForUnload() {
     }
 
     private boolean unloadChunkInternal(Vector3i pos) {
+        prefetcher.invalidate(pos);
         Chunk chunk = nearCache.get(pos);
         if (!chunk.isReady()) {
             // Chunk hasn't been finished or changed, so just drop it.
@@ -447,9 +459,11 @@ private void updateAdjacentChunksReadyFieldOfAdjChunks(Chunk chunkInCenter) {
 
 
     private void updateRelevance() {
+        boolean moved = false;
         for (ChunkRelevanceRegion chunkRelevanceRegion : regions.values()) {
             chunkRelevanceRegion.update();
             if (chunkRelevanceRegion.isDirty()) {
+                moved = true;
                 for (Vector3i pos : chunkRelevanceRegion.getNeededChunks()) {
                     Chunk chunk = nearCache.get(pos);
                     if (chunk != null) {
@@ -461,6 +475,9 @@ private void updateRelevance() {
                 chunkRelevanceRegion.setUpToDate();
             }
         }
+        if (moved) {
+            prefetcher.prefetch(regions.values(), this::isChunkLoadedOrPreparing);
+        }
     }
 
     private boolean makeChunkAvailable(final ReadyChunkInfo readyChunkInfo) {
@@ -473,8 +490,7 @@ private boolean makeChunkAvailable(final ReadyChunkInfo readyChunkInfo) {
                 return false;
             }
         }
-        lightMerger.beginMerge(chunk, readyChunkInfo);
-        return true;
+        return lightMerger.beginMerge(chunk, readyChunkInfo);
     }
 
     void gatherBlockPositionsForDeactivate(Chunk chunk) {
@@ -504,7 +520,11 @@ private TShortObjectMap<TIntList> createBatchBlockEventMappings(Chunk chunk) {
 
     @Override
     public Chunk getChunk(int x, int y, int z) {
-        return getChunk(new Vector3i(x, y, z));
+        Chunk chunk = nearCache.get(x, y, z);
+        if (isChunkReady(chunk)) {
+            return chunk;
+        }
+        return null;
     }
 
     @Override
@@ -526,6 +546,7 @@ public Collection<Chunk> getAllChunks() {
     public void restart() {
         pipeline.restart();
         unloadRequestTaskMaster.restart();
+        prefetcher.restart();
         lightMerger.restart();
     }
 
@@ -533,6 +554,7 @@ public void restart() {
     public void shutdown() {
         pipeline.shutdown();
         unloadRequestTaskMaster.shutdown(new ChunkUnloadRequest(), true);
+        prefetcher.shutdown();
         lightMerger.shutdown();
     }
 
@@ -554,7 +576,7 @@ public void dispose() {
 
     @Override
     public boolean reloadChunk(Vector3i coords) {
-        if (!nearCache.containsKey(coords)) {
+        if (!nearCache.contains(coords)) {
             return false;
         }
 
@@ -572,6 +594,7 @@ public void purgeWorld() {
         ChunkMonitor.fireChunkProviderDisposed(this);
         pipeline.shutdown();
         unloadRequestTaskMaster.shutdown(new ChunkUnloadRequest(), true);
+        prefetcher.shutdown();
         lightMerger.shutdown();
 
         nearCache.values().stream().filter(ManagedChunk::isReady).forEach(chunk -> {
@@ -588,7 +611,8 @@ public void purgeWorld() {
 
         pipeline = new ChunkGenerationPipeline(new ChunkTaskRelevanceComparator());
         unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 8);
-        lightMerger = new LightMerger<>(this);
+        prefetcher = new ChunkPrefetcher(storageManager, ChunkPrefetcher.DEFAULT_CAPACITY);
+        lightMerger = new LightMerger<>(this, lightMergeThreads);
         lightMerger.restart();
         ChunkMonitor.fireChunkProviderInitialized(this);
 
@@ -600,34 +624,16 @@ public void purgeWorld() {
         }
     }
 
+    @Override
+    public ChunkGenerationPipeline getPipeline() {
+        return pipeline;
+    }
+
     private void createOrLoadChunk(Vector3i chunkPos) {
         Chunk chunk = nearCache.get(chunkPos);
         if (chunk == null && !preparingChunks.contains(chunkPos)) {
             preparingChunks.add(chunkPos);
-            pipeline.doTask(new AbstractChunkTask(chunkPos) {
-                @Override
-                public String getName() {
-                    return "Create or Load Chunk";
-                }
-
-                @Override
-                public void run() {
-                    ChunkStore chunkStore = storageManager.loadChunkStore(getPosition());
-                    Chunk chunk;
-                    EntityBufferImpl buffer = new EntityBufferImpl();
-                    if (chunkStore == null) {
-                        chunk = new ChunkImpl(getPosition(), blockManager, biomeManager);
-                        generator.createChunk(chunk, buffer);
-                    } else {
-                        chunk = chunkStore.getChunk();
-                    }
-
-                    InternalLightProcessor.generateInternalLighting(chunk);
-                    chunk.deflate();
-                    TShortObjectMap<TIntList> mappings = createBatchBlockEventMappings(chunk);
-                    readyChunks.offer(new ReadyChunkInfo(chunk, mappings, chunkStore, buffer.getAll()));
-                }
-            });
+            pipeline.doTask(new CreateOrLoadChunkTask(chunkPos, pipeline));
         }
     }
 
@@ -637,6 +643,13 @@ public void onChunkIsReady(Chunk chunk) {
         readyChunks.offer(new ReadyChunkInfo(chunk, createBatchBlockEventMappings(chunk), Collections.emptyList()));
     }
 
+    /**
+     * @return whether the chunk is loaded or being loaded or generated. Must be called on the main thread.
+     */
+    boolean isChunkLoadedOrPreparing(Vector3i pos) {
+        return nearCache.contains(pos) || preparingChunks.contains(pos);
+    }
+
     @Override
     public Chunk getChunkUnready(Vector3i pos) {
         return nearCache.get(pos);
@@ -651,6 +664,69 @@ private boolean isChunkReady(Chunk chunk) {
         return chunk != null && chunk.isReady();
     }
 
+    /**
+     * Loads or generates a chunk, moving through the stages of the generation pipeline. Stored chunks skip
+     * straight to lighting.
+     */
+    private class CreateOrLoadChunkTask extends AbstractChunkTask {
+        private final ChunkGenerationPipeline taskPipeline;
+        private ChunkGenerationStage stage = ChunkGenerationStage.FACETS;
+
+        private ChunkStore chunkStore;
+        private Chunk chunk;
+        private Region chunkData;
+        private final EntityBufferImpl buffer = new EntityBufferImpl();
+
+        CreateOrLoadChunkTask(Vector3i position, ChunkGenerationPipeline taskPipeline) {
+            super(position);
+            this.taskPipeline = taskPipeline;
+        }
+
+        @Override
+        public String getName() {
+            return "Create or Load Chunk";
+        }
+
+        @Override
+        public ChunkGenerationStage getStage() {
+            return stage;
+        }
+
+        @Override
+        public void run() {
+            switch (stage) {
+                case FACETS:
+                    chunkStore = prefetcher.loadChunkStore(getPosition());
+                    if (chunkStore == null) {
+                        chunk = new ChunkImpl(getPosition(), blockManager, biomeManager);
+                        chunkData = generator.generateChunkData(chunk.getRegion());
+                        stage = ChunkGenerationStage.RASTERIZATION;
+                    } else {
+                        chunk = chunkStore.getChunk();
+                        stage = ChunkGenerationStage.LIGHTING;
+                    }
+                    break;
+                case RASTERIZATION:
+                    generator.createChunk(chunk, chunkData, buffer);
+                    chunkData = null;
+                    stage = ChunkGenerationStage.LIGHTING;
+                    break;
+                case LIGHTING:
+                    InternalLightProcessor.generateInternalLighting(chunk);
+                    stage = ChunkGenerationStage.DEFLATION;
+                    break;
+                case DEFLATION:
+                    chunk.deflate();
+                    TShortObjectMap<TIntList> mappings = createBatchBlockEventMappings(chunk);
+                    readyChunks.offer(new ReadyChunkInfo(chunk, mappings, chunkStore, buffer.getAll()));
+                    return;
+                default:
+                    throw new IllegalStateException("Unexpected stage " + stage);
+            }
+            taskPipeline.forward(this);
+        }
+    }
+
     private class ChunkTaskRelevanceComparator implements Comparator<ChunkTask> {
 
         @Override
@@ -18,36 +18,195 @@
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.utilities.concurrency.TaskMaster;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Processes chunk tasks in a number of {@link ChunkGenerationStage}s. Each stage has its own prioritized queue and
+ * threads, sized from the available processor cores.
+ * <br><br>
+ * Tasks enter the pipeline through {@link #doTask(ChunkTask)}, and move on to their next stage through
+ * {@link #forward(ChunkTask)}. The queues of stages fed by other stages are bounded, so a slow stage holds back the
+ * stages before it instead of letting work pile up.
  */
 public class ChunkGenerationPipeline {
-    private static final int NUM_TASK_THREADS = 8;
     private static final Logger logger = LoggerFactory.getLogger(ChunkGenerationPipeline.class);
 
-    private TaskMaster<ChunkTask> chunkGenerator;
+    /**
+     * The number of forwarded tasks per thread that may wait in the queue of a stage.
+     */
+    private static final int QUEUED_TASKS_PER_THREAD = 4;
+
+    private final Map<ChunkGenerationStage, Stage> stages = new EnumMap<>(ChunkGenerationStage.class);
 
     public ChunkGenerationPipeline(Comparator<ChunkTask> taskComparator) {
-        chunkGenerator = TaskMaster.createDynamicPriorityTaskMaster("Chunk-Generator", NUM_TASK_THREADS, taskComparator);
+        this(taskComparator, EnumSet.allOf(ChunkGenerationStage.class));
     }
 
+    /**
+     * @param taskComparator Orders the waiting tasks of each stage
+     * @param usedStages     The stages this pipeline should run threads for
+     */
+    public ChunkGenerationPipeline(Comparator<ChunkTask> taskComparator, Set<ChunkGenerationStage> usedStages) {
+        for (ChunkGenerationStage stage : usedStages) {
+            stages.put(stage, new Stage(stage, taskComparator));
+        }
+    }
+
+    /**
+     * Adds a task to the queue of its stage. This does not block.
+     *
+     * @param task
+     */
     public void doTask(ChunkTask task) {
+        Stage stage = getStage(task);
+        stage.taskMaster.offer(new StageTask(task, stage, null));
+    }
+
+    /**
+     * Passes a task on to the queue of its stage. For use by tasks running in this pipeline when they are done with
+     * their current stage. Blocks while the queue of the next stage is full.
+     *
+     * @param task
+     */
+    public void forward(ChunkTask task) {
+        Stage stage = getStage(task);
+        Semaphore capacity = stage.capacity;
         try {
-            chunkGenerator.put(task);
+            capacity.acquire();
         } catch (InterruptedException e) {
-            logger.error("Failed to enqueue task {}", task, e);
+            logger.debug("Interrupted while forwarding task {}, dropping it", task.getName());
+            return;
         }
+        stage.taskMaster.offer(new StageTask(task, stage, capacity));
     }
 
     public void shutdown() {
-        chunkGenerator.shutdown(new ShutdownChunkTask(), false);
+        // Stages are shut down in processing order, so a stage blocked on a full successor can still finish
+        for (Stage stage : stages.values()) {
+            stage.taskMaster.shutdown(new ShutdownChunkTask(), false);
+        }
     }
 
     public void restart() {
-        chunkGenerator.restart();
+        for (Stage stage : stages.values()) {
+            stage.capacity = new Semaphore(stage.threads * QUEUED_TASKS_PER_THREAD);
+            stage.taskMaster.restart();
+        }
+    }
+
+    /**
+     * @return The stages this pipeline runs, in processing order
+     */
+    public Set<ChunkGenerationStage> getStages() {
+        return Collections.unmodifiableSet(stages.keySet());
+    }
+
+    public int getThreadCount(ChunkGenerationStage stage) {
+        return getStage(stage).threads;
+    }
+
+    /**
+     * @return The number of tasks waiting in the queue of the given stage
+     */
+    public int getQueueSize(ChunkGenerationStage stage) {
+        return getStage(stage).taskMaster.getQueueSize();
+    }
+
+    /**
+     * @return The number of tasks the given stage completed since this pipeline was created
+     */
+    public long getCompletedTaskCount(ChunkGenerationStage stage) {
+        return getStage(stage).completedTasks.get();
+    }
+
+    /**
+     * @return The total time the threads of the given stage spent running tasks, in milliseconds
+     */
+    public long getBusyTimeInMs(ChunkGenerationStage stage) {
+        return TimeUnit.NANOSECONDS.toMillis(getStage(stage).busyNanos.get());
+    }
+
+    private Stage getStage(ChunkTask task) {
+        return getStage(task.getStage());
+    }
+
+    private Stage getStage(ChunkGenerationStage stageType) {
+        Stage stage = stages.get(stageType);
+        if (stage == null) {
+            throw new IllegalArgumentException("Pipeline has no stage " + stageType);
+        }
+        return stage;
+    }
+
+    private static final class Stage {
+        private final int threads;
+        private final TaskMaster<ChunkTask> taskMaster;
+        private final AtomicLong completedTasks = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private volatile Semaphore capacity;
+
+        Stage(ChunkGenerationStage type, Comparator<ChunkTask> taskComparator) {
+            this.threads = type.getThreadCount();
+            this.capacity = new Semaphore(threads * QUEUED_TASKS_PER_THREAD);
+            this.taskMaster = TaskMaster.createDynamicPriorityTaskMaster(type.getThreadName(), threads, taskComparator);
+        }
     }
 
+    /**
+     * Wraps the tasks of a stage, to keep track of the stage capacity and metrics.
+     */
+    private static final class StageTask implements ChunkTask {
+        private final ChunkTask task;
+        private final Stage stage;
+        private final Semaphore capacity;
+
+        /**
+         * @param capacity The capacity the task was forwarded with, or null if it entered the pipeline directly
+         */
+        StageTask(ChunkTask task, Stage stage, Semaphore capacity) {
+            this.task = task;
+            this.stage = stage;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public String getName() {
+            return task.getName();
+        }
+
+        @Override
+        public void run() {
+            if (capacity != null) {
+                capacity.release();
+            }
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                stage.busyNanos.addAndGet(System.nanoTime() - start);
+                stage.completedTasks.incrementAndGet();
+            }
+        }
+
+        @Override
+        public boolean isTerminateSignal() {
+            return task.isTerminateSignal();
+        }
+
+        @Override
+        public Vector3i getPosition() {
+            return task.getPosition();
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.pipeline;
+
+/**
+ * The stages of a {@link ChunkGenerationPipeline}, in processing order. Each stage has its own task queue and threads.
+ */
+public enum ChunkGenerationStage {
+    /**
+     * Loading stored chunks, or generating the world facets of new chunks.
+     */
+    FACETS("Chunk-Facets", 0.35f),
+    /**
+     * Rasterizing the world facets into the blocks of new chunks.
+     */
+    RASTERIZATION("Chunk-Rasterizer", 0.35f),
+    /**
+     * Calculating the internal lighting of chunks.
+     */
+    LIGHTING("Chunk-Lighting", 0.2f),
+    /**
+     * Deflating chunks and handing them over as ready.
+     */
+    DEFLATION("Chunk-Deflater", 0.1f);
+
+    private final String threadName;
+    private final float coreShare;
+
+    ChunkGenerationStage(String threadName, float coreShare) {
+        this.threadName = threadName;
+        this.coreShare = coreShare;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * @return The number of threads to use for this stage, sized from the available processor cores
+     */
+    public int getThreadCount() {
+        return Math.max(1, Math.round(Runtime.getRuntime().availableProcessors() * coreShare));
+    }
+}
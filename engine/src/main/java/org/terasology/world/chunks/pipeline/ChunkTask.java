@@ -25,4 +25,11 @@ public interface ChunkTask extends Task {
 
     Vector3i getPosition();
 
+    /**
+     * @return The stage of a {@link ChunkGenerationPipeline} this task is to be run in
+     */
+    default ChunkGenerationStage getStage() {
+        return ChunkGenerationStage.FACETS;
+    }
+
 }
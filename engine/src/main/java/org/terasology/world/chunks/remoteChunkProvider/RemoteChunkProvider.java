@@ -41,6 +41,7 @@
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
 import org.terasology.world.chunks.pipeline.AbstractChunkTask;
 import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
+import org.terasology.world.chunks.pipeline.ChunkGenerationStage;
 import org.terasology.world.chunks.pipeline.ChunkTask;
 import org.terasology.world.internal.ChunkViewCore;
 import org.terasology.world.internal.ChunkViewCoreImpl;
@@ -51,6 +52,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
@@ -78,7 +80,7 @@ public class RemoteChunkProvider implements ChunkProvider, GeneratingChunkProvid
     public RemoteChunkProvider(BlockManager blockManager, LocalPlayer localPlayer) {
         this.blockManager = blockManager;
         this.localPlayer = localPlayer;
-        pipeline = new ChunkGenerationPipeline(new ChunkTaskRelevanceComparator());
+        pipeline = new ChunkGenerationPipeline(new ChunkTaskRelevanceComparator(), EnumSet.of(ChunkGenerationStage.LIGHTING));
         ChunkMonitor.fireChunkProviderInitialized(this);
     }
 
@@ -86,6 +88,11 @@ public void subscribe(ChunkReadyListener chunkReadyListener) {
         this.listener = chunkReadyListener;
     }
 
+    @Override
+    public ChunkGenerationPipeline getPipeline() {
+        return pipeline;
+    }
+
     public void receiveChunk(final Chunk chunk) {
         pipeline.doTask(new AbstractChunkTask(chunk.getPosition()) {
             @Override
@@ -93,6 +100,11 @@ public String getName() {
                 return "Internal Light Generation";
             }
 
+            @Override
+            public ChunkGenerationStage getStage() {
+                return ChunkGenerationStage.LIGHTING;
+            }
+
             @Override
             public void run() {
                 InternalLightProcessor.generateInternalLighting(chunk);
@@ -148,8 +160,7 @@ private boolean makeChunkAvailable(final Chunk chunk) {
             }
         }
 
-        lightMerger.beginMerge(chunk, chunk);
-        return true;
+        return lightMerger.beginMerge(chunk, chunk);
     }
 
 
@@ -265,8 +276,7 @@ public void removeRelevanceEntity(EntityRef entity) {
 
     @Override
     public void completeUpdate() {
-        Chunk chunk = lightMerger.completeMerge();
-        if (chunk != null) {
+        for (Chunk chunk : lightMerger.completeMerge()) {
             chunk.markReady();
             updateAdjacentChunksReadyFieldOf(chunk);
             updateAdjacentChunksReadyFieldOfAdjChunks(chunk);
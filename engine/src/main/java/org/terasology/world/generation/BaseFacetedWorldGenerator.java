@@ -16,6 +16,7 @@
 package org.terasology.world.generation;
 
 import org.terasology.engine.SimpleUri;
+import org.terasology.math.Region3i;
 import org.terasology.world.chunks.CoreChunk;
 import org.terasology.world.generator.WorldConfigurator;
 import org.terasology.world.generator.WorldGenerator;
@@ -65,6 +66,20 @@ public void createChunk(CoreChunk chunk, EntityBuffer buffer) {
         world.rasterizeChunk(chunk, buffer);
     }
 
+    @Override
+    public Region generateChunkData(Region3i region) {
+        return world.generateWorldData(region);
+    }
+
+    @Override
+    public void createChunk(CoreChunk chunk, Region chunkData, EntityBuffer buffer) {
+        if (chunkData != null) {
+            world.rasterizeChunk(chunk, chunkData, buffer);
+        } else {
+            world.rasterizeChunk(chunk, buffer);
+        }
+    }
+
     @Override
     public WorldConfigurator getConfigurator() {
         if (configurator == null) {
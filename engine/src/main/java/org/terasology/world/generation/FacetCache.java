@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.terasology.math.Region3i;
+import org.terasology.monitoring.PerformanceMonitor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A size-bounded, thread-safe cache of 2D facets, keyed by facet type and the column area of a region.
+ * <br><br>
+ * 2D facets only depend on the x and z extents of a region, so all chunks in a column of the world can share them.
+ * Only facets whose provider chain reads and writes nothing but 2D facets are cached. Such a chain may write more
+ * than one facet, so each cache entry holds all the facets written by the chain. Facets written by providers
+ * outside the chain are never cached, as they could be modified after being shared.
+ */
+class FacetCache {
+    static final String CACHE_NAME = "World Generation: 2D Facets";
+
+    private static final int MAX_ENTRIES = 512;
+
+    private final Cache<Key, Map<Class<? extends WorldFacet>, WorldFacet>> cache =
+            CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).build();
+
+    /**
+     * The facets written by the provider chain of each cacheable facet.
+     */
+    private final Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> cacheableChainOutputs = Maps.newHashMap();
+
+    FacetCache(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains) {
+        Set<FacetProvider> allProviders = Sets.newHashSet(facetProviderChains.values());
+        for (Class<? extends WorldFacet> facetType : facetProviderChains.keySet()) {
+            Set<Class<? extends WorldFacet>> outputs = determineCacheableOutputs(facetType,
+                    facetProviderChains.get(facetType), allProviders);
+            if (outputs != null) {
+                cacheableChainOutputs.put(facetType, Collections.unmodifiableSet(outputs));
+            }
+        }
+    }
+
+    /**
+     * @return whether the given facet is cached, along with all the other facets written by its provider chain
+     */
+    boolean isCacheable(Class<? extends WorldFacet> facetType) {
+        return cacheableChainOutputs.containsKey(facetType);
+    }
+
+    /**
+     * @return the facets written by the provider chain of the given cacheable facet
+     */
+    Set<Class<? extends WorldFacet>> getChainOutputs(Class<? extends WorldFacet> facetType) {
+        return cacheableChainOutputs.get(facetType);
+    }
+
+    /**
+     * @return the facets generated by the provider chain of the given facet for the column area of the region, or
+     *         null if they are not cached.
+     */
+    Map<Class<? extends WorldFacet>, WorldFacet> get(Class<? extends WorldFacet> facetType, Region3i region) {
+        Map<Class<? extends WorldFacet>, WorldFacet> facets = cache.getIfPresent(new Key(facetType, region));
+        PerformanceMonitor.recordCacheAccess(CACHE_NAME, facets != null);
+        return facets;
+    }
+
+    void put(Class<? extends WorldFacet> facetType, Region3i region, Map<Class<? extends WorldFacet>, WorldFacet> facets) {
+        cache.put(new Key(facetType, region), facets);
+    }
+
+    private static Set<Class<? extends WorldFacet>> determineCacheableOutputs(Class<? extends WorldFacet> facetType,
+                                                                              Collection<FacetProvider> chain,
+                                                                              Set<FacetProvider> allProviders) {
+        if (!WorldFacet2D.class.isAssignableFrom(facetType) || chain.isEmpty()) {
+            return null;
+        }
+        Set<Class<? extends WorldFacet>> outputs = Sets.newHashSet();
+        for (FacetProvider provider : chain) {
+            Set<Class<? extends WorldFacet>> written = getWrittenFacets(provider);
+            Set<Class<? extends WorldFacet>> accessed = Sets.union(written, getRequiredFacets(provider));
+            if (!accessed.stream().allMatch(WorldFacet2D.class::isAssignableFrom)) {
+                return null;
+            }
+            outputs.addAll(written);
+        }
+        for (FacetProvider provider : allProviders) {
+            if (!chain.contains(provider) && !Collections.disjoint(getWrittenFacets(provider), outputs)) {
+                return null;
+            }
+        }
+        return outputs;
+    }
+
+    private static Set<Class<? extends WorldFacet>> getWrittenFacets(FacetProvider provider) {
+        Set<Class<? extends WorldFacet>> result = Sets.newHashSet();
+        Produces produces = provider.getClass().getAnnotation(Produces.class);
+        if (produces != null) {
+            result.addAll(Arrays.asList(produces.value()));
+        }
+        Updates updates = provider.getClass().getAnnotation(Updates.class);
+        if (updates != null) {
+            for (Facet facet : updates.value()) {
+                result.add(facet.value());
+            }
+        }
+        return result;
+    }
+
+    private static Set<Class<? extends WorldFacet>> getRequiredFacets(FacetProvider provider) {
+        Set<Class<? extends WorldFacet>> result = Sets.newHashSet();
+        Requires requires = provider.getClass().getAnnotation(Requires.class);
+        if (requires != null) {
+            for (Facet facet : requires.value()) {
+                result.add(facet.value());
+            }
+        }
+        return result;
+    }
+
+    private static final class Key {
+        private final Class<? extends WorldFacet> facetType;
+        private final int minX;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeZ;
+
+        Key(Class<? extends WorldFacet> facetType, Region3i region) {
+            this.facetType = facetType;
+            this.minX = region.minX();
+            this.minZ = region.minZ();
+            this.sizeX = region.sizeX();
+            this.sizeZ = region.sizeZ();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return facetType == other.facetType && minX == other.minX && minZ == other.minZ
+                        && sizeX == other.sizeX && sizeZ == other.sizeZ;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = facetType.hashCode();
+            result = 31 * result + minX;
+            result = 31 * result + minZ;
+            result = 31 * result + sizeX;
+            result = 31 * result + sizeZ;
+            return result;
+        }
+    }
+}
@@ -16,10 +16,12 @@
 package org.terasology.world.generation;
 
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.terasology.math.Region3i;
 import org.terasology.utilities.collection.TypeMap;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,31 +32,76 @@ public class RegionImpl implements Region, GeneratingRegion {
     private final Region3i region;
     private final ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
+    private final FacetCache facetCache;
 
     private final TypeMap<WorldFacet> generatingFacets = TypeMap.create();
     private final Set<FacetProvider> processedProviders = Sets.newHashSet();
     private final TypeMap<WorldFacet> generatedFacets = TypeMap.create();
+    private final Set<Class<? extends WorldFacet>> requestedFacets = Sets.newHashSet();
 
     public RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders) {
+        this(region, facetProviderChains, borders, null);
+    }
+
+    RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders,
+               FacetCache facetCache) {
         this.region = region;
         this.facetProviderChains = facetProviderChains;
         this.borders = borders;
+        this.facetCache = facetCache;
     }
 
     @Override
     public <T extends WorldFacet> T getFacet(Class<T> dataType) {
+        requestedFacets.add(dataType);
         T facet = generatedFacets.get(dataType);
         if (facet == null) {
-            facetProviderChains.get(dataType).stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
-                provider.process(this);
-                processedProviders.add(provider);
-            });
+            List<FacetProvider> chain = facetProviderChains.get(dataType);
+            // the cached facets are only valid if none of the chain has run for this region yet
+            boolean cacheable = facetCache != null && facetCache.isCacheable(dataType)
+                    && chain.stream().noneMatch(processedProviders::contains);
+            if (!cacheable || !restoreFromCache(dataType, chain)) {
+                chain.stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
+                    provider.process(this);
+                    processedProviders.add(provider);
+                });
+                if (cacheable) {
+                    Map<Class<? extends WorldFacet>, WorldFacet> chainFacets = Maps.newHashMap();
+                    for (Class<? extends WorldFacet> output : facetCache.getChainOutputs(dataType)) {
+                        chainFacets.put(output, generatingFacets.get(output));
+                    }
+                    facetCache.put(dataType, region, chainFacets);
+                }
+            }
             facet = generatingFacets.get(dataType);
             generatedFacets.put(dataType, facet);
         }
         return facet;
     }
 
+    private boolean restoreFromCache(Class<? extends WorldFacet> dataType, List<FacetProvider> chain) {
+        Map<Class<? extends WorldFacet>, WorldFacet> chainFacets = facetCache.get(dataType, region);
+        if (chainFacets == null) {
+            return false;
+        }
+        for (Map.Entry<Class<? extends WorldFacet>, WorldFacet> entry : chainFacets.entrySet()) {
+            restoreFacet(entry.getKey(), entry.getValue());
+        }
+        processedProviders.addAll(chain);
+        return true;
+    }
+
+    private <T extends WorldFacet> void restoreFacet(Class<T> type, WorldFacet facet) {
+        generatingFacets.put(type, type.cast(facet));
+    }
+
+    /**
+     * @return the facet types requested through {@link #getFacet(Class)} so far
+     */
+    public Set<Class<? extends WorldFacet>> getRequestedFacets() {
+        return requestedFacets;
+    }
+
     @Override
     public Region3i getRegion() {
         return region;
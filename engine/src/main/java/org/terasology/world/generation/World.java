@@ -34,6 +34,21 @@ public interface World {
 
     void rasterizeChunk(CoreChunk chunk, EntityBuffer buffer);
 
+    /**
+     * Generates the facets of a region that rasterization is known to request, so that generating the facets
+     * and rasterizing the chunk can happen at different times or on different threads.
+     *
+     * @return the world data of the region, with the facets needed for rasterization already generated
+     */
+    Region generateWorldData(Region3i region);
+
+    /**
+     * Rasterizes a chunk using previously generated world data.
+     *
+     * @param chunkRegion the world data of the chunk's region, as returned by {@link #generateWorldData(Region3i)}
+     */
+    void rasterizeChunk(CoreChunk chunk, Region chunkRegion, EntityBuffer buffer);
+
     /**
      * @return a <b>new</b> set containing all facet classes
      */
@@ -25,6 +25,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  */
@@ -34,6 +35,12 @@ public class WorldImpl implements World {
     private final List<EntityProvider> entityProviders;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
     private final int seaLevel;
+    private final FacetCache facetCache;
+
+    /**
+     * The facets requested by rasterizers and entity providers so far.
+     */
+    private final Set<Class<? extends WorldFacet>> rasterizationFacets = ConcurrentHashMap.newKeySet();
 
     public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
                      List<WorldRasterizer> worldRasterizers,
@@ -45,11 +52,12 @@ public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetP
         this.entityProviders = entityProviders;
         this.borders = borders;
         this.seaLevel = seaLevel;
+        this.facetCache = new FacetCache(facetProviderChains);
     }
 
     @Override
     public Region getWorldData(Region3i region) {
-        return new RegionImpl(region, facetProviderChains, borders);
+        return new RegionImpl(region, facetProviderChains, borders, facetCache);
     }
 
     @Override
@@ -59,13 +67,29 @@ public int getSeaLevel() {
 
     @Override
     public void rasterizeChunk(CoreChunk chunk, EntityBuffer buffer) {
-        Region chunkRegion = getWorldData(chunk.getRegion());
+        rasterizeChunk(chunk, getWorldData(chunk.getRegion()), buffer);
+    }
+
+    @Override
+    public Region generateWorldData(Region3i region) {
+        RegionImpl worldData = new RegionImpl(region, facetProviderChains, borders, facetCache);
+        for (Class<? extends WorldFacet> facetType : rasterizationFacets) {
+            worldData.getFacet(facetType);
+        }
+        return worldData;
+    }
+
+    @Override
+    public void rasterizeChunk(CoreChunk chunk, Region chunkRegion, EntityBuffer buffer) {
         for (WorldRasterizer rasterizer : worldRasterizers) {
             rasterizer.generateChunk(chunk, chunkRegion);
         }
         for (EntityProvider entityProvider : entityProviders) {
             entityProvider.process(chunkRegion, buffer);
         }
+        if (chunkRegion instanceof RegionImpl) {
+            rasterizationFacets.addAll(((RegionImpl) chunkRegion).getRequestedFacets());
+        }
     }
 
     @Override
@@ -19,9 +19,11 @@
 import org.terasology.engine.SimpleUri;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.logic.spawner.FixedSpawner;
+import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3f;
 import org.terasology.world.chunks.CoreChunk;
 import org.terasology.world.generation.EntityBuffer;
+import org.terasology.world.generation.Region;
 import org.terasology.world.generation.World;
 
 public interface WorldGenerator {
@@ -33,6 +35,27 @@ public interface WorldGenerator {
 
     void createChunk(CoreChunk chunk, EntityBuffer buffer);
 
+    /**
+     * Generates the data a chunk in the given region is created from, ahead of {@link #createChunk(CoreChunk, Region, EntityBuffer)}.
+     * The default implementation generates nothing in advance.
+     * @param region the region of the chunk
+     * @return the generated data, or null if this generator creates chunks in one step
+     */
+    default Region generateChunkData(Region3i region) {
+        return null;
+    }
+
+    /**
+     * Creates a chunk from data generated by {@link #generateChunkData(Region3i)}.
+     * The default implementation ignores the data and creates the chunk in one step.
+     * @param chunk the chunk to fill
+     * @param chunkData the generated data, may be null
+     * @param buffer the buffer to add entities to
+     */
+    default void createChunk(CoreChunk chunk, Region chunkData, EntityBuffer buffer) {
+        createChunk(chunk, buffer);
+    }
+
     void initialize();
 
     WorldConfigurator getConfigurator();
@@ -102,6 +102,11 @@ public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
         return base.setBlocks(blocks);
     }
 
+    @Override
+    public void batchBlockChanges(Runnable edits) {
+        base.batchBlockChanges(edits);
+    }
+
     @Override
     public boolean setLiquid(int x, int y, int z, LiquidData newState, LiquidData oldState) {
         return base.setLiquid(x, y, z, newState, oldState);
@@ -61,6 +61,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 public class EntityAwareWorldProvider extends AbstractWorldProviderDecorator implements BlockEntityRegistry, UpdateSubscriberSystem, EntityChangeSubscriber {
     private static final Logger logger = LoggerFactory.getLogger(EntityAwareWorldProvider.class);
@@ -124,6 +126,21 @@ public Block setBlock(Vector3i pos, Block type) {
         return null;
     }
 
+    /**
+     * Sets the blocks one by one, updating their block entities as {@link #setBlock(Vector3i, Block)} does, in a single
+     * batch of block changes.
+     */
+    @Override
+    public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
+        Map<Vector3i, Block> result = Maps.newHashMapWithExpectedSize(blocks.size());
+        batchBlockChanges(() -> {
+            for (Map.Entry<Vector3i, Block> entry : blocks.entrySet()) {
+                result.put(entry.getKey(), setBlock(entry.getKey(), entry.getValue()));
+            }
+        });
+        return result;
+    }
+
     @Override
     @SafeVarargs
     public final Block setBlockRetainComponent(Vector3i pos, Block type, Class<? extends Component>... components) {
@@ -347,6 +364,21 @@ public boolean hasPermanentBlockEntity(Vector3i blockPos) {
         return false;
     }
 
+    @Override
+    public void applyToBlocks(Collection<Vector3i> positions, Predicate<Block> filter, BiConsumer<Vector3i, EntityRef> action) {
+        if (!GameThread.isCurrentThread()) {
+            logger.error("Attempted to apply an action to blocks off-thread");
+            return;
+        }
+        batchBlockChanges(() -> {
+            for (Vector3i position : positions) {
+                if (filter.test(getBlock(position.x, position.y, position.z))) {
+                    action.accept(position, getEntityAt(position));
+                }
+            }
+        });
+    }
+
     @ReceiveEvent(components = {BlockComponent.class})
     public void onActivateBlock(OnActivatedComponent event, EntityRef entity) {
         BlockComponent block = entity.getComponent(BlockComponent.class);
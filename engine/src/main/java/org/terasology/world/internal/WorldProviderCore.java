@@ -123,6 +123,17 @@ default Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
         return resultMap;
     }
 
+    /**
+     * Runs the given edits as one batch, so that listeners are notified and chunks are marked dirty once for all blocks
+     * changed by the edits instead of once per block. Batches may be nested, the outermost batch applies. A batch only
+     * covers the blocks changed on its own thread.
+     *
+     * @param edits the edits, run immediately on the calling thread
+     */
+    default void batchBlockChanges(Runnable edits) {
+        edits.run();
+    }
+
 
 
     /**
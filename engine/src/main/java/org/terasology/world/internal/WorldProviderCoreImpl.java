@@ -21,6 +21,8 @@
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
 import org.terasology.context.Context;
 import org.terasology.engine.SimpleUri;
 import org.terasology.entitySystem.entity.EntityManager;
@@ -28,12 +30,14 @@
 import org.terasology.math.ChunkMath;
 import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3i;
+import org.terasology.world.BlockChangeBatch;
 import org.terasology.world.WorldChangeListener;
 import org.terasology.world.WorldComponent;
 import org.terasology.world.biomes.Biome;
 import org.terasology.world.biomes.BiomeManager;
 import org.terasology.world.block.Block;
 import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
 import org.terasology.world.chunks.ChunkProvider;
 import org.terasology.world.chunks.CoreChunk;
 import org.terasology.world.chunks.LitChunk;
@@ -44,9 +48,9 @@
 import org.terasology.world.propagation.BatchPropagator;
 import org.terasology.world.propagation.BiomeChange;
 import org.terasology.world.propagation.BlockChange;
+import org.terasology.world.propagation.PackedBatchPropagator;
 import org.terasology.world.propagation.PropagationRules;
 import org.terasology.world.propagation.PropagatorWorldView;
-import org.terasology.world.propagation.StandardBatchPropagator;
 import org.terasology.world.propagation.SunlightRegenBatchPropagator;
 import org.terasology.world.propagation.light.LightPropagationRules;
 import org.terasology.world.propagation.light.LightWorldView;
@@ -68,6 +72,7 @@
 /**
  */
 public class WorldProviderCoreImpl implements WorldProviderCore {
+    private static final int CHUNKS_AROUND_CHUNK = 27;
 
     private String title;
     private String seed = "";
@@ -83,6 +88,12 @@ public class WorldProviderCoreImpl implements WorldProviderCore {
     private Map<Vector3i, BiomeChange> biomeChanges = Maps.newHashMap();
     private List<BatchPropagator> propagators = Lists.newArrayList();
 
+    /**
+     * The block changes of the {@link #batchBlockChanges(Runnable)} running on each thread, unset outside of batches.
+     * Each thread has its own, so that a batch never collects the changes other threads make meanwhile.
+     */
+    private final ThreadLocal<BlockBatch> batches = new ThreadLocal<>();
+
     private Block unloadedBlock;
 
     public WorldProviderCoreImpl(String title, String seed, long time, SimpleUri worldGenerator,
@@ -98,11 +109,11 @@ public WorldProviderCoreImpl(String title, String seed, long time, SimpleUri wor
         this.worldTime = new WorldTimeImpl();
         worldTime.setMilliseconds(time);
 
-        propagators.add(new StandardBatchPropagator(new LightPropagationRules(), new LightWorldView(chunkProvider)));
+        propagators.add(new PackedBatchPropagator(new LightPropagationRules(), new LightWorldView(chunkProvider)));
         PropagatorWorldView regenWorldView = new SunlightRegenWorldView(chunkProvider);
         PropagationRules sunlightRules = new SunlightPropagationRules(regenWorldView);
         PropagatorWorldView sunlightWorldView = new SunlightWorldView(chunkProvider);
-        BatchPropagator sunlightPropagator = new StandardBatchPropagator(sunlightRules, sunlightWorldView);
+        BatchPropagator sunlightPropagator = new PackedBatchPropagator(sunlightRules, sunlightWorldView);
         propagators.add(new SunlightRegenBatchPropagator(new SunlightRegenPropagationRules(), regenWorldView, sunlightPropagator, sunlightWorldView));
         propagators.add(sunlightPropagator);
     }
@@ -202,13 +213,22 @@ public Block setBlock(Vector3i worldPos, Block type) {
                 } else {
                     oldChange.setTo(type);
                 }
-                for (Vector3i pos : ChunkMath.getChunkRegionAroundWorldPos(worldPos, 1)) {
-                    RenderableChunk dirtiedChunk = chunkProvider.getChunk(pos);
-                    if (dirtiedChunk != null) {
-                        dirtiedChunk.setDirty(true);
+                BlockBatch batch = batches.get();
+                if (batch != null) {
+                    batch.changes.add(chunkPos, new BlockChange(worldPos, oldBlockType, type));
+                    batch.chunksAround.put(chunkPos, batch.chunksAround.get(chunkPos) | calcChunksAroundBlock(blockPos));
+                } else {
+                    int adjacentChunks = calcChunksAroundBlock(blockPos);
+                    for (int i = 0; i < CHUNKS_AROUND_CHUNK; ++i) {
+                        if ((adjacentChunks & (1 << i)) != 0) {
+                            RenderableChunk dirtiedChunk = getChunkAround(chunkPos, i);
+                            if (dirtiedChunk != null) {
+                                dirtiedChunk.setDirty(true);
+                            }
+                        }
                     }
+                    notifyBlockChanged(worldPos, type, oldBlockType);
                 }
-                notifyBlockChanged(worldPos, type, oldBlockType);
             }
             return oldBlockType;
 
@@ -222,48 +242,83 @@ public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
          * Hint: This method has a benchmark available in the BenchmarkScreen, The screen can be opened ingame via the
          * command "showSCreen BenchmarkScreen".
          */
-        Set<RenderableChunk> dirtiedChunks = new HashSet<>();
-        Set<BlockChange> changedBlocks = new HashSet<>();
         Map<Vector3i, Block> result = new HashMap<>(blocks.size());
+        batchBlockChanges(() -> {
+            for (Map.Entry<Vector3i, Block> entry : blocks.entrySet()) {
+                result.put(entry.getKey(), setBlock(entry.getKey(), entry.getValue()));
+            }
+        });
+        return result;
+    }
 
-        for (Map.Entry<Vector3i, Block> entry : blocks.entrySet()) {
-            Vector3i worldPos = entry.getKey();
-            Vector3i chunkPos = ChunkMath.calcChunkPos(worldPos);
-            CoreChunk chunk = chunkProvider.getChunk(chunkPos);
-
-            if (chunk != null) {
-                Block type = entry.getValue();
-                Vector3i blockPos = ChunkMath.calcBlockPos(worldPos);
-                Block oldBlockType = chunk.setBlock(blockPos, type);
-                if (oldBlockType != type) {
-                    BlockChange oldChange = blockChanges.get(worldPos);
-                    if (oldChange == null) {
-                        blockChanges.put(worldPos, new BlockChange(worldPos, oldBlockType, type));
-                    } else {
-                        oldChange.setTo(type);
-                    }
-                    for (Vector3i pos : ChunkMath.getChunkRegionAroundWorldPos(worldPos, 1)) {
-                        RenderableChunk dirtiedChunk = chunkProvider.getChunk(pos);
+    /**
+     * Collects the block changes made by the edits in a {@link BlockChangeBatch}. Afterwards, every chunk whose mesh
+     * depends on a changed block is marked dirty once and the listeners are notified once with the whole batch.
+     */
+    @Override
+    public void batchBlockChanges(Runnable edits) {
+        if (batches.get() != null) {
+            edits.run();
+            return;
+        }
+        BlockBatch batch = new BlockBatch();
+        batches.set(batch);
+        try {
+            edits.run();
+        } finally {
+            batches.remove();
+
+            Set<RenderableChunk> dirtiedChunks = new HashSet<>();
+            batch.chunksAround.forEachEntry((chunkPos, chunksAround) -> {
+                for (int i = 0; i < CHUNKS_AROUND_CHUNK; ++i) {
+                    if ((chunksAround & (1 << i)) != 0) {
+                        RenderableChunk dirtiedChunk = getChunkAround(chunkPos, i);
                         if (dirtiedChunk != null) {
                             dirtiedChunks.add(dirtiedChunk);
                         }
                     }
-                    changedBlocks.add(new BlockChange(worldPos, oldBlockType, type));
                 }
-                result.put(worldPos, oldBlockType);
-            } else {
-                result.put(worldPos, null);
+                return true;
+            });
+            for (RenderableChunk chunk : dirtiedChunks) {
+                chunk.setDirty(true);
+            }
+            if (!batch.changes.isEmpty()) {
+                notifyBlocksChanged(batch.changes);
             }
         }
+    }
 
-        for (RenderableChunk chunk : dirtiedChunks) {
-            chunk.setDirty(true);
-        }
-        for (BlockChange change : changedBlocks) {
-            notifyBlockChanged(change.getPosition(), change.getTo(), change.getFrom());
+    /**
+     * Finds the chunks whose meshes depend on a block, which are its own chunk and the adjacent chunks it borders on.
+     *
+     * @param blockPos the position of the block within its chunk
+     * @return a bit set of the chunks, using the indices of {@link #getChunkAround(Vector3i, int)}
+     */
+    private static int calcChunksAroundBlock(Vector3i blockPos) {
+        int minX = (blockPos.x == 0) ? 0 : 1;
+        int maxX = (blockPos.x == ChunkConstants.SIZE_X - 1) ? 2 : 1;
+        int minY = (blockPos.y == 0) ? 0 : 1;
+        int maxY = (blockPos.y == ChunkConstants.SIZE_Y - 1) ? 2 : 1;
+        int minZ = (blockPos.z == 0) ? 0 : 1;
+        int maxZ = (blockPos.z == ChunkConstants.SIZE_Z - 1) ? 2 : 1;
+        int chunks = 0;
+        for (int z = minZ; z <= maxZ; ++z) {
+            for (int y = minY; y <= maxY; ++y) {
+                for (int x = minX; x <= maxX; ++x) {
+                    chunks |= 1 << (x + 3 * y + 9 * z);
+                }
+            }
         }
+        return chunks;
+    }
 
-        return result;
+    /**
+     * @param index the index of the chunk within the 3x3x3 chunks around the center chunk, x + 3 * y + 9 * z
+     */
+    private RenderableChunk getChunkAround(Vector3i centerChunkPos, int index) {
+        return chunkProvider.getChunk(centerChunkPos.x + index % 3 - 1, centerChunkPos.y + index / 3 % 3 - 1,
+                centerChunkPos.z + index / 9 - 1);
     }
 
     private void notifyBlockChanged(Vector3i pos, Block type, Block oldType) {
@@ -276,6 +331,14 @@ private void notifyBlockChanged(Vector3i pos, Block type, Block oldType) {
         }
     }
 
+    private void notifyBlocksChanged(BlockChangeBatch changes) {
+        synchronized (listeners) {
+            for (WorldChangeListener listener : listeners) {
+                listener.onBlocksChanged(changes);
+            }
+        }
+    }
+
     private void notifyBiomeChanged(Vector3i pos, Biome newBiome, Biome originalBiome) {
         // TODO: Could use a read/write writeLock.
         // TODO: Review, should only happen on main thread (as should changes to listeners)
@@ -362,33 +425,36 @@ public Biome setBiome(Vector3i worldPos, Biome biome) {
 
     @Override
     public byte getLight(int x, int y, int z) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        LitChunk chunk = chunkProvider.getChunk(chunkPos);
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            return chunk.getLight(blockPos);
+            int blockX = ChunkMath.calcBlockPosX(x);
+            int blockY = ChunkMath.calcBlockPosY(y);
+            int blockZ = ChunkMath.calcBlockPosZ(z);
+            return chunk.getLight(blockX, blockY, blockZ);
         }
         return 0;
     }
 
     @Override
     public byte getSunlight(int x, int y, int z) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        LitChunk chunk = chunkProvider.getChunk(chunkPos);
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            return chunk.getSunlight(blockPos);
+            int blockX = ChunkMath.calcBlockPosX(x);
+            int blockY = ChunkMath.calcBlockPosY(y);
+            int blockZ = ChunkMath.calcBlockPosZ(z);
+            return chunk.getSunlight(blockX, blockY, blockZ);
         }
         return 0;
     }
 
     @Override
     public byte getTotalLight(int x, int y, int z) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(x, y, z);
-        LitChunk chunk = chunkProvider.getChunk(chunkPos);
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
         if (chunk != null) {
-            Vector3i blockPos = ChunkMath.calcBlockPos(x, y, z);
-            return (byte) Math.max(chunk.getSunlight(blockPos), chunk.getLight(blockPos));
+            int blockX = ChunkMath.calcBlockPosX(x);
+            int blockY = ChunkMath.calcBlockPosY(y);
+            int blockZ = ChunkMath.calcBlockPosZ(z);
+            return (byte) Math.max(chunk.getSunlight(blockX, blockY, blockZ), chunk.getLight(blockX, blockY, blockZ));
         }
         return 0;
     }
@@ -413,4 +479,12 @@ public Collection<Region3i> getRelevantRegions() {
 
         return FluentIterable.from(chunks).filter(isReady).transform(mapping).toList();
     }
+
+    private static final class BlockBatch {
+        private final BlockChangeBatch changes = new BlockChangeBatch();
+        /**
+         * The chunks around each changed chunk whose meshes depend on a changed block, see {@link #calcChunksAroundBlock(Vector3i)}.
+         */
+        private final TObjectIntMap<Vector3i> chunksAround = new TObjectIntHashMap<>();
+    }
 }
@@ -26,6 +26,7 @@
 
 import java.math.RoundingMode;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  */
@@ -52,6 +53,16 @@ public Block setBlock(Vector3i pos, Block type) {
         return core.setBlock(pos, type);
     }
 
+    @Override
+    public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
+        return core.setBlocks(blocks);
+    }
+
+    @Override
+    public void batchBlockChanges(Runnable edits) {
+        core.batchBlockChanges(edits);
+    }
+
     @Override
     public boolean setLiquid(Vector3i pos, LiquidData state, LiquidData oldState) {
         return core.setLiquid(pos.x, pos.y, pos.z, state, oldState);
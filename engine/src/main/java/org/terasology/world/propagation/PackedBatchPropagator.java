@@ -0,0 +1,316 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.propagation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.math.Side;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.block.Block;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Batch propagator that works on a set of changed blocks, like the {@link StandardBatchPropagator}, but without
+ * allocating while it propagates.
+ * <br><br>
+ * Positions are packed into longs and queued per value in ring buffers that are reused from batch to batch. Instead
+ * of a set per value, every queued position has a bit set of the values it is queued for, which removes duplicates
+ * and allows to drop a position from a queue by clearing its bit. The bit sets are kept in pages of 16x16x16
+ * positions, indexed by the position packed into an int within the page, so that looking one up only needs a hash
+ * lookup when the propagation moves on to another page.
+ */
+public class PackedBatchPropagator extends AbstractBatchPropagator {
+
+    private static final int REDUCE_BIT_OFFSET = 16;
+    private static final int PAGE_POWER = 4;
+    private static final int PAGE_MASK = (1 << PAGE_POWER) - 1;
+    private static final Side[] SIDES = Side.values();
+
+    private final int maxValue;
+    private final PositionQueue[] reduceQueues;
+    private final PositionQueue[] increaseQueues;
+    private final TLongObjectMap<int[]> pages = new TLongObjectHashMap<>();
+    private final List<int[]> freePages = Lists.newArrayList();
+    private long lastPageKey;
+    private int[] lastPage;
+
+    private final Vector3i pos = new Vector3i();
+    private final Vector3i adjPos = new Vector3i();
+
+    public PackedBatchPropagator(PropagationRules rules, PropagatorWorldView world) {
+        super(rules, world);
+        maxValue = rules.getMaxValue();
+        Preconditions.checkArgument(maxValue <= REDUCE_BIT_OFFSET, "Values above %s are not supported", REDUCE_BIT_OFFSET);
+        increaseQueues = new PositionQueue[maxValue];
+        reduceQueues = new PositionQueue[maxValue];
+        for (int i = 0; i < maxValue; ++i) {
+            increaseQueues[i] = new PositionQueue();
+            reduceQueues[i] = new PositionQueue();
+        }
+    }
+
+    /**
+     * Packs a position into a long, using 21 bits per axis.
+     */
+    static long pack(int x, int y, int z) {
+        return ((x & 0x1FFFFFL) << 42) | ((y & 0x1FFFFFL) << 21) | (z & 0x1FFFFFL);
+    }
+
+    static void unpack(long packed, Vector3i result) {
+        result.set((int) (packed << 1 >> 43), (int) (packed << 22 >> 43), (int) (packed << 43 >> 43));
+    }
+
+    @Override
+    public void process(Iterable<BlockChange> blockChanges) {
+        for (BlockChange blockChange : blockChanges) {
+            reviewChange(blockChange);
+        }
+
+        processReduction();
+        processIncrease();
+        cleanUp();
+    }
+
+    private void reviewChange(BlockChange blockChange) {
+        Vector3i changePos = blockChange.getPosition();
+        byte newValue = rules.getFixedValue(blockChange.getTo(), changePos);
+        byte existingValue = world.getValueAt(changePos);
+        if (newValue > existingValue) {
+            increase(changePos, newValue);
+        }
+
+        byte oldValue = rules.getFixedValue(blockChange.getFrom(), changePos);
+        if (newValue < oldValue) {
+            reduce(changePos, oldValue);
+        }
+
+        for (Side side : SIDES) {
+            PropagationComparison comparison = rules.comparePropagation(blockChange.getTo(), blockChange.getFrom(), side);
+            if (comparison.isRestricting() && existingValue > 0) {
+                reduce(changePos, existingValue);
+                adjPos.set(changePos);
+                adjPos.add(side.getVector3i());
+                byte adjValue = world.getValueAt(adjPos);
+                if (adjValue == rules.propagateValue(existingValue, side, blockChange.getFrom())) {
+                    reduce(adjPos, adjValue);
+                }
+            } else if (comparison.isPermitting()) {
+                if (existingValue > 0) {
+                    queueSpreadValue(changePos, existingValue);
+                }
+                adjPos.set(changePos);
+                adjPos.add(side.getVector3i());
+                byte adjValue = world.getValueAt(adjPos);
+                if (adjValue != PropagatorWorldView.UNAVAILABLE) {
+                    queueSpreadValue(adjPos, adjValue);
+                }
+            }
+        }
+    }
+
+    private void processReduction() {
+        for (int depth = 0; depth < maxValue; ++depth) {
+            byte oldValue = (byte) (maxValue - depth);
+            PositionQueue queue = reduceQueues[depth];
+            while (!queue.isEmpty()) {
+                unpack(queue.poll(), pos);
+                if (dequeue(pos, REDUCE_BIT_OFFSET + depth)) {
+                    purge(pos, oldValue);
+                }
+            }
+        }
+    }
+
+    private void purge(Vector3i position, byte oldValue) {
+        Block block = world.getBlockAt(position);
+        dequeue(position, maxValue - oldValue);
+        byte fixedValue = rules.getFixedValue(block, position);
+        if (fixedValue > 0) {
+            increase(position, fixedValue);
+        } else {
+            world.setValueAt(position, NO_VALUE);
+        }
+
+        for (Side side : SIDES) {
+            byte expectedValue = rules.propagateValue(oldValue, side, block);
+            if (rules.canSpreadOutOf(block, side)) {
+                adjPos.set(position);
+                adjPos.add(side.getVector3i());
+                byte adjValue = world.getValueAt(adjPos);
+                if (adjValue == expectedValue) {
+                    Block adjBlock = world.getBlockAt(adjPos);
+                    if (rules.canSpreadInto(adjBlock, side.reverse())) {
+                        reduce(adjPos, expectedValue);
+                    }
+                } else if (adjValue > 0) {
+                    queueSpreadValue(adjPos, adjValue);
+                }
+            }
+        }
+    }
+
+    private void processIncrease() {
+        for (int depth = 0; depth < maxValue - 1; ++depth) {
+            byte value = (byte) (maxValue - depth);
+            PositionQueue queue = increaseQueues[depth];
+            while (!queue.isEmpty()) {
+                unpack(queue.poll(), pos);
+                if (dequeue(pos, depth)) {
+                    push(pos, value);
+                }
+            }
+        }
+    }
+
+    private void push(Vector3i position, byte value) {
+        Block block = world.getBlockAt(position);
+        for (Side side : SIDES) {
+            byte spreadValue = rules.propagateValue(value, side, block);
+            if (rules.canSpreadOutOf(block, side)) {
+                adjPos.set(position);
+                adjPos.add(side.getVector3i());
+                byte adjValue = world.getValueAt(adjPos);
+                if (adjValue < spreadValue && adjValue != PropagatorWorldView.UNAVAILABLE) {
+                    Block adjBlock = world.getBlockAt(adjPos);
+                    if (rules.canSpreadInto(adjBlock, side.reverse())) {
+                        increase(adjPos, spreadValue);
+                    }
+                }
+            }
+        }
+    }
+
+    private void cleanUp() {
+        for (PositionQueue queue : increaseQueues) {
+            queue.clear();
+        }
+        pages.forEachValue(page -> {
+            Arrays.fill(page, 0);
+            freePages.add(page);
+            return true;
+        });
+        pages.clear();
+        lastPage = null;
+    }
+
+    private void increase(Vector3i position, byte value) {
+        world.setValueAt(position, value);
+        queueSpreadValue(position, value);
+    }
+
+    @Override
+    protected void queueSpreadValue(Vector3i position, byte value) {
+        if (value > 1) {
+            enqueue(increaseQueues, position, maxValue - value);
+        }
+    }
+
+    private void reduce(Vector3i position, byte oldValue) {
+        if (oldValue > 0) {
+            enqueue(reduceQueues, position, REDUCE_BIT_OFFSET + maxValue - oldValue);
+        }
+    }
+
+    private void enqueue(PositionQueue[] queues, Vector3i position, int bit) {
+        int[] page = getPage(position);
+        int index = getIndexInPage(position);
+        if ((page[index] & (1 << bit)) == 0) {
+            page[index] |= 1 << bit;
+            queues[bit % REDUCE_BIT_OFFSET].add(pack(position.x, position.y, position.z));
+        }
+    }
+
+    /**
+     * Removes a position from the queue of the given bit.
+     *
+     * @return whether the position was still queued
+     */
+    private boolean dequeue(Vector3i position, int bit) {
+        int[] page = getPage(position);
+        int index = getIndexInPage(position);
+        if ((page[index] & (1 << bit)) == 0) {
+            return false;
+        }
+        page[index] &= ~(1 << bit);
+        return true;
+    }
+
+    private int[] getPage(Vector3i position) {
+        long pageKey = pack(position.x >> PAGE_POWER, position.y >> PAGE_POWER, position.z >> PAGE_POWER);
+        if (lastPage != null && lastPageKey == pageKey) {
+            return lastPage;
+        }
+        int[] page = pages.get(pageKey);
+        if (page == null) {
+            page = freePages.isEmpty() ? new int[1 << (3 * PAGE_POWER)] : freePages.remove(freePages.size() - 1);
+            pages.put(pageKey, page);
+        }
+        lastPageKey = pageKey;
+        lastPage = page;
+        return page;
+    }
+
+    private static int getIndexInPage(Vector3i position) {
+        return ((position.x & PAGE_MASK) << (2 * PAGE_POWER)) | ((position.y & PAGE_MASK) << PAGE_POWER) | (position.z & PAGE_MASK);
+    }
+
+    @Override
+    public void regenerate(Vector3i position, byte value) {
+        reduce(position, value);
+    }
+
+    /**
+     * A growable ring buffer of packed positions.
+     */
+    private static final class PositionQueue {
+        private long[] elements = new long[64];
+        private int head;
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(long packed) {
+            if (size == elements.length) {
+                long[] grown = new long[elements.length * 2];
+                for (int i = 0; i < size; ++i) {
+                    grown[i] = elements[(head + i) & (elements.length - 1)];
+                }
+                elements = grown;
+                head = 0;
+            }
+            elements[(head + size) & (elements.length - 1)] = packed;
+            size++;
+        }
+
+        long poll() {
+            long packed = elements[head];
+            head = (head + 1) & (elements.length - 1);
+            size--;
+            return packed;
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.terasology.world.propagation.light;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,49 +31,136 @@
 import org.terasology.world.propagation.StandardBatchPropagator;
 import org.terasology.world.propagation.SunlightRegenBatchPropagator;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-
+import java.util.function.Function;
+
+/**
+ * Merges the light of newly available chunks with their neighbours on background threads.
+ * <br><br>
+ * A merge reads and writes the 3x3x3 chunks around its chunk, so merges of chunks that are at most
+ * {@link #OVERLAP_DISTANCE} chunks apart on every axis share chunks. Only merges that share no chunks run at the same
+ * time. A merge that would share chunks with a running merge is refused, and so is any later merge that would share
+ * chunks with a refused one, until {@link #completeMerge()} is called. Merges that share chunks therefore always run
+ * in the order they were requested, which gives the same light as merging all chunks one after another.
+ */
 public class LightMerger<T> {
     private static final int CENTER_INDEX = 13;
+    private static final int OVERLAP_DISTANCE = 2;
 
     private static final Logger logger = LoggerFactory.getLogger(LightMerger.class);
 
-    private ExecutorService executorService = Executors.newSingleThreadExecutor();
-    private Future<T> resultFuture;
+    private final int threads;
+    private ExecutorService executorService;
+    private final List<Vector3i> runningMergePositions = Lists.newArrayList();
+    private final List<Future<T>> runningMerges = Lists.newArrayList();
+    private final List<Vector3i> refusedMergePositions = Lists.newArrayList();
 
-    private GeneratingChunkProvider chunkProvider;
+    private final Function<Vector3i, ? extends Chunk> loadedChunks;
+    private final Function<Vector3i, ? extends Chunk> readyChunks;
     private LightPropagationRules lightRules = new LightPropagationRules();
     private SunlightRegenPropagationRules sunlightRegenRules = new SunlightRegenPropagationRules();
 
     private boolean running = true;
 
     public LightMerger(GeneratingChunkProvider chunkProvider) {
-        this.chunkProvider = chunkProvider;
+        this(chunkProvider, 1);
     }
 
-    public void beginMerge(final Chunk chunk, final T data) {
-        resultFuture = executorService.submit(() -> {
+    /**
+     * @param chunkProvider the provider of the chunks to merge
+     * @param threads       the maximum number of merges running at the same time
+     */
+    public LightMerger(GeneratingChunkProvider chunkProvider, int threads) {
+        this(chunkProvider::getChunkUnready, chunkProvider::getChunk, threads);
+    }
+
+    /**
+     * @param loadedChunks returns the chunk at a position if it is available, whether its light has been merged yet or
+     *                     not, otherwise null
+     * @param readyChunks  returns the chunk at a position if its light has been merged, otherwise null
+     * @param threads      the maximum number of merges running at the same time
+     */
+    public LightMerger(Function<Vector3i, ? extends Chunk> loadedChunks, Function<Vector3i, ? extends Chunk> readyChunks,
+                       int threads) {
+        Preconditions.checkArgument(threads > 0, "threads must be positive");
+        this.loadedChunks = loadedChunks;
+        this.readyChunks = readyChunks;
+        this.threads = threads;
+        this.executorService = createExecutorService();
+    }
+
+    /**
+     * @return whether as many merges are running as there are threads, so that no further merge can begin
+     */
+    public boolean isBusy() {
+        return runningMerges.size() >= threads;
+    }
+
+    /**
+     * Begins merging the light of the chunk with its neighbours.
+     *
+     * @param chunk the chunk to merge
+     * @param data  the data to return from {@link #completeMerge()} once the merge finished
+     * @return whether the merge began, false if the merger is busy or the merge shares chunks with a merge that is
+     * running or was refused since the last {@link #completeMerge()}
+     */
+    public boolean beginMerge(final Chunk chunk, final T data) {
+        if (isBusy()) {
+            return false;
+        }
+        Vector3i chunkPos = chunk.getPosition();
+        if (overlapsAny(chunkPos, runningMergePositions) || overlapsAny(chunkPos, refusedMergePositions)) {
+            refusedMergePositions.add(new Vector3i(chunkPos));
+            return false;
+        }
+        runningMergePositions.add(new Vector3i(chunkPos));
+        runningMerges.add(executorService.submit(() -> {
             merge(chunk);
             return data;
-        });
+        }));
+        return true;
     }
 
-    public T completeMerge() {
-        if (resultFuture != null) {
-            try {
-                T result = resultFuture.get();
-                resultFuture = null;
-                return result;
-            } catch (InterruptedException | ExecutionException e) {
-                throw new RuntimeException("Error completing lighting merge", e);
+    /**
+     * Waits for all running merges to finish.
+     *
+     * @return the data of the finished merges, in the order the merges began
+     */
+    public List<T> completeMerge() {
+        refusedMergePositions.clear();
+        if (runningMerges.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> results = Lists.newArrayListWithCapacity(runningMerges.size());
+        try {
+            for (Future<T> runningMerge : runningMerges) {
+                results.add(runningMerge.get());
             }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Error completing lighting merge", e);
+        } finally {
+            runningMerges.clear();
+            runningMergePositions.clear();
         }
-        return null;
+        return results;
+    }
+
+    private static boolean overlapsAny(Vector3i chunkPos, List<Vector3i> otherChunkPositions) {
+        for (Vector3i other : otherChunkPositions) {
+            if (Math.abs(chunkPos.x - other.x) <= OVERLAP_DISTANCE
+                    && Math.abs(chunkPos.y - other.y) <= OVERLAP_DISTANCE
+                    && Math.abs(chunkPos.z - other.z) <= OVERLAP_DISTANCE) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void merge(Chunk chunk) {
@@ -91,7 +179,7 @@ private void merge(Chunk chunk) {
             // Propagate Inwards
             for (Side side : Side.values()) {
                 Vector3i adjChunkPos = side.getAdjacentPos(chunk.getPosition());
-                LitChunk adjChunk = chunkProvider.getChunkUnready(adjChunkPos);
+                LitChunk adjChunk = loadedChunks.apply(adjChunkPos);
                 if (adjChunk != null) {
                     propagator.propagateBetween(adjChunk, chunk, side.reverse(), false);
                 }
@@ -100,7 +188,7 @@ private void merge(Chunk chunk) {
             // Propagate Outwards
             for (Side side : Side.values()) {
                 Vector3i adjChunkPos = side.getAdjacentPos(chunk.getPosition());
-                LitChunk adjChunk = chunkProvider.getChunk(adjChunkPos);
+                LitChunk adjChunk = readyChunks.apply(adjChunkPos);
                 if (adjChunk != null) {
                     propagator.propagateBetween(chunk, adjChunk, side, true);
                 }
@@ -118,7 +206,7 @@ private Chunk[] assembleLocalChunks(Chunk chunk) {
         for (int z = -1; z < 2; ++z) {
             for (int y = -1; y < 2; ++y) {
                 for (int x = -1; x < 2; ++x) {
-                    Chunk localChunk = chunkProvider.getChunk(chunk.getPosition().x + x, chunk.getPosition().y + y, chunk.getPosition().z + z);
+                    Chunk localChunk = readyChunks.apply(new Vector3i(chunk.getPosition().x + x, chunk.getPosition().y + y, chunk.getPosition().z + z));
                     if (localChunk != null) {
                         localChunks[index] = localChunk;
                     }
@@ -135,14 +223,22 @@ public void shutdown() {
         try {
             executorService.awaitTermination(10, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
-            logger.error("Failed to shutdown light merge thread in a timely manner");
+            logger.error("Failed to shutdown light merge threads in a timely manner");
         }
     }
 
     public void restart() {
         if (!running) {
-            executorService = Executors.newSingleThreadExecutor();
+            executorService = createExecutorService();
             running = true;
         }
     }
+
+    private ExecutorService createExecutorService() {
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Light-Merger-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
 }
@@ -49,6 +49,7 @@
 import org.terasology.splash.overlay.RectOverlay;
 import org.terasology.splash.overlay.TextOverlay;
 import org.terasology.splash.overlay.TriggerImageOverlay;
+import org.terasology.world.chunks.localChunkProvider.ChunkPregenerationSystem;
 
 import java.awt.GraphicsEnvironment;
 import java.awt.Point;
@@ -82,6 +83,7 @@
  * <tr><td>-noSound</td><td>Disable sound.</td></tr>
  * <tr><td>-noSplash</td><td>Disable splash screen.</td></tr>
  * <tr><td>-serverPort=xxxxx</td><td>Change the server port.</td></tr>
+ * <tr><td>-pregenerate=minX,minY,minZ,maxX,maxY,maxZ</td><td>Start headless, generate the given box of chunks and exit.</td></tr>
  * </tbody>
  * </table>
  * <br><br>
@@ -103,6 +105,7 @@ public final class Terasology {
     private static final String NO_SOUND = "-noSound";
     private static final String NO_SPLASH = "-noSplash";
     private static final String SERVER_PORT = "-serverPort=";
+    private static final String PREGENERATE = "-pregenerate=";
     private static final String OVERRIDE_DEFAULT_CONFIG = "-overrideDefaultConfig=";
 
     private static boolean isHeadless;
@@ -253,7 +256,8 @@ private static void printUsageAndExit() {
                 NO_SOUND,
                 NO_SPLASH,
                 OVERRIDE_DEFAULT_CONFIG + "<path>",
-                SERVER_PORT + "<port>");
+                SERVER_PORT + "<port>",
+                PREGENERATE + "<minX,minY,minZ,maxX,maxY,maxZ>");
 
         StringBuilder optText = new StringBuilder();
 
@@ -287,6 +291,9 @@ private static void printUsageAndExit() {
         System.out.println();
         System.out.println("To change the port the server is hosted on use the " + SERVER_PORT + " launch argument.");
         System.out.println();
+        System.out.println("To generate and save a box of chunks (given in chunk coordinates) of the latest game, or a new one,");
+        System.out.println("and exit afterwards use the " + PREGENERATE + " launch argument. This implies headless mode.");
+        System.out.println();
         System.out.println("To override the default generated config (useful for headless server) use the " + OVERRIDE_DEFAULT_CONFIG + " launch argument");
         System.out.println();
         System.out.println("Examples:");
@@ -300,6 +307,9 @@ private static void printUsageAndExit() {
         System.out.println("    Start terasology in headless mode (no graphics) and enforce using the default port:");
         System.out.println("    terasology " + START_HEADLESS + " " + SERVER_PORT + TerasologyConstants.DEFAULT_PORT);
         System.out.println();
+        System.out.println("    Pre-generate the chunks around the spawn point in headless mode:");
+        System.out.println("    terasology " + PREGENERATE + "-16,-4,-16,16,4,16");
+        System.out.println();
         System.out.println("    Load the latest game on startup and disable crash reporting");
         System.out.println("    terasology " + LOAD_LAST_GAME + " " + NO_CRASH_REPORT);
         System.out.println();
@@ -339,6 +349,11 @@ private static void handleLaunchArguments(String[] args) {
                 loadLastGame = true;
             } else if (arg.startsWith(SERVER_PORT)) {
                 System.setProperty(ConfigurationSubsystem.SERVER_PORT_PROPERTY, arg.substring(SERVER_PORT.length()));
+            } else if (arg.startsWith(PREGENERATE)) {
+                System.setProperty(ChunkPregenerationSystem.PREGENERATION_REGION_PROPERTY, arg.substring(PREGENERATE.length()));
+                isHeadless = true;
+                crashReportEnabled = false;
+                splashEnabled = false;
             } else if (arg.startsWith(OVERRIDE_DEFAULT_CONFIG)) {
                 System.setProperty(Config.PROPERTY_OVERRIDE_DEFAULT_CONFIG, arg.substring(OVERRIDE_DEFAULT_CONFIG.length()));
             } else {
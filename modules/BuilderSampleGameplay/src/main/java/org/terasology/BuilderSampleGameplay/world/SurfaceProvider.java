@@ -15,7 +15,6 @@
  */
 package org.terasology.BuilderSampleGameplay.world;
 
-import org.terasology.math.geom.BaseVector2i;
 import org.terasology.math.geom.Rect2i;
 import org.terasology.math.geom.Vector2f;
 import org.terasology.utilities.procedural.Noise;
@@ -43,10 +42,12 @@ public void process(GeneratingRegion region) {
         Border3D border = region.getBorderForFacet(SurfaceHeightFacet.class);
         SurfaceHeightFacet facet = new SurfaceHeightFacet(region.getRegion(), border);
 
-        // loop through every position on our 2d array
+        // fill the whole 2d array with noise at once, then scale it
         Rect2i processRegion = facet.getWorldRegion();
-        for (BaseVector2i position : processRegion.contents()) {
-            facet.setWorld(position, surfaceNoise.noise(position.x(), position.y()) * 20);
+        float[] heights = facet.getInternal();
+        surfaceNoise.noise(processRegion, heights);
+        for (int i = 0; i < heights.length; ++i) {
+            heights[i] *= 20;
         }
 
         // give our newly created and populated facet to the region
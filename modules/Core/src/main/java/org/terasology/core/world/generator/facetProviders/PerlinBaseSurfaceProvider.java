@@ -51,13 +51,13 @@ public void process(GeneratingRegion region) {
         SeaLevelFacet seaLevelFacet = region.getRegionFacet(SeaLevelFacet.class);
         float seaLevel = seaLevelFacet.getSeaLevel();
         Rect2i processRegion = facet.getWorldRegion();
-        float[] noise = surfaceNoise.noise(processRegion);
+        float[] heights = facet.getInternal();
+        surfaceNoise.noise(processRegion, heights);
 
-        for (int i = 0; i < noise.length; ++i) {
-            noise[i] = seaLevel + seaLevel * ((noise[i] * 2.11f + 1f) / 2f);
+        for (int i = 0; i < heights.length; ++i) {
+            heights[i] = seaLevel + seaLevel * ((heights[i] * 2.11f + 1f) / 2f);
         }
 
-        facet.set(noise);
         region.setRegionFacet(SurfaceHeightFacet.class, facet);
     }
 }
@@ -63,11 +63,11 @@ public void process(GeneratingRegion region) {
         Border3D border = region.getBorderForFacet(SurfaceHumidityFacet.class);
         SurfaceHumidityFacet facet = new SurfaceHumidityFacet(region.getRegion(), border);
 
-        float[] noise = humidityNoise.noise(facet.getWorldRegion());
-        for (int i = 0; i < noise.length; ++i) {
-            noise[i] = TeraMath.clamp((noise[i] * 2.11f + 1f) * 0.5f);
+        float[] humidities = facet.getInternal();
+        humidityNoise.noise(facet.getWorldRegion(), humidities);
+        for (int i = 0; i < humidities.length; ++i) {
+            humidities[i] = TeraMath.clamp((humidities[i] * 2.11f + 1f) * 0.5f);
         }
-        facet.set(noise);
         region.setRegionFacet(SurfaceHumidityFacet.class, facet);
     }
 
@@ -41,13 +41,13 @@ public void setSeed(long seed) {
     @Override
     public void process(GeneratingRegion region) {
         SurfaceTemperatureFacet facet = new SurfaceTemperatureFacet(region.getRegion(), region.getBorderForFacet(SurfaceTemperatureFacet.class));
-        float[] noise = this.temperatureNoise.noise(facet.getWorldRegion());
+        float[] temperatures = facet.getInternal();
+        this.temperatureNoise.noise(facet.getWorldRegion(), temperatures);
 
-        for (int i = 0; i < noise.length; ++i) {
-            noise[i] = TeraMath.clamp((noise[i] * 2.11f + 1f) * 0.5f);
+        for (int i = 0; i < temperatures.length; ++i) {
+            temperatures[i] = TeraMath.clamp((temperatures[i] * 2.11f + 1f) * 0.5f);
         }
 
-        facet.set(noise);
         region.setRegionFacet(SurfaceTemperatureFacet.class, facet);
     }
 }
@@ -15,7 +15,9 @@
  */
 package org.terasology.logic.actions;
 
+import com.google.common.collect.LinkedHashMultiset;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Multiset;
 import org.terasology.audio.StaticSound;
 import org.terasology.audio.events.PlaySoundEvent;
 import org.terasology.entitySystem.entity.EntityBuilder;
@@ -113,7 +115,8 @@ void doExplosion(ExplosionActionComponent explosionComp, Vector3f origin, Entity
 
         smokeEntity.send(new PlaySoundEvent(getRandomExplosionSound(), 1f));
 
-        Vector3i blockPos = new Vector3i();
+        // rays overlap, especially close to the origin, so count the hits per block and look up every block once
+        Multiset<Vector3i> hits = LinkedHashMultiset.create();
         for (int i = 0; i < explosionComp.maxRange; i++) {
             Vector3f direction = random.nextVector3f(1.0f);
 
@@ -123,21 +126,30 @@ void doExplosion(ExplosionActionComponent explosionComp, Vector3f origin, Entity
                 target.x += direction.x * j;
                 target.y += direction.y * j;
                 target.z += direction.z * j;
-                blockPos.set((int) target.x, (int) target.y, (int) target.z);
-                Block currentBlock = worldProvider.getBlock(blockPos);
-
-                /* PHYSICS */
-                if (currentBlock.isDestructible()) {
-                    EntityRef blockEntity = blockEntityRegistry.getEntityAt(blockPos);
-                    // allow explosions to chain together,  but do not chain on the instigating block
-                    if (!blockEntity.equals(instigatingBlockEntity) && blockEntity.hasComponent(ExplosionActionComponent.class)) {
-                        doExplosion(blockEntity.getComponent(ExplosionActionComponent.class), blockPos.toVector3f(), blockEntity);
-                    } else {
-                        blockEntity.send(new DoDamageEvent(explosionComp.damageAmount, explosionComp.damageType));
+                hits.add(new Vector3i((int) target.x, (int) target.y, (int) target.z));
+            }
+        }
+
+        /* PHYSICS */
+        blockEntityRegistry.applyToBlocks(hits.elementSet(), Block::isDestructible, (blockPos, blockEntity) -> {
+            // damage modifiers round every hit on its own, so the hits are still applied one at a time, until the block is gone
+            EntityRef hitEntity = blockEntity;
+            int hitCount = hits.count(blockPos);
+            for (int hit = 0; hit < hitCount; hit++) {
+                if (hit > 0) {
+                    if (!worldProvider.getBlock(blockPos).isDestructible()) {
+                        break;
                     }
+                    hitEntity = blockEntityRegistry.getEntityAt(blockPos);
+                }
+                // allow explosions to chain together,  but do not chain on the instigating block
+                if (!hitEntity.equals(instigatingBlockEntity) && hitEntity.hasComponent(ExplosionActionComponent.class)) {
+                    doExplosion(hitEntity.getComponent(ExplosionActionComponent.class), blockPos.toVector3f(), hitEntity);
+                } else {
+                    hitEntity.send(new DoDamageEvent(explosionComp.damageAmount, explosionComp.damageType));
                 }
             }
-        }
+        });
     }
 
     @ReceiveEvent(components = ItemComponent.class)
@@ -160,10 +172,12 @@ public void onDelayedExplosion(DelayedActionTriggeredEvent event, EntityRef enti
                                    ExplosionActionComponent explosionActionComponent,
                                    BlockComponent blockComponent) {
         if (event.getActionId().equals(DELAYED_EXPLOSION_ACTION_ID)) {
-            // always destroy the block that caused the explosion
-            worldProvider.setBlock(blockComponent.getPosition(), blockManager.getBlock(BlockManager.AIR_ID));
-            // create the explosion from the block's location
-            doExplosion(explosionActionComponent, blockComponent.getPosition().toVector3f(), entityRef);
+            worldProvider.batchBlockChanges(() -> {
+                // always destroy the block that caused the explosion
+                worldProvider.setBlock(blockComponent.getPosition(), blockManager.getBlock(BlockManager.AIR_ID));
+                // create the explosion from the block's location
+                doExplosion(explosionActionComponent, blockComponent.getPosition().toVector3f(), entityRef);
+            });
         }
     }
 }